@@ -0,0 +1,87 @@
+package com.example.softengineerwebpr;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JMH JSON 결과(-rf json) 두 개를 비교해 벤치마크별 변화율을 출력합니다.
+ * 사용법: JmhResultComparison <이전 결과.json> <새 결과.json> [허용 변화율 %, 기본 10]
+ * 처리량(thrpt)은 낮아질 때, 나머지 모드(avgt, sample, ss)는 높아질 때를 성능 저하로 보며,
+ * 저하 폭이 허용 변화율과 두 결과의 오차 범위(scoreError)를 모두 넘는 항목이 있으면 종료 코드 1로 끝납니다.
+ */
+public class JmhResultComparison {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("사용법: JmhResultComparison <이전 결과.json> <새 결과.json> [허용 변화율 %]");
+            System.exit(2);
+        }
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.10;
+        Map<String, JsonNode> baseline = load(new File(args[0]));
+        Map<String, JsonNode> current = load(new File(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            JsonNode metric = after.get("primaryMetric");
+            if (before == null) {
+                System.out.printf("%-90s %14s -> %14.3f %s (신규)%n", entry.getKey(), "-",
+                        metric.get("score").asDouble(), metric.get("scoreUnit").asText());
+                continue;
+            }
+            JsonNode beforeMetric = before.get("primaryMetric");
+            double oldScore = beforeMetric.get("score").asDouble();
+            double newScore = metric.get("score").asDouble();
+            double change = oldScore == 0 ? 0 : (newScore - oldScore) / oldScore;
+            boolean higherIsBetter = "thrpt".equals(after.get("mode").asText());
+            double worse = higherIsBetter ? -change : change;
+            double noise = errorOf(beforeMetric) + errorOf(metric);
+            boolean regressed = worse > tolerance && Math.abs(newScore - oldScore) > noise;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f -> %14.3f %s %+7.1f%%%s%n", entry.getKey(), oldScore, newScore,
+                    metric.get("scoreUnit").asText(), change * 100, regressed ? "  <- 성능 저하" : "");
+        }
+        for (String removed : baseline.keySet()) {
+            if (!current.containsKey(removed)) {
+                System.out.printf("%-90s (새 결과에 없음)%n", removed);
+            }
+        }
+        System.out.printf("성능 저하 %d건 (허용 변화율 %.0f%%)%n", regressions, tolerance * 100);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    // 벤치마크 이름 + 모드 + 파라미터를 키로 사용
+    private static Map<String, JsonNode> load(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.get("benchmark").asText())
+                    .append(" [").append(result.get("mode").asText());
+            JsonNode params = result.get("params");
+            if (params != null) {
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    key.append(", ").append(param.getKey()).append('=').append(param.getValue().asText());
+                }
+            }
+            results.put(key.append(']').toString(), result);
+        }
+        return results;
+    }
+
+    private static double errorOf(JsonNode metric) {
+        JsonNode error = metric.get("scoreError");
+        return error != null && error.isNumber() ? error.asDouble() : 0; // 반복이 적으면 "NaN" 문자열
+    }
+}
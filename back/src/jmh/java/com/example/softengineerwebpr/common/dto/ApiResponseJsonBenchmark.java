@@ -0,0 +1,89 @@
+package com.example.softengineerwebpr.common.dto;
+
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.domain.user.dto.UserResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 본문 JSON 직렬화 비용 (MappingJackson2HttpMessageConverter가 하는 일).
+ * ObjectMapper는 Spring Boot 기본 설정과 같게 Jackson2ObjectMapperBuilder로 만듭니다. (JavaTimeModule, 날짜는 ISO 문자열)
+ * - message: 데이터 없는 ApiResponse
+ * - user: ApiResponse<UserResponseDto>
+ * - userList: ApiResponse<List<UserResponseDto>> (listSize개)
+ * - error / validationError: ErrorResponse (필드 에러 3개 포함)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseJsonBenchmark {
+
+    @Param({"20"})
+    public int listSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private UserResponseDto user;
+    private List<UserResponseDto> users;
+
+    @Setup
+    public void setUp() {
+        user = user(1);
+        users = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            users.add(user(i));
+        }
+    }
+
+    @Benchmark
+    public byte[] message() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(HttpStatus.OK.value(), "사용 가능한 아이디입니다."));
+    }
+
+    @Benchmark
+    public byte[] user() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(HttpStatus.OK.value(), "사용자 정보 조회 성공", user));
+    }
+
+    @Benchmark
+    public byte[] userList() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(HttpStatus.OK.value(), "사용자 목록 조회 성공", users));
+    }
+
+    @Benchmark
+    public byte[] error() throws Exception {
+        return objectMapper.writeValueAsBytes(new ErrorResponse(ErrorCode.INVALID_INPUT_VALUE, "/api/auth/register"));
+    }
+
+    @Benchmark
+    public byte[] validationError() throws Exception {
+        List<ErrorResponse.FieldErrorDetail> errors = List.of(
+                new ErrorResponse.FieldErrorDetail("loginId", "a", "아이디는 4자 이상이어야 합니다."),
+                new ErrorResponse.FieldErrorDetail("email", "not-an-email", "올바른 이메일 형식이 아닙니다."),
+                new ErrorResponse.FieldErrorDetail("password", null, "비밀번호는 필수입니다."));
+        return objectMapper.writeValueAsBytes(new ErrorResponse(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_INPUT_VALUE.getCode(),
+                ErrorCode.INVALID_INPUT_VALUE.getMessage(), "/api/auth/register", errors));
+    }
+
+    private static UserResponseDto user(int i) {
+        return UserResponseDto.builder()
+                .idx((long) i)
+                .nickname("사용자" + i)
+                .email("user" + i + "@example.com")
+                .identificationCode(String.format("%04d", i % 10000))
+                .profileImage("https://example.com/profile/" + i + ".png")
+                .bio("소프트웨어공학 팀 프로젝트 참여 중")
+                .lastLogin(LocalDateTime.of(2025, 5, 1, 12, 0).plusMinutes(i))
+                .isOnline(i % 2 == 0)
+                .build();
+    }
+}
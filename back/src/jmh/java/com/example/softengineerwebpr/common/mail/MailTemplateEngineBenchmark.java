@@ -0,0 +1,65 @@
+package com.example.softengineerwebpr.common.mail;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 한 통(제목 + 텍스트 + HTML) 렌더링 처리량.
+ * - render: MailTemplateEngine (컴파일된 템플릿, 스레드별 버퍼 재사용)
+ * - replaceEachTime: 같은 템플릿 문자열에 매번 String.replace로 변수를 넣는 방식 (요청마다 문자열을 만드는 기존 방식의 연장)
+ * - legacyConcatTextOnly: 이전 AuthServiceImpl의 문자열 연결 (텍스트만, 참고용)
+ * 할당률은 -prof gc 로 확인합니다. 예: mvn -Pjmh test-compile exec:exec -Djmh.args="MailTemplateEngineBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MailTemplateEngineBenchmark {
+
+    @Param({"ko", "en"})
+    public String language;
+
+    private MailTemplateEngine engine;
+    private Locale locale;
+    private String subjectSource;
+    private String textSource;
+    private String htmlSource;
+
+    @Setup
+    public void setUp() throws Exception {
+        engine = new MailTemplateEngine("classpath*:mail/", "ko");
+        locale = Locale.forLanguageTag(language);
+        subjectSource = read("verification-code.subject.txt").strip();
+        textSource = read("verification-code.txt").stripTrailing();
+        htmlSource = read("verification-code.html").stripTrailing();
+    }
+
+    @Benchmark
+    public RenderedMail render() {
+        return engine.render("verification-code", locale, Map.of("code", "0427", "expiresInMinutes", 3));
+    }
+
+    @Benchmark
+    public RenderedMail replaceEachTime() {
+        return new RenderedMail(subjectSource,
+                textSource.replace("{{code}}", "0427").replace("{{expiresInMinutes}}", "3"),
+                htmlSource.replace("{{code}}", "0427").replace("{{expiresInMinutes}}", "3"));
+    }
+
+    @Benchmark
+    public String legacyConcatTextOnly() {
+        String verificationCode = "0427";
+        return "회원가입을 위한 인증번호는 [" + verificationCode + "] 입니다. 3분 내에 입력해주세요.";
+    }
+
+    private String read(String filename) throws Exception {
+        return new ClassPathResource("mail/" + language + "/" + filename).getContentAsString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.softengineerwebpr.common.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 + 자격 증명 INSERT 처리량: IDENTITY(행마다 INSERT 후 생성 키 조회) vs id_sequences 구간 할당 + JDBC 배치.
+ * Hibernate가 두 ID 전략에서 실제로 보내는 문장 형태를 JDBC로 재현합니다. (IDENTITY에서는 batch_size 설정이 무시됨)
+ * 기본은 H2(MySQL 호환 모드)이며, MySQL에서 측정하려면
+ * -p jdbcUrl="jdbc:mysql://localhost:4040/bench?rewriteBatchedStatements=true" -p user=root -p password=... 처럼 지정합니다.
+ * (대상 DB는 비어 있어야 하며 user/user_credential/id_sequences 테이블을 새로 만듭니다)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(IdGenerationInsertBenchmark.USERS_PER_INVOCATION)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGenerationInsertBenchmark {
+
+    static final int USERS_PER_INVOCATION = 1000;
+    private static final int BATCH_SIZE = 50; // hibernate.jdbc.batch_size, allocationSize와 같은 값
+
+    @Param({"jdbc:h2:mem:id_bench;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1"})
+    public String jdbcUrl;
+
+    @Param({"sa"})
+    public String user;
+
+    @Param({""})
+    public String password;
+
+    private DriverManagerDataSource dataSource;
+    private IdSequenceAllocator idSequenceAllocator;
+    private long userNumber;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new DriverManagerDataSource(jdbcUrl, user, password);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS user_credential");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS user");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_sequences");
+        jdbcTemplate.execute("CREATE TABLE user (idx BIGINT AUTO_INCREMENT PRIMARY KEY, nickname VARCHAR(20) NOT NULL, " +
+                "email VARCHAR(255), identification_code VARCHAR(4) NOT NULL, is_online BOOLEAN NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE user_credential (idx BIGINT AUTO_INCREMENT PRIMARY KEY, user_idx BIGINT NOT NULL, " +
+                "id VARCHAR(20) NOT NULL, password VARCHAR(255) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE id_sequences (sequence_name VARCHAR(64) NOT NULL PRIMARY KEY, next_val BIGINT NOT NULL)");
+        // IDENTITY 방식과 ID가 겹치지 않도록 충분히 큰 값에서 시작
+        jdbcTemplate.update("INSERT INTO id_sequences VALUES ('user', 1000000000), ('user_credential', 1000000000)");
+        idSequenceAllocator = new IdSequenceAllocator(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+    }
+
+    @Benchmark
+    public void identityPerRow() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insertUser = connection.prepareStatement(
+                    "INSERT INTO user (nickname, email, identification_code, is_online) VALUES (?, ?, ?, FALSE)",
+                    Statement.RETURN_GENERATED_KEYS);
+                 PreparedStatement insertCredential = connection.prepareStatement(
+                         "INSERT INTO user_credential (user_idx, id, password) VALUES (?, ?, ?)",
+                         Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < USERS_PER_INVOCATION; i++) {
+                    long number = userNumber++;
+                    bindUser(insertUser, 1, number);
+                    insertUser.executeUpdate();
+                    long userIdx = generatedKey(insertUser);
+
+                    insertCredential.setLong(1, userIdx);
+                    bindCredential(insertCredential, 2, number);
+                    insertCredential.executeUpdate();
+                    generatedKey(insertCredential);
+                }
+            }
+            connection.commit();
+        }
+    }
+
+    @Benchmark
+    public void pooledSequenceBatched() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insertUser = connection.prepareStatement(
+                    "INSERT INTO user (idx, nickname, email, identification_code, is_online) VALUES (?, ?, ?, ?, FALSE)");
+                 PreparedStatement insertCredential = connection.prepareStatement(
+                         "INSERT INTO user_credential (idx, user_idx, id, password) VALUES (?, ?, ?, ?)")) {
+                for (int start = 0; start < USERS_PER_INVOCATION; start += BATCH_SIZE) {
+                    // pooled-lo: allocationSize개마다 id_sequences 갱신 한 번
+                    long userIdx = idSequenceAllocator.reserve(IdSequenceAllocator.USER, BATCH_SIZE);
+                    long credentialIdx = idSequenceAllocator.reserve(IdSequenceAllocator.USER_CREDENTIAL, BATCH_SIZE);
+                    for (int i = 0; i < BATCH_SIZE; i++) {
+                        long number = userNumber++;
+                        insertUser.setLong(1, userIdx + i);
+                        bindUser(insertUser, 2, number);
+                        insertUser.addBatch();
+
+                        insertCredential.setLong(1, credentialIdx + i);
+                        insertCredential.setLong(2, userIdx + i);
+                        bindCredential(insertCredential, 3, number);
+                        insertCredential.addBatch();
+                    }
+                    // order_inserts: 같은 테이블의 INSERT끼리 묶어서 실행
+                    insertUser.executeBatch();
+                    insertCredential.executeBatch();
+                }
+            }
+            connection.commit();
+        }
+    }
+
+    private static void bindUser(PreparedStatement statement, int firstIndex, long number) throws Exception {
+        statement.setString(firstIndex, "bench" + (number % 1000));
+        statement.setString(firstIndex + 1, "bench" + number + "@example.com");
+        statement.setString(firstIndex + 2, String.format("%04d", number % 10_000));
+    }
+
+    private static void bindCredential(PreparedStatement statement, int firstIndex, long number) throws Exception {
+        statement.setString(firstIndex, "bench_" + number);
+        statement.setString(firstIndex + 1, "$2a$10$abcdefghijklmnopqrstuuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ01");
+    }
+
+    private static long generatedKey(PreparedStatement statement) throws Exception {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            keys.next();
+            return keys.getLong(1);
+        }
+    }
+}
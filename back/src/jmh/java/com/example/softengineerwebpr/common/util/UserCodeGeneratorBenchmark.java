@@ -0,0 +1,132 @@
+package com.example.softengineerwebpr.common.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * UserCodeGenerator 메서드별 초당 호출 수. legacy* 는 이전 구현(호출마다 new SecureRandom, String.format,
+ * 문자마다 String을 만드는 IntStream + Collectors.joining)을 그대로 옮긴 기준선입니다.
+ * - pooledVerificationCode: 풀(app.user-code.pool.size)에서 꺼내는 경우. 운영처럼 별도 스레드가 풀을 계속 보충하며,
+ *   보충이 못 따라가 바로 생성한 비율은 보조 지표 poolHits/poolMisses(@AuxCounters)로 결과 표에 함께 나옵니다
+ * 할당률은 gc 프로파일러로 함께 봅니다 (gc.alloc.rate.norm = 호출당 할당 바이트).
+ * 예: mvn -Pjmh test-compile exec:exec -Djmh.args="UserCodeGeneratorBenchmark -prof gc -t 8"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserCodeGeneratorBenchmark {
+
+    private static final String PASSWORD_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    private final UserCodeGenerator generator = new UserCodeGenerator(0, 4);
+    private final UserCodeGenerator pooledGenerator = new UserCodeGenerator(100_000, 4);
+    private Thread refiller;
+
+    @Setup(Level.Iteration)
+    public void startRefiller() {
+        refiller = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                pooledGenerator.refillPool();
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "code-pool-refiller");
+        refiller.setDaemon(true);
+        refiller.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopRefiller() throws InterruptedException {
+        refiller.interrupt();
+        refiller.join();
+    }
+
+    @Benchmark
+    public String fourDigitCode() {
+        return generator.generateRandomFourDigitCode();
+    }
+
+    @Benchmark
+    public String verificationCode() {
+        return generator.generateNumericVerificationCode(4);
+    }
+
+    @Benchmark
+    public String pooledVerificationCode(PoolCounters counters) {
+        return pooledGenerator.generateNumericVerificationCode(4);
+    }
+
+    @Benchmark
+    public String temporaryPassword() {
+        return generator.generateRandomTemporaryPassword(10);
+    }
+
+    @Benchmark
+    public String legacyFourDigitCode() {
+        SecureRandom random = new SecureRandom();
+        return String.format("%04d", random.nextInt(10000));
+    }
+
+    @Benchmark
+    public String legacyVerificationCode() {
+        SecureRandom random = new SecureRandom();
+        StringBuilder codeBuilder = new StringBuilder(4);
+        for (int i = 0; i < 4; i++) {
+            codeBuilder.append(random.nextInt(10));
+        }
+        return codeBuilder.toString();
+    }
+
+    @Benchmark
+    public String legacyTemporaryPassword() {
+        SecureRandom random = new SecureRandom();
+        return IntStream.range(0, 10)
+                .map(i -> random.nextInt(PASSWORD_CHARS.length()))
+                .mapToObj(randomIndex -> String.valueOf(PASSWORD_CHARS.charAt(randomIndex)))
+                .collect(Collectors.joining());
+    }
+
+    /**
+     * 반복 동안의 풀 적중/미스 수. 생성기 카운터는 모든 스레드가 함께 쓰므로 반복 시작 대비 증가량을 스레드 수로 나눠
+     * 스레드마다 보고하고, JMH가 스레드별 값을 합해 반복 전체 건수로 출력합니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PoolCounters {
+        private UserCodeGenerator generator;
+        private int threads;
+        private long hitsAtStart;
+        private long missesAtStart;
+
+        @Setup(Level.Iteration)
+        public void reset(UserCodeGeneratorBenchmark benchmark, BenchmarkParams params) {
+            generator = benchmark.pooledGenerator;
+            threads = params.getThreads();
+            hitsAtStart = counter("poolHits");
+            missesAtStart = counter("poolMisses");
+        }
+
+        public double poolHits() {
+            return (double) (counter("poolHits") - hitsAtStart) / threads;
+        }
+
+        public double poolMisses() {
+            return (double) (counter("poolMisses") - missesAtStart) / threads;
+        }
+
+        private long counter(String name) {
+            return (Long) generator.getMetrics().get(name);
+        }
+    }
+}
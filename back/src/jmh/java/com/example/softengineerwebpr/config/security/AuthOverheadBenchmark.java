@@ -0,0 +1,146 @@
+package com.example.softengineerwebpr.config.security;
+
+import com.example.softengineerwebpr.config.session.CompactSessionSerializer;
+import com.example.softengineerwebpr.config.session.WriteBehindSessionRepository;
+import com.example.softengineerwebpr.domain.auth.dto.LoginUser;
+import com.example.softengineerwebpr.domain.auth.repository.RefreshTokenRepository;
+import com.example.softengineerwebpr.domain.auth.service.TokenRevocationList;
+import com.example.softengineerwebpr.domain.auth.service.TokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 한 번의 인증 비용을 세션 모드와 토큰 모드로 비교합니다. (4 스레드 동시 요청)
+ * - session-memory: 노드 메모리 세션 조회 + 접근 시각 갱신 (sticky session 필요)
+ * - session-jdbc: 공유 JDBC 세션 (write-behind + compact 형식, app.session.store=jdbc)
+ * - token-uncached: 요청마다 JWT 파싱 + HMAC 서명 검증 + 폐기 목록 확인
+ * - token-cached: 같은 토큰의 파싱 결과 캐시 적중 + 폐기 목록 확인 (app.security.token.claims-cache-ttl-ms)
+ * 기본 H2 메모리 DB이며 -p jdbcUrl=... 로 MySQL을 지정할 수 있습니다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(4)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthOverheadBenchmark {
+
+    private static final int USERS = 1000;
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    @Param({"session-memory", "session-jdbc", "token-uncached", "token-cached"})
+    public String mode;
+
+    @Param({"jdbc:h2:mem:auth_bench;DB_CLOSE_DELAY=-1"})
+    public String jdbcUrl;
+
+    @Param({"sa"})
+    public String user;
+
+    @Param({""})
+    public String password;
+
+    private SessionRepository<Session> sessionRepository;
+    private WriteBehindSessionRepository<?> writeBehind;
+    private TokenService tokenService;
+    private final List<String> credentials = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(jdbcUrl, user, password);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String table : List.of("SPRING_SESSION_ATTRIBUTES", "SPRING_SESSION", "auth_refresh_token", "auth_token_revocation")) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        }
+        String sessionSchema = jdbcUrl.startsWith("jdbc:mysql") ? "schema-mysql.sql" : "schema-h2.sql";
+        new ResourceDatabasePopulator(
+                new ClassPathResource("org/springframework/session/jdbc/" + sessionSchema),
+                new ClassPathResource("db/auth-token-schema.sql")).execute(dataSource);
+
+        switch (mode) {
+            case "session-memory" -> sessionRepository = (SessionRepository<Session>) (SessionRepository<?>)
+                    new MapSessionRepository(new ConcurrentHashMap<>());
+            case "session-jdbc" -> {
+                JdbcIndexedSessionRepository jdbcRepository = new JdbcIndexedSessionRepository(
+                        jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+                jdbcRepository.setDefaultMaxInactiveInterval(Duration.ofMinutes(30));
+                CompactSessionSerializer compact = new CompactSessionSerializer(getClass().getClassLoader());
+                GenericConversionService conversionService = new GenericConversionService();
+                conversionService.addConverter(Object.class, byte[].class, compact::serialize);
+                conversionService.addConverter(byte[].class, Object.class, compact::deserialize);
+                jdbcRepository.setConversionService(conversionService);
+                writeBehind = new WriteBehindSessionRepository<>(jdbcRepository, jdbcTemplate, "SPRING_SESSION");
+                sessionRepository = (SessionRepository<Session>) (SessionRepository<?>) writeBehind;
+            }
+            default -> tokenService = new TokenService(new RefreshTokenRepository(jdbcTemplate),
+                    new TokenRevocationList(jdbcTemplate), SECRET, 900_000, 1_209_600_000,
+                    USERS * 2, mode.equals("token-cached") ? 60_000 : 0);
+        }
+
+        for (int i = 0; i < USERS; i++) {
+            Authentication authentication = authentication(i);
+            if (sessionRepository != null) {
+                Session session = sessionRepository.createSession();
+                session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                        new SecurityContextImpl(authentication));
+                sessionRepository.save(session);
+                credentials.add(session.getId());
+            } else {
+                credentials.add(tokenService.issue(authentication).getAccessToken());
+            }
+        }
+    }
+
+    // 실제 서비스처럼 flush 주기마다 모인 접근 시각을 반영 (측정 구간 밖)
+    @TearDown(Level.Iteration)
+    public void flush() {
+        if (writeBehind != null) {
+            writeBehind.flush();
+        }
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() {
+        String credential = credentials.get(ThreadLocalRandom.current().nextInt(USERS));
+        if (tokenService != null) {
+            return tokenService.authenticate(credential);
+        }
+        Session session = sessionRepository.findById(credential);
+        SecurityContext context = session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+        session.setLastAccessedTime(Instant.now());
+        sessionRepository.save(session);
+        return context.getAuthentication();
+    }
+
+    private static Authentication authentication(int i) {
+        LoginUser principal = new LoginUser((long) i, "benchmark_user_" + i, "", AuthorityUtils.createAuthorityList("ROLE_USER"));
+        return UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.softengineerwebpr.config.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt cost별 해싱 처리량.
+ * 코어당 처리량은 스레드 수를 코어 수로 맞춰 실행한 뒤(-t <코어 수>) 결과를 코어 수로 나눠 구합니다.
+ * 예: mvn -Pjmh test-compile exec:exec -Djmh.args="PasswordHashingBenchmark -t 4"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+
+    @Param({"10", "11", "12"})
+    public int cost;
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(cost);
+        encoded = encoder.encode("Benchmark1!");
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode("Benchmark1!");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("Benchmark1!", encoded);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.softengineerwebpr.config.security;
+
+import com.example.softengineerwebpr.common.util.GcraRateLimiter;
+import com.example.softengineerwebpr.config.security.RateLimitFilter.EndpointPolicy;
+import com.example.softengineerwebpr.config.security.RateLimitFilter.KeyType;
+import com.example.softengineerwebpr.config.security.RateLimitFilter.Rule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 허용되는 요청에 RateLimitFilter가 더하는 시간.
+ * - none: 필터 없이 빈 체인만 실행 (기준선)
+ * - login: 폼 로그인 (IP + 로그인 아이디 규칙, 요청 파라미터)
+ * - find-password: JSON 본문 버퍼링/파싱 + IP, 아이디, 이메일 규칙
+ * 제한은 충분히 크게 두어 모든 요청이 허용 경로를 타며, 키는 10만 개 중 임의로 선택합니다.
+ * BCrypt(수백 ms)나 SMTP 발송 비용과 비교하면 됩니다. 스레드 수는 -t 로 바꿀 수 있습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Threads(4)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimitFilterBenchmark {
+
+    private static final int KEYS = 100_000;
+
+    @Param({"none", "login", "find-password"})
+    public String endpoint;
+
+    private RateLimitFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Duration period = Duration.ofMinutes(1);
+        List<EndpointPolicy> policies = List.of(
+                new EndpointPolicy("login", "/api/auth/perform_login", false, List.of(
+                        new Rule(KeyType.IP, new GcraRateLimiter(60_000, period, 1 << 17)),
+                        new Rule(KeyType.LOGIN_ID, new GcraRateLimiter(60_000, period, 1 << 17)))),
+                new EndpointPolicy("find-password", "/api/auth/find-password", true, List.of(
+                        new Rule(KeyType.IP, new GcraRateLimiter(60_000, period, 1 << 17)),
+                        new Rule(KeyType.LOGIN_ID, new GcraRateLimiter(60_000, period, 1 << 17)),
+                        new Rule(KeyType.EMAIL, new GcraRateLimiter(60_000, period, 1 << 17)))));
+        filter = new RateLimitFilter(policies, new ObjectMapper(), (request, response, handler, ex) -> {
+            throw new IllegalStateException("벤치마크에서는 모든 요청이 허용되어야 합니다.", ex);
+        });
+    }
+
+    @Benchmark
+    public Object request() throws Exception {
+        int key = ThreadLocalRandom.current().nextInt(KEYS);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/" + endpoint);
+        request.setRemoteAddr("10.0." + (key >>> 8 & 0xff) + "." + (key & 0xff));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        switch (endpoint) {
+            case "none" -> {
+                chain.doFilter(request, response);
+                return chain.getRequest();
+            }
+            case "login" -> {
+                request.setRequestURI("/api/auth/perform_login");
+                request.addParameter("loginId", "user" + key);
+                request.addParameter("password", "password");
+            }
+            default -> {
+                request.setContentType("application/json");
+                request.setContent(("{\"loginId\":\"user" + key + "\",\"email\":\"user" + key + "@example.com\"}")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        filter.doFilter(request, response, chain);
+        return chain.getRequest();
+    }
+}
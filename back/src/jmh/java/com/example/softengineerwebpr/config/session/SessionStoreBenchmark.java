@@ -0,0 +1,128 @@
+package com.example.softengineerwebpr.config.session;
+
+import com.example.softengineerwebpr.domain.auth.dto.LoginUser;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 한 번의 세션 비용: 세션 조회 + SecurityContext 역직렬화 + 접근 시각 갱신 + 저장.
+ * - store=jdbc: Spring Session JDBC 그대로 (요청마다 UPDATE)
+ * - store=write-behind: WriteBehindSessionRepository (접근 시각은 flush 때 배치 UPDATE)
+ * - serializer=java/compact: SecurityContext 저장 형식
+ * 크기 비교는 setUp에서 출력합니다. 기본 H2 메모리 DB이며 -p jdbcUrl=... 로 MySQL을 지정할 수 있습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SessionStoreBenchmark {
+
+    private static final int SESSIONS = 1000;
+
+    @Param({"jdbc", "write-behind"})
+    public String store;
+
+    @Param({"java", "compact"})
+    public String serializer;
+
+    @Param({"jdbc:h2:mem:session_bench;DB_CLOSE_DELAY=-1"})
+    public String jdbcUrl;
+
+    @Param({"sa"})
+    public String user;
+
+    @Param({""})
+    public String password;
+
+    private DriverManagerDataSource dataSource;
+    private SessionRepository<Session> repository;
+    private WriteBehindSessionRepository<?> writeBehind;
+    private final List<String> sessionIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        dataSource = new DriverManagerDataSource(jdbcUrl, user, password);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS SPRING_SESSION_ATTRIBUTES");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS SPRING_SESSION");
+        String schema = jdbcUrl.startsWith("jdbc:mysql") ? "schema-mysql.sql" : "schema-h2.sql";
+        new ResourceDatabasePopulator(new ClassPathResource("org/springframework/session/jdbc/" + schema)).execute(dataSource);
+
+        JdbcIndexedSessionRepository jdbcRepository = new JdbcIndexedSessionRepository(
+                jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        jdbcRepository.setDefaultMaxInactiveInterval(Duration.ofMinutes(30));
+        if (serializer.equals("compact")) {
+            CompactSessionSerializer compact = new CompactSessionSerializer(getClass().getClassLoader());
+            GenericConversionService conversionService = new GenericConversionService();
+            conversionService.addConverter(Object.class, byte[].class, compact::serialize);
+            conversionService.addConverter(byte[].class, Object.class, compact::deserialize);
+            jdbcRepository.setConversionService(conversionService);
+        }
+        if (store.equals("write-behind")) {
+            writeBehind = new WriteBehindSessionRepository<>(jdbcRepository, jdbcTemplate, SessionStoreConfig.TABLE_NAME);
+            repository = (SessionRepository<Session>) (SessionRepository<?>) writeBehind;
+        } else {
+            repository = (SessionRepository<Session>) (SessionRepository<?>) jdbcRepository;
+        }
+
+        SecurityContext context = securityContext();
+        for (int i = 0; i < SESSIONS; i++) {
+            Session session = repository.createSession();
+            session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, context);
+            repository.save(session);
+            sessionIds.add(session.getId());
+        }
+        System.out.printf("%nSecurityContext bytes: java=%d, compact=%d%n",
+                new SerializingConverter().convert(context).length,
+                new CompactSessionSerializer(getClass().getClassLoader()).serialize(context).length);
+    }
+
+    // 실제 서비스처럼 flush 주기마다 모인 접근 시각을 반영 (측정 구간 밖)
+    @TearDown(Level.Iteration)
+    public void flush() {
+        if (writeBehind != null) {
+            writeBehind.flush();
+        }
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() {
+        String id = sessionIds.get(ThreadLocalRandom.current().nextInt(SESSIONS));
+        Session session = repository.findById(id);
+        Object context = session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+        session.setLastAccessedTime(Instant.now());
+        repository.save(session);
+        return context;
+    }
+
+    private static SecurityContext securityContext() {
+        LoginUser principal = new LoginUser(1L, "benchmark_user", "", AuthorityUtils.createAuthorityList("ROLE_USER"));
+        return new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.softengineerwebpr.config.startup;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로세스 시작부터 첫 로그인 성공까지 걸리는 시간 (재시작/스케일 아웃 직후 사용자가 체감하는 지연).
+ * - mode=jar: 일반 실행 (mvn package 결과 jar)
+ * - mode=fast-start: AOT + CDS 아카이브 (mvn -Pfast-start package 결과 target/fast-start)
+ * 호출마다 애플리케이션을 새로 띄우고 /api/auth/status가 응답할 때까지 기다린 뒤 폼 로그인을 보냅니다.
+ * DB와 로그인 가능한 계정이 미리 있어야 합니다. (-p loginId=... -p password=...)
+ * app.startup.warm-up.enabled=false 로 띄우면(-p extraArgs=...) 워밍업 효과도 따로 볼 수 있습니다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    @Param({"jar", "fast-start"})
+    public String mode;
+
+    @Param({"target"})
+    public String buildDir;
+
+    @Param({"back-0.0.1-SNAPSHOT.jar"})
+    public String jarName;
+
+    @Param({"18080"})
+    public int port;
+
+    @Param({"benchmark"})
+    public String loginId;
+
+    @Param({"benchmark-password"})
+    public String password;
+
+    // 애플리케이션에 그대로 넘길 인자 (공백 구분, 예: --app.startup.warm-up.enabled=false)
+    @Param({""})
+    public String extraArgs;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    private Process process;
+
+    @Benchmark
+    public long firstLogin() throws Exception {
+        long started = System.nanoTime();
+        process = launch();
+        waitUntilServing();
+        login();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+            process = null;
+        }
+    }
+
+    private Process launch() throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        File workingDir;
+        if ("fast-start".equals(mode)) {
+            workingDir = new File(buildDir, "fast-start");
+            command.add("-XX:SharedArchiveFile=application.jsa");
+            command.add("-Dspring.aot.enabled=true");
+        } else {
+            workingDir = new File(buildDir);
+        }
+        command.add("-jar");
+        command.add(jarName);
+        command.add("--server.port=" + port);
+        for (String arg : extraArgs.split(" ")) {
+            if (!arg.isBlank()) {
+                command.add(arg);
+            }
+        }
+        return new ProcessBuilder(command)
+                .directory(workingDir)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+    }
+
+    private void waitUntilServing() throws InterruptedException {
+        HttpRequest status = HttpRequest.newBuilder(uri("/api/auth/status")).timeout(Duration.ofSeconds(1)).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("애플리케이션이 기동 중 종료되었습니다. (exit " + process.exitValue() + ")");
+            }
+            try {
+                if (client.send(status, HttpResponse.BodyHandlers.discarding()).statusCode() < 500) {
+                    return;
+                }
+            } catch (IOException notYetListening) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("애플리케이션이 " + STARTUP_TIMEOUT + " 안에 기동되지 않았습니다.");
+    }
+
+    // 세션 모드는 성공 시 302(/front/index.html), 실패 시 302(...?error=true). 토큰 모드는 200 JSON
+    private void login() throws IOException, InterruptedException {
+        String form = "loginId=" + URLEncoder.encode(loginId, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/auth/perform_login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        boolean success = response.statusCode() == 200
+                || (response.statusCode() == 302 && response.headers().firstValue("Location")
+                .filter(location -> !location.contains("error")).isPresent());
+        if (!success) {
+            throw new IllegalStateException("로그인 실패: " + response.statusCode() + " " + response.headers().map());
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.softengineerwebpr.domain.auth.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소셜 로그인 사용자 정보(user-info 응답)를 OAuthAttributes로 변환하는 비용.
+ * - parseAndMap: JSON 본문 파싱(Spring Security가 user-info 응답을 Map으로 읽는 단계) + OAuthAttributes.of
+ * - mapOnly: 이미 Map으로 읽힌 attributes에서 OAuthAttributes.of만
+ * 페이로드는 네이버/카카오 문서의 응답 예시 형태를 따릅니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OAuthAttributesBenchmark {
+
+    private static final String NAVER = """
+            {"resultcode":"00","message":"success","response":{"id":"32742776","nickname":"naver-user",\
+            "name":"홍길동","email":"naver-user@naver.com","gender":"M","age":"20-29","birthday":"10-01",\
+            "profile_image":"https://ssl.pstatic.net/static/pwe/address/img_profile.png","birthyear":"1990",\
+            "mobile":"010-0000-0000"}}""";
+
+    private static final String KAKAO = """
+            {"id":123456789,"connected_at":"2022-04-11T01:45:28Z","properties":{"nickname":"kakao-user",\
+            "profile_image":"http://k.kakaocdn.net/dn/profile.jpg","thumbnail_image":"http://k.kakaocdn.net/dn/thumb.jpg"},\
+            "kakao_account":{"profile_nickname_needs_agreement":false,"profile_image_needs_agreement":false,\
+            "profile":{"nickname":"kakao-user","thumbnail_image_url":"http://k.kakaocdn.net/dn/thumb.jpg",\
+            "profile_image_url":"http://k.kakaocdn.net/dn/profile.jpg","is_default_image":false},\
+            "has_email":true,"email_needs_agreement":false,"is_email_valid":true,"is_email_verified":true,\
+            "email":"kakao-user@kakao.com"}}""";
+
+    private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {
+    };
+
+    @Param({"naver", "kakao"})
+    public String registrationId;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private String payload;
+    private String userNameAttributeName;
+    private Map<String, Object> attributes;
+
+    @Setup
+    public void setUp() throws Exception {
+        payload = "naver".equals(registrationId) ? NAVER : KAKAO;
+        userNameAttributeName = "naver".equals(registrationId) ? "response" : "id"; // application.properties의 user-name-attribute
+        attributes = objectMapper.readValue(payload, MAP);
+    }
+
+    @Benchmark
+    public OAuthAttributes parseAndMap() throws Exception {
+        return OAuthAttributes.of(registrationId, userNameAttributeName, objectMapper.readValue(payload, MAP));
+    }
+
+    @Benchmark
+    public OAuthAttributes mapOnly() {
+        return OAuthAttributes.of(registrationId, userNameAttributeName, attributes);
+    }
+}
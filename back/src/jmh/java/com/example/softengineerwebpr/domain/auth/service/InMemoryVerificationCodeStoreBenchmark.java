@@ -0,0 +1,66 @@
+package com.example.softengineerwebpr.domain.auth.service;
+
+import com.example.softengineerwebpr.domain.auth.dto.VerificationCodeEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드가 동시에 인증 코드를 발송(store)/확인(get)/사용 완료(remove)할 때 InMemoryVerificationCodeStore의 지연 시간.
+ * - mixed 그룹: 발송 2 : 확인 4 : 삭제 1 스레드 비율 (-tg 로 변경)
+ * - capacity가 이메일 수보다 작으면 발송마다 가장 오래된 코드 밀어내기(eviction)까지 포함됨
+ * 스위퍼(sweepExpired)는 측정 시간이 만료 시간(3분)보다 짧아 할 일이 없으므로 포함하지 않습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+public class InMemoryVerificationCodeStoreBenchmark {
+
+    @Param({"10000"})
+    public int emails;
+
+    @Param({"100000", "5000"})
+    public int capacity;
+
+    private InMemoryVerificationCodeStore store;
+    private String[] keys;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        store = new InMemoryVerificationCodeStore(capacity);
+        keys = new String[emails];
+        for (int i = 0; i < emails; i++) {
+            keys[i] = "user" + i + "@example.com";
+            store.storeCode(keys[i], "123456");
+        }
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public void store() {
+        store.storeCode(randomKey(), "654321");
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public VerificationCodeEntry get() {
+        return store.getCode(randomKey());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void remove() {
+        store.removeCode(randomKey());
+    }
+
+    private String randomKey() {
+        return keys[ThreadLocalRandom.current().nextInt(keys.length)];
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.softengineerwebpr.domain.project.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 중인 서버의 보드 스트림(/api/projects/{id}/stream) 부하 테스트.
+ * 한 계정으로 로그인해 같은 프로젝트에 구독자 N개를 열어 둔 채, 카드 하나를 주기적으로 다른 열로 옮기고
+ * 이동 요청을 보낸 시점부터 각 구독자가 해당 "board" 프레임을 받기까지의 지연을 잽니다.
+ * 사용법: BoardStreamLoadTest <baseUrl> <loginId> <password> <projectIdx> <taskIdx> [구독자 수, 기본 10000] [시간 초, 기본 60] [이동 간격 ms, 기본 500]
+ * (클라이언트와 서버 모두 열린 파일 수 제한(ulimit -n)이 구독자 수보다 커야 함)
+ */
+public class BoardStreamLoadTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAX_LATENCY_MS = 10_000;
+
+    private final AtomicInteger connected = new AtomicInteger();
+    private final AtomicInteger closed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final LongAdder framesReceived = new LongAdder();
+    private final AtomicLongArray latencyHistogram = new AtomicLongArray(MAX_LATENCY_MS + 1); // ms 단위, 마지막 칸은 그 이상
+    private volatile long lastMoveNanos;
+    private volatile int lastMoveNumber;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 5) {
+            System.err.println("사용법: BoardStreamLoadTest <baseUrl> <loginId> <password> <projectIdx> <taskIdx> [구독자 수] [시간 초] [이동 간격 ms]");
+            System.exit(2);
+        }
+        int subscribers = args.length > 5 ? Integer.parseInt(args[5]) : 10_000;
+        int seconds = args.length > 6 ? Integer.parseInt(args[6]) : 60;
+        long moveIntervalMillis = args.length > 7 ? Long.parseLong(args[7]) : 500;
+        new BoardStreamLoadTest().run(args[0], args[1], args[2], Long.parseLong(args[3]), Long.parseLong(args[4]),
+                subscribers, seconds, moveIntervalMillis);
+    }
+
+    private void run(String baseUrl, String loginId, String password, long projectIdx, long taskIdx,
+                     int subscribers, int seconds, long moveIntervalMillis) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1) // 스트림마다 연결 하나 (브라우저 EventSource와 같은 조건)
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        login(client, baseUrl, loginId, password);
+
+        URI streamUri = URI.create(baseUrl + "/api/projects/" + projectIdx + "/stream");
+        long openStarted = System.nanoTime();
+        for (int i = 0; i < subscribers; i++) {
+            HttpRequest request = HttpRequest.newBuilder(streamUri).header("Accept", "text/event-stream").GET().build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(new StreamSubscriber()))
+                    .whenComplete((response, error) -> {
+                        if (error != null || response.statusCode() != 200) {
+                            failed.incrementAndGet();
+                        }
+                    });
+        }
+        while (connected.get() + failed.get() < subscribers
+                && System.nanoTime() - openStarted < TimeUnit.SECONDS.toNanos(60)) {
+            Thread.sleep(200);
+        }
+        System.out.printf("구독자 연결: %d/%d (실패 %d), %d ms%n", connected.get(), subscribers, failed.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - openStarted));
+
+        URI moveUri = URI.create(baseUrl + "/api/projects/" + projectIdx + "/tasks/" + taskIdx + "/position");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        int moves = 0;
+        while (System.nanoTime() < deadline) {
+            String status = moves % 2 == 0 ? "IN_PROGRESS" : "TODO";
+            HttpRequest move = HttpRequest.newBuilder(moveUri)
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"status\":\"" + status + "\",\"afterTaskIdx\":null}"))
+                    .build();
+            lastMoveNanos = System.nanoTime(); // 번호보다 먼저 씀 (번호를 읽은 쪽이 같은 이동의 시각을 봄)
+            lastMoveNumber = ++moves;
+            HttpResponse<String> response = client.send(move, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("카드 이동 실패: " + response.statusCode() + " " + response.body());
+            }
+            Thread.sleep(moveIntervalMillis);
+        }
+        Thread.sleep(2_000); // 마지막 프레임 도착 대기
+
+        long expected = (long) moves * connected.get();
+        System.out.printf("카드 이동 %d회, 받은 board 프레임 %d (기대 %d), 서버가 끊은 스트림 %d%n",
+                moves, framesReceived.sum(), expected, closed.get());
+        System.out.printf("전달 지연(ms) p50=%d p90=%d p99=%d p99.9=%d max=%d%n",
+                percentile(0.50), percentile(0.90), percentile(0.99), percentile(0.999), percentile(1.0));
+        System.exit(0);
+    }
+
+    private static void login(HttpClient client, String baseUrl, String loginId, String password) throws Exception {
+        String form = "loginId=" + URLEncoder.encode(loginId, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8);
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/perform_login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("로그인 실패: " + response.statusCode() + " " + location);
+        }
+    }
+
+    private void recordLatency(long nanos) {
+        int millis = (int) Math.min(TimeUnit.NANOSECONDS.toMillis(nanos), MAX_LATENCY_MS);
+        latencyHistogram.incrementAndGet(millis);
+    }
+
+    private long percentile(double quantile) {
+        long total = 0;
+        for (int i = 0; i < latencyHistogram.length(); i++) {
+            total += latencyHistogram.get(i);
+        }
+        if (total == 0) {
+            return -1;
+        }
+        long target = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < latencyHistogram.length(); i++) {
+            seen += latencyHistogram.get(i);
+            if (seen >= target) {
+                return i;
+            }
+        }
+        return MAX_LATENCY_MS;
+    }
+
+    // SSE 줄 단위 파싱 (event: / data: / 빈 줄로 이벤트 끝)
+    private final class StreamSubscriber implements Flow.Subscriber<String> {
+        private String event;
+        private final StringBuilder data = new StringBuilder();
+        private int seenMoveNumber;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (line.startsWith("event:")) {
+                event = line.substring("event:".length());
+            } else if (line.startsWith("data:")) {
+                data.append(line, "data:".length(), line.length());
+            } else if (line.isEmpty()) {
+                dispatch();
+                event = null;
+                data.setLength(0);
+            }
+        }
+
+        private void dispatch() {
+            if ("ready".equals(event)) {
+                connected.incrementAndGet();
+            } else if ("board".equals(event)) {
+                long received = System.nanoTime();
+                framesReceived.increment();
+                // 이동 간격이 coalesce 간격보다 길면 프레임 하나가 마지막 이동 하나에 해당함
+                int moveNumber = lastMoveNumber;
+                if (moveNumber != seenMoveNumber && hasChanges()) {
+                    seenMoveNumber = moveNumber;
+                    recordLatency(received - lastMoveNanos);
+                }
+            }
+        }
+
+        private boolean hasChanges() {
+            try {
+                JsonNode frame = OBJECT_MAPPER.readTree(data.toString());
+                return frame.path("changes").size() > 0;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            closed.incrementAndGet();
+        }
+
+        @Override
+        public void onComplete() {
+            closed.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.softengineerwebpr.domain.user.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 닉네임 하나의 코드 공간이 채워진 정도(fillRatio)에 따른 식별 코드 할당 지연 시간 비교.
+ * - legacyRandomRetry: 기존 방식(랜덤 코드 -> saveAndFlush, 충돌 시 최대 10회 재시도). 시도 1회마다 DB 왕복 비용을 consumeCPU로 흉내냄
+ * - allocator: IdentificationCodeSpace로 빈 코드를 바로 예약
+ * SampleTime 모드 결과의 p0.99 값이 가입 요청 p99에 해당합니다.
+ * DB에는 접속하지 않습니다. saveAndFlush 왕복은 실제 DB 호출이 아니라 Blackhole.consumeCPU(roundTripTokens)로 대신하므로
+ * 결과는 두 방식의 시도 횟수 차이를 보여 주는 상대 비교이며, 절대 지연 시간은 roundTripTokens를 실제 DB 왕복 시간에 맞춰야 의미가 있습니다.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IdentificationCodeAllocatorBenchmark {
+
+    private static final int LEGACY_MAX_ATTEMPTS = 10;
+
+    @Param({"0.0", "0.5", "0.9", "0.99"})
+    public double fillRatio;
+
+    // DB 왕복 1회에 해당하는 CPU 소비량 (Blackhole.consumeCPU 토큰 수)
+    @Param({"20000"})
+    public long roundTripTokens;
+
+    private IdentificationCodeSpace codeSpace;
+
+    @Setup(Level.Iteration)
+    public void fill() {
+        codeSpace = new IdentificationCodeSpace();
+        int target = (int) (IdentificationCodeSpace.CODE_SPACE_SIZE * fillRatio);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (codeSpace.getUsedCount() < target) {
+            codeSpace.markUsed(random.nextInt(IdentificationCodeSpace.CODE_SPACE_SIZE));
+        }
+    }
+
+    @Benchmark
+    public int legacyRandomRetry() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < LEGACY_MAX_ATTEMPTS; attempt++) {
+            int code = random.nextInt(IdentificationCodeSpace.CODE_SPACE_SIZE);
+            Blackhole.consumeCPU(roundTripTokens); // saveAndFlush 1회
+            if (!codeSpace.isUsed(code)) {
+                return code; // 채움 비율 유지를 위해 실제로 표시하지는 않음
+            }
+        }
+        return -1; // 10회 모두 충돌 -> USER_REGISTRATION_FAILED
+    }
+
+    @Benchmark
+    public int allocator() {
+        int code = codeSpace.allocate(ThreadLocalRandom.current().nextInt(IdentificationCodeSpace.CODE_SPACE_SIZE));
+        Blackhole.consumeCPU(roundTripTokens); // saveAndFlush 1회 (충돌 없음)
+        codeSpace.release(code); // 채움 비율 유지
+        return code;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.softengineerwebpr.domain.user.service;
+
+import com.example.softengineerwebpr.common.repository.IdSequenceAllocator;
+import com.example.softengineerwebpr.config.security.AdaptiveBCryptPasswordEncoder;
+import com.example.softengineerwebpr.domain.user.dto.UserImportResultDto;
+import com.example.softengineerwebpr.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.StringReader;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 일괄 등록 처리량 (H2 메모리 DB, MySQL 호환 모드).
+ * 목표: BCrypt 해싱을 제외한 등록 경로(검증 + 코드 할당 + 배치 INSERT)로 10만 명을 20초 이내 (5,000행/초 이상).
+ * 운영 cost(10~12)에서는 해싱이 전체 시간을 좌우하므로 총 소요 시간 ≈ 행 수 × 해시 1회 시간 / 코어 수 입니다.
+ * 예: mvn -Pjmh test-compile exec:exec -Djmh.args=UserImportBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserImportBenchmark {
+
+    private static final String USER_DDL = "CREATE TABLE user (" +
+            "idx BIGINT AUTO_INCREMENT PRIMARY KEY, nickname VARCHAR(20) NOT NULL, email VARCHAR(255), " +
+            "identification_code VARCHAR(4) NOT NULL, profile_image VARCHAR(255), bio TEXT, last_login DATETIME(6), " +
+            "is_online BOOLEAN NOT NULL, " +
+            "CONSTRAINT uk_user_email UNIQUE (email), " +
+            "CONSTRAINT uk_user_nickname_identification_code UNIQUE (nickname, identification_code))";
+    private static final String CREDENTIAL_DDL = "CREATE TABLE user_credential (" +
+            "idx BIGINT AUTO_INCREMENT PRIMARY KEY, user_idx BIGINT NOT NULL, id VARCHAR(20) NOT NULL, " +
+            "password VARCHAR(255) NOT NULL, CONSTRAINT uk_user_credentials_id UNIQUE (id))";
+    private static final String ID_SEQUENCES_DDL = "CREATE TABLE id_sequences (" +
+            "sequence_name VARCHAR(64) NOT NULL PRIMARY KEY, next_val BIGINT NOT NULL)";
+
+    @Param({"100000"})
+    public int rows;
+
+    // 4 = 해싱 비용을 사실상 제외한 등록 경로 측정, 10 = 운영 최소 cost
+    @Param({"4"})
+    public int bcryptCost;
+
+    private String input;
+    private DriverManagerDataSource dataSource;
+    private UserImportService importService;
+    private int iteration;
+
+    @Setup(Level.Trial)
+    public void prepareInput() {
+        StringBuilder csv = new StringBuilder("loginId,password,nickname,email\n");
+        for (int i = 0; i < rows; i++) {
+            // 닉네임 1,000개를 돌려 쓰므로 닉네임당 약 100개의 식별 코드가 할당됨
+            csv.append("import_user_").append(i).append(",Password1!,")
+                    .append("dept").append(i % 1000).append(",")
+                    .append("import").append(i).append("@example.com\n");
+        }
+        input = csv.toString();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:user_import_" + (iteration++) + ";MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(USER_DDL);
+        jdbcTemplate.execute(CREDENTIAL_DDL);
+        jdbcTemplate.execute(ID_SEQUENCES_DDL);
+        jdbcTemplate.update("INSERT INTO id_sequences VALUES ('user', 1), ('user_credential', 1)");
+
+        // 일괄 등록은 닉네임별 사용 현황을 미리 적재하므로 저장소 조회는 일어나지 않음
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findIdentificationCodesByNickname")) {
+                        return List.of();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        importService = new UserImportServiceImpl(
+                jdbcTemplate,
+                transactionManager,
+                new IdSequenceAllocator(jdbcTemplate, transactionManager),
+                // 일괄 등록은 해싱 풀의 절반만 쓰므로 코어 수만큼 해싱되도록 풀을 코어의 두 배로 둠
+                new AdaptiveBCryptPasswordEncoder(bcryptCost, Runtime.getRuntime().availableProcessors() * 2, 64, 1000),
+                new IdentificationCodeAllocator(userRepository),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(),
+                event -> { },
+                1000,
+                Files.createTempDirectory("user-import-bench").toString(),
+                3_600_000);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws Exception {
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+        ((UserImportServiceImpl) importService).destroy();
+    }
+
+    @Benchmark
+    public UserImportResultDto importCsv() {
+        UserImportResultDto result = importService.importUsers(new StringReader(input), UserImportService.Format.CSV);
+        if (result.getImportedRows() != rows) {
+            throw new IllegalStateException("imported " + result.getImportedRows() + " of " + rows + ": " + result.getErrors());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.softengineerwebpr.domain.user.service;
+
+import com.example.softengineerwebpr.domain.user.dto.UserSearchResultDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 100만 명 기준 UserSearchIndex 검색 지연(호출당 µs)과 메모리.
+ * 닉네임은 80%를 한글 2~4음절, 20%를 영문+숫자로 만들고 식별 코드는 임의의 4자리입니다.
+ * - prefix / nicknameWithCode / initialConsonants / code: 검색 종류별 상위 10건
+ * - naiveContainsScan: 기준선. 인덱스 없이 "닉네임#코드" 문자열 전체를 훑는 경우 (DB의 LIKE '%…%' 스캔과 같은 방식)
+ * 인덱스 크기(indexBytes), 구성 전후 힙 사용량 차이, 변경 1024건을 합치는 시간은 셋업에서 한 번 출력합니다.
+ * 예: mvn -Pjmh test-compile exec:exec -Djmh.args="UserSearchIndexBenchmark -p users=1000000"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@State(Scope.Benchmark)
+public class UserSearchIndexBenchmark {
+
+    private static final int QUERIES = 1024;
+    private static final int LIMIT = 10;
+    private static final String LATIN = "abcdefghijklmnopqrstuvwxyz";
+
+    @Param({"1000000"})
+    public int users;
+
+    private UserSearchIndex index;
+    private String[] prefixQueries;
+    private String[] nicknameWithCodeQueries;
+    private String[] initialQueries;
+    private String[] codeQueries;
+    private String[] naiveKeys;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        String[] nicknames = new String[users];
+        String[] codes = new String[users];
+        for (int i = 0; i < users; i++) {
+            nicknames[i] = random.nextInt(5) == 0 ? latinNickname(random) : hangulNickname(random);
+            codes[i] = String.format("%04d", random.nextInt(10_000));
+        }
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        long started = System.nanoTime();
+        index = new UserSearchIndex(null, 20, 1024, 5000);
+        UserSearchIndex.Builder builder = new UserSearchIndex.Builder(users);
+        for (int i = 0; i < users; i++) {
+            builder.add(i + 1, nicknames[i], codes[i]);
+        }
+        index.replace(builder);
+        long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        builder = null; // 빌더의 임시 배열이 힙 측정에 포함되지 않도록
+        System.gc();
+        long heapAfter = memory.getHeapMemoryUsage().getUsed();
+        System.out.printf("%n인덱스 구성 %d명: %d ms, 힙 증가 %.1f MB, %s%n", users, buildMillis,
+                (heapAfter - heapBefore) / 1024.0 / 1024.0, index.getMetrics());
+
+        // overlay-limit(1024)만큼 닉네임이 바뀐 뒤 스냅샷에 합치는 시간 (기존 정렬 순서에 끼워 넣기)
+        for (int i = 0; i < 1024; i++) {
+            int user = random.nextInt(users);
+            nicknames[user] = hangulNickname(random);
+            index.put(user + 1, nicknames[user], codes[user]);
+        }
+        started = System.nanoTime();
+        index.compact();
+        System.out.printf("변경 1024건 합치기: %d ms%n", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        prefixQueries = new String[QUERIES];
+        nicknameWithCodeQueries = new String[QUERIES];
+        initialQueries = new String[QUERIES];
+        codeQueries = new String[QUERIES];
+        for (int q = 0; q < QUERIES; q++) {
+            int user = random.nextInt(users);
+            String nickname = nicknames[user];
+            prefixQueries[q] = nickname.substring(0, Math.min(nickname.length(), 1 + random.nextInt(2)));
+            nicknameWithCodeQueries[q] = nickname + "#" + codes[user];
+            initialQueries[q] = initials(hangulNickname(random).substring(0, 2));
+            codeQueries[q] = "#" + codes[user];
+        }
+        naiveKeys = new String[users];
+        for (int i = 0; i < users; i++) {
+            naiveKeys[i] = (nicknames[i] + "#" + codes[i]).toLowerCase();
+        }
+    }
+
+    private static String hangulNickname(Random random) {
+        char[] chars = new char[2 + random.nextInt(3)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('가' + random.nextInt('힣' - '가' + 1));
+        }
+        return new String(chars);
+    }
+
+    private static String latinNickname(Random random) {
+        char[] chars = new char[4 + random.nextInt(8)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = i < 3 || random.nextBoolean() ? LATIN.charAt(random.nextInt(LATIN.length())) : (char) ('0' + random.nextInt(10));
+        }
+        return new String(chars);
+    }
+
+    private static String initials(String hangul) {
+        StringBuilder initials = new StringBuilder();
+        for (int i = 0; i < hangul.length(); i++) {
+            initials.append(UserSearchIndex.initialOf(hangul.charAt(i)));
+        }
+        return initials.toString();
+    }
+
+    private String nextQuery(String[] queries) {
+        return queries[next++ & (QUERIES - 1)];
+    }
+
+    @Benchmark
+    public List<UserSearchResultDto> prefix() {
+        return index.search(nextQuery(prefixQueries), LIMIT);
+    }
+
+    @Benchmark
+    public List<UserSearchResultDto> nicknameWithCode() {
+        return index.search(nextQuery(nicknameWithCodeQueries), LIMIT);
+    }
+
+    @Benchmark
+    public List<UserSearchResultDto> initialConsonants() {
+        return index.search(nextQuery(initialQueries), LIMIT);
+    }
+
+    @Benchmark
+    public List<UserSearchResultDto> code() {
+        return index.search(nextQuery(codeQueries), LIMIT);
+    }
+
+    @Benchmark
+    public List<String> naiveContainsScan() {
+        String query = nextQuery(prefixQueries).toLowerCase();
+        List<String> hits = new ArrayList<>(LIMIT);
+        for (String key : naiveKeys) {
+            if (key.contains(query) && hits.size() < LIMIT) {
+                hits.add(key);
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.softengineerwebpr.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 방식 페이지. 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨 요청합니다.
+ * OFFSET 없이 "마지막으로 받은 키 다음부터"를 인덱스로 바로 찾으므로 뒤쪽 페이지도 첫 페이지와 비용이 같습니다.
+ * 커서는 문자열이며 (idx 하나 또는 정렬 키 여러 개를 이어 붙인 값) 클라이언트는 내용을 해석하지 않고 그대로 돌려보냅니다.
+ */
+@Getter
+public class KeysetPage<T> {
+    private final List<T> items;
+    private final String nextCursor; // 마지막 페이지면 null
+    private final boolean hasNext;
+
+    private KeysetPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    /**
+     * @param fetched size + 1개까지 조회한 결과 (한 개 더 있으면 다음 페이지가 있음)
+     * @param keyOf   항목의 정렬 키 (다음 페이지 커서)
+     */
+    public static <T> KeysetPage<T> of(List<T> fetched, int size, Function<T, String> keyOf) {
+        if (fetched.size() <= size) {
+            return new KeysetPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        return new KeysetPage<>(List.copyOf(items), keyOf.apply(items.get(size - 1)));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.softengineerwebpr.common.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송할 이메일을 업무 트랜잭션과 함께 저장하는 아웃박스 테이블.
+ * 실제 SMTP 발송은 EmailOutboxDispatcher가 트랜잭션 밖에서 처리합니다.
+ * 본문에는 인증 코드, 임시 비밀번호, 아이디가 들어가므로 SENT/FAILED가 되면 본문을 비우고,
+ * 끝난 행은 보관 기간(app.mail.outbox.retention-hours)이 지나면 디스패처가 지웁니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "email_outbox",
+        indexes = {
+            @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+            // 보관 기간이 지난 SENT/FAILED 행 정리
+            @Index(name = "idx_email_outbox_status_created", columnList = "status, created_at")
+        })
+public class EmailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "idx")
+    private Long idx;
+
+    @Column(name = "recipient", nullable = false, length = 255)
+    private String recipient;
+
+    @Column(nullable = false, length = 255)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body; // 텍스트 본문 (발송이 끝나면 빈 문자열)
+
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String html; // HTML 본문 (있으면 텍스트 + HTML multipart로 발송)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts; // 지금까지 발송 시도 횟수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // 다음 발송 가능 시각 (SENDING 상태에서는 임대 만료 시각)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Version
+    @Column(nullable = false)
+    private int version; // 여러 인스턴스의 디스패처가 같은 행을 동시에 가져가지 않도록 사용
+
+    @Builder
+    public EmailOutbox(String recipient, String subject, String body, String html) {
+        LocalDateTime now = LocalDateTime.now();
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.html = html;
+        this.status = EmailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    public void markSent() {
+        this.status = EmailOutboxStatus.SENT;
+        this.attempts++;
+        this.sentAt = LocalDateTime.now();
+        this.lastError = null;
+        clearContent();
+    }
+
+    // 발송 실패 기록. 최대 횟수에 도달하면 FAILED, 아니면 retryAt에 다시 시도
+    public void markAttemptFailed(String error, int maxAttempts, LocalDateTime retryAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = EmailOutboxStatus.FAILED;
+            clearContent();
+        } else {
+            this.status = EmailOutboxStatus.PENDING;
+            this.nextAttemptAt = retryAt;
+        }
+    }
+
+    // 더 이상 발송하지 않으므로 비밀 값이 남지 않도록 본문을 지움 (수신자/제목/상태는 추적용으로 유지)
+    private void clearContent() {
+        this.body = "";
+        this.html = null;
+    }
+}
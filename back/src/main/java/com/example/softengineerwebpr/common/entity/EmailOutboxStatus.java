@@ -0,0 +1,8 @@
+package com.example.softengineerwebpr.common.entity;
+
+public enum EmailOutboxStatus {
+    PENDING, // 발송 대기 (재시도 대기 포함)
+    SENDING, // 디스패처가 가져가 발송 중 (임대 시간이 지나면 다시 대상이 됨)
+    SENT,    // 발송 완료
+    FAILED   // 최대 재시도 횟수 초과
+}
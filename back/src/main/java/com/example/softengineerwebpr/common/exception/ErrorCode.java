@@ -17,10 +17,36 @@ public enum ErrorCode {
     USER_REGISTRATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AUTH_009", "사용자 등록 중 오류가 발생했습니다."), // 추가된 에러 코드
     USER_INFO_MISMATCH(HttpStatus.BAD_REQUEST, "AUTH_010", "입력하신 사용자 정보가 일치하지 않습니다."), // 추가
     PASSWORD_RESET_NOT_SUPPORTED_FOR_SOCIAL(HttpStatus.BAD_REQUEST, "AUTH_011", "소셜 로그인 사용자는 이 기능을 사용할 수 없습니다."), // 필요시 추가
+    IDENTIFICATION_CODE_EXHAUSTED(HttpStatus.CONFLICT, "AUTH_012", "해당 닉네임으로 발급 가능한 식별 코드가 모두 사용되었습니다. 다른 닉네임을 사용해주세요."),
+    INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH_013", "유효하지 않거나 만료된 인증 토큰입니다."),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH_014", "유효하지 않거나 이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."),
+    LOGIN_FAILED(HttpStatus.UNAUTHORIZED, "AUTH_015", "아이디 또는 비밀번호가 올바르지 않습니다."),
+    AUTHENTICATION_REQUIRED(HttpStatus.UNAUTHORIZED, "AUTH_016", "로그인이 필요합니다."),
 
     // Common
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "COMMON_001", "입력 값이 올바르지 않습니다."),
-    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON_002", "서버 내부 오류가 발생했습니다.");
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON_002", "서버 내부 오류가 발생했습니다."),
+    METRICS_NOT_FOUND(HttpStatus.NOT_FOUND, "COMMON_003", "해당 이름의 지표를 찾을 수 없습니다."),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "COMMON_004", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    ACCESS_DENIED(HttpStatus.FORBIDDEN, "COMMON_005", "접근 권한이 없습니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMMON_006", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    PAYLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "COMMON_007", "요청 본문이 너무 큽니다."),
+
+    // Project
+    PROJECT_NOT_FOUND(HttpStatus.NOT_FOUND, "PROJECT_001", "해당 프로젝트를 찾을 수 없습니다."),
+    NOT_PROJECT_MEMBER(HttpStatus.FORBIDDEN, "PROJECT_002", "프로젝트 참여자만 접근할 수 있습니다."),
+    TASK_NOT_FOUND(HttpStatus.NOT_FOUND, "PROJECT_003", "해당 업무를 찾을 수 없습니다."),
+    ASSIGNEE_NOT_MEMBER(HttpStatus.BAD_REQUEST, "PROJECT_004", "업무 담당자는 프로젝트 참여자여야 합니다."),
+    TASK_POSITION_CONFLICT(HttpStatus.CONFLICT, "PROJECT_005", "보드가 변경되어 업무를 옮기지 못했습니다. 보드를 새로고침한 뒤 다시 시도해주세요."),
+    NOT_PROJECT_OWNER(HttpStatus.FORBIDDEN, "PROJECT_006", "프로젝트 생성자만 할 수 있습니다."),
+    INVITATION_NOT_FOUND(HttpStatus.NOT_FOUND, "PROJECT_007", "해당 초대를 찾을 수 없습니다. 이미 처리되었을 수 있습니다."),
+    INVITATION_CONFLICT(HttpStatus.CONFLICT, "PROJECT_008", "다른 초대 요청과 겹쳐 초대하지 못했습니다. 다시 시도해주세요."),
+
+    // Admin
+    IMPORT_ALREADY_RUNNING(HttpStatus.CONFLICT, "ADMIN_001", "이미 진행 중인 사용자 일괄 등록 작업이 있습니다."),
+    UNSUPPORTED_IMPORT_FORMAT(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "ADMIN_002", "지원하지 않는 일괄 등록 형식입니다. (text/csv 또는 application/x-ndjson)"),
+    IMPORT_RESULT_NOT_FOUND(HttpStatus.NOT_FOUND, "ADMIN_003", "일괄 등록 결과 파일을 찾을 수 없습니다."),
+    IMPORT_NOT_FINISHED(HttpStatus.CONFLICT, "ADMIN_004", "사용자 일괄 등록이 아직 진행 중입니다.");
     // ... 다른 에러 코드 추가
 
     private final HttpStatus status;
@@ -3,8 +3,10 @@ package com.example.softengineerwebpr.common.exception;
 import com.example.softengineerwebpr.common.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -25,6 +27,16 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, errorCode.getStatus());
     }
 
+    // 요청 횟수 제한 초과 (RateLimitFilter). 정상적인 차단이므로 스택 트레이스 없이 기록하고 Retry-After 헤더를 붙임
+    @ExceptionHandler(RateLimitExceededException.class)
+    protected ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException e, HttpServletRequest request) {
+        log.warn("RateLimitExceededException occurred: {} - Path: {}", e.getMessage(), request.getRequestURI());
+        ErrorResponse errorResponse = new ErrorResponse(e.getErrorCode(), request.getRequestURI());
+        return ResponseEntity.status(e.getErrorCode().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     // @Valid 어노테이션을 사용한 DTO 유효성 검증 실패 시 발생하는 예외 처리
     @ExceptionHandler(MethodArgumentNotValidException.class)
     protected ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException e, HttpServletRequest request) {
@@ -47,6 +59,14 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    // @PreAuthorize 등 메소드 보안에서 권한이 없을 때 (처리하지 않으면 아래 Exception 핸들러에서 500으로 응답됨)
+    @ExceptionHandler(AccessDeniedException.class)
+    protected ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException e, HttpServletRequest request) {
+        log.warn("AccessDeniedException occurred: {} - Path: {}", e.getMessage(), request.getRequestURI());
+        ErrorResponse errorResponse = new ErrorResponse(ErrorCode.ACCESS_DENIED, request.getRequestURI());
+        return new ResponseEntity<>(errorResponse, ErrorCode.ACCESS_DENIED.getStatus());
+    }
+
     // 기타 처리되지 않은 모든 예외에 대한 처리 (500 Internal Server Error)
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<ErrorResponse> handleException(Exception e, HttpServletRequest request) {
@@ -59,8 +79,4 @@ public class GlobalExceptionHandler {
         );
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
-
-    // (선택적) Spring Security 관련 예외 처리 (예: AccessDeniedException, AuthenticationException 등)
-    // @ExceptionHandler(AccessDeniedException.class)
-    // protected ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException e, HttpServletRequest request) { ... }
 }
\ No newline at end of file
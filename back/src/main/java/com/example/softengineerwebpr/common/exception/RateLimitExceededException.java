@@ -0,0 +1,13 @@
+package com.example.softengineerwebpr.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends BusinessLogicException {
+    private final long retryAfterSeconds; // 다시 시도할 수 있을 때까지 남은 시간 (Retry-After 헤더)
+
+    public RateLimitExceededException(String customMessage, long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS, customMessage);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.softengineerwebpr.common.instrumentation;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+
+/**
+ * @Service 빈의 public 메소드마다 실행된 SQL 수/시간을 집계합니다. (하위 서비스 호출분 포함)
+ * N+1 의심 로그의 "처음 실행 위치"도 여기서 쌓은 호출 스택을 사용합니다.
+ */
+@Aspect
+public class ServiceSqlAspect {
+
+    private final SqlExecutionRecorder recorder;
+
+    public ServiceSqlAspect(SqlExecutionRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        long[] before = recorder.snapshotThreadTotals();
+        recorder.enterMethod(method);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            recorder.exitMethod(method, before);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.softengineerwebpr.common.instrumentation;
+
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JDBC 문장 실행 횟수/시간을 HTTP 요청별, 서비스 메소드별로 집계합니다.
+ * - InstrumentedDataSource가 문장 실행마다 recordStatement를 호출
+ * - SqlInstrumentationFilter가 요청 시작/종료를 알림 (요청 단위 쿼리 예산, N+1 의심 검사)
+ * - ServiceSqlAspect가 @Service 메소드 단위 집계 (하위 호출 포함)
+ * 집계 키(엔드포인트/메소드/SQL) 수는 MAX_TRACKED_KEYS로 제한합니다.
+ */
+@Slf4j
+public class SqlExecutionRecorder implements MetricsSource {
+
+    private static final int MAX_TRACKED_KEYS = 500;
+    private static final int MAX_SQL_LENGTH = 300;
+    private static final String OTHER_KEY = "(other)";
+
+    private final int queryBudget;
+    private final int nPlusOneThreshold;
+
+    private final ThreadLocal<RequestSqlStats> currentRequest = new ThreadLocal<>();
+    // 요청 밖(스케줄러 등)에서도 메소드 단위 집계가 가능하도록 스레드마다 누적 값 유지: [문장 수, 나노초]
+    private final ThreadLocal<long[]> threadTotals = ThreadLocal.withInitial(() -> new long[2]);
+
+    private final Map<String, Aggregate> endpointStats = new ConcurrentHashMap<>();
+    private final Map<String, Aggregate> methodStats = new ConcurrentHashMap<>();
+    private final Map<String, NPlusOneSuspect> nPlusOneSuspects = new ConcurrentHashMap<>();
+
+    private final LongAdder totalStatements = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder backgroundStatements = new LongAdder();
+
+    public SqlExecutionRecorder(int queryBudget, int nPlusOneThreshold) {
+        this.queryBudget = queryBudget;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    void recordStatement(String sql, long nanos) {
+        totalStatements.increment();
+        totalNanos.add(nanos);
+        long[] totals = threadTotals.get();
+        totals[0]++;
+        totals[1] += nanos;
+        RequestSqlStats request = currentRequest.get();
+        if (request == null) {
+            backgroundStatements.increment();
+            return;
+        }
+        request.record(sql, nanos);
+    }
+
+    // ===== 요청 단위 =====
+
+    void beginRequest() {
+        currentRequest.set(new RequestSqlStats());
+    }
+
+    void endRequest(String endpoint) {
+        RequestSqlStats request = currentRequest.get();
+        currentRequest.remove();
+        if (request == null || request.statements == 0) {
+            return;
+        }
+        boolean overBudget = request.statements > queryBudget;
+        trackedAggregate(endpointStats, endpoint).record(request.statements, request.nanos, overBudget);
+        if (overBudget) {
+            log.warn("SQL 예산 초과: {} - {}개 문장, {}ms (예산 {}개)",
+                    endpoint, request.statements, TimeUnit.NANOSECONDS.toMillis(request.nanos), queryBudget);
+        }
+        for (Map.Entry<String, SqlCounter> entry : request.countsBySql.entrySet()) {
+            SqlCounter counter = entry.getValue();
+            if (counter.count >= nPlusOneThreshold) {
+                String key = endpoint + " | " + entry.getKey();
+                NPlusOneSuspect suspect = nPlusOneSuspects.get(key);
+                if (suspect == null && nPlusOneSuspects.size() < MAX_TRACKED_KEYS) {
+                    // 처음 발견했을 때만 경고 로그 (이후에는 지표로만 집계)
+                    log.warn("N+1 의심: {} 요청에서 같은 SQL {}회 실행 (처음 실행 위치: {}) - {}",
+                            endpoint, counter.count, counter.firstMethod, abbreviate(entry.getKey()));
+                    suspect = nPlusOneSuspects.computeIfAbsent(key,
+                            k -> new NPlusOneSuspect(endpoint, counter.firstMethod, entry.getKey()));
+                }
+                if (suspect != null) {
+                    suspect.record(counter.count);
+                }
+            }
+        }
+    }
+
+    // ===== 서비스 메소드 단위 =====
+
+    long[] snapshotThreadTotals() {
+        long[] totals = threadTotals.get();
+        return new long[]{totals[0], totals[1]};
+    }
+
+    void enterMethod(String method) {
+        RequestSqlStats request = currentRequest.get();
+        if (request != null) {
+            request.methodStack.push(method);
+        }
+    }
+
+    void exitMethod(String method, long[] before) {
+        RequestSqlStats request = currentRequest.get();
+        if (request != null && !request.methodStack.isEmpty()) {
+            request.methodStack.pop();
+        }
+        long[] after = threadTotals.get();
+        long statements = after[0] - before[0];
+        if (statements > 0) {
+            trackedAggregate(methodStats, method).record(statements, after[1] - before[1], false);
+        }
+    }
+
+    private static Aggregate trackedAggregate(Map<String, Aggregate> stats, String key) {
+        Aggregate aggregate = stats.get(key);
+        if (aggregate != null) {
+            return aggregate;
+        }
+        return stats.computeIfAbsent(stats.size() < MAX_TRACKED_KEYS ? key : OTHER_KEY, k -> new Aggregate());
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "sql";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("totalStatements", totalStatements.sum());
+        metrics.put("totalSqlMillis", TimeUnit.NANOSECONDS.toMillis(totalNanos.sum()));
+        metrics.put("backgroundStatements", backgroundStatements.sum());
+        metrics.put("queryBudget", queryBudget);
+        metrics.put("nPlusOneThreshold", nPlusOneThreshold);
+        metrics.put("endpoints", toSortedMap(endpointStats));
+        metrics.put("serviceMethods", toSortedMap(methodStats));
+        List<Map<String, Object>> suspects = nPlusOneSuspects.values().stream()
+                .sorted(Comparator.comparingLong(NPlusOneSuspect::occurrences).reversed())
+                .map(NPlusOneSuspect::toMap)
+                .toList();
+        metrics.put("nPlusOneSuspects", suspects);
+        return metrics;
+    }
+
+    // 문장 수가 많은 순으로 정렬
+    private static Map<String, Object> toSortedMap(Map<String, Aggregate> stats) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        stats.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().statements.sum(), a.getValue().statements.sum()))
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue().toMap()));
+        return result;
+    }
+
+    private static String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= MAX_SQL_LENGTH ? singleLine : singleLine.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+
+    // 한 요청 동안의 집계 (요청 스레드 안에서만 접근)
+    private static class RequestSqlStats {
+        private int statements;
+        private long nanos;
+        private final Map<String, SqlCounter> countsBySql = new HashMap<>();
+        private final Deque<String> methodStack = new ArrayDeque<>();
+
+        void record(String sql, long elapsedNanos) {
+            statements++;
+            nanos += elapsedNanos;
+            if (countsBySql.size() < MAX_TRACKED_KEYS || countsBySql.containsKey(sql)) {
+                countsBySql.computeIfAbsent(sql, k -> new SqlCounter(methodStack.peek())).count++;
+            }
+        }
+    }
+
+    private static class SqlCounter {
+        private final String firstMethod;
+        private int count;
+
+        SqlCounter(String firstMethod) {
+            this.firstMethod = firstMethod != null ? firstMethod : "(filter/security)";
+        }
+    }
+
+    private static class Aggregate {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final AtomicLong maxStatements = new AtomicLong();
+        private final LongAdder overBudget = new LongAdder();
+
+        void record(long statementCount, long elapsedNanos, boolean exceededBudget) {
+            count.increment();
+            statements.add(statementCount);
+            nanos.add(elapsedNanos);
+            maxStatements.accumulateAndGet(statementCount, Math::max);
+            if (exceededBudget) {
+                overBudget.increment();
+            }
+        }
+
+        Map<String, Object> toMap() {
+            long calls = count.sum();
+            long statementSum = statements.sum();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("calls", calls);
+            map.put("statements", statementSum);
+            map.put("avgStatements", calls == 0 ? 0.0 : (double) statementSum / calls);
+            map.put("maxStatements", maxStatements.get());
+            map.put("sqlMillis", TimeUnit.NANOSECONDS.toMillis(nanos.sum()));
+            map.put("overBudget", overBudget.sum());
+            return map;
+        }
+    }
+
+    private static class NPlusOneSuspect {
+        private final String endpoint;
+        private final String firstMethod;
+        private final String sql;
+        private final LongAdder occurrences = new LongAdder();
+        private final AtomicLong maxRepetitions = new AtomicLong();
+
+        NPlusOneSuspect(String endpoint, String firstMethod, String sql) {
+            this.endpoint = endpoint;
+            this.firstMethod = firstMethod;
+            this.sql = abbreviate(sql);
+        }
+
+        void record(int repetitions) {
+            occurrences.increment();
+            maxRepetitions.accumulateAndGet(repetitions, Math::max);
+        }
+
+        long occurrences() {
+            return occurrences.sum();
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("endpoint", endpoint);
+            map.put("firstMethod", firstMethod);
+            map.put("sql", sql);
+            map.put("occurrences", occurrences.sum());
+            map.put("maxRepetitions", maxRepetitions.get());
+            return map;
+        }
+    }
+}
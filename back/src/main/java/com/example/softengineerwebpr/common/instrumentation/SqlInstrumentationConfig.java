@@ -0,0 +1,56 @@
+package com.example.softengineerwebpr.common.instrumentation;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 계측 구성 (app.instrumentation.sql.enabled=false로 끌 수 있음)
+ * 결과는 /api/metrics/sql 에서 확인합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.instrumentation.sql.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInstrumentationConfig {
+
+    @Bean
+    public SqlExecutionRecorder sqlExecutionRecorder(
+            @Value("${app.instrumentation.sql.query-budget:20}") int queryBudget,
+            @Value("${app.instrumentation.sql.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        return new SqlExecutionRecorder(queryBudget, nPlusOneThreshold);
+    }
+
+    // DataSource 빈을 감싸는 후처리기. 다른 빈보다 먼저 만들어지므로 static으로 선언하고 recorder는 지연 조회
+    @Bean
+    public static BeanPostProcessor sqlInstrumentingDataSourcePostProcessor(ObjectProvider<SqlExecutionRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource, SingletonSupplier.of(recorder::getObject));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlInstrumentationFilter> sqlInstrumentationFilter(SqlExecutionRecorder recorder) {
+        FilterRegistrationBean<SqlInstrumentationFilter> registration =
+                new FilterRegistrationBean<>(new SqlInstrumentationFilter(recorder));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public ServiceSqlAspect serviceSqlAspect(SqlExecutionRecorder recorder) {
+        return new ServiceSqlAspect(recorder);
+    }
+}
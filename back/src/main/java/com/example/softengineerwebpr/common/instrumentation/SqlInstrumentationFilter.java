@@ -0,0 +1,40 @@
+package com.example.softengineerwebpr.common.instrumentation;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나 동안 실행된 SQL을 모아 엔드포인트 단위로 집계합니다.
+ * 보안 필터(로그인, 세션 조회)에서 실행되는 쿼리도 포함되도록 가장 앞에 등록합니다.
+ */
+public class SqlInstrumentationFilter extends OncePerRequestFilter {
+
+    private final SqlExecutionRecorder recorder;
+
+    public SqlInstrumentationFilter(SqlExecutionRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        recorder.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recorder.endRequest(request.getMethod() + " " + resolvePath(request));
+        }
+    }
+
+    // /api/users/123 처럼 경로 변수가 들어간 URI 대신 매핑 패턴(/api/users/{id})으로 묶어서 집계
+    private static String resolvePath(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+}
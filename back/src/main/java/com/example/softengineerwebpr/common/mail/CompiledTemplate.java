@@ -0,0 +1,84 @@
+package com.example.softengineerwebpr.common.mail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {{변수}} 자리 표시자를 미리 나눠 둔 템플릿 한 부분(제목, 텍스트 본문, HTML 본문).
+ * 렌더링은 고정 문자열과 변수 값을 순서대로 이어 붙이기만 하며, 템플릿 문자열을 다시 읽지 않습니다.
+ */
+final class CompiledTemplate {
+
+    private final String[] literals;  // literals[i] 다음에 variables[i]가 옴 (literals가 하나 더 많음)
+    private final String[] variables;
+    private final boolean escapeHtml;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] literals, String[] variables, boolean escapeHtml) {
+        this.literals = literals;
+        this.variables = variables;
+        this.escapeHtml = escapeHtml;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    static CompiledTemplate compile(String source, boolean escapeHtml) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf("{{", position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 템플릿 변수: " + source.substring(open));
+            }
+            String name = source.substring(open + 2, close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("이름이 없는 템플릿 변수: " + source.substring(open, close + 2));
+            }
+            literals.add(source.substring(position, open));
+            variables.add(name);
+            position = close + 2;
+        }
+        literals.add(source.substring(position));
+        return new CompiledTemplate(literals.toArray(String[]::new), variables.toArray(String[]::new), escapeHtml);
+    }
+
+    void renderTo(StringBuilder out, Map<String, ?> model) {
+        out.ensureCapacity(out.length() + literalLength + variables.length * 16);
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            Object value = model.get(variables[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("템플릿 변수 값이 없습니다: " + variables[i]);
+            }
+            if (escapeHtml) {
+                appendEscaped(out, value.toString());
+            } else {
+                out.append(value);
+            }
+        }
+        out.append(literals[variables.length]);
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.softengineerwebpr.common.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 메일 템플릿 엔진. 기동 시 classpath:mail/{언어}/ 아래 템플릿을 모두 읽어 CompiledTemplate으로 만들어 둡니다.
+ * - {이름}.subject.txt: 제목 (한 줄), {이름}.txt: 텍스트 본문, {이름}.html: HTML 본문 (선택, 변수 값은 HTML 이스케이프)
+ * - 요청 언어의 템플릿이 없으면 기본 언어(app.mail.template.default-locale) 템플릿을 사용
+ * - 렌더링은 스레드별로 재사용하는 StringBuilder에 하므로 결과 문자열 외에는 거의 할당하지 않음
+ */
+@Slf4j
+@Component
+public class MailTemplateEngine {
+
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024; // 이보다 커진 버퍼는 다음 렌더링 때 새로 만듦
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(2048));
+
+    // 템플릿 이름 -> 언어 -> 템플릿
+    private final Map<String, Map<String, MailTemplate>> templates;
+    private final String defaultLanguage;
+
+    public MailTemplateEngine(@Value("${app.mail.template.location:classpath*:mail/}") String location,
+                              @Value("${app.mail.template.default-locale:ko}") String defaultLocale) {
+        this.defaultLanguage = Locale.forLanguageTag(defaultLocale).getLanguage();
+        this.templates = load(location);
+        templates.forEach((name, byLanguage) -> {
+            if (!byLanguage.containsKey(defaultLanguage)) {
+                throw new IllegalStateException("메일 템플릿 '" + name + "'에 기본 언어(" + defaultLanguage + ") 버전이 없습니다.");
+            }
+        });
+        log.info("메일 템플릿 {}개 로드: {}", templates.size(), templates.keySet());
+    }
+
+    /**
+     * @param locale 받는 사람의 언어 (null이면 기본 언어)
+     * @param model  템플릿 변수 값. 템플릿에 있는 변수가 빠지면 IllegalArgumentException
+     */
+    public RenderedMail render(String name, Locale locale, Map<String, ?> model) {
+        Map<String, MailTemplate> byLanguage = templates.get(name);
+        if (byLanguage == null) {
+            throw new IllegalArgumentException("없는 메일 템플릿입니다: " + name);
+        }
+        MailTemplate template = locale != null ? byLanguage.get(locale.getLanguage()) : null;
+        if (template == null) {
+            template = byLanguage.get(defaultLanguage);
+        }
+        StringBuilder buffer = BUFFER.get();
+        try {
+            return new RenderedMail(
+                    render(buffer, template.subject(), model),
+                    render(buffer, template.text(), model),
+                    template.html() != null ? render(buffer, template.html(), model) : null);
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    public Set<String> templateNames() {
+        return templates.keySet();
+    }
+
+    private static String render(StringBuilder buffer, CompiledTemplate template, Map<String, ?> model) {
+        buffer.setLength(0);
+        template.renderTo(buffer, model);
+        return buffer.toString();
+    }
+
+    private static Map<String, Map<String, MailTemplate>> load(String location) {
+        Map<String, Map<String, Map<Part, String>>> sources = new HashMap<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(location + "*/*")) {
+                String filename = resource.getFilename();
+                Part part = filename != null ? Part.of(filename) : null;
+                if (part == null) {
+                    continue;
+                }
+                String language = languageOf(resource);
+                String name = filename.substring(0, filename.length() - part.suffix.length());
+                String source = resource.getContentAsString(StandardCharsets.UTF_8).stripTrailing();
+                sources.computeIfAbsent(name, n -> new HashMap<>())
+                        .computeIfAbsent(language, l -> new HashMap<>())
+                        .put(part, part == Part.SUBJECT ? source.strip() : source);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("메일 템플릿을 읽을 수 없습니다: " + location, e);
+        }
+
+        Map<String, Map<String, MailTemplate>> compiled = new HashMap<>();
+        sources.forEach((name, byLanguage) -> byLanguage.forEach((language, parts) -> {
+            if (!parts.containsKey(Part.SUBJECT) || !parts.containsKey(Part.TEXT)) {
+                throw new IllegalStateException("메일 템플릿 '" + name + "' (" + language + ")에 제목 또는 텍스트 본문이 없습니다.");
+            }
+            String html = parts.get(Part.HTML);
+            compiled.computeIfAbsent(name, n -> new HashMap<>()).put(language, new MailTemplate(
+                    CompiledTemplate.compile(parts.get(Part.SUBJECT), false),
+                    CompiledTemplate.compile(parts.get(Part.TEXT), false),
+                    html != null ? CompiledTemplate.compile(html, true) : null));
+        }));
+        return Map.copyOf(compiled);
+    }
+
+    // mail/{언어}/{파일} 에서 언어 디렉터리 이름
+    private static String languageOf(Resource resource) throws IOException {
+        String path = resource.getURL().getPath();
+        int end = path.lastIndexOf('/');
+        int start = path.lastIndexOf('/', end - 1);
+        return path.substring(start + 1, end);
+    }
+
+    private enum Part {
+        SUBJECT(".subject.txt"), TEXT(".txt"), HTML(".html");
+
+        private final String suffix;
+
+        Part(String suffix) {
+            this.suffix = suffix;
+        }
+
+        // .subject.txt가 .txt보다 먼저 검사되도록 선언 순서 유지
+        private static Part of(String filename) {
+            for (Part part : values()) {
+                if (filename.endsWith(part.suffix)) {
+                    return part;
+                }
+            }
+            return null;
+        }
+    }
+
+    private record MailTemplate(CompiledTemplate subject, CompiledTemplate text, CompiledTemplate html) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.softengineerwebpr.common.mail;
+
+/**
+ * 렌더링된 메일. html이 null이면 텍스트 메일로만 발송합니다.
+ */
+public record RenderedMail(String subject, String text, String html) {
+}
@@ -0,0 +1,46 @@
+package com.example.softengineerwebpr.common.metrics;
+
+import com.example.softengineerwebpr.common.dto.ApiResponse;
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RestController
+@RequestMapping("/api/metrics")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')") // 내부 캐시 크기, 적중률 등 운영 정보이므로 관리자만 조회
+public class MetricsController {
+
+    private final List<MetricsSource> metricsSources;
+
+    // 등록된 모든 지표 조회
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Map<String, Object>>>> getAllMetrics() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        for (MetricsSource source : metricsSources) {
+            result.put(source.getMetricsName(), source.getMetrics());
+        }
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "지표 조회에 성공했습니다.", result));
+    }
+
+    // 이름으로 특정 지표 조회
+    @GetMapping("/{name}")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getMetrics(@PathVariable String name) {
+        MetricsSource source = metricsSources.stream()
+                .filter(s -> s.getMetricsName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new BusinessLogicException(ErrorCode.METRICS_NOT_FOUND));
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "지표 조회에 성공했습니다.", source.getMetrics()));
+    }
+}
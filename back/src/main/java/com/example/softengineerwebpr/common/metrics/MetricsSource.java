@@ -0,0 +1,16 @@
+package com.example.softengineerwebpr.common.metrics;
+
+import java.util.Map;
+
+/**
+ * 내부 상태 지표를 노출하는 컴포넌트가 구현하는 인터페이스.
+ * 구현체(Bean)는 MetricsController를 통해 /api/metrics/{name} 으로 조회됩니다.
+ */
+public interface MetricsSource {
+
+    // 지표 묶음 이름 (예: "verification-code-store")
+    String getMetricsName();
+
+    // 현재 시점의 지표 스냅샷
+    Map<String, Object> getMetrics();
+}
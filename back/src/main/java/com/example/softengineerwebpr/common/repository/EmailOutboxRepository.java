@@ -0,0 +1,41 @@
+package com.example.softengineerwebpr.common.repository;
+
+import com.example.softengineerwebpr.common.entity.EmailOutbox;
+import com.example.softengineerwebpr.common.entity.EmailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // 발송 대상: 대기 중이거나, 발송 중이었지만 임대 시간이 지난(디스패처 중단 등) 메일
+    @Query("select e from EmailOutbox e where e.status in :statuses and e.nextAttemptAt <= :now order by e.idx")
+    List<EmailOutbox> findDispatchable(@Param("statuses") Collection<EmailOutboxStatus> statuses,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    long countByStatus(EmailOutboxStatus status);
+
+    // version을 비교해 한 인스턴스만 가져가도록 선점 (성공 시 1)
+    @Modifying(clearAutomatically = true)
+    @Query("update EmailOutbox e set e.status = com.example.softengineerwebpr.common.entity.EmailOutboxStatus.SENDING, " +
+            "e.nextAttemptAt = :leaseUntil, e.version = e.version + 1 " +
+            "where e.idx = :idx and e.version = :version")
+    int claim(@Param("idx") Long idx, @Param("version") int version, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 보관 기간이 지난 끝난(SENT/FAILED) 메일
+    @Query("select e.idx from EmailOutbox e where e.status in :statuses and e.createdAt < :before order by e.idx")
+    List<Long> findFinishedIdxs(@Param("statuses") Collection<EmailOutboxStatus> statuses,
+                                @Param("before") LocalDateTime before,
+                                Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from EmailOutbox e where e.idx in :idxs")
+    int deleteByIdxIn(@Param("idxs") Collection<Long> idxs);
+}
@@ -0,0 +1,59 @@
+package com.example.softengineerwebpr.common.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * id_sequences 테이블에서 ID 구간을 직접 예약합니다.
+ * 엔티티의 @TableGenerator(pooled-lo)와 같은 테이블/행을 사용하므로, JPA를 거치지 않고 JDBC로 INSERT하는 경로
+ * (사용자 일괄 등록, 프로젝트 일괄 초대 등)에서도 Hibernate가 발급하는 ID와 겹치지 않습니다.
+ * 테이블 정의와 기존 데이터 이전: resources/db/id-sequences-migration.sql
+ */
+@Repository
+public class IdSequenceAllocator {
+
+    // @TableGenerator의 pkColumnValue와 같은 값 (엔티티 테이블명)
+    public static final String USER = "user";
+    public static final String USER_CREDENTIAL = "user_credential";
+    public static final String USER_OAUTH_CONNECTION = "user_oauth_connections";
+    public static final String OAUTH_PROVIDER = "oauth2_providers";
+    public static final String PROJECT_INVITATION = "project_invitation";
+
+    private static final String SELECT_FOR_UPDATE_SQL = "SELECT next_val FROM id_sequences WHERE sequence_name = ? FOR UPDATE";
+    private static final String UPDATE_SQL = "UPDATE id_sequences SET next_val = ? WHERE sequence_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public IdSequenceAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 호출 측 트랜잭션과 분리해 행 잠금을 바로 풀어 줌 (Hibernate TableGenerator와 같은 방식)
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * count개의 연속된 ID를 예약하고 첫 번째 ID를 반환합니다. (반환값 ~ 반환값 + count - 1)
+     * 예약한 ID는 호출 측 트랜잭션이 롤백되어도 반환되지 않습니다.
+     */
+    public long reserve(String sequenceName, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive: " + count);
+        }
+        Long first = transactionTemplate.execute(status -> {
+            List<Long> values = jdbcTemplate.queryForList(SELECT_FOR_UPDATE_SQL, Long.class, sequenceName);
+            if (values.isEmpty()) {
+                throw new IllegalStateException("id_sequences에 '" + sequenceName + "' 행이 없습니다. db/id-sequences-migration.sql을 적용하세요.");
+            }
+            long next = values.get(0);
+            jdbcTemplate.update(UPDATE_SQL, next + count, sequenceName);
+            return next;
+        });
+        return first;
+    }
+}
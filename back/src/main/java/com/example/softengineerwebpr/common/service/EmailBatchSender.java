@@ -0,0 +1,99 @@
+package com.example.softengineerwebpr.common.service;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 메일을 한 번의 SMTP 연결로 발송합니다.
+ * (JavaMailSender.send(MimeMessage...)는 연결 하나를 열어 배열 전체를 보낸 뒤 닫음)
+ * HTML 본문이 있는 메일은 텍스트 + HTML multipart/alternative로, 없으면 텍스트 메일로 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailBatchSender {
+
+    private final JavaMailSender mailSender;
+
+    /**
+     * @param mails 발송할 메일 목록
+     * @return 발송에 실패한 메일의 목록 인덱스 -> 오류 메시지 (모두 성공하면 빈 Map)
+     */
+    public Map<Integer, String> send(List<OutgoingMail> mails) {
+        if (mails.isEmpty()) {
+            return Map.of();
+        }
+        Map<Integer, String> failures = new HashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(mails.size());
+        List<Integer> indexes = new ArrayList<>(mails.size()); // messages[i]의 원래 목록 인덱스
+        for (int i = 0; i < mails.size(); i++) {
+            try {
+                messages.add(toMimeMessage(mails.get(i)));
+                indexes.add(i);
+            } catch (MessagingException e) { // 잘못된 주소 등은 보내 보지 않고 실패 처리
+                failures.put(i, e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        MimeMessage[] batch = messages.toArray(new MimeMessage[0]);
+        try {
+            mailSender.send(batch);
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (int i = 0; i < batch.length; i++) {
+                // 연결 자체 실패 등 개별 메시지 정보가 없으면 모두 실패
+                Exception failure = failedMessages.isEmpty() ? e : failedMessages.get(batch[i]);
+                if (failure != null) {
+                    failures.put(indexes.get(i), failure.getMessage());
+                }
+            }
+        } catch (MailException e) {
+            log.warn("메일 일괄 발송 실패 ({}건): {}", batch.length, e.getMessage());
+            for (Integer index : indexes) {
+                failures.put(index, e.getMessage());
+            }
+        }
+        return failures;
+    }
+
+    private MimeMessage toMimeMessage(OutgoingMail mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        boolean multipart = mail.html() != null;
+        MimeMessageHelper helper = new MimeMessageHelper(message,
+                multipart ? MimeMessageHelper.MULTIPART_MODE_RELATED : MimeMessageHelper.MULTIPART_MODE_NO,
+                StandardCharsets.UTF_8.name());
+        if (mail.from() != null) {
+            helper.setFrom(mail.from());
+        }
+        helper.setTo(mail.to());
+        helper.setSubject(mail.subject());
+        if (multipart) {
+            helper.setText(mail.text(), mail.html());
+        } else {
+            helper.setText(mail.text());
+        }
+        return message;
+    }
+
+    /**
+     * 발송할 메일 한 통. from이 null이면 메일 세션 기본값(spring.mail.username)을 사용
+     */
+    public record OutgoingMail(String from, String to, String subject, String text, String html) {
+    }
+}
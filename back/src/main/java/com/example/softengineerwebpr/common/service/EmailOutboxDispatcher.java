@@ -0,0 +1,222 @@
+package com.example.softengineerwebpr.common.service;
+
+import com.example.softengineerwebpr.common.entity.EmailOutbox;
+import com.example.softengineerwebpr.common.entity.EmailOutboxStatus;
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import com.example.softengineerwebpr.common.repository.EmailOutboxRepository;
+import com.example.softengineerwebpr.common.service.EmailBatchSender.OutgoingMail;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이메일 아웃박스 디스패처.
+ * 주기적으로 발송 대상 메일을 선점(claim)한 뒤, 고정 크기 워커 풀에서 배치 단위로 SMTP 발송하고
+ * 결과(SENT / 재시도 예약 / FAILED)를 다시 아웃박스 테이블에 기록합니다.
+ * 재시도 간격은 initial-backoff부터 시도할 때마다 두 배씩 늘어나며 max-backoff를 넘지 않습니다.
+ * 발송이 끝난(SENT/FAILED) 행은 retention-hours가 지나면 purge-batch-size건씩 지웁니다.
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher implements MetricsSource, DisposableBean {
+
+    private static final List<EmailOutboxStatus> DISPATCHABLE_STATUSES = List.of(EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING);
+    private static final List<EmailOutboxStatus> FINISHED_STATUSES = List.of(EmailOutboxStatus.SENT, EmailOutboxStatus.FAILED);
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailBatchSender emailBatchSender;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workers;
+
+    private final int batchSize;
+    private final int workerCount;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration retention;
+    private final int purgeBatchSize;
+
+    private final LongAdder sentCount = new LongAdder();
+    private final LongAdder failedAttemptCount = new LongAdder();
+    private final LongAdder abandonedCount = new LongAdder();
+    private final LongAdder purgedCount = new LongAdder();
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+                                 EmailBatchSender emailBatchSender,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.mail.outbox.batch-size:20}") int batchSize,
+                                 @Value("${app.mail.outbox.workers:2}") int workerCount,
+                                 @Value("${app.mail.outbox.max-attempts:5}") int maxAttempts,
+                                 @Value("${app.mail.outbox.initial-backoff-ms:5000}") long initialBackoffMillis,
+                                 @Value("${app.mail.outbox.max-backoff-ms:600000}") long maxBackoffMillis,
+                                 @Value("${app.mail.outbox.lease-ms:300000}") long leaseMillis,
+                                 @Value("${app.mail.outbox.retention-hours:168}") long retentionHours,
+                                 @Value("${app.mail.outbox.purge-batch-size:500}") int purgeBatchSize) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailBatchSender = emailBatchSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.workerCount = workerCount;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.retention = Duration.ofHours(retentionHours);
+        this.purgeBatchSize = purgeBatchSize;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        List<EmailOutbox> claimed = claimBatch();
+        if (claimed.isEmpty()) {
+            return;
+        }
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < claimed.size(); from += batchSize) {
+            List<EmailOutbox> chunk = claimed.subList(from, Math.min(from + batchSize, claimed.size()));
+            futures.add(workers.submit(() -> sendChunk(chunk)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                // 선점된 메일은 임대 시간이 지나면 다시 발송 대상이 됨
+                log.error("이메일 아웃박스 발송 작업 실패: {}", e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
+    private List<EmailOutbox> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutbox> candidates = emailOutboxRepository.findDispatchable(
+                    DISPATCHABLE_STATUSES, now, PageRequest.of(0, batchSize * workerCount));
+            List<EmailOutbox> claimed = new ArrayList<>(candidates.size());
+            for (EmailOutbox candidate : candidates) {
+                if (emailOutboxRepository.claim(candidate.getIdx(), candidate.getVersion(), now.plus(lease)) == 1) {
+                    claimed.add(candidate);
+                }
+            }
+            return claimed;
+        });
+    }
+
+    private void sendChunk(List<EmailOutbox> chunk) {
+        List<OutgoingMail> mails = new ArrayList<>(chunk.size());
+        for (EmailOutbox outbox : chunk) {
+            mails.add(new OutgoingMail(null, outbox.getRecipient(), outbox.getSubject(), outbox.getBody(), outbox.getHtml()));
+        }
+        Map<Integer, String> failures = emailBatchSender.send(mails);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, EmailOutbox> current = emailOutboxRepository
+                    .findAllById(chunk.stream().map(EmailOutbox::getIdx).toList())
+                    .stream()
+                    .collect(Collectors.toMap(EmailOutbox::getIdx, Function.identity()));
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < chunk.size(); i++) {
+                EmailOutbox outbox = current.get(chunk.get(i).getIdx());
+                if (outbox == null) {
+                    continue;
+                }
+                String error = failures.get(i);
+                if (error == null) {
+                    outbox.markSent();
+                    sentCount.increment();
+                    continue;
+                }
+                outbox.markAttemptFailed(error, maxAttempts, now.plus(backoff(outbox.getAttempts() + 1)));
+                failedAttemptCount.increment();
+                if (outbox.getStatus() == EmailOutboxStatus.FAILED) {
+                    abandonedCount.increment();
+                    log.error("이메일 발송 최종 실패: outboxId={}, to={}, attempts={}, error={}",
+                            outbox.getIdx(), outbox.getRecipient(), outbox.getAttempts(), error);
+                } else {
+                    log.warn("이메일 발송 실패, 재시도 예약: outboxId={}, attempts={}, nextAttemptAt={}",
+                            outbox.getIdx(), outbox.getAttempts(), outbox.getNextAttemptAt());
+                }
+            }
+        });
+    }
+
+    // 보관 기간이 지난 SENT/FAILED 행 삭제. 한 트랜잭션에 purgeBatchSize건씩 (큰 DELETE로 오래 잠그지 않도록)
+    @Scheduled(fixedDelayString = "${app.mail.outbox.purge-interval-ms:3600000}")
+    public int purgeFinished() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        int purged = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> idxs = emailOutboxRepository.findFinishedIdxs(
+                        FINISHED_STATUSES, before, PageRequest.of(0, purgeBatchSize));
+                return idxs.isEmpty() ? 0 : emailOutboxRepository.deleteByIdxIn(idxs);
+            });
+            purged += deleted;
+            if (deleted < purgeBatchSize) {
+                break;
+            }
+        }
+        if (purged > 0) {
+            purgedCount.add(purged);
+            log.info("이메일 아웃박스 정리: {}건 삭제 (생성 시각 < {})", purged, before);
+        }
+        return purged;
+    }
+
+    // attempt번째 실패 후 대기 시간: initialBackoff * 2^(attempt-1), 최대 maxBackoff
+    private Duration backoff(int attempt) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdown();
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "email-outbox";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("pending", emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+        metrics.put("failed", emailOutboxRepository.countByStatus(EmailOutboxStatus.FAILED));
+        metrics.put("sent", sentCount.sum());
+        metrics.put("failedAttempts", failedAttemptCount.sum());
+        metrics.put("abandoned", abandonedCount.sum());
+        metrics.put("purged", purgedCount.sum());
+        return metrics;
+    }
+}
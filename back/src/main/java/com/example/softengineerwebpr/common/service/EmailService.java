@@ -1,5 +1,14 @@
 package com.example.softengineerwebpr.common.service;
 
+import java.util.Locale;
+import java.util.Map;
+
 public interface EmailService {
-    void sendSimpleMessage(String to, String subject, String text);
-}
\ No newline at end of file
+    void sendSimpleMessage(String to, String subject, String text); // 즉시(동기) 발송
+
+    // 현재 트랜잭션에 아웃박스 행으로 저장하고, 실제 발송은 EmailOutboxDispatcher가 비동기로 처리
+    void enqueue(String to, String subject, String text);
+
+    // mail/{언어}/{templateName}.* 템플릿을 렌더링해 아웃박스에 저장 (HTML 템플릿이 있으면 텍스트 + HTML multipart)
+    void enqueueTemplate(String to, String templateName, Locale locale, Map<String, ?> model);
+}
@@ -1,7 +1,11 @@
 package com.example.softengineerwebpr.common.service.impl;
 
+import com.example.softengineerwebpr.common.entity.EmailOutbox;
 import com.example.softengineerwebpr.common.exception.BusinessLogicException;
 import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.mail.MailTemplateEngine;
+import com.example.softengineerwebpr.common.mail.RenderedMail;
+import com.example.softengineerwebpr.common.repository.EmailOutboxRepository;
 import com.example.softengineerwebpr.common.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +13,10 @@ import org.springframework.mail.MailException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -16,6 +24,8 @@ import org.springframework.stereotype.Service;
 public class EmailServiceImpl implements EmailService {
 
     private final JavaMailSender emailSender;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final MailTemplateEngine mailTemplateEngine;
     // application.properties에 설정된 spring.mail.username 주소
     // @Value("${spring.mail.username}") private String fromEmail;
 
@@ -35,4 +45,28 @@ public class EmailServiceImpl implements EmailService {
             throw new BusinessLogicException(ErrorCode.EMAIL_SEND_FAILED);
         }
     }
+
+    @Override
+    @Transactional // 호출 측 트랜잭션에 참여 (업무 데이터와 함께 커밋/롤백)
+    public void enqueue(String to, String subject, String text) {
+        EmailOutbox outbox = emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(text)
+                .build());
+        log.info("Email queued in outbox: outboxId={}, to={}", outbox.getIdx(), to);
+    }
+
+    @Override
+    @Transactional
+    public void enqueueTemplate(String to, String templateName, Locale locale, Map<String, ?> model) {
+        RenderedMail mail = mailTemplateEngine.render(templateName, locale, model);
+        EmailOutbox outbox = emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(to)
+                .subject(mail.subject())
+                .body(mail.text())
+                .html(mail.html())
+                .build());
+        log.info("Email queued in outbox: outboxId={}, to={}, template={}", outbox.getIdx(), to, templateName);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.example.softengineerwebpr.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 사전순으로 비교하는 분수 순위 키 (칸반 카드 순서 등).
+ * 키는 0~9, a~z로 쓴 36진 소수점 아래 자릿수이며 ("i" = 0.5), 두 키 사이에 들어갈 새 키를 언제든 만들 수 있으므로
+ * 항목 하나를 옮길 때 그 항목의 키만 바꾸면 됩니다. (뒤쪽 항목 번호를 다시 매기지 않음)
+ * - 키는 비어 있지 않고 '0'으로 끝나지 않음 (끝이 '0'이면 그 바로 앞에 들어갈 키를 만들 수 없음)
+ * - 소문자와 숫자만 쓰므로 DB 콜레이션이 대소문자를 구분하지 않아도 String.compareTo와 같은 순서로 정렬됨
+ * - 같은 자리로 동시에 옮긴 항목끼리 키가 겹치지 않도록 중간값 뒤에 임의의 자릿수를 붙임 (범위를 벗어나지 않을 때만)
+ * 같은 자리에 계속 끼워 넣으면 키가 길어지므로 spread로 주기적으로 다시 매깁니다.
+ */
+public final class FractionalRank {
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final int JITTER_DIGITS = 2;
+
+    private FractionalRank() {
+    }
+
+    /**
+     * lower와 upper 사이의 키를 만듭니다.
+     * @param lower 앞 키 (null이면 맨 앞)
+     * @param upper 뒤 키 (null이면 맨 뒤)
+     * @return lower < 결과 < upper 인 키
+     */
+    public static String between(String lower, String upper) {
+        String mid = midpoint(lower, upper);
+        StringBuilder jittered = new StringBuilder(mid.length() + JITTER_DIGITS).append(mid);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 1; i < JITTER_DIGITS; i++) {
+            jittered.append(DIGITS.charAt(random.nextInt(BASE)));
+        }
+        jittered.append(DIGITS.charAt(1 + random.nextInt(BASE - 1))); // 마지막 자리는 '0'이 아니어야 함
+        String candidate = jittered.toString();
+        // mid가 upper의 접두사이면 뒤에 자릿수를 붙였을 때 upper를 넘을 수 있음
+        return upper == null || candidate.compareTo(upper) < 0 ? candidate : mid;
+    }
+
+    /**
+     * lower와 upper 사이의 가장 짧은 키 (임의 자릿수 없음, 같은 입력이면 같은 결과)
+     */
+    public static String midpoint(String lower, String upper) {
+        String a = lower != null ? lower : "";
+        if (lower != null) {
+            validate(lower);
+        }
+        if (upper != null) {
+            validate(upper);
+            if (a.compareTo(upper) >= 0) {
+                throw new IllegalArgumentException("앞 키가 뒤 키보다 작아야 합니다: " + lower + " >= " + upper);
+            }
+        }
+
+        StringBuilder key = new StringBuilder();
+        int position = 0;
+        // 공통 접두사 (lower는 뒤를 '0'으로 채운 것으로 봄). upper > lower 이므로 upper 끝까지 같을 수는 없음
+        if (upper != null) {
+            while (digitAt(a, position) == digit(upper.charAt(position))) {
+                key.append(upper.charAt(position));
+                position++;
+            }
+        }
+        String b = upper;
+        while (true) {
+            int low = digitAt(a, position);
+            int high = b != null ? digit(b.charAt(position)) : BASE;
+            if (high - low > 1) {
+                return key.append(DIGITS.charAt((low + high) >>> 1)).toString();
+            }
+            if (b != null && b.length() > position + 1) {
+                // upper = key + d + (0이 아닌 뒷자리) 이므로 key + d 는 upper보다 작고 lower보다 큼
+                return key.append(b.charAt(position)).toString();
+            }
+            // 이 자리에는 사이 값이 없음: lower의 자릿수를 그대로 두고 다음 자리에서 lower와 '끝' 사이를 찾음
+            key.append(DIGITS.charAt(low));
+            b = null;
+            position++;
+        }
+    }
+
+    /**
+     * count개의 키를 같은 간격으로 새로 만듭니다. (길이가 같고 사이마다 여유 자리가 있음)
+     */
+    public static List<String> spread(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative: " + count);
+        }
+        // 간격이 BASE 이상이 되도록 자릿수를 정함 (사이에 한 자리 키를 더 넣을 수 있음)
+        int length = 1;
+        long space = BASE;
+        while (space / (count + 1L) < BASE) {
+            length++;
+            space *= BASE;
+        }
+        long step = space / (count + 1L);
+        List<String> keys = new ArrayList<>(count);
+        char[] chars = new char[length];
+        for (int i = 1; i <= count; i++) {
+            long value = step * i;
+            for (int d = length - 1; d >= 0; d--) {
+                chars[d] = DIGITS.charAt((int) (value % BASE));
+                value /= BASE;
+            }
+            int end = length;
+            while (chars[end - 1] == '0') { // value > 0 이므로 모두 '0'일 수는 없음
+                end--;
+            }
+            keys.add(new String(chars, 0, end));
+        }
+        return keys;
+    }
+
+    /**
+     * 키 형식 검사 (비어 있지 않음, 0-9a-z만 사용, '0'으로 끝나지 않음)
+     */
+    public static boolean isValid(String key) {
+        if (key == null || key.isEmpty() || key.charAt(key.length() - 1) == '0') {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (digit(key.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void validate(String key) {
+        if (!isValid(key)) {
+            throw new IllegalArgumentException("잘못된 순위 키: " + key);
+        }
+    }
+
+    private static int digitAt(String key, int position) {
+        return position < key.length() ? digit(key.charAt(position)) : 0;
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+}
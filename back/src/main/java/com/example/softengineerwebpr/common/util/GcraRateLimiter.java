@@ -0,0 +1,150 @@
+package com.example.softengineerwebpr.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 방식의 키별 요청 제한기. "period 동안 permits번"을 허용하며 한꺼번에 몰아서 써도 됩니다.
+ * - 키마다 다음 요청의 이론적 도착 시각(TAT) 하나만 필요하므로, 고정 크기 long 배열의 한 칸에
+ *   [키 지문 24비트 | TAT(ms) 40비트]를 담고 CAS 한 번으로 갱신 (잠금 없음, 메모리는 slots * 8바이트로 고정)
+ * - 키마다 후보 칸 두 개 중 자기 지문이 있는 칸, 없으면 TAT가 지나 비어 있는 것과 같은 칸을 사용
+ * - 두 후보 칸을 모두 다른 키가 쓰고 있을 때(칸이 가득 참)
+ *   - evictWhenFull=false: 한 칸이 빌 때까지 거부 (제한이 느슨해지는 일은 없지만, 칸이 다 차면 새 키는 모두 거부됨)
+ *   - evictWhenFull=true: TAT가 가장 덜 앞선(곧 비워질) 칸의 키를 밀어내고 새 키로 사용.
+ *     밀려난 키는 기록이 초기화되므로 이메일/아이디처럼 IP 규칙이 함께 걸리는 키에만 사용
+ * - 해시 시드는 인스턴스마다 임의로 정해 특정 키와 같은 칸을 쓰는 키를 미리 계산할 수 없게 함
+ */
+public class GcraRateLimiter {
+
+    private static final int TAT_BITS = 40; // ms 단위로 약 34년
+    private static final long TAT_MASK = (1L << TAT_BITS) - 1;
+
+    private final AtomicLongArray entries;
+    private final int mask;
+    private final long emissionIntervalMillis; // 요청 1건이 차지하는 시간 (period / permits)
+    private final long burstToleranceMillis;   // 몰아서 쓸 수 있는 여유 (period - interval)
+    private final boolean evictWhenFull;
+    private final LongAdder evictions = new LongAdder();
+    private final long seed = ThreadLocalRandom.current().nextLong();
+    private final long originNanos = System.nanoTime();
+
+    /**
+     * @param slots 기록 칸 수 (2의 거듭제곱으로 올림). 동시에 제한 중인 키 수보다 충분히 크게
+     */
+    public GcraRateLimiter(int permits, Duration period, int slots) {
+        this(permits, period, slots, false);
+    }
+
+    /**
+     * @param slots         기록 칸 수 (2의 거듭제곱으로 올림). 동시에 제한 중인 키 수보다 충분히 크게
+     * @param evictWhenFull 두 후보 칸이 모두 다른 키로 차 있으면 TAT가 가장 작은 칸을 밀어내고 사용
+     */
+    public GcraRateLimiter(int permits, Duration period, int slots, boolean evictWhenFull) {
+        if (permits <= 0 || period.toMillis() < permits) {
+            throw new IllegalArgumentException("permits는 1 이상, period는 permits ms 이상이어야 합니다.");
+        }
+        int size = Integer.highestOneBit(Math.max(2, slots - 1)) << 1;
+        this.entries = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.emissionIntervalMillis = period.toMillis() / permits;
+        this.burstToleranceMillis = period.toMillis() - emissionIntervalMillis;
+        this.evictWhenFull = evictWhenFull;
+    }
+
+    /**
+     * 요청 1건을 허용할지 판단합니다.
+     *
+     * @return 허용하면 0, 아니면 다시 시도할 수 있을 때까지 남은 시간(ms)
+     */
+    public long tryAcquire(String key) {
+        long hash = hash(key);
+        long fingerprint = hash >>> TAT_BITS;
+        int first = (int) mix(hash) & mask;
+        int second = (int) mix(hash ^ 0x9e3779b97f4a7c15L) & mask;
+        if (second == first) {
+            second = (first + 1) & mask;
+        }
+        while (true) {
+            // TAT 0은 빈 칸을 뜻하므로 현재 시각은 1ms부터 셈
+            long now = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - originNanos) + 1;
+            long firstEntry = entries.get(first);
+            long secondEntry = entries.get(second);
+            int slot;
+            long entry;
+            long tat;
+            if (fingerprintOf(firstEntry) == fingerprint) {
+                slot = first;
+                entry = firstEntry;
+                tat = tatOf(firstEntry);
+            } else if (fingerprintOf(secondEntry) == fingerprint) {
+                slot = second;
+                entry = secondEntry;
+                tat = tatOf(secondEntry);
+            } else if (tatOf(firstEntry) <= now) {
+                slot = first;
+                entry = firstEntry;
+                tat = 0;
+            } else if (tatOf(secondEntry) <= now) {
+                slot = second;
+                entry = secondEntry;
+                tat = 0;
+            } else if (evictWhenFull) {
+                slot = tatOf(firstEntry) <= tatOf(secondEntry) ? first : second;
+                entry = slot == first ? firstEntry : secondEntry;
+                tat = 0;
+            } else {
+                return Math.min(tatOf(firstEntry), tatOf(secondEntry)) - now;
+            }
+
+            long start = Math.max(tat, now);
+            long waitMillis = start - burstToleranceMillis - now;
+            if (waitMillis > 0) {
+                return waitMillis;
+            }
+            long next = (fingerprint << TAT_BITS) | ((start + emissionIntervalMillis) & TAT_MASK);
+            if (entries.compareAndSet(slot, entry, next)) {
+                if (tat == 0 && tatOf(entry) > now) {
+                    evictions.increment();
+                }
+                return 0;
+            }
+        }
+    }
+
+    public int slots() {
+        return entries.length();
+    }
+
+    // 칸이 가득 차 아직 제한 중인 다른 키를 밀어낸 횟수
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    private static long fingerprintOf(long entry) {
+        return entry >>> TAT_BITS;
+    }
+
+    private static long tatOf(long entry) {
+        return entry & TAT_MASK;
+    }
+
+    // 시드를 섞은 64비트 FNV-1a (문자 단위, 요청 경로에서 배열을 만들지 않도록)
+    private long hash(String key) {
+        long hash = 0xcbf29ce484222325L ^ seed;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
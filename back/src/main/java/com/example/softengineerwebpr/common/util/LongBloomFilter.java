@@ -0,0 +1,77 @@
+package com.example.softengineerwebpr.common.util;
+
+/**
+ * 64비트 키(문자열 지문 등)를 위한 Bloom 필터.
+ * 한 번 채운 뒤 읽기 전용으로 공유하는 용도이며, put은 스레드 안전하지 않습니다.
+ * mightContain이 false면 "확실히 없음", true면 "있을 수도 있음"입니다.
+ */
+public class LongBloomFilter {
+
+    private final long[] words;
+    private final long numBits;
+    private final int numHashes;
+
+    private LongBloomFilter(long numBits, int numHashes) {
+        this.words = new long[(int) ((numBits + 63) / 64)];
+        this.numBits = (long) words.length * 64;
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * @param expectedInsertions 넣을 키 개수
+     * @param falsePositiveRate  목표 오탐률 (예: 0.01)
+     */
+    public static LongBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long numBits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+        return new LongBloomFilter(Math.max(64, numBits), numHashes);
+    }
+
+    public void put(long key) {
+        long h1 = mix(key);
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % numBits;
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    public boolean mightContain(long key) {
+        long h1 = mix(key);
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % numBits;
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long sizeInBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    /**
+     * 문자열의 64비트 지문 (FNV-1a 후 비트 섞기).
+     */
+    public static long fingerprint(CharSequence value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.softengineerwebpr.common.util;
+
+import java.util.Arrays;
+
+/**
+ * 64비트 키 -> (long 값, 만료 시각)을 정렬된 기본형 배열 세 개로 보관하는 작은 표.
+ * 읽기는 잠금 없이 이진 탐색만 하고, 쓰기는 드물다고 보고 배열 전체를 복사해 교체(copy-on-write)합니다.
+ * 항목당 24바이트이며 만료된 항목은 쓰기/purgeExpired 때 정리됩니다. (토큰 폐기 목록 등)
+ */
+public class LongExpiryTable {
+
+    private static final Snapshot EMPTY = new Snapshot(new long[0], new long[0], new long[0]);
+
+    private volatile Snapshot snapshot = EMPTY;
+
+    /**
+     * 값을 넣습니다. 이미 있으면 값과 만료 시각은 각각 더 큰 쪽을 유지합니다.
+     */
+    public synchronized void put(long key, long value, long expiresAtMillis) {
+        Snapshot current = purge(snapshot, System.currentTimeMillis());
+        int index = Arrays.binarySearch(current.keys, key);
+        if (index >= 0) {
+            long[] values = current.values.clone();
+            long[] expiries = current.expiries.clone();
+            values[index] = Math.max(values[index], value);
+            expiries[index] = Math.max(expiries[index], expiresAtMillis);
+            snapshot = new Snapshot(current.keys, values, expiries);
+            return;
+        }
+        int insertAt = -index - 1;
+        int size = current.keys.length;
+        long[] keys = new long[size + 1];
+        long[] values = new long[size + 1];
+        long[] expiries = new long[size + 1];
+        System.arraycopy(current.keys, 0, keys, 0, insertAt);
+        System.arraycopy(current.values, 0, values, 0, insertAt);
+        System.arraycopy(current.expiries, 0, expiries, 0, insertAt);
+        keys[insertAt] = key;
+        values[insertAt] = value;
+        expiries[insertAt] = expiresAtMillis;
+        System.arraycopy(current.keys, insertAt, keys, insertAt + 1, size - insertAt);
+        System.arraycopy(current.values, insertAt, values, insertAt + 1, size - insertAt);
+        System.arraycopy(current.expiries, insertAt, expiries, insertAt + 1, size - insertAt);
+        snapshot = new Snapshot(keys, values, expiries);
+    }
+
+    /**
+     * 만료되지 않은 항목의 값을 반환하고, 없으면 defaultValue를 반환합니다.
+     */
+    public long get(long key, long defaultValue) {
+        Snapshot current = snapshot;
+        int index = Arrays.binarySearch(current.keys, key);
+        if (index < 0 || current.expiries[index] < System.currentTimeMillis()) {
+            return defaultValue;
+        }
+        return current.values[index];
+    }
+
+    public boolean contains(long key) {
+        Snapshot current = snapshot;
+        int index = Arrays.binarySearch(current.keys, key);
+        return index >= 0 && current.expiries[index] >= System.currentTimeMillis();
+    }
+
+    public synchronized void purgeExpired() {
+        snapshot = purge(snapshot, System.currentTimeMillis());
+    }
+
+    public int size() {
+        return snapshot.keys.length;
+    }
+
+    private static Snapshot purge(Snapshot current, long now) {
+        int live = 0;
+        for (long expiry : current.expiries) {
+            if (expiry >= now) {
+                live++;
+            }
+        }
+        if (live == current.keys.length) {
+            return current;
+        }
+        long[] keys = new long[live];
+        long[] values = new long[live];
+        long[] expiries = new long[live];
+        int j = 0;
+        for (int i = 0; i < current.keys.length; i++) {
+            if (current.expiries[i] >= now) {
+                keys[j] = current.keys[i];
+                values[j] = current.values[i];
+                expiries[j] = current.expiries[i];
+                j++;
+            }
+        }
+        return new Snapshot(keys, values, expiries);
+    }
+
+    private record Snapshot(long[] keys, long[] values, long[] expiries) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.softengineerwebpr.common.util;
+
+import com.example.softengineerwebpr.domain.auth.dto.LoginUser;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+/**
+ * 현재 인증 정보에서 사용자 PK(user.idx)를 꺼내는 유틸리티.
+ * 폼 로그인/토큰 인증은 LoginUser, 소셜 로그인은 CustomOAuth2UserService가 넣은 "id" 속성을 사용합니다.
+ */
+public final class SecurityUtils {
+
+    private SecurityUtils() {
+    }
+
+    // 인증되지 않았거나 사용자 PK를 알 수 없으면 null
+    public static Long currentUserIdx() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? userIdxOf(authentication) : null;
+    }
+
+    public static Long userIdxOf(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof LoginUser loginUser) {
+            return loginUser.getUserIdx();
+        }
+        if (principal instanceof OAuth2User oauth2User && oauth2User.getAttribute("id") instanceof Number id) {
+            return id.longValue();
+        }
+        return null;
+    }
+}
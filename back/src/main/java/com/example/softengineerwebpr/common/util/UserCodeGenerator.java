@@ -1,21 +1,56 @@
 package com.example.softengineerwebpr.common.util;
 
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
 
-// UserRepository 의존성 제거
+/**
+ * 식별 코드, 인증 코드, 임시 비밀번호 생성기.
+ * - 스레드마다 DRBG(SecureRandom) 하나를 두고 재사용 (호출마다 생성하지 않고, 스레드 간 잠금 경합도 없음)
+ * - 난수 바이트를 스레드별 버퍼에 한 번에 받아 쓰고, 문자는 스레드별 char[]에 채운 뒤 String 하나만 생성
+ * - 문자 선택은 거부 샘플링(문자셋 크기의 배수 미만 바이트만 사용)이라 모든 문자가 같은 확률로 나옴
+ * - 인증 코드는 app.user-code.pool.size > 0 이면 백그라운드에서 미리 만들어 둔 풀에서 꺼냄 (비면 바로 생성)
+ */
+@Slf4j
 @Component
-public class UserCodeGenerator {
+public class UserCodeGenerator implements MetricsSource {
+
+    private static final char[] DIGITS = "0123456789".toCharArray();
+    private static final char[] PASSWORD_CHARS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789".toCharArray(); // 포함할 문자셋
+    private static final int BUFFER_SIZE = 64;
+
+    private static final ThreadLocal<ThreadState> STATE = ThreadLocal.withInitial(ThreadState::new);
+
+    private final BlockingQueue<String> codePool;
+    private final int poolCodeLength;
+    private final LongAdder poolHits = new LongAdder();
+    private final LongAdder poolMisses = new LongAdder();
+
+    public UserCodeGenerator(@Value("${app.user-code.pool.size:0}") int poolSize,
+                             @Value("${app.user-code.pool.code-length:4}") int poolCodeLength) {
+        this.codePool = poolSize > 0 ? new ArrayBlockingQueue<>(poolSize) : null;
+        this.poolCodeLength = poolCodeLength;
+        refillPool();
+    }
 
     /**
      * 랜덤 4자리 숫자 식별 코드를 생성합니다. (DB 중복 검사 없음)
      * @return 랜덤 4자리 숫자 식별 코드 (예: "0000" ~ "9999")
      */
     public String generateRandomFourDigitCode() {
-        SecureRandom random = new SecureRandom();
-        return String.format("%04d", random.nextInt(10000));
+        return randomString(DIGITS, 4);
     }
 
     /**
@@ -24,26 +59,92 @@ public class UserCodeGenerator {
      * @return 생성된 숫자 코드 문자열
      */
     public String generateNumericVerificationCode(int length) {
-        SecureRandom random = new SecureRandom();
-        StringBuilder codeBuilder = new StringBuilder(length);
-        for (int i = 0; i < length; i++) {
-            codeBuilder.append(random.nextInt(10));
+        if (codePool != null && length == poolCodeLength) {
+            String code = codePool.poll();
+            if (code != null) {
+                poolHits.increment();
+                return code;
+            }
+            poolMisses.increment();
         }
-        return codeBuilder.toString();
+        return randomString(DIGITS, length);
     }
 
-
     /**
      * 지정된 길이의 랜덤 영숫자 임시 비밀번호를 생성합니다.
      * @param length 생성할 비밀번호의 길이
      * @return 랜덤 임시 비밀번호 문자열
      */
     public String generateRandomTemporaryPassword(int length) {
-        final String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789"; // 포함할 문자셋
-        SecureRandom random = new SecureRandom();
-        return IntStream.range(0, length)
-                .map(i -> random.nextInt(chars.length()))
-                .mapToObj(randomIndex -> String.valueOf(chars.charAt(randomIndex)))
-                .collect(Collectors.joining());
-    }
-}
\ No newline at end of file
+        return randomString(PASSWORD_CHARS, length);
+    }
+
+    // 인증 코드 풀을 가득 채움 (주기: app.user-code.pool.refill-interval-ms)
+    @Scheduled(fixedDelayString = "${app.user-code.pool.refill-interval-ms:1000}")
+    public void refillPool() {
+        if (codePool == null) {
+            return;
+        }
+        while (codePool.remainingCapacity() > 0) {
+            if (!codePool.offer(randomString(DIGITS, poolCodeLength))) {
+                break;
+            }
+        }
+    }
+
+    private static String randomString(char[] alphabet, int length) {
+        ThreadState state = STATE.get();
+        char[] chars = length <= BUFFER_SIZE ? state.chars : new char[length];
+        // 256을 넘지 않는 문자셋 크기의 최대 배수. 이 값 이상인 바이트는 버려야 나머지 연산이 치우치지 않음
+        int limit = 256 - 256 % alphabet.length;
+        for (int i = 0; i < length; i++) {
+            int b;
+            do {
+                b = state.nextByte();
+            } while (b >= limit);
+            chars[i] = alphabet[b % alphabet.length];
+        }
+        return new String(chars, 0, length);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "user-code";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("poolEnabled", codePool != null);
+        metrics.put("poolAvailable", codePool != null ? codePool.size() : 0);
+        metrics.put("poolHits", poolHits.sum());
+        metrics.put("poolMisses", poolMisses.sum());
+        return metrics;
+    }
+
+    private static final class ThreadState {
+        private final SecureRandom random = newDrbg();
+        private final byte[] bytes = new byte[BUFFER_SIZE];
+        private final char[] chars = new char[BUFFER_SIZE];
+        private int position = BUFFER_SIZE;
+
+        private int nextByte() {
+            if (position == bytes.length) {
+                random.nextBytes(bytes);
+                position = 0;
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        // 256비트 보안 강도의 DRBG. 지원하지 않는 환경이면 플랫폼 기본 SecureRandom 사용
+        private static SecureRandom newDrbg() {
+            try {
+                return SecureRandom.getInstance("DRBG",
+                        DrbgParameters.instantiation(256, DrbgParameters.Capability.RESEED_ONLY, null));
+            } catch (NoSuchAlgorithmException e) {
+                log.warn("DRBG를 사용할 수 없어 기본 SecureRandom을 사용합니다: {}", e.getMessage());
+                return new SecureRandom();
+            }
+        }
+    }
+}
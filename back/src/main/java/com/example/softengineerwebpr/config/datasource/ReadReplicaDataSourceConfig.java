@@ -0,0 +1,95 @@
+package com.example.softengineerwebpr.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 레플리카 라우팅 (app.datasource.replicas.enabled=true 일 때만)
+ * LazyConnectionDataSourceProxy는 첫 문장 실행 시점에 커넥션을 가져오므로, 그 전에 readOnly 트랜잭션이
+ * 설정한 Connection.setReadOnly(true)를 보고 readOnlyDataSource(레플리카)로 보낼 수 있습니다.
+ * 이 구성이 DataSource 빈을 정의하면 Spring Boot의 기본 DataSource 자동 구성은 물러납니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    public ReadReplicaRouter readReplicaRouter(
+            DataSourceProperties properties,
+            Environment environment,
+            @Value("${app.datasource.replicas.urls}") List<String> replicaUrls,
+            @Value("${app.datasource.replicas.username:${spring.datasource.username:}}") String username,
+            @Value("${app.datasource.replicas.password:${spring.datasource.password:}}") String password,
+            @Value("${app.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${app.datasource.replicas.connection-timeout-ms:1000}") long connectionTimeoutMs,
+            @Value("${app.datasource.replicas.read-your-writes-window-ms:5000}") long readYourWritesWindowMs,
+            @Value("${app.datasource.replicas.max-tracked-writers:100000}") int maxTrackedWriters) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        // spring.datasource.hikari.* 설정은 primary 풀에 그대로 적용
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(url.trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName(name);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            // 장애 레플리카에서 요청 스레드가 오래 기다리지 않도록 짧게 (실패하면 다른 레플리카/primary로 넘어감)
+            replica.setConnectionTimeout(connectionTimeoutMs);
+            replica.setReadOnly(true);
+            replicas.put(name, replica);
+        }
+        return new ReadReplicaRouter(primary, replicas, readYourWritesWindowMs, maxTrackedWriters,
+                ReadReplicaDataSourceConfig::currentClientKey);
+    }
+
+    @Bean
+    public DataSource dataSource(ReadReplicaRouter router) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(router.writeDataSource());
+        dataSource.setReadOnlyDataSource(router.readDataSource());
+        return dataSource;
+    }
+
+    // read-your-writes 기준: 로그인 사용자 > 세션 > 클라이언트 IP (가입 직후 로그인처럼 인증 전 요청도 묶기 위함)
+    static String currentClientKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpSession session = attributes.getRequest().getSession(false);
+            return session != null ? "session:" + session.getId() : "ip:" + attributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,282 @@
+package com.example.softengineerwebpr.config.datasource;
+
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import com.example.softengineerwebpr.common.util.ExpiringCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션의 커넥션을 레플리카로 분산합니다.
+ * - 정상(healthy) 레플리카끼리 라운드 로빈, 커넥션 획득에 실패한 레플리카는 헬스 체크가 복구를 확인할 때까지 제외
+ * - 사용 가능한 레플리카가 없으면 primary로 읽음
+ * - read-your-writes: 클라이언트(로그인 사용자/세션/IP)가 쓰기 트랜잭션을 커밋한 뒤 일정 시간 동안은
+ *   그 클라이언트의 읽기를 primary로 보내 복제 지연으로 방금 쓴 데이터가 안 보이는 일을 막음
+ * DataSource 빈은 LazyConnectionDataSourceProxy 하나뿐이고(ReadReplicaDataSourceConfig),
+ * 실제 커넥션 풀은 이 클래스가 소유하고 종료합니다.
+ */
+@Slf4j
+public class ReadReplicaRouter implements MetricsSource, DisposableBean {
+
+    private static final int HEALTH_CHECK_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long readYourWritesWindowMillis;
+    private final ExpiringCache<String, Boolean> recentWriters;
+    private final Supplier<String> clientKeyResolver;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final LongAdder writeConnections = new LongAdder();
+    private final LongAdder readYourWritesReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+
+    private final DataSource writeDataSource = new RoutedDataSource(false);
+    private final DataSource readDataSource = new RoutedDataSource(true);
+
+    public ReadReplicaRouter(DataSource primary, Map<String, DataSource> replicas, long readYourWritesWindowMillis,
+                             int maxTrackedClients, Supplier<String> clientKeyResolver) {
+        this.primary = primary;
+        List<Replica> list = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> list.add(new Replica(name, dataSource)));
+        this.replicas = List.copyOf(list);
+        this.readYourWritesWindowMillis = readYourWritesWindowMillis;
+        this.recentWriters = new ExpiringCache<>(maxTrackedClients);
+        this.clientKeyResolver = clientKeyResolver;
+    }
+
+    // LazyConnectionDataSourceProxy의 기본 대상 (쓰기, 트랜잭션 밖 조회)
+    public DataSource writeDataSource() {
+        return writeDataSource;
+    }
+
+    // LazyConnectionDataSourceProxy의 readOnlyDataSource (readOnly 트랜잭션)
+    public DataSource readDataSource() {
+        return readDataSource;
+    }
+
+    private Connection getWriteConnection(ConnectionOpener opener) throws SQLException {
+        writeConnections.increment();
+        WriteTracker tracker = trackWriteTransaction();
+        Connection connection = opener.open(primary);
+        return tracker != null ? tracker.wrap(connection) : connection;
+    }
+
+    private Connection getReadConnection(ConnectionOpener opener) throws SQLException {
+        String clientKey = clientKeyResolver.get();
+        if (clientKey != null && readYourWritesWindowMillis > 0 && recentWriters.get(clientKey) != null) {
+            readYourWritesReads.increment();
+            return opener.open(primary);
+        }
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = opener.open(replica.dataSource);
+                replica.reads.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+        fallbackReads.increment();
+        return opener.open(primary);
+    }
+
+    // 읽기-쓰기 트랜잭션에서 변경 문장이 실행된 채 커밋되면 현재 클라이언트를 read-your-writes 대상으로 기록
+    // (트랜잭션당 한 번 등록, 조회만 한 트랜잭션은 기록하지 않음)
+    private WriteTracker trackWriteTransaction() {
+        if (readYourWritesWindowMillis <= 0
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return null;
+        }
+        WriteTracker existing = (WriteTracker) TransactionSynchronizationManager.getResource(this);
+        if (existing != null) {
+            return existing;
+        }
+        WriteTracker tracker = new WriteTracker();
+        TransactionSynchronizationManager.bindResource(this, tracker);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                String clientKey = tracker.modified ? clientKeyResolver.get() : null;
+                if (clientKey != null) {
+                    recentWriters.put(clientKey, Boolean.TRUE, readYourWritesWindowMillis);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReadReplicaRouter.this);
+            }
+        });
+        return tracker;
+    }
+
+    /**
+     * 모든 레플리카의 커넥션 유효성을 확인해 상태를 갱신합니다. (제외된 레플리카의 복구도 여기서만 판단)
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(HEALTH_CHECK_TIMEOUT_SECONDS)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown(null);
+                }
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "datasource-routing";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("writeConnections", writeConnections.sum());
+        metrics.put("readYourWritesReads", readYourWritesReads.sum());
+        metrics.put("fallbackReads", fallbackReads.sum());
+        metrics.put("trackedWriters", recentWriters.size());
+        Map<String, Object> replicaMetrics = new LinkedHashMap<>();
+        for (Replica replica : replicas) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("healthy", replica.healthy);
+            map.put("reads", replica.reads.sum());
+            map.put("failures", replica.failures.sum());
+            replicaMetrics.put(replica.name, map);
+        }
+        metrics.put("replicas", replicaMetrics);
+        return metrics;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Replica replica : replicas) {
+            closeQuietly(replica.dataSource);
+        }
+        closeQuietly(primary);
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("DataSource 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션의 primary 커넥션에서 SELECT가 아닌 문장을 준비하면 modified로 표시합니다.
+     * (Statement 실행은 가로채지 않고 커넥션의 문장 생성 메소드만 확인)
+     */
+    private static class WriteTracker {
+        private volatile boolean modified;
+
+        Connection wrap(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.equals("createStatement") || ((name.equals("prepareStatement") || name.equals("prepareCall"))
+                                && !isQuery((String) args[0]))) {
+                            modified = true;
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+
+        private static boolean isQuery(String sql) {
+            String trimmed = sql.stripLeading();
+            return trimmed.regionMatches(true, 0, "select", 0, 6) || trimmed.regionMatches(true, 0, "with", 0, 4);
+        }
+    }
+
+    private class RoutedDataSource extends AbstractDataSource {
+        private final boolean readOnly;
+
+        RoutedDataSource(boolean readOnly) {
+            this.readOnly = readOnly;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return route(DataSource::getConnection);
+        }
+
+        // 계정을 지정한 요청도 같은 규칙으로 고른 대상에 그 계정으로 요청
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return route(target -> target.getConnection(username, password));
+        }
+
+        private Connection route(ConnectionOpener opener) throws SQLException {
+            return readOnly ? getReadConnection(opener) : getWriteConnection(opener);
+        }
+    }
+
+    // 고른 DataSource에서 커넥션을 여는 방법 (계정 지정 여부)
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource target) throws SQLException;
+    }
+
+    private static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        private final LongAdder reads = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        void markDown(SQLException cause) {
+            failures.increment();
+            if (healthy) {
+                healthy = false;
+                log.warn("레플리카 {} 제외: {}", name, cause != null ? cause.getMessage() : "유효하지 않은 커넥션");
+            }
+        }
+
+        void markUp() {
+            if (!healthy) {
+                healthy = true;
+                log.info("레플리카 {} 복구", name);
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.softengineerwebpr.config.security;
+
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BCrypt 해싱 전용 스레드 풀에서 encode/matches를 수행하는 PasswordEncoder.
+ * - 동시에 해싱하는 스레드 수를 풀 크기로 제한해 로그인 폭주가 다른 API의 CPU를 빼앗지 않도록 함
+ * - 대기열이 가득 차면 즉시 거절(backpressure)
+ * - 기동 시 목표 해싱 시간에 맞는 cost를 측정해 사용하고, 기존 해시의 cost가 더 낮으면
+ *   upgradeEncoding()이 true를 반환해 로그인 성공 시 재해싱되도록 함 (CustomUserDetailsService.updatePassword)
+ * - 대량 작업(사용자 일괄 등록)도 같은 풀을 쓰되 동시에 풀의 절반까지만 차지해, 전체 해싱 스레드 수가 풀 크기를 넘지 않음
+ * - 대기 시간(waitTimeoutMillis)을 넘기면 호출자에게는 바로 실패를 돌려주지만, BCrypt는 인터럽트를 확인하지 않으므로
+ *   이미 시작된 해싱은 cancel(true)로 멈추지 않고 끝까지 스레드를 차지함 (대기열에 있던 작업만 실행되지 않음).
+ *   이런 작업 수를 timedOutWhileRunning(누적)/abandonedRunning(현재)으로 집계하므로,
+ *   abandonedRunning이 자주 보이면 대기 시간을 해싱 시간(bcryptCost)에 비해 넉넉하게 늘리거나 스레드 수를 조정
+ */
+@Slf4j
+public class AdaptiveBCryptPasswordEncoder implements PasswordEncoder, MetricsSource, AutoCloseable {
+
+    private static final long BACKGROUND_RETRY_MILLIS = 20;
+
+    private final BCryptPasswordEncoder delegate;
+    private final int cost;
+    private final ThreadPoolExecutor hashingExecutor;
+    private final long waitTimeoutMillis;
+    // 대량 작업이 동시에 풀에 넣을 수 있는 해싱 작업 수 (나머지 스레드는 로그인용으로 남김)
+    private final int backgroundLimit;
+    private final Semaphore backgroundPermits;
+
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder backgroundRetries = new LongAdder();
+    private final LongAdder timedOutWhileRunning = new LongAdder();
+    private final AtomicInteger abandonedRunning = new AtomicInteger();
+
+    public AdaptiveBCryptPasswordEncoder(int cost, int threads, int queueCapacity, long waitTimeoutMillis) {
+        this.cost = cost;
+        this.delegate = new BCryptPasswordEncoder(cost);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.backgroundLimit = Math.max(1, threads / 2);
+        this.backgroundPermits = new Semaphore(backgroundLimit);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashingExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("Password hashing: bcrypt cost={}, threads={}, queueCapacity={}", cost, threads, queueCapacity);
+    }
+
+    /**
+     * 목표 해싱 시간(targetMillis) 이상 걸리는 가장 낮은 cost를 찾습니다. (minCost ~ maxCost 범위)
+     */
+    public static int calibrateCost(long targetMillis, int minCost, int maxCost) {
+        String sample = "calibration-Password1!";
+        for (int candidate = minCost; candidate < maxCost; candidate++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(candidate);
+            encoder.encode(sample); // 워밍업
+            long start = System.nanoTime();
+            encoder.encode(sample);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (elapsedMillis >= targetMillis) {
+                return candidate;
+            }
+        }
+        return maxCost;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        try {
+            return submit(() -> delegate.encode(rawPassword));
+        } catch (HashingUnavailableException e) {
+            throw new BusinessLogicException(ErrorCode.SERVICE_BUSY);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        try {
+            return submit(() -> delegate.matches(rawPassword, encodedPassword));
+        } catch (HashingUnavailableException e) {
+            // 로그인 경로: 인증 실패로 처리되어 로그인 실패 페이지로 이동
+            throw new AuthenticationServiceException("로그인 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 대량 작업용 비동기 해싱. 진행 중인 대량 작업 해싱이 풀의 절반에 이르면 자리가 날 때까지 호출 스레드를 막고,
+     * 대기열이 가득 차 있으면(로그인 폭주) 거절하지 않고 잠시 뒤 다시 넣습니다.
+     */
+    public Future<String> encodeInBackground(CharSequence rawPassword) throws InterruptedException {
+        backgroundPermits.acquire();
+        boolean submitted = false;
+        try {
+            while (true) {
+                try {
+                    Future<String> future = hashingExecutor.submit(() -> {
+                        try {
+                            return delegate.encode(rawPassword);
+                        } finally {
+                            backgroundPermits.release();
+                        }
+                    });
+                    submitted = true;
+                    return future;
+                } catch (RejectedExecutionException e) {
+                    if (hashingExecutor.isShutdown()) {
+                        throw e;
+                    }
+                    backgroundRetries.increment();
+                    Thread.sleep(BACKGROUND_RETRY_MILLIS);
+                }
+            }
+        } finally {
+            if (!submitted) {
+                backgroundPermits.release();
+            }
+        }
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    private <T> T submit(Callable<T> task) {
+        HashingTask<T> hashingTask = new HashingTask<>(task);
+        Future<T> future;
+        try {
+            future = hashingExecutor.submit(hashingTask);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            log.warn("Password hashing queue full (queued={}), request rejected", hashingExecutor.getQueue().size());
+            throw new HashingUnavailableException();
+        }
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            abandon(future, hashingTask);
+            timeoutCount.increment();
+            throw new HashingUnavailableException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(future, hashingTask);
+            throw new HashingUnavailableException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 대기열에 있던 작업은 취소되어 실행되지 않고, 이미 실행 중인 작업은 끝날 때까지 abandonedRunning으로 셈
+    private void abandon(Future<?> future, HashingTask<?> hashingTask) {
+        future.cancel(true);
+        abandonedRunning.incrementAndGet();
+        if (hashingTask.state.compareAndSet(HashingTask.RUNNING, HashingTask.ABANDONED)) {
+            timedOutWhileRunning.increment();
+        } else {
+            abandonedRunning.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void close() {
+        hashingExecutor.shutdown();
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "password-hashing";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("bcryptCost", cost);
+        metrics.put("threads", hashingExecutor.getMaximumPoolSize());
+        metrics.put("active", hashingExecutor.getActiveCount());
+        metrics.put("queued", hashingExecutor.getQueue().size());
+        metrics.put("completed", hashingExecutor.getCompletedTaskCount());
+        metrics.put("rejected", rejectedCount.sum());
+        metrics.put("timedOut", timeoutCount.sum());
+        metrics.put("timedOutWhileRunning", timedOutWhileRunning.sum());
+        metrics.put("abandonedRunning", abandonedRunning.get());
+        metrics.put("backgroundActive", backgroundLimit - backgroundPermits.availablePermits());
+        metrics.put("backgroundRetries", backgroundRetries.sum());
+        return metrics;
+    }
+
+    // 실행 상태를 기록하는 해싱 작업 (호출자가 기다리기를 포기한 뒤에도 실행 중인지 알기 위함)
+    private final class HashingTask<T> implements Callable<T> {
+        private static final int QUEUED = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+        private static final int ABANDONED = 3;
+
+        private final Callable<T> task;
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        private HashingTask(Callable<T> task) {
+            this.task = task;
+        }
+
+        @Override
+        public T call() throws Exception {
+            state.set(RUNNING);
+            try {
+                return task.call();
+            } finally {
+                if (!state.compareAndSet(RUNNING, DONE)) {
+                    abandonedRunning.decrementAndGet(); // 호출자가 먼저 포기한 작업이 이제 끝남
+                }
+            }
+        }
+    }
+
+    // 대기열 포화/대기 시간 초과 시 내부적으로 사용 (호출 경로에 맞는 예외로 변환됨)
+    private static class HashingUnavailableException extends RuntimeException {
+        HashingUnavailableException() {
+            super(null, null, false, false);
+        }
+    }
+}
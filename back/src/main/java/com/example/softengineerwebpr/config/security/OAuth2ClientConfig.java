@@ -0,0 +1,43 @@
+package com.example.softengineerwebpr.config.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 소셜 로그인 사용자 정보(user-info) 조회용 클라이언트 설정.
+ * 로그인마다 DefaultOAuth2UserService를 새로 만들지 않고, 커넥션을 재사용(keep-alive)하는 JDK HttpClient 하나를 공유합니다.
+ */
+@Configuration
+public class OAuth2ClientConfig {
+
+    @Bean
+    public DefaultOAuth2UserService oauth2UserInfoDelegate(
+            @Value("${app.oauth2.user-info.connect-timeout-ms:3000}") long connectTimeoutMillis,
+            @Value("${app.oauth2.user-info.read-timeout-ms:5000}") long readTimeoutMillis) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+
+        // DefaultOAuth2UserService 기본 RestTemplate과 같은 변환기/에러 처리
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setMessageConverters(List.of(new FormHttpMessageConverter(), new MappingJackson2HttpMessageConverter()));
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+
+        DefaultOAuth2UserService delegate = new DefaultOAuth2UserService();
+        delegate.setRestOperations(restTemplate);
+        return delegate;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.softengineerwebpr.config.security;
+
+import com.example.softengineerwebpr.common.util.GcraRateLimiter;
+import com.example.softengineerwebpr.config.security.RateLimitFilter.EndpointPolicy;
+import com.example.softengineerwebpr.config.security.RateLimitFilter.KeyType;
+import com.example.softengineerwebpr.config.security.RateLimitFilter.Rule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 인증 API 요청 횟수 제한 구성 (app.rate-limit.enabled=false로 끌 수 있음)
+ * 규칙: app.rate-limit.{엔드포인트}.{ip|email|login-id}=횟수/기간 (예: 5/10m = 10분에 5번, 한꺼번에 써도 됨)
+ * 값이 없거나 비어 있는 규칙은 적용하지 않습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    private static final String PREFIX = "app.rate-limit.";
+
+    // 로그인은 폼 파라미터, 나머지는 JSON 본문에서 이메일/아이디를 꺼냄
+    private static final List<Endpoint> ENDPOINTS = List.of(
+            new Endpoint("login", "/api/auth/perform_login", false),
+            new Endpoint("send-verification-email", "/api/auth/send-verification-email", true),
+            new Endpoint("find-id", "/api/auth/find-id", true),
+            new Endpoint("find-password", "/api/auth/find-password", true));
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(Environment environment, ObjectMapper objectMapper,
+                                           @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver,
+                                           @Value("${app.rate-limit.slots:32768}") int slots) {
+        List<EndpointPolicy> policies = new ArrayList<>();
+        for (Endpoint endpoint : ENDPOINTS) {
+            List<Rule> rules = new ArrayList<>();
+            for (KeyType keyType : KeyType.values()) {
+                String property = PREFIX + endpoint.name() + "." + keyType.name().toLowerCase(Locale.ROOT).replace('_', '-');
+                String value = environment.getProperty(property, "");
+                if (!value.isBlank()) {
+                    rules.add(new Rule(keyType, parse(property, value.trim(), slots, keyType != KeyType.IP)));
+                }
+            }
+            if (!rules.isEmpty()) {
+                policies.add(new EndpointPolicy(endpoint.name(), endpoint.path(), endpoint.jsonBody(), rules));
+            }
+        }
+        return new RateLimitFilter(policies, objectMapper, handlerExceptionResolver);
+    }
+
+    // 제한에 걸린 요청은 보안 필터 체인(BCrypt 인증 포함)까지 가지 않도록 SQL 계측 필터 다음, 보안 필터보다 먼저 실행
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        registration.addUrlPatterns(ENDPOINTS.stream().map(Endpoint::path).toArray(String[]::new));
+        return registration;
+    }
+
+    // IP 규칙은 칸이 가득 차도 밀어내지 않는 엄격한 제한으로 두고, 이메일/아이디 규칙은 칸이 가득 차면
+    // 가장 덜 제한된 키를 밀어냄 (전역 잠금 대신 해당 키의 기록만 초기화, IP 규칙은 그대로 적용)
+    private static GcraRateLimiter parse(String property, String value, int slots, boolean evictWhenFull) {
+        int separator = value.indexOf('/');
+        if (separator <= 0) {
+            throw new IllegalStateException(property + " 형식이 올바르지 않습니다 (횟수/기간, 예: 5/10m): " + value);
+        }
+        int permits = Integer.parseInt(value.substring(0, separator).trim());
+        return new GcraRateLimiter(permits, DurationStyle.detectAndParse(value.substring(separator + 1).trim()), slots,
+                evictWhenFull);
+    }
+
+    private record Endpoint(String name, String path, boolean jsonBody) {
+    }
+}
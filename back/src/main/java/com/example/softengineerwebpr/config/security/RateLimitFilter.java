@@ -0,0 +1,258 @@
+package com.example.softengineerwebpr.config.security;
+
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.exception.RateLimitExceededException;
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import com.example.softengineerwebpr.common.util.GcraRateLimiter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비용이 큰 인증 API(로그인 BCrypt, 메일 발송)의 요청 횟수 제한 필터.
+ * 엔드포인트마다 IP, 이메일, 로그인 아이디별 규칙을 두고 모든 규칙을 통과해야 요청을 넘깁니다.
+ * 제한을 넘으면 RateLimitExceededException을 HandlerExceptionResolver로 넘겨 GlobalExceptionHandler가
+ * 429 ErrorResponse와 Retry-After 헤더로 응답합니다. (이 필터는 DispatcherServlet 앞에서 실행되므로)
+ * 엔드포인트는 보안 필터 체인/DispatcherServlet과 같이 컨테이너가 디코딩·정규화한 경로(servletPath + pathInfo)로 찾습니다.
+ * (원본 URI로 찾으면 /api/auth/perform%5Flogin처럼 인코딩한 경로가 제한 없이 로그인으로 처리됨)
+ * JSON 본문 규칙이 있는 엔드포인트는 선언된 길이와 관계없이(chunked 포함) 본문을 MAX_BUFFERED_BODY까지 읽고, 더 크면 413으로 거부합니다.
+ * IP는 request.getRemoteAddr() 기준이며, 프록시 뒤에서는 server.forward-headers-strategy 설정이 필요합니다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter implements MetricsSource {
+
+    // 이메일/아이디를 꺼내기 위해 버퍼링할 JSON 본문의 최대 크기 (인증 API 요청은 수백 바이트)
+    static final int MAX_BUFFERED_BODY = 16 * 1024;
+
+    private final Map<String, EndpointPolicy> policies = new LinkedHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    public RateLimitFilter(List<EndpointPolicy> policies, ObjectMapper objectMapper,
+                           HandlerExceptionResolver handlerExceptionResolver) {
+        policies.forEach(policy -> this.policies.put(policy.path, policy));
+        this.objectMapper = objectMapper;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointPolicy policy = policies.get(pathWithinApplication(request));
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest target = request;
+        JsonNode body = null;
+        if (policy.jsonBody) {
+            // Content-Length를 믿지 않고 실제로 읽은 크기로 판단 (chunked면 -1, 선언과 다르게 보낼 수도 있음)
+            BufferedBodyRequest buffered = new BufferedBodyRequest(request);
+            if (buffered.tooLarge) {
+                policy.rejected.increment();
+                handlerExceptionResolver.resolveException(request, response, null, new BusinessLogicException(
+                        ErrorCode.PAYLOAD_TOO_LARGE, "요청 본문은 " + MAX_BUFFERED_BODY + "바이트 이하여야 합니다."));
+                return;
+            }
+            target = buffered;
+            body = parse(buffered.body);
+        }
+
+        for (Rule rule : policy.rules) {
+            String key = switch (rule.keyType) {
+                case IP -> request.getRemoteAddr();
+                case EMAIL -> normalize(field(target, body, "email"));
+                case LOGIN_ID -> normalize(field(target, body, "loginId"));
+            };
+            if (key == null) {
+                continue;
+            }
+            long waitMillis = rule.limiter.tryAcquire(key);
+            if (waitMillis > 0) {
+                policy.rejected.increment();
+                long retryAfterSeconds = (waitMillis + 999) / 1000;
+                handlerExceptionResolver.resolveException(request, response, null, new RateLimitExceededException(
+                        "요청 횟수 제한 초과: " + policy.name + " (" + rule.keyType + ")", retryAfterSeconds));
+                return;
+            }
+        }
+        policy.allowed.increment();
+        filterChain.doFilter(target, response);
+    }
+
+    // 보안 필터 체인의 경로 매칭(AntPathRequestMatcher)과 같은 기준: 디코딩되고 경로 파라미터(;...)가 빠진 경로
+    private static String pathWithinApplication(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        return pathInfo != null ? request.getServletPath() + pathInfo : request.getServletPath();
+    }
+
+    // JSON 본문이면 본문 필드, 폼 로그인이면 요청 파라미터
+    private static String field(HttpServletRequest request, JsonNode body, String name) {
+        if (body != null) {
+            JsonNode value = body.get(name);
+            return value != null && value.isTextual() ? value.asText() : null;
+        }
+        return request.getParameter(name);
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private JsonNode parse(byte[] body) {
+        try {
+            return body.length > 0 ? objectMapper.readTree(body) : null;
+        } catch (IOException e) {
+            return null; // 잘못된 본문은 컨트롤러의 검증에 맡김
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "rate-limit";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        for (EndpointPolicy policy : policies.values()) {
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("allowed", policy.allowed.sum());
+            endpoint.put("rejected", policy.rejected.sum());
+            endpoint.put("evictions", policy.rules.stream().mapToLong(rule -> rule.limiter.evictions()).sum());
+            metrics.put(policy.name, endpoint);
+        }
+        return metrics;
+    }
+
+    public enum KeyType {
+        IP, EMAIL, LOGIN_ID
+    }
+
+    public record Rule(KeyType keyType, GcraRateLimiter limiter) {
+    }
+
+    /**
+     * 엔드포인트 하나(POST path)에 적용할 규칙 목록
+     */
+    public static final class EndpointPolicy {
+        private final String name;
+        private final String path;
+        private final boolean jsonBody;
+        private final List<Rule> rules;
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        public EndpointPolicy(String name, String path, boolean jsonBody, List<Rule> rules) {
+            this.name = name;
+            this.path = path;
+            this.jsonBody = jsonBody;
+            this.rules = List.copyOf(rules);
+        }
+
+        public String getPath() {
+            return path;
+        }
+    }
+
+    /**
+     * 본문을 미리 읽어 두고 뒤쪽(컨트롤러의 @RequestBody)에서 다시 읽을 수 있게 하는 요청 래퍼
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+        private final boolean tooLarge;
+
+        private BufferedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            // 한 바이트 더 읽어 한도를 넘는지 확인
+            byte[] read = request.getInputStream().readNBytes(MAX_BUFFERED_BODY + 1);
+            this.tooLarge = read.length > MAX_BUFFERED_BODY;
+            this.body = tooLarge ? new byte[0] : read;
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문이 이미 메모리에 있으므로 바로 읽을 수 있고 곧 끝났다고 알림
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -2,16 +2,18 @@ package com.example.softengineerwebpr.config.security;
 
 import com.example.softengineerwebpr.domain.auth.service.CustomOAuth2UserService;
 import lombok.RequiredArgsConstructor;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.session.SessionRegistry;
 // import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer; // CSRF disable 시 필요, 현재는 불필요
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository; // CSRF 쿠키 방식 사용 시 필요
@@ -23,10 +25,22 @@ import org.springframework.security.web.csrf.CookieCsrfTokenRepository; // CSRF
 public class SecurityConfig {
 
     private final CustomOAuth2UserService customOAuth2UserService;
+    private final SessionRegistry sessionRegistry; // SessionStoreConfig (memory 또는 jdbc)
+    private final ObjectProvider<StatelessTokenSecurity> statelessTokenSecurity; // app.security.auth-mode=token 일 때만 존재
 
+    // 전용 스레드 풀에서 해싱하는 BCrypt 인코더 (cost가 0이면 기동 시 목표 해싱 시간에 맞춰 자동 결정)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public AdaptiveBCryptPasswordEncoder passwordEncoder(
+            @Value("${app.security.password.bcrypt-cost:0}") int configuredCost,
+            @Value("${app.security.password.target-hash-ms:200}") long targetHashMillis,
+            @Value("${app.security.password.min-cost:10}") int minCost,
+            @Value("${app.security.password.max-cost:14}") int maxCost,
+            @Value("${app.security.password.hash-threads:0}") int hashThreads,
+            @Value("${app.security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.password.wait-timeout-ms:5000}") long waitTimeoutMillis) {
+        int cost = configuredCost > 0 ? configuredCost : AdaptiveBCryptPasswordEncoder.calibrateCost(targetHashMillis, minCost, maxCost);
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        return new AdaptiveBCryptPasswordEncoder(cost, threads, queueCapacity, waitTimeoutMillis);
     }
 
     @Bean
@@ -37,6 +51,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
 
                 .authorizeHttpRequests(authorize -> authorize
+                        // 비동기 응답(보드 스트림 SSE)이 끝날 때의 ASYNC 재디스패치는 다시 인가하지 않음 (최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 new AntPathRequestMatcher("/front/"),
                                 new AntPathRequestMatcher("/front/index.html"),
@@ -90,14 +106,21 @@ public class SecurityConfig {
                         .invalidateHttpSession(true)
                         .deleteCookies("JSESSIONID") // 세션 쿠키 이름 (기본값)
                         .permitAll()
-                )
-
-                .sessionManagement(session -> session
-                                .maximumSessions(1) // 동시 세션 제어: 한 사용자당 하나의 세션만 허용
-                                .expiredUrl("/login?expired=true") // 세션 만료 또는 중복 로그인으로 기존 세션 만료 시 이동할 URL
-                        // .maxSessionsPreventsLogin(true) // 선택: true면 새 로그인 차단, false(기본)면 이전 세션 만료
                 );
 
+        StatelessTokenSecurity tokenSecurity = statelessTokenSecurity.getIfAvailable();
+        if (tokenSecurity != null) {
+            // 토큰 인증 모드: 세션 없이 Bearer 토큰으로 인증 (로그인/로그아웃 응답도 토큰 기준으로 변경)
+            tokenSecurity.configure(http);
+        } else {
+            http.sessionManagement(session -> session
+                            .maximumSessions(1) // 동시 세션 제어: 한 사용자당 하나의 세션만 허용
+                            .sessionRegistry(sessionRegistry) // jdbc 저장소에서는 모든 노드의 세션 기준
+                            .expiredUrl("/login?expired=true") // 세션 만료 또는 중복 로그인으로 기존 세션 만료 시 이동할 URL
+                    // .maxSessionsPreventsLogin(true) // 선택: true면 새 로그인 차단, false(기본)면 이전 세션 만료
+            );
+        }
+
         // Remember Me 설정 (선택적)
         // .rememberMe(rememberMe -> rememberMe
         //         .key("yourRememberMeKey") // 암호화 키 (필수, 강력한 문자열 사용)
@@ -0,0 +1,135 @@
+package com.example.softengineerwebpr.config.security;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * OAuth2 인가 요청(state, redirect_uri 등)을 세션 대신 HMAC 서명한 쿠키에 보관하는 저장소. (토큰 인증 모드)
+ * 소셜 로그인 콜백이 인가 요청을 보낸 노드와 다른 노드로 와도 처리할 수 있어 sticky session이 필요 없습니다.
+ * 쿠키 값: Base64URL(Java 직렬화된 OAuth2AuthorizationRequest) + "." + Base64URL(HMAC-SHA256)
+ */
+@Slf4j
+public class SignedCookieAuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    static final String COOKIE_NAME = "OAUTH2_AUTH_REQUEST";
+    private static final Duration MAX_AGE = Duration.ofMinutes(3);
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    // 서명이 맞더라도 OAuth2AuthorizationRequest를 구성하는 클래스만 역직렬화
+    private static final ObjectInputFilter DESERIALIZATION_FILTER = ObjectInputFilter.Config.createFilter(
+            "org.springframework.security.oauth2.core.**;java.util.*;java.lang.*;maxdepth=10;!*");
+
+    private final SecretKey signingKey;
+
+    public SignedCookieAuthorizationRequestRepository(SecretKey signingKey) {
+        this.signingKey = signingKey;
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return decode(cookie.getValue());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest, HttpServletRequest request,
+                                         HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            writeCookie(response, "", Duration.ZERO, request.isSecure());
+            return;
+        }
+        writeCookie(response, encode(authorizationRequest), MAX_AGE, request.isSecure());
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request, HttpServletResponse response) {
+        OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+        if (authorizationRequest != null) {
+            writeCookie(response, "", Duration.ZERO, request.isSecure());
+        }
+        return authorizationRequest;
+    }
+
+    // 콜백은 다른 사이트에서 돌아오는 최상위 GET 요청이므로 SameSite=Lax로 충분
+    private void writeCookie(HttpServletResponse response, String value, Duration maxAge, boolean secure) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private String encode(OAuth2AuthorizationRequest authorizationRequest) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(authorizationRequest);
+        } catch (IOException e) {
+            throw new IllegalStateException("OAuth2 인가 요청을 직렬화할 수 없습니다.", e);
+        }
+        byte[] payload = bytes.toByteArray();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(sign(payload));
+    }
+
+    private OAuth2AuthorizationRequest decode(String value) {
+        int separator = value.indexOf('.');
+        if (separator <= 0) {
+            return null;
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payload = decoder.decode(value.substring(0, separator));
+            byte[] signature = decoder.decode(value.substring(separator + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                log.debug("OAuth2 인가 요청 쿠키 서명 불일치");
+                return null;
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+                in.setObjectInputFilter(DESERIALIZATION_FILTER);
+                return in.readObject() instanceof OAuth2AuthorizationRequest authorizationRequest ? authorizationRequest : null;
+            }
+        } catch (IllegalArgumentException | IOException | ClassNotFoundException e) {
+            log.debug("OAuth2 인가 요청 쿠키를 읽을 수 없습니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(signingKey);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
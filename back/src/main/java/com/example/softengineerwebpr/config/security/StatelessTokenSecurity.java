@@ -0,0 +1,86 @@
+package com.example.softengineerwebpr.config.security;
+
+import com.example.softengineerwebpr.common.dto.ApiResponse;
+import com.example.softengineerwebpr.common.dto.ErrorResponse;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.domain.auth.dto.TokenResponseDto;
+import com.example.softengineerwebpr.domain.auth.service.TokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.authentication.logout.LogoutFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 토큰 인증 모드(app.security.auth-mode=token)의 HttpSecurity 설정. SecurityConfig가 기본 설정 뒤에 적용합니다.
+ * - 세션을 만들지 않음(STATELESS). 요청 인증은 BearerTokenAuthenticationFilter가 담당
+ * - 폼 로그인 성공: 리다이렉트 대신 토큰을 JSON(ApiResponse)으로 응답, 실패: 401 ErrorResponse
+ * - 소셜 로그인 성공: 토큰을 URL fragment에 담아 프론트 페이지로 리다이렉트 (fragment는 서버 로그/Referer에 남지 않음)
+ * - 로그아웃: 현재 토큰 family 폐기
+ * - /api/** 의 미인증 요청은 로그인 페이지 리다이렉트 대신 401 ErrorResponse
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.security.auth-mode", havingValue = "token")
+public class StatelessTokenSecurity {
+
+    private static final String OAUTH2_SUCCESS_PAGE = "/front/index.html";
+
+    private final TokenService tokenService;
+    private final ObjectMapper objectMapper;
+
+    public void configure(HttpSecurity http) throws Exception {
+        http
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(new BearerTokenAuthenticationFilter(tokenService, objectMapper), LogoutFilter.class)
+
+                .formLogin(formLogin -> formLogin
+                        .successHandler((request, response, authentication) -> writeJson(response, HttpStatus.OK,
+                                ApiResponse.success(HttpStatus.OK.value(), "로그인되었습니다.", tokenService.issue(authentication))))
+                        .failureHandler((request, response, exception) -> writeJson(response, HttpStatus.UNAUTHORIZED,
+                                new ErrorResponse(ErrorCode.LOGIN_FAILED, request.getRequestURI())))
+                )
+
+                .oauth2Login(oauth2 -> oauth2
+                        .authorizationEndpoint(endpoint -> endpoint
+                                .authorizationRequestRepository(new SignedCookieAuthorizationRequestRepository(tokenService.signingKey())))
+                        .successHandler((request, response, authentication) -> {
+                            TokenResponseDto tokens = tokenService.issue(authentication);
+                            response.sendRedirect(request.getContextPath() + OAUTH2_SUCCESS_PAGE
+                                    + "#access_token=" + UriUtils.encode(tokens.getAccessToken(), StandardCharsets.UTF_8)
+                                    + "&refresh_token=" + UriUtils.encode(tokens.getRefreshToken(), StandardCharsets.UTF_8)
+                                    + "&expires_in=" + tokens.getExpiresIn());
+                        })
+                )
+
+                .logout(logout -> logout
+                        .addLogoutHandler((request, response, authentication) -> tokenService.logout(authentication))
+                        .logoutSuccessHandler((request, response, authentication) -> writeJson(response, HttpStatus.OK,
+                                ApiResponse.success(HttpStatus.OK.value(), "로그아웃되었습니다.")))
+                )
+
+                .exceptionHandling(exceptions -> exceptions
+                        .defaultAuthenticationEntryPointFor(
+                                (request, response, authException) -> writeJson(response, HttpStatus.UNAUTHORIZED,
+                                        new ErrorResponse(ErrorCode.AUTHENTICATION_REQUIRED, request.getRequestURI())),
+                                new AntPathRequestMatcher("/api/**"))
+                );
+    }
+
+    private void writeJson(HttpServletResponse response, HttpStatus status, Object body) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.softengineerwebpr.config.session;
+
+import com.example.softengineerwebpr.domain.auth.dto.LoginUser;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세션 속성 직렬화기.
+ * 매 요청 읽히는 SecurityContext(폼 로그인, 소셜 로그인)는 필요한 값만 담은 전용 바이너리 형식으로,
+ * 그 밖의 속성은 기존과 같은 Java 직렬화로 저장합니다.
+ * Java 직렬화 스트림은 0xACED로 시작하므로 첫 바이트(MAGIC)로 두 형식을 구분합니다.
+ * 인증 상세(WebAuthenticationDetails: 로그인 시 IP/세션 ID)는 저장하지 않습니다.
+ */
+public class CompactSessionSerializer {
+
+    private static final byte MAGIC = 0x53; // 'S'
+    private static final byte VERSION = 1;
+
+    private static final byte FORM_LOGIN = 1;
+    private static final byte OAUTH2_LOGIN = 2;
+
+    private static final long NO_USER_IDX = -1L;
+
+    private static final byte STRING = 1;
+    private static final byte LONG = 2;
+    private static final byte INTEGER = 3;
+    private static final byte BOOLEAN = 4;
+
+    private final SerializingConverter javaSerializer = new SerializingConverter();
+    private final DeserializingConverter javaDeserializer;
+
+    public CompactSessionSerializer(ClassLoader classLoader) {
+        this.javaDeserializer = new DeserializingConverter(classLoader);
+    }
+
+    public byte[] serialize(Object value) {
+        if (value instanceof SecurityContext context && isCompactable(context.getAuthentication())) {
+            try {
+                return writeSecurityContext(context.getAuthentication());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return javaSerializer.convert(value);
+    }
+
+    public Object deserialize(byte[] bytes) {
+        if (bytes.length > 0 && bytes[0] == MAGIC) {
+            try {
+                return readSecurityContext(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return javaDeserializer.convert(bytes);
+    }
+
+    private static boolean isCompactable(Authentication authentication) {
+        if (authentication instanceof UsernamePasswordAuthenticationToken && authentication.isAuthenticated()) {
+            return authentication.getPrincipal() instanceof LoginUser user && user.getClass() == LoginUser.class
+                    && user.isEnabled() && user.isAccountNonExpired() && user.isAccountNonLocked() && user.isCredentialsNonExpired();
+        }
+        if (authentication instanceof OAuth2AuthenticationToken token && token.getPrincipal().getClass() == DefaultOAuth2User.class) {
+            return token.getPrincipal().getAttributes().values().stream().allMatch(CompactSessionSerializer::isSimpleValue);
+        }
+        return false;
+    }
+
+    private static boolean isSimpleValue(Object value) {
+        return value instanceof String || value instanceof Long || value instanceof Integer || value instanceof Boolean;
+    }
+
+    private static byte[] writeSecurityContext(Authentication authentication) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        if (authentication instanceof OAuth2AuthenticationToken token) {
+            out.writeByte(OAUTH2_LOGIN);
+            out.writeUTF(token.getAuthorizedClientRegistrationId());
+            writeAuthorities(out, token.getAuthorities());
+            DefaultOAuth2User principal = (DefaultOAuth2User) token.getPrincipal();
+            writeAuthorities(out, principal.getAuthorities());
+            out.writeUTF(nameAttributeKey(principal));
+            Map<String, Object> attributes = principal.getAttributes();
+            out.writeShort(attributes.size());
+            for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+                out.writeUTF(attribute.getKey());
+                writeValue(out, attribute.getValue());
+            }
+        } else {
+            LoginUser user = (LoginUser) authentication.getPrincipal();
+            out.writeByte(FORM_LOGIN);
+            out.writeUTF(user.getUsername());
+            out.writeLong(user.getUserIdx() != null ? user.getUserIdx() : NO_USER_IDX);
+            writeAuthorities(out, user.getAuthorities());
+            writeAuthorities(out, authentication.getAuthorities());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static Object readSecurityContext(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        in.readByte(); // MAGIC
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 세션 직렬화 버전: " + version);
+        }
+        Authentication authentication;
+        byte kind = in.readByte();
+        if (kind == OAUTH2_LOGIN) {
+            String registrationId = in.readUTF();
+            List<GrantedAuthority> tokenAuthorities = readAuthorities(in);
+            List<GrantedAuthority> principalAuthorities = readAuthorities(in);
+            String nameAttributeKey = in.readUTF();
+            int attributeCount = in.readUnsignedShort();
+            Map<String, Object> attributes = new LinkedHashMap<>(attributeCount * 2);
+            for (int i = 0; i < attributeCount; i++) {
+                attributes.put(in.readUTF(), readValue(in));
+            }
+            DefaultOAuth2User principal = new DefaultOAuth2User(principalAuthorities, attributes, nameAttributeKey);
+            authentication = new OAuth2AuthenticationToken(principal, tokenAuthorities, registrationId);
+        } else if (kind == FORM_LOGIN) {
+            String username = in.readUTF();
+            long userIdx = in.readLong();
+            List<GrantedAuthority> userAuthorities = readAuthorities(in);
+            List<GrantedAuthority> tokenAuthorities = readAuthorities(in);
+            // 비밀번호는 인증 후 지워지므로(eraseCredentials) 빈 값으로 복원
+            LoginUser principal = new LoginUser(userIdx != NO_USER_IDX ? userIdx : null, username, "", userAuthorities);
+            authentication = UsernamePasswordAuthenticationToken.authenticated(principal, null, tokenAuthorities);
+        } else {
+            throw new IOException("알 수 없는 인증 유형: " + kind);
+        }
+        return new SecurityContextImpl(authentication);
+    }
+
+    // DefaultOAuth2User는 nameAttributeKey 접근자가 없으므로 getName() 값과 일치하는 속성 키를 찾음
+    private static String nameAttributeKey(DefaultOAuth2User principal) {
+        String name = principal.getName();
+        for (Map.Entry<String, Object> attribute : principal.getAttributes().entrySet()) {
+            if (name.equals(String.valueOf(attribute.getValue()))) {
+                return attribute.getKey();
+            }
+        }
+        throw new IllegalStateException("OAuth2 사용자 이름 속성을 찾을 수 없습니다.");
+    }
+
+    private static void writeAuthorities(DataOutputStream out, Collection<? extends GrantedAuthority> authorities)
+            throws IOException {
+        out.writeShort(authorities.size());
+        for (GrantedAuthority authority : authorities) {
+            out.writeUTF(authority.getAuthority());
+        }
+    }
+
+    private static List<GrantedAuthority> readAuthorities(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        List<GrantedAuthority> authorities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            authorities.add(new SimpleGrantedAuthority(in.readUTF()));
+        }
+        return authorities;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof String text) {
+            out.writeByte(STRING);
+            out.writeUTF(text);
+        } else if (value instanceof Long number) {
+            out.writeByte(LONG);
+            out.writeLong(number);
+        } else if (value instanceof Integer number) {
+            out.writeByte(INTEGER);
+            out.writeInt(number);
+        } else {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case STRING -> in.readUTF();
+            case LONG -> in.readLong();
+            case INTEGER -> in.readInt();
+            case BOOLEAN -> in.readBoolean();
+            default -> throw new IOException("알 수 없는 속성 값 유형: " + type);
+        };
+    }
+}
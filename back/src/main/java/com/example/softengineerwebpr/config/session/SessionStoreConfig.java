@@ -0,0 +1,81 @@
+package com.example.softengineerwebpr.config.session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.security.core.session.SessionRegistryImpl;
+import org.springframework.security.web.session.HttpSessionEventPublisher;
+import org.springframework.session.Session;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
+import org.springframework.session.security.SpringSessionBackedSessionRegistry;
+
+import java.time.Duration;
+
+/**
+ * HTTP 세션 저장소 선택 (app.session.store)
+ * - memory(기본): 서블릿 컨테이너 세션 + JVM 내 SessionRegistryImpl. 노드 하나에서만 동시 세션 제한이 유효
+ * - jdbc: Spring Session JDBC(SPRING_SESSION 테이블, db/spring-session-schema.sql). 모든 노드가 세션과
+ *   사용자별 세션 목록(PRINCIPAL_NAME 인덱스)을 공유하므로 sticky session 없이 maximumSessions가 클러스터 전체에 적용됨
+ * Spring Boot의 세션 자동 구성은 application.properties에서 제외하고 여기서만 구성합니다.
+ */
+@Configuration
+public class SessionStoreConfig {
+
+    static final String TABLE_NAME = "SPRING_SESSION";
+
+    @Configuration
+    @ConditionalOnProperty(name = "app.session.store", havingValue = "memory", matchIfMissing = true)
+    static class InMemorySessionStoreConfig {
+
+        @Bean
+        public SessionRegistry sessionRegistry() {
+            return new SessionRegistryImpl();
+        }
+
+        // 컨테이너 세션이 만료/무효화되면 SessionRegistryImpl에서도 제거되도록 세션 이벤트를 전달
+        @Bean
+        public HttpSessionEventPublisher httpSessionEventPublisher() {
+            return new HttpSessionEventPublisher();
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "app.session.store", havingValue = "jdbc")
+    @EnableJdbcHttpSession(tableName = TABLE_NAME)
+    static class JdbcSessionStoreConfig {
+
+        // SecurityContext는 전용 바이너리 형식으로, 나머지 속성은 Java 직렬화로 저장
+        @Bean
+        public SessionRepositoryCustomizer<JdbcIndexedSessionRepository> compactSessionAttributes(
+                @Value("${server.servlet.session.timeout:30m}") Duration timeout) {
+            CompactSessionSerializer serializer = new CompactSessionSerializer(getClass().getClassLoader());
+            GenericConversionService conversionService = new GenericConversionService();
+            conversionService.addConverter(Object.class, byte[].class, serializer::serialize);
+            conversionService.addConverter(byte[].class, Object.class, serializer::deserialize);
+            return repository -> {
+                repository.setConversionService(conversionService);
+                repository.setDefaultMaxInactiveInterval(timeout);
+            };
+        }
+
+        // SessionRepositoryFilter와 SessionRegistry가 사용하는 저장소 (마지막 접근 시각 일괄 반영)
+        @Primary
+        @Bean(destroyMethod = "flush")
+        public WriteBehindSessionRepository<? extends Session> writeBehindSessionRepository(
+                JdbcIndexedSessionRepository jdbcSessionRepository, JdbcTemplate jdbcTemplate) {
+            return new WriteBehindSessionRepository<>(jdbcSessionRepository, jdbcTemplate, TABLE_NAME);
+        }
+
+        @Bean
+        public SessionRegistry sessionRegistry(WriteBehindSessionRepository<? extends Session> sessionRepository) {
+            return new SpringSessionBackedSessionRegistry<>(sessionRepository);
+        }
+    }
+}
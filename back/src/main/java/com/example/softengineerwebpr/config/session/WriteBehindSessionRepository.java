@@ -0,0 +1,237 @@
+package com.example.softengineerwebpr.config.session;
+
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 세션 저장소 데코레이터: 마지막 접근 시각만 바뀐 세션은 즉시 UPDATE하지 않고 모아서 배치로 반영합니다.
+ * SessionRepositoryFilter는 요청마다 save()를 호출하고, JDBC 저장소는 접근 시각만 바뀌어도 행을 UPDATE하므로
+ * 인증된 요청마다 쓰기가 한 번씩 일어납니다.
+ * - 속성/만료 간격 변경, 세션 ID 변경, 새 세션은 기존처럼 바로 저장
+ * - 저장된 접근 시각이 만료 간격의 절반보다 오래되었으면 바로 저장 (다른 노드에서 만료로 오판하지 않도록)
+ * - 그 밖에는 세션별 최신 접근 시각만 보관했다가 flush()에서 한 번의 배치 UPDATE로 반영
+ */
+@Slf4j
+public class WriteBehindSessionRepository<S extends Session>
+        implements FindByIndexNameSessionRepository<WriteBehindSessionRepository.BufferedSession<S>>, MetricsSource {
+
+    private final FindByIndexNameSessionRepository<S> delegate;
+    private final JdbcTemplate jdbcTemplate;
+    private final String updateLastAccessSql;
+
+    // 세션 ID -> 아직 DB에 반영하지 않은 접근 시각
+    private final Map<String, PendingAccess> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder writeThroughSaves = new LongAdder();
+    private final LongAdder deferredSaves = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder flushBatches = new LongAdder();
+
+    public WriteBehindSessionRepository(FindByIndexNameSessionRepository<S> delegate, JdbcTemplate jdbcTemplate,
+                                        String tableName) {
+        this.delegate = delegate;
+        this.jdbcTemplate = jdbcTemplate;
+        // 다른 노드가 더 최근 시각으로 저장했으면 덮어쓰지 않음
+        this.updateLastAccessSql = "UPDATE " + tableName + " SET LAST_ACCESS_TIME = ?, EXPIRY_TIME = ? " +
+                "WHERE SESSION_ID = ? AND LAST_ACCESS_TIME < ?";
+    }
+
+    @Override
+    public BufferedSession<S> createSession() {
+        BufferedSession<S> session = new BufferedSession<>(delegate.createSession());
+        session.dirty = true;
+        return session;
+    }
+
+    @Override
+    public void save(BufferedSession<S> session) {
+        S target = session.delegate;
+        Duration maxInactive = target.getMaxInactiveInterval();
+        boolean stale = session.persistedLastAccess == null || maxInactive.isNegative()
+                || session.lastAccessedTime.isAfter(session.persistedLastAccess.plus(maxInactive.dividedBy(2)));
+        if (session.dirty || stale) {
+            target.setLastAccessedTime(session.lastAccessedTime);
+            delegate.save(target);
+            pending.remove(target.getId());
+            session.markPersisted();
+            writeThroughSaves.increment();
+            return;
+        }
+        if (session.lastAccessedTime.isAfter(session.persistedLastAccess)) {
+            pending.merge(target.getId(), new PendingAccess(session.lastAccessedTime, maxInactive),
+                    (current, next) -> next.lastAccessedTime.isAfter(current.lastAccessedTime) ? next : current);
+            deferredSaves.increment();
+        }
+    }
+
+    @Override
+    public BufferedSession<S> findById(String id) {
+        S session = delegate.findById(id);
+        return session != null ? new BufferedSession<>(session) : null;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        pending.remove(id);
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public Map<String, BufferedSession<S>> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+        Map<String, S> sessions = delegate.findByIndexNameAndIndexValue(indexName, indexValue);
+        Map<String, BufferedSession<S>> result = new HashMap<>(sessions.size() * 2);
+        sessions.forEach((id, session) -> result.put(id, new BufferedSession<>(session)));
+        return result;
+    }
+
+    /**
+     * 모아 둔 접근 시각을 배치 UPDATE로 반영합니다. (종료 시에도 한 번 호출)
+     */
+    @Scheduled(fixedDelayString = "${app.session.last-access-flush-interval-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Object[]> batch = new ArrayList<>(pending.size());
+        for (String id : Set.copyOf(pending.keySet())) {
+            PendingAccess access = pending.remove(id);
+            if (access == null) {
+                continue;
+            }
+            long lastAccess = access.lastAccessedTime.toEpochMilli();
+            long expiry = lastAccess + access.maxInactive.toMillis();
+            batch.add(new Object[]{lastAccess, expiry, id, lastAccess});
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(updateLastAccessSql, batch);
+            flushedRows.add(batch.size());
+            flushBatches.increment();
+        } catch (RuntimeException e) {
+            // 접근 시각 반영 실패는 세션 만료가 조금 빨라질 뿐이므로 다음 주기로 넘기지 않고 기록만 함
+            log.warn("세션 접근 시각 일괄 반영 실패 ({}건): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "session-store";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("writeThroughSaves", writeThroughSaves.sum());
+        metrics.put("deferredSaves", deferredSaves.sum());
+        metrics.put("pending", pending.size());
+        metrics.put("flushedRows", flushedRows.sum());
+        metrics.put("flushBatches", flushBatches.sum());
+        return metrics;
+    }
+
+    private record PendingAccess(Instant lastAccessedTime, Duration maxInactive) {
+    }
+
+    /**
+     * 접근 시각은 자체적으로 들고 있고, 그 밖의 변경은 원본 세션에 전달하면서 변경 여부를 기록합니다.
+     */
+    public static final class BufferedSession<S extends Session> implements Session {
+        private final S delegate;
+        private Instant persistedLastAccess;
+        private Instant lastAccessedTime;
+        private boolean dirty;
+
+        private BufferedSession(S delegate) {
+            this.delegate = delegate;
+            this.persistedLastAccess = delegate.getLastAccessedTime();
+            this.lastAccessedTime = persistedLastAccess;
+        }
+
+        private void markPersisted() {
+            persistedLastAccess = lastAccessedTime;
+            dirty = false;
+        }
+
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            dirty = true;
+            return delegate.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return delegate.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return delegate.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            dirty = true;
+            delegate.setAttribute(attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            dirty = true;
+            delegate.removeAttribute(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return delegate.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            this.lastAccessedTime = lastAccessedTime;
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return lastAccessedTime;
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            dirty = true;
+            delegate.setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return delegate.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            Duration maxInactive = delegate.getMaxInactiveInterval();
+            return !maxInactive.isNegative() && Instant.now().minus(maxInactive).isAfter(lastAccessedTime);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.softengineerwebpr.config.startup;
+
+import com.example.softengineerwebpr.common.dto.ApiResponse;
+import com.example.softengineerwebpr.common.dto.ErrorResponse;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.domain.auth.service.AuthService;
+import com.example.softengineerwebpr.domain.auth.service.CustomUserDetailsService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 직후 첫 로그인/첫 API 응답이 느리지 않도록 주요 경로를 미리 실행합니다. (app.startup.warm-up.enabled)
+ * ApplicationRunner는 ApplicationReadyEvent(= readiness ACCEPTING_TRAFFIC) 발행 전에 실행되므로,
+ * 워밍업이 끝난 뒤에 트래픽을 받는다고 알립니다.
+ * - 로그인 경로: DaoAuthenticationProvider + CustomUserDetailsService + BCrypt (없는 아이디로 인증 시도)
+ * - AuthServiceImpl: 아이디/이메일 중복 확인 (트랜잭션 프록시, 읽기 전용 쿼리, Hibernate 쿼리 준비)
+ *   LoginIdIndex는 ApplicationReadyEvent에서 만들어지므로 이 시점의 아이디 확인은 항상 DB 조회 경로를 탐
+ * - ApiResponse / ErrorResponse JSON 직렬화
+ * 워밍업에 쓰는 아이디는 가입 형식에 맞지 않는 값이라 실제 사용자와 겹치지 않고, 반복마다 다른 값을 써서
+ * 자격 증명 캐시의 "없는 아이디" 항목에 걸리지 않고 매번 DB 조회까지 실행합니다. 실패해도 기동은 계속합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.startup.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmUp implements ApplicationRunner {
+
+    // 가입 시 허용되지 않는 문자(#)를 넣어 실제 아이디/이메일과 겹치지 않게 함 (뒤에 반복 번호를 붙여 사용)
+    private static final String WARM_UP_ID_PREFIX = "#warm-up-";
+
+    private final AuthService authService;
+    private final CustomUserDetailsService userDetailsService;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final int iterations;
+    private final int passwordIterations;
+
+    public StartupWarmUp(AuthService authService,
+                         CustomUserDetailsService userDetailsService,
+                         PasswordEncoder passwordEncoder,
+                         ObjectMapper objectMapper,
+                         @Value("${app.startup.warm-up.iterations:100}") int iterations,
+                         @Value("${app.startup.warm-up.password-iterations:2}") int passwordIterations) {
+        this.authService = authService;
+        this.userDetailsService = userDetailsService;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.iterations = iterations;
+        this.passwordIterations = passwordIterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+        try {
+            warmUpLogin();
+            warmUpAuthService();
+            warmUpJson();
+            log.info("기동 워밍업 완료: {} ms", (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("기동 워밍업 중 오류가 발생했지만 기동은 계속합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    // 없는 아이디여도 DaoAuthenticationProvider는 타이밍 공격 방지를 위해 BCrypt 비교를 한 번 수행함
+    private void warmUpLogin() {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordEncoder);
+        provider.setUserDetailsService(userDetailsService);
+        for (int i = 0; i < passwordIterations; i++) {
+            try {
+                provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(
+                        WARM_UP_ID_PREFIX + "login-" + i, "warm-up-password"));
+            } catch (BadCredentialsException expected) {
+                // 항상 실패 (없는 아이디)
+            }
+        }
+    }
+
+    private void warmUpAuthService() {
+        for (int i = 0; i < iterations; i++) {
+            authService.isLoginIdAvailable(WARM_UP_ID_PREFIX + i);
+            authService.isEmailAvailable(WARM_UP_ID_PREFIX + i);
+        }
+    }
+
+    private void warmUpJson() {
+        try {
+            for (int i = 0; i < iterations; i++) {
+                objectMapper.writeValueAsBytes(ApiResponse.success(HttpStatus.OK.value(), "warm-up", Map.of("items", List.of(i))));
+                objectMapper.writeValueAsBytes(ApiResponse.success(HttpStatus.OK.value(), "warm-up"));
+                objectMapper.writeValueAsBytes(new ErrorResponse(ErrorCode.INVALID_INPUT_VALUE, "/warm-up"));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
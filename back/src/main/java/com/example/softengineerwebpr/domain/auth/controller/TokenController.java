@@ -0,0 +1,35 @@
+package com.example.softengineerwebpr.domain.auth.controller;
+
+import com.example.softengineerwebpr.common.dto.ApiResponse;
+import com.example.softengineerwebpr.domain.auth.dto.TokenRefreshRequestDto;
+import com.example.softengineerwebpr.domain.auth.dto.TokenResponseDto;
+import com.example.softengineerwebpr.domain.auth.service.TokenService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 토큰 인증 모드(app.security.auth-mode=token) 전용 API.
+ * 로그인/로그아웃은 기존 URL(/api/auth/perform_login, /api/auth/logout)을 그대로 사용합니다.
+ */
+@RestController
+@RequestMapping("/api/auth/token")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.security.auth-mode", havingValue = "token")
+public class TokenController {
+
+    private final TokenService tokenService;
+
+    // 액세스 토큰 재발급 API (리프레시 토큰도 새 값으로 교체됨)
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<TokenResponseDto>> refresh(@Valid @RequestBody TokenRefreshRequestDto requestDto) {
+        TokenResponseDto tokens = tokenService.refresh(requestDto.getRefreshToken());
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "토큰이 재발급되었습니다.", tokens));
+    }
+}
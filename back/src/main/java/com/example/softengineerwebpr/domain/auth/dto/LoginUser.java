@@ -0,0 +1,23 @@
+package com.example.softengineerwebpr.domain.auth.dto;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 폼 로그인/토큰 인증 사용자의 Principal. 로그인 아이디와 함께 사용자 PK(userIdx)를 담아
+ * 요청마다 아이디로 사용자를 다시 조회하지 않도록 합니다. (SecurityUtils.currentUserIdx 참고)
+ */
+@Getter
+public class LoginUser extends User {
+
+    private final Long userIdx;
+
+    public LoginUser(Long userIdx, String loginId, String encodedPassword,
+                     Collection<? extends GrantedAuthority> authorities) {
+        super(loginId, encodedPassword, authorities);
+        this.userIdx = userIdx;
+    }
+}
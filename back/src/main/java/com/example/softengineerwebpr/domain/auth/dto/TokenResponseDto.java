@@ -0,0 +1,16 @@
+package com.example.softengineerwebpr.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 토큰 인증 모드의 로그인/재발급 응답
+ */
+@Getter
+@AllArgsConstructor
+public class TokenResponseDto {
+    private final String accessToken;
+    private final String refreshToken;
+    private final long expiresIn; // 액세스 토큰 유효 시간(초)
+    private final String tokenType = "Bearer";
+}
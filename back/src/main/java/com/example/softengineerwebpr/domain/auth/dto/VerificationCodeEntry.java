@@ -1,19 +1,22 @@
 package com.example.softengineerwebpr.domain.auth.dto;
 
 import lombok.Getter;
-import java.time.LocalDateTime;
 
 @Getter
 public class VerificationCodeEntry {
     private final String code;
-    private final LocalDateTime expiryTime;
+    private final long expiresAtMillis; // 만료 시각 (epoch millis, LocalDateTime 대비 객체 하나를 덜 씀)
 
-    public VerificationCodeEntry(String code, int expiryMinutes) {
+    public VerificationCodeEntry(String code, long expiresAtMillis) {
         this.code = code;
-        this.expiryTime = LocalDateTime.now().plusMinutes(expiryMinutes);
+        this.expiresAtMillis = expiresAtMillis;
     }
 
     public boolean isExpired() {
-        return LocalDateTime.now().isAfter(expiryTime);
+        return isExpiredAt(System.currentTimeMillis());
     }
-}
\ No newline at end of file
+
+    public boolean isExpiredAt(long nowMillis) {
+        return nowMillis > expiresAtMillis;
+    }
+}
@@ -16,7 +16,9 @@ import lombok.NoArgsConstructor;
 public class OAuthProvider {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "oauth2_providers_id_generator")
+    @TableGenerator(name = "oauth2_providers_id_generator", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "oauth2_providers", allocationSize = 50)
     @Column(name = "idx")
     private Long idx;
 
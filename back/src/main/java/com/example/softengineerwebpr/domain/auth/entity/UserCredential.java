@@ -7,17 +7,25 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(name = "user_credential",
         uniqueConstraints = { // id 컬럼에 대한 unique 제약 조건 설정
             @UniqueConstraint(name = "uk_user_credentials_id", columnNames = "id")
+        },
+        indexes = {
+            @Index(name = "idx_user_credential_password_changed_at", columnList = "password_changed_at"),
+            @Index(name = "idx_user_credential_created_at", columnList = "created_at")
         })
 public class UserCredential {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_credential_id_generator")
+    @TableGenerator(name = "user_credential_id_generator", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "user_credential", allocationSize = 50)
     @Column(name = "idx")
     private Long idx; // 자격 증명의 고유 식별자 (DB 스키마 INT -> Long 매핑)
 
@@ -34,6 +42,13 @@ public class UserCredential {
     @Column(nullable = false, length = 255) // 비밀번호는 해시되어 저장되므로 길이 충분히
     private String password; // 사용자 비밀번호 (해시된 값)
 
+    @Column(name = "password_changed_at") // 다른 노드의 자격 증명 캐시가 변경을 알아채는 기준 (가입 시에는 null)
+    private LocalDateTime passwordChangedAt;
+
+    // DB 기본값(CURRENT_TIMESTAMP(3))으로 채워짐. 다른 노드의 로그인 아이디 인덱스가 새 가입을 읽어 가는 기준
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
     @Builder
     public UserCredential(User user, String loginId, String password) {
         this.user = user;
@@ -44,6 +59,7 @@ public class UserCredential {
     // 비밀번호 변경 메소드 (서비스 계층에서 암호화된 비밀번호를 받아와서 설정)
     public void updatePassword(String newEncodedPassword) {
         this.password = newEncodedPassword;
+        this.passwordChangedAt = LocalDateTime.now();
     }
 }
 
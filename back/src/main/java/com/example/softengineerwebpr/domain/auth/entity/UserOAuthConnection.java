@@ -20,7 +20,9 @@ import lombok.NoArgsConstructor;
 public class UserOAuthConnection {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_oauth_connections_id_generator")
+    @TableGenerator(name = "user_oauth_connections_id_generator", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "user_oauth_connections", allocationSize = 50)
     @Column(name = "idx")
     private Long idx; // 연결의 고유 식별자 (DB 스키마 INT -> Long 매핑)
 
@@ -0,0 +1,8 @@
+package com.example.softengineerwebpr.domain.auth.event;
+
+/**
+ * 저장된 비밀번호(UserCredential.password)가 바뀌었음을 알리는 이벤트.
+ * 비밀번호 재설정(AuthServiceImpl.resetPasswordAndSendEmail)과 로그인 시 재해싱(CustomUserDetailsService.updatePassword)에서 발행합니다.
+ */
+public record UserPasswordChangedEvent(String loginId) {
+}
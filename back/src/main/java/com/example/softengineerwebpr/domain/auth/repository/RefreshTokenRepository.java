@@ -0,0 +1,73 @@
+package com.example.softengineerwebpr.domain.auth.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 저장소 (auth_refresh_token, 정의: resources/db/auth-token-schema.sql)
+ * 토큰 원문은 저장하지 않고 SHA-256 해시로만 조회합니다.
+ */
+@Repository
+@ConditionalOnProperty(name = "app.security.auth-mode", havingValue = "token")
+public class RefreshTokenRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO auth_refresh_token " +
+            "(token_hash, family_id, subject, user_idx, authorities, used, expires_at) VALUES (?, ?, ?, ?, ?, FALSE, ?)";
+    // 미사용 + 미만료인 토큰만 사용 처리 (동시에 같은 토큰으로 재발급을 요청해도 한 요청만 성공)
+    private static final String MARK_USED_SQL = "UPDATE auth_refresh_token SET used = TRUE " +
+            "WHERE token_hash = ? AND used = FALSE AND expires_at > ?";
+    private static final String SELECT_SQL = "SELECT family_id, subject, user_idx, authorities, used, expires_at " +
+            "FROM auth_refresh_token WHERE token_hash = ?";
+    private static final String DELETE_FAMILY_SQL = "DELETE FROM auth_refresh_token WHERE family_id = ?";
+    private static final String DELETE_SUBJECT_SQL = "DELETE FROM auth_refresh_token WHERE subject = ?";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM auth_refresh_token WHERE expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RefreshTokenRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void save(String tokenHash, RefreshTokenRecord record) {
+        jdbcTemplate.update(INSERT_SQL, tokenHash, record.familyId(), record.subject(), record.userIdx(),
+                record.authorities(), record.expiresAt());
+    }
+
+    /**
+     * 토큰을 사용 처리합니다. 이미 사용했거나 만료되었거나 없는 토큰이면 false.
+     */
+    public boolean markUsed(String tokenHash, long now) {
+        return jdbcTemplate.update(MARK_USED_SQL, tokenHash, now) == 1;
+    }
+
+    public Optional<RefreshTokenRecord> findByHash(String tokenHash) {
+        List<RefreshTokenRecord> records = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new RefreshTokenRecord(
+                rs.getLong("family_id"),
+                rs.getString("subject"),
+                rs.getObject("user_idx", Long.class),
+                rs.getString("authorities"),
+                rs.getBoolean("used"),
+                rs.getLong("expires_at")), tokenHash);
+        return records.stream().findFirst();
+    }
+
+    public int deleteFamily(long familyId) {
+        return jdbcTemplate.update(DELETE_FAMILY_SQL, familyId);
+    }
+
+    public int deleteBySubject(String subject) {
+        return jdbcTemplate.update(DELETE_SUBJECT_SQL, subject);
+    }
+
+    public int deleteExpired(long now) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, now);
+    }
+
+    public record RefreshTokenRecord(long familyId, String subject, Long userIdx, String authorities,
+                                     boolean used, long expiresAt) {
+    }
+}
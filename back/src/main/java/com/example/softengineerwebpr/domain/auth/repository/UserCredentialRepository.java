@@ -3,7 +3,10 @@ package com.example.softengineerwebpr.domain.auth.repository;
 import com.example.softengineerwebpr.domain.auth.entity.UserCredential;
 import com.example.softengineerwebpr.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserCredentialRepository extends JpaRepository<UserCredential, Long> {
@@ -15,4 +18,8 @@ public interface UserCredentialRepository extends JpaRepository<UserCredential,
 
     // 로그인 ID 존재 여부 확인 (회원가입 시 중복 체크)
     boolean existsByLoginId(String loginId);
+
+    // 주어진 시각 이후 비밀번호가 바뀐 로그인 ID (다른 노드의 자격 증명 캐시 무효화용)
+    @Query("SELECT c.loginId FROM UserCredential c WHERE c.passwordChangedAt >= :since")
+    List<String> findLoginIdsWithPasswordChangedSince(LocalDateTime since);
 }
@@ -2,6 +2,8 @@ package com.example.softengineerwebpr.domain.auth.repository;
 
 import com.example.softengineerwebpr.domain.auth.entity.UserOAuthConnection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.example.softengineerwebpr.domain.user.entity.User;
 import com.example.softengineerwebpr.domain.auth.entity.OAuthProvider; // 생성하신 OAuthProvider 임포트
 import java.util.Optional;
@@ -11,5 +13,11 @@ public interface UserOAuthConnectionRepository extends JpaRepository<UserOAuthCo
     // 수정된 메소드 이름: OAuth2UserId -> oauth2UserId
     Optional<UserOAuthConnection> findByOauthProviderAndOauth2UserId(OAuthProvider oauthProvider, String oauth2UserId);
 
+    // 소셜 로그인 시 연동 정보와 사용자를 한 번의 조회로 가져옴 (User 지연 로딩 쿼리 제거)
+    @Query("select c from UserOAuthConnection c join fetch c.user " +
+            "where c.oauthProvider.idx = :providerIdx and c.oauth2UserId = :oauth2UserId")
+    Optional<UserOAuthConnection> findWithUserByProviderIdxAndOauth2UserId(@Param("providerIdx") Long providerIdx,
+                                                                          @Param("oauth2UserId") String oauth2UserId);
+
     Optional<UserOAuthConnection> findByUserAndOauthProvider(User user, OAuthProvider oauthProvider);
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ public interface AuthService {
     void signUp(SignUpRequestDto signUpRequestDto);
     boolean isLoginIdAvailable(String loginId); // 아이디 사용 가능 여부 확인
     boolean isNicknameAvailable(String nickname); // 닉네임 사용 가능 여부 확인
+    boolean isEmailAvailable(String email); // 이메일 가입 가능 여부 확인 (이미 가입된 이메일이면 false)
     void sendVerificationEmail(String email);
     boolean verifySubmittedCode(String email, String submittedCode); // signUp 시 내부적으로 호출될 메소드
     void findLoginIdAndSendEmail(String email);
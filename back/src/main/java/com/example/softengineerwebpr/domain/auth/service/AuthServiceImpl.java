@@ -5,17 +5,26 @@ import com.example.softengineerwebpr.common.util.UserCodeGenerator; // 수정된
 import com.example.softengineerwebpr.domain.auth.dto.SignUpRequestDto;
 import com.example.softengineerwebpr.domain.auth.dto.VerificationCodeEntry;
 import com.example.softengineerwebpr.domain.auth.entity.UserCredential;
+import com.example.softengineerwebpr.domain.auth.event.UserPasswordChangedEvent;
 import com.example.softengineerwebpr.domain.auth.repository.UserCredentialRepository;
 import com.example.softengineerwebpr.domain.user.entity.User;
+import com.example.softengineerwebpr.domain.user.event.UserRegisteredEvent;
 import com.example.softengineerwebpr.domain.user.repository.UserRepository;
+import com.example.softengineerwebpr.domain.user.service.IdentificationCodeAllocator;
 import com.example.softengineerwebpr.common.exception.BusinessLogicException;
 import com.example.softengineerwebpr.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.dao.DataIntegrityViolationException; // 추가
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -23,14 +32,22 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class AuthServiceImpl implements AuthService {
 
+    // 식별 코드 충돌(다른 인스턴스가 같은 코드를 먼저 저장) 시 새 코드로 다시 시도하는 최대 횟수
+    private static final int MAX_REGISTRATION_ATTEMPTS = 3;
+
     private final UserRepository userRepository;
     private final UserCredentialRepository userCredentialRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
-    private final InMemoryVerificationCodeStore codeStore;
+    private final VerificationCodeStore codeStore;
     private final UserCodeGenerator userCodeGenerator; // 수정된 UserCodeGenerator 주입
+    private final IdentificationCodeAllocator identificationCodeAllocator;
+    private final LoginIdIndex loginIdIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 시도마다 별도 트랜잭션 (transactionTemplate)
     public void signUp(SignUpRequestDto signUpRequestDto) {
         log.info("회원가입 서비스 시작: loginId={}", signUpRequestDto.getLoginId());
 
@@ -39,7 +56,31 @@ public class AuthServiceImpl implements AuthService {
             throw new BusinessLogicException(ErrorCode.EMAIL_VERIFICATION_FAILED);
         }
 
-        if (!isLoginIdAvailable(signUpRequestDto.getLoginId())) {
+        String encodedPassword = passwordEncoder.encode(signUpRequestDto.getPassword()); // 재시도해도 해싱은 한 번만
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> registerUser(signUpRequestDto, encodedPassword));
+                break;
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 같은 식별 코드를 먼저 저장한 경우 등. 실패한 트랜잭션은 롤백되었으므로
+                // 할당기 캐시를 비워 DB 기준으로 다시 읽고 새 코드로 재시도 (아이디/이메일 충돌이면 재시도 시 중복 검사에서 걸러짐)
+                identificationCodeAllocator.invalidate(signUpRequestDto.getNickname());
+                if (attempt >= MAX_REGISTRATION_ATTEMPTS) {
+                    log.warn("회원가입 저장 실패 (재시도 초과): nickname={}, attempts={}", signUpRequestDto.getNickname(), attempt);
+                    throw new BusinessLogicException(ErrorCode.USER_REGISTRATION_FAILED,
+                            "사용자 등록 중 내부 오류 발생 (식별 코드 할당 문제)");
+                }
+                log.warn("회원가입 저장 충돌, 새 식별 코드로 재시도: nickname={}, attempt={}", signUpRequestDto.getNickname(), attempt);
+            }
+        }
+
+        codeStore.removeCode(signUpRequestDto.getEmail());
+        log.info("회원가입 성공 및 이메일 인증 코드 삭제: loginId={}", signUpRequestDto.getLoginId());
+    }
+
+    private void registerUser(SignUpRequestDto signUpRequestDto, String encodedPassword) {
+        // 가입은 인덱스가 아닌 DB로 최종 확인 (다른 인스턴스에서 방금 가입한 아이디도 걸러냄)
+        if (userCredentialRepository.existsByLoginId(signUpRequestDto.getLoginId())) {
             throw new BusinessLogicException(ErrorCode.LOGIN_ID_DUPLICATION);
         }
         // 닉네임 자체의 전역적 중복 검사는 제거 (닉네임#코드 조합으로 유니크 처리)
@@ -57,56 +98,31 @@ public class AuthServiceImpl implements AuthService {
                 .isOnline(false)
                 .build();
 
-        User savedUser = null;
-        int maxAttempts = 10; // 최대 재시도 횟수
-        for (int i = 0; i < maxAttempts; i++) {
-            String identificationCode = userCodeGenerator.generateRandomFourDigitCode(); // DB 조회 없는 랜덤 코드 생성
-            newUser.setIdentificationCode(identificationCode); // User 엔티티에 setter로 설정
-
-            try {
-                savedUser = userRepository.saveAndFlush(newUser); // 즉시 DB 반영 및 예외 확인
-                log.info("신규 사용자 저장 완료: userId={}, nickname={}, identificationCode={}",
-                        savedUser.getIdx(), savedUser.getNickname(), savedUser.getIdentificationCode());
-                break; // 저장 성공 시 루프 종료
-            } catch (DataIntegrityViolationException e) {
-                log.warn("DataIntegrityViolationException for nickname {} with code {}. Attempt {}/{}. Retrying...",
-                        newUser.getNickname(), identificationCode, i + 1, maxAttempts);
-                if (i == maxAttempts - 1) { // 마지막 시도도 실패한 경우
-                    throw new BusinessLogicException(ErrorCode.USER_REGISTRATION_FAILED,
-                            "사용자 등록 중 내부 오류 발생 (식별 코드 할당 문제)");
-                }
-                // 만약 saveAndFlush 후 newUser의 ID가 생성되었다면, 다음 시도를 위해 ID를 null로 초기화하거나
-                // 새로운 User 객체를 만들어야 할 수 있습니다. (JPA 구현체에 따라 동작이 다를 수 있음)
-                // 여기서는 newUser가 ID가 없는 상태로 재시도된다고 가정, 또는 newUser.idx = null; 과 같은 처리 필요.
-                // 더 안전한 방법은 예외 발생 시 newUser 객체를 다시 빌드하는 것입니다. (단, 필수값 누락 주의)
-                newUser = User.builder() // 예외 발생 시 객체 상태를 초기화하고 다시 시도하기 위함 (idx가 없는 상태)
-                        .nickname(signUpRequestDto.getNickname())
-                        .email(signUpRequestDto.getEmail())
-                        .isOnline(false)
-                        .build();
-            }
-        }
-        if (savedUser == null) { // 모든 시도 실패
-            throw new BusinessLogicException(ErrorCode.USER_REGISTRATION_FAILED, "사용자 등록에 최종 실패했습니다.");
-        }
+        // 식별 코드는 할당기가 닉네임별로 비어 있는 코드를 골라주며, 롤백되면 예약이 자동으로 반환됨
+        newUser.setIdentificationCode(identificationCodeAllocator.allocate(signUpRequestDto.getNickname()));
 
+        User savedUser = userRepository.saveAndFlush(newUser); // 즉시 DB 반영 및 예외 확인
+        log.info("신규 사용자 저장 완료: userId={}, nickname={}, identificationCode={}",
+                savedUser.getIdx(), savedUser.getNickname(), savedUser.getIdentificationCode());
 
         UserCredential newUserCredential = UserCredential.builder()
                 .user(savedUser) // 저장 성공한 User 객체 사용
                 .loginId(signUpRequestDto.getLoginId())
-                .password(passwordEncoder.encode(signUpRequestDto.getPassword()))
+                .password(encodedPassword)
                 .build();
-        userCredentialRepository.save(newUserCredential);
+        userCredentialRepository.saveAndFlush(newUserCredential); // 아이디 충돌도 커밋 전에 같은 예외로 드러나도록
         log.info("사용자 자격 증명 저장 완료: user_idx={}", savedUser.getIdx());
-
-        codeStore.removeCode(signUpRequestDto.getEmail());
-        log.info("회원가입 성공 및 이메일 인증 코드 삭제: loginId={}", signUpRequestDto.getLoginId());
+        eventPublisher.publishEvent(new UserRegisteredEvent(savedUser.getIdx(), signUpRequestDto.getLoginId()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean isLoginIdAvailable(String loginId) {
-        return !userCredentialRepository.existsByLoginId(loginId);
+        return switch (loginIdIndex.lookup(loginId)) {
+            case TAKEN -> false;
+            case AVAILABLE -> true;
+            case UNKNOWN -> !userCredentialRepository.existsByLoginId(loginId);
+        };
     }
 
     @Override
@@ -119,23 +135,25 @@ public class AuthServiceImpl implements AuthService {
         return true; // 닉네임 중복 허용 정책에 따라 수정
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isEmailAvailable(String email) {
+        return !userRepository.existsByEmail(email);
+    }
+
     @Override
     public void sendVerificationEmail(String email) {
-        if (userRepository.existsByEmail(email)) { // 이미 가입된 이메일인지 체크
+        if (!isEmailAvailable(email)) { // 이미 가입된 이메일인지 체크
             throw new BusinessLogicException(ErrorCode.EMAIL_DUPLICATION, "이미 가입된 이메일입니다. 다른 이메일을 사용해주세요.");
         }
         String verificationCode = userCodeGenerator.generateNumericVerificationCode(4);
         codeStore.storeCode(email, verificationCode);
 
-        String subject = "[팀 프로젝트 관리 웹앱] 이메일 인증번호 안내";
-        String text = "회원가입을 위한 인증번호는 [" + verificationCode + "] 입니다. 3분 내에 입력해주세요.";
-        try {
-            emailService.sendSimpleMessage(email, subject, text);
-            log.info("Verification code {} sent to email: {}", verificationCode, email);
-        } catch (Exception e) {
-            log.error("Failed to send verification email to {}: {}", email, e.getMessage());
-            throw new BusinessLogicException(ErrorCode.EMAIL_SEND_FAILED);
-        }
+        // 아웃박스에 저장만 하고 발송은 디스패처가 비동기로 처리 (SMTP 지연이 요청 스레드/DB 커넥션을 붙잡지 않음)
+        // 메일 언어는 요청의 Accept-Language 기준 (mail/{언어}/verification-code.*)
+        emailService.enqueueTemplate(email, "verification-code", LocaleContextHolder.getLocale(),
+                Map.of("code", verificationCode, "expiresInMinutes", 3));
+        log.info("Verification code {} queued for email: {}", verificationCode, email);
     }
 
     @Override
@@ -154,6 +172,12 @@ public class AuthServiceImpl implements AuthService {
             log.info("Email code verified for email: {}", email);
             return true;
         }
+        // 다른 인스턴스에서 코드가 재발송되어 로컬 캐시가 오래된 경우를 대비해 원본 저장소에서 한 번 더 확인
+        VerificationCodeEntry latest = codeStore.reloadCode(email);
+        if (latest != null && !latest.isExpired() && latest.getCode().equals(submittedCode)) {
+            log.info("Email code verified for email: {} (reloaded)", email);
+            return true;
+        }
         log.warn("Invalid verification code for email: {}. Submitted: {}, Expected: {}", email, submittedCode, entry.getCode());
         return false;
     }
@@ -191,17 +215,8 @@ public class AuthServiceImpl implements AuthService {
         String loginId = userCredential.getLoginId();
 
         // 이메일 발송
-        String subject = "[팀 프로젝트 관리 웹앱] 아이디 찾기 결과 안내";
-        String text = "요청하신 아이디는 [" + loginId + "] 입니다.";
-        try {
-            emailService.sendSimpleMessage(email, subject, text);
-            log.info("아이디 찾기: {} 이메일로 아이디 {} 발송 완료", email, loginId);
-        } catch (Exception e) {
-            log.error("아이디 찾기 이메일 발송 실패: email={}, error={}", email, e.getMessage());
-            // 이메일 발송 실패는 사용자에게 직접 알리지 않고 내부 로깅만 할 수도 있습니다.
-            // 또는 BusinessLogicException(ErrorCode.EMAIL_SEND_FAILED)를 던질 수 있습니다.
-            // 여기서는 일단 로깅만 합니다. 컨트롤러는 여전히 성공 메시지를 보냅니다.
-        }
+        emailService.enqueueTemplate(email, "find-id", LocaleContextHolder.getLocale(), Map.of("loginId", loginId));
+        log.info("아이디 찾기: {} 이메일로 아이디 {} 발송 예약", email, loginId);
     }
 
     @Override
@@ -236,20 +251,13 @@ public class AuthServiceImpl implements AuthService {
         String temporaryPassword = userCodeGenerator.generateRandomTemporaryPassword(10); // 10자리 임시 비밀번호 생성
         userCredential.updatePassword(passwordEncoder.encode(temporaryPassword)); // UserCredential 엔티티에 updatePassword 메소드 필요
         userCredentialRepository.save(userCredential);
+        eventPublisher.publishEvent(new UserPasswordChangedEvent(userCredential.getLoginId())); // 로그인 자격 증명 캐시 무효화
         log.info("임시 비밀번호로 업데이트 완료: loginId={}", loginId);
 
         // 이메일 발송
-        String subject = "[팀 프로젝트 관리 웹앱] 임시 비밀번호 안내";
-        String text = "회원님의 임시 비밀번호는 [" + temporaryPassword + "] 입니다. \n로그인 후 반드시 비밀번호를 변경해주세요.";
-        try {
-            emailService.sendSimpleMessage(email, subject, text);
-            log.info("비밀번호 재설정: {} 이메일로 임시 비밀번호 발송 완료", email);
-        } catch (Exception e) {
-            log.error("비밀번호 재설정 이메일 발송 실패: email={}, error={}", email, e.getMessage());
-            // DB는 이미 변경되었으므로, 이메일 발송 실패가 치명적일 수 있습니다.
-            // 재시도 로직 또는 별도 알림 방안을 고려하거나, 최소한 관리자가 알 수 있도록 심각한 로깅 필요.
-            // 여기서는 일단 BusinessLogicException을 던져서 트랜잭션 롤백을 유도할 수 있습니다. (또는 그대로 두고 로깅만)
-            throw new BusinessLogicException(ErrorCode.EMAIL_SEND_FAILED, "임시 비밀번호 발송에 실패했습니다. 관리자에게 문의해주세요.");
-        }
+        // 비밀번호 변경과 같은 트랜잭션으로 아웃박스에 저장되므로, 둘 중 하나만 반영되는 일이 없음
+        emailService.enqueueTemplate(email, "temporary-password", LocaleContextHolder.getLocale(),
+                Map.of("temporaryPassword", temporaryPassword));
+        log.info("비밀번호 재설정: {} 이메일로 임시 비밀번호 발송 예약", email);
     }
 }
\ No newline at end of file
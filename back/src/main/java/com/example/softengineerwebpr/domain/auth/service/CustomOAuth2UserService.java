@@ -1,13 +1,14 @@
 package com.example.softengineerwebpr.domain.auth.service;
 
-import com.example.softengineerwebpr.common.util.UserCodeGenerator;
 import com.example.softengineerwebpr.domain.auth.dto.OAuthAttributes;
 import com.example.softengineerwebpr.domain.auth.entity.OAuthProvider;
 import com.example.softengineerwebpr.domain.auth.entity.UserOAuthConnection;
 import com.example.softengineerwebpr.domain.auth.repository.OAuthProviderRepository;
 import com.example.softengineerwebpr.domain.auth.repository.UserOAuthConnectionRepository;
+import com.example.softengineerwebpr.domain.auth.service.OAuthProviderRegistry.ProviderInfo;
 import com.example.softengineerwebpr.domain.user.entity.User;
 import com.example.softengineerwebpr.domain.user.repository.UserRepository;
+import com.example.softengineerwebpr.domain.user.service.IdentificationCodeAllocator;
 import com.example.softengineerwebpr.common.exception.BusinessLogicException; // 추가
 import com.example.softengineerwebpr.common.exception.ErrorCode;         // 추가
 import lombok.RequiredArgsConstructor;
@@ -21,7 +22,7 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,51 +32,43 @@ import java.util.Optional;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
+    // 식별 코드 충돌(다른 인스턴스가 같은 코드를 먼저 저장) 시 새 코드로 다시 시도하는 최대 횟수
+    private static final int MAX_REGISTRATION_ATTEMPTS = 3;
+
     private final UserRepository userRepository;
     private final OAuthProviderRepository oauthProviderRepository;
     private final UserOAuthConnectionRepository userOAuthConnectionRepository;
-    private final UserCodeGenerator userCodeGenerator;
+    private final IdentificationCodeAllocator identificationCodeAllocator;
+    private final OAuthProviderRegistry oauthProviderRegistry;
+    private final DefaultOAuth2UserService oauth2UserInfoDelegate; // OAuth2ClientConfig (HTTP 커넥션 재사용)
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
-        OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate = new DefaultOAuth2UserService();
-        OAuth2User oauth2User = delegate.loadUser(userRequest);
-
         String registrationId = userRequest.getClientRegistration().getRegistrationId();
-        String userNameAttributeName = userRequest.getClientRegistration()
-                .getProviderDetails().getUserInfoEndpoint().getUserNameAttributeName();
-        Map<String, Object> originalAttributes = oauth2User.getAttributes();
-        OAuthAttributes oAuthAttributes = OAuthAttributes.of(registrationId, userNameAttributeName, originalAttributes);
-
-        OAuthProvider provider = oauthProviderRepository.findByName(registrationId.toUpperCase())
+        ProviderInfo provider = oauthProviderRegistry.find(registrationId)
                 .orElseThrow(() -> {
                     log.warn("지원하지 않는 OAuth Provider 입니다: {}", registrationId);
                     return new OAuth2AuthenticationException("지원하지 않는 OAuth Provider입니다: " + registrationId);
                 });
+        if (!provider.activation()) {
+            log.warn("비활성화된 OAuth Provider 입니다: {}", registrationId);
+            throw new OAuth2AuthenticationException("현재 사용할 수 없는 OAuth Provider입니다: " + registrationId);
+        }
 
-        Optional<UserOAuthConnection> userOAuthConnectionOptional = userOAuthConnectionRepository
-                .findByOauthProviderAndOauth2UserId(provider, oAuthAttributes.getOauth2UserId());
+        // 외부 user-info 호출은 트랜잭션(DB 커넥션) 밖에서 수행
+        OAuth2User oauth2User = oauth2UserInfoDelegate.loadUser(userRequest);
 
-        User user;
-        boolean isNewSocialUser = false;
+        String userNameAttributeName = userRequest.getClientRegistration()
+                .getProviderDetails().getUserInfoEndpoint().getUserNameAttributeName();
+        Map<String, Object> originalAttributes = oauth2User.getAttributes();
+        OAuthAttributes oAuthAttributes = OAuthAttributes.of(registrationId, userNameAttributeName, originalAttributes);
 
-        if (userOAuthConnectionOptional.isPresent()) {
-            user = userOAuthConnectionOptional.get().getUser();
-            log.info("기존 소셜 연동 사용자 로그인: userId={}, provider={}, oauth2UserId={}", user.getIdx(), provider.getName(), oAuthAttributes.getOauth2UserId());
-        } else {
-            Optional<User> userByEmailOptional = userRepository.findByEmail(oAuthAttributes.getEmail());
-            if (userByEmailOptional.isPresent() && oAuthAttributes.getEmail() != null) { // 이메일이 있는 경우에만 기존 사용자 연동 시도
-                user = userByEmailOptional.get();
-                connectSocialAccount(user, provider, oAuthAttributes.getOauth2UserId());
-                log.info("기존 이메일 사용자에게 소셜 계정 연동: userId={}, provider={}, oauth2UserId={}", user.getIdx(), provider.getName(), oAuthAttributes.getOauth2UserId());
-            } else {
-                user = registerNewSocialUser(oAuthAttributes, provider); // 메소드명 변경 및 로직 이동
-                isNewSocialUser = true;
-            }
-        }
+        ResolvedUser resolved = resolveUserWithRetry(oAuthAttributes, provider);
+        User user = resolved.user();
+        boolean isNewSocialUser = resolved.isNewSocialUser();
 
         Map<String, Object> customAttributes = new HashMap<>();
         customAttributes.put("id", user.getIdx());
@@ -92,6 +85,50 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         );
     }
 
+    private ResolvedUser resolveUserWithRetry(OAuthAttributes oAuthAttributes, ProviderInfo provider) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> resolveUser(oAuthAttributes, provider));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 같은 식별 코드를 먼저 저장한 경우 등. 실패한 트랜잭션은 롤백되었으므로
+                // 할당기 캐시를 비워 DB 기준으로 다시 읽고 새 트랜잭션에서 재시도
+                // (같은 소셜 계정/이메일이 동시에 등록된 경우라면 재시도 시 기존 사용자로 조회됨)
+                identificationCodeAllocator.invalidate(oAuthAttributes.getName());
+                if (attempt >= MAX_REGISTRATION_ATTEMPTS) {
+                    log.warn("신규 소셜 사용자 저장 실패 (재시도 초과): nickname={}, attempts={}", oAuthAttributes.getName(), attempt);
+                    throw new BusinessLogicException(ErrorCode.USER_REGISTRATION_FAILED,
+                            "소셜 사용자 등록 중 내부 오류 발생 (식별 코드 할당 문제)");
+                }
+                log.warn("신규 소셜 사용자 저장 충돌, 새 식별 코드로 재시도: nickname={}, attempt={}", oAuthAttributes.getName(), attempt);
+            }
+        }
+    }
+
+    private ResolvedUser resolveUser(OAuthAttributes oAuthAttributes, ProviderInfo provider) {
+        // 연동 정보와 사용자를 fetch join으로 한 번에 조회
+        Optional<UserOAuthConnection> userOAuthConnectionOptional = userOAuthConnectionRepository
+                .findWithUserByProviderIdxAndOauth2UserId(provider.idx(), oAuthAttributes.getOauth2UserId());
+
+        if (userOAuthConnectionOptional.isPresent()) {
+            User user = userOAuthConnectionOptional.get().getUser();
+            log.info("기존 소셜 연동 사용자 로그인: userId={}, provider={}, oauth2UserId={}", user.getIdx(), provider.name(), oAuthAttributes.getOauth2UserId());
+            return new ResolvedUser(user, false);
+        }
+
+        // 신규 연동 시에만 엔티티 참조가 필요하며, 조회 없이 프록시로 사용
+        OAuthProvider providerReference = oauthProviderRepository.getReferenceById(provider.idx());
+        Optional<User> userByEmailOptional = oAuthAttributes.getEmail() != null
+                ? userRepository.findByEmail(oAuthAttributes.getEmail())
+                : Optional.empty();
+        if (userByEmailOptional.isPresent()) { // 이메일이 있는 경우에만 기존 사용자 연동 시도
+            User user = userByEmailOptional.get();
+            connectSocialAccount(user, providerReference, oAuthAttributes.getOauth2UserId());
+            log.info("기존 이메일 사용자에게 소셜 계정 연동: userId={}, provider={}, oauth2UserId={}", user.getIdx(), provider.name(), oAuthAttributes.getOauth2UserId());
+            return new ResolvedUser(user, false);
+        }
+        return new ResolvedUser(registerNewSocialUser(oAuthAttributes, providerReference), true);
+    }
+
     private User registerNewSocialUser(OAuthAttributes attributes, OAuthProvider provider) {
         User newUser = User.builder()
                 .nickname(attributes.getName()) // 소셜 프로필 이름으로 초기 닉네임 설정
@@ -100,35 +137,11 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
                 .isOnline(true)
                 .build();
 
-        User savedUser = null;
-        int maxAttempts = 10;
-        for (int i = 0; i < maxAttempts; i++) {
-            String identificationCode = userCodeGenerator.generateRandomFourDigitCode();
-            newUser.setIdentificationCode(identificationCode); // User 엔티티에 setter 필요
+        newUser.setIdentificationCode(identificationCodeAllocator.allocate(attributes.getName()));
 
-            try {
-                savedUser = userRepository.saveAndFlush(newUser);
-                log.info("신규 소셜 사용자 등록 시도: nickname={}, identificationCode={}", attributes.getName(), identificationCode);
-                break;
-            } catch (DataIntegrityViolationException e) {
-                log.warn("DataIntegrityViolationException for social user nickname {} with code {}. Attempt {}/{}. Retrying...",
-                        attributes.getName(), identificationCode, i + 1, maxAttempts);
-                if (i == maxAttempts - 1) {
-                    throw new BusinessLogicException(ErrorCode.USER_REGISTRATION_FAILED,
-                            "소셜 사용자 등록 중 내부 오류 발생 (식별 코드 할당 문제)");
-                }
-                // 예외 발생 시 객체 상태 초기화 (ID가 없는 상태로 만들기 위함)
-                newUser = User.builder()
-                        .nickname(attributes.getName())
-                        .email(attributes.getEmail())
-                        .profileImage(attributes.getPicture())
-                        .isOnline(true)
-                        .build();
-            }
-        }
-        if (savedUser == null) {
-            throw new BusinessLogicException(ErrorCode.USER_REGISTRATION_FAILED, "소셜 사용자 등록에 최종 실패했습니다.");
-        }
+        // 충돌 시 DataIntegrityViolationException은 loadUser의 재시도 루프에서 처리
+        User savedUser = userRepository.saveAndFlush(newUser);
+        log.info("신규 소셜 사용자 등록 시도: nickname={}, identificationCode={}", attributes.getName(), newUser.getIdentificationCode());
 
         connectSocialAccount(savedUser, provider, attributes.getOauth2UserId());
         log.info("신규 소셜 사용자 등록 및 연동 완료: 사용자 ID={}, 소셜 ID={}", savedUser.getIdx(), attributes.getOauth2UserId());
@@ -144,4 +157,7 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         userOAuthConnectionRepository.save(newConnection);
         log.info("소셜 계정 연동 완료: userId={}, providerId={}, oauth2UserId={}", user.getIdx(), provider.getIdx(), oauth2UserId);
     }
+
+    private record ResolvedUser(User user, boolean isNewSocialUser) {
+    }
 }
\ No newline at end of file
@@ -1,53 +1,189 @@
 package com.example.softengineerwebpr.domain.auth.service;
 
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import com.example.softengineerwebpr.common.util.ExpiringCache;
+import com.example.softengineerwebpr.domain.auth.dto.LoginUser;
 import com.example.softengineerwebpr.domain.auth.entity.UserCredential;
+import com.example.softengineerwebpr.domain.auth.event.UserPasswordChangedEvent;
 import com.example.softengineerwebpr.domain.auth.repository.UserCredentialRepository;
-import com.example.softengineerwebpr.domain.user.entity.User; // User 엔티티의 역할(role) 정보를 가져오기 위해 필요할 수 있음
-import lombok.RequiredArgsConstructor;
+import com.example.softengineerwebpr.domain.user.event.UserRegisteredEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+/**
+ * 폼 로그인용 UserDetailsService.
+ * findByLoginId 결과(아이디, 해시된 비밀번호)를 만료 시간이 있는 캐시에 보관하고,
+ * 존재하지 않는 아이디도 짧게 캐시해 없는 아이디로 반복 로그인을 시도해도 매번 DB를 조회하지 않도록 합니다.
+ * 비밀번호 변경(UserPasswordChangedEvent)과 회원가입(UserRegisteredEvent)이 커밋되면 해당 항목을 비웁니다.
+ * 다른 노드에서 바뀐 비밀번호는 user_credential.password_changed_at을 주기적으로(invalidation-poll-interval-ms) 읽어
+ * 비우므로, 이전 비밀번호로 로그인되는 기간은 TTL이 아니라 조회 주기로 제한됩니다.
+ */
+@Slf4j
 @Service("userDetailsService") // Bean 이름 명시 (선택적)
-@RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService, MetricsSource {
+
+    // 존재하지 않는 아이디를 나타내는 캐시 값
+    private static final CachedCredential NOT_FOUND = new CachedCredential(null, null, null);
+    // 커밋 순서가 뒤바뀌거나 노드 간 시계가 조금 어긋난 변경을 놓치지 않도록 직전 조회 시각보다 앞에서부터 다시 읽음
+    private static final long POLL_OVERLAP_SECONDS = 5;
+
+    // TODO: User 엔티티 또는 ProjectMember 등에서 실제 역할(Role) 정보를 가져와 GrantedAuthority 목록 생성
+    // 현재는 임시로 "ROLE_USER" 부여.
+    private static final List<GrantedAuthority> DEFAULT_AUTHORITIES =
+            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
 
     private final UserCredentialRepository userCredentialRepository;
-    // private final UserRepository userRepository; // User의 역할을 가져오려면 필요
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExpiringCache<String, CachedCredential> credentialCache;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final Set<String> adminLoginIds;
+    // 무효화가 일어날 때마다 증가. 조회 도중 무효화가 끼어들면 읽어 온(이전) 값을 캐시하지 않음
+    private final AtomicLong invalidationGeneration = new AtomicLong();
+    private volatile LocalDateTime lastPolledAt = LocalDateTime.now();
+
+    public CustomUserDetailsService(UserCredentialRepository userCredentialRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${app.auth.credential-cache.capacity:10000}") int capacity,
+                                    @Value("${app.auth.credential-cache.ttl-ms:300000}") long ttlMillis,
+                                    @Value("${app.auth.credential-cache.negative-ttl-ms:30000}") long negativeTtlMillis,
+                                    @Value("${app.security.admin-login-ids:}") String adminLoginIds) {
+        this.userCredentialRepository = userCredentialRepository;
+        this.eventPublisher = eventPublisher;
+        this.credentialCache = new ExpiringCache<>(capacity);
+        this.ttlMillis = ttlMillis;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.adminLoginIds = Arrays.stream(adminLoginIds.split(","))
+                .map(String::trim)
+                .filter(loginId -> !loginId.isEmpty())
+                .map(CustomUserDetailsService::normalize)
+                .collect(Collectors.toUnmodifiableSet());
+    }
 
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String loginId) throws UsernameNotFoundException {
-        UserCredential userCredential = userCredentialRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + loginId));
-
-        User user = userCredential.getUser(); // UserCredential을 통해 User 정보 가져오기
-
-        // TODO: User 엔티티 또는 ProjectMember 등에서 실제 역할(Role) 정보를 가져와 GrantedAuthority 목록 생성
-        // 현재는 임시로 "ROLE_USER" 부여.
-        // 예시: List<GrantedAuthority> authorities = user.getRoles().stream()
-        //                                         .map(role -> new SimpleGrantedAuthority(role.getName()))
-        //                                         .collect(Collectors.toList());
-        // 여기서는 User 엔티티에 역할 정보가 직접 없으므로, project_member 등을 통해 가져오거나 기본값 설정
-        List<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
-
-
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(userCredential.getLoginId()) // Spring Security에서 username으로 인식될 값
-                .password(userCredential.getPassword()) // DB에 저장된 암호화된 비밀번호
-                .authorities(authorities) // 역할(권한) 목록
-                // .accountExpired(false)
-                // .accountLocked(false)
-                // .credentialsExpired(false)
-                // .disabled(false)
-                .build();
-    }
-}
\ No newline at end of file
+        String key = normalize(loginId);
+        CachedCredential credential = credentialCache.get(key);
+        if (credential == null) {
+            credential = load(key, loginId);
+        }
+        if (credential == NOT_FOUND) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + loginId);
+        }
+
+        // 인증 후 eraseCredentials()가 UserDetails의 비밀번호를 지우므로, 캐시에는 불변 값만 두고 매번 새로 생성
+        return new LoginUser(credential.userIdx(), credential.loginId(), credential.encodedPassword(),
+                authoritiesFor(credential.loginId()));
+    }
+
+    // 역할(권한) 목록. 토큰 재발급 시에도 같은 기준을 사용
+    public List<GrantedAuthority> authoritiesFor(String loginId) {
+        return adminLoginIds.contains(normalize(loginId)) ? ADMIN_AUTHORITIES : DEFAULT_AUTHORITIES;
+    }
+
+    private CachedCredential load(String key, String loginId) {
+        long generation = invalidationGeneration.get();
+        CachedCredential credential = userCredentialRepository.findByLoginId(loginId)
+                .map(found -> new CachedCredential(
+                        found.getUser() != null ? found.getUser().getIdx() : null, found.getLoginId(), found.getPassword()))
+                .orElse(NOT_FOUND);
+        if (generation == invalidationGeneration.get()) {
+            credentialCache.put(key, credential, credential == NOT_FOUND ? negativeTtlMillis : ttlMillis);
+        }
+        return credential;
+    }
+
+    /**
+     * 로그인 성공 시 저장된 해시의 BCrypt cost가 현재 설정보다 낮으면 Spring Security(DaoAuthenticationProvider)가
+     * 새 cost로 다시 해싱한 비밀번호를 넘겨 호출합니다. (PasswordEncoder.upgradeEncoding 참고)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newEncodedPassword) {
+        UserCredential userCredential = userCredentialRepository.findByLoginId(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + user.getUsername()));
+        userCredential.updatePassword(newEncodedPassword);
+        eventPublisher.publishEvent(new UserPasswordChangedEvent(userCredential.getLoginId()));
+        Long userIdx = user instanceof LoginUser loginUser ? loginUser.getUserIdx() : null;
+        return new LoginUser(userIdx, user.getUsername(), newEncodedPassword, user.getAuthorities());
+    }
+
+    // 커밋 후 무효화해야 커밋 전의 이전 비밀번호가 다시 캐시되지 않음 (트랜잭션 밖에서 발행된 경우 즉시 처리)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPasswordChanged(UserPasswordChangedEvent event) {
+        invalidate(event.loginId());
+    }
+
+    // 가입 전에 캐시된 "없는 아이디" 항목 제거
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        invalidate(event.loginId());
+    }
+
+    // 다른 노드에서 바뀐 비밀번호 반영. 캐시가 비어 있으면 조회하지 않음
+    @Scheduled(fixedDelayString = "${app.auth.credential-cache.invalidation-poll-interval-ms:2000}")
+    public void pollPasswordChanges() {
+        LocalDateTime now = LocalDateTime.now();
+        if (credentialCache.size() > 0) {
+            try {
+                userCredentialRepository.findLoginIdsWithPasswordChangedSince(lastPolledAt.minusSeconds(POLL_OVERLAP_SECONDS))
+                        .forEach(this::invalidate);
+            } catch (RuntimeException e) {
+                // 다음 조회에서 같은 구간부터 다시 읽음
+                log.warn("비밀번호 변경 조회 실패: {}", e.getMessage());
+                return;
+            }
+        }
+        lastPolledAt = now;
+    }
+
+    private void invalidate(String loginId) {
+        invalidationGeneration.incrementAndGet();
+        if (loginId != null) {
+            credentialCache.invalidate(normalize(loginId));
+        }
+    }
+
+    // MySQL 기본 collation은 대소문자를 구분하지 않으므로 캐시 키도 같은 기준으로 맞춤
+    private static String normalize(String loginId) {
+        return loginId.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "credential-cache";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        return credentialCache.getStats();
+    }
+
+    // UserDetails 대신 보관하는 불변 자격 증명 (NOT_FOUND는 모든 필드가 null)
+    // user는 지연 로딩 프록시지만 식별자(getIdx) 조회는 초기화 없이 가능
+    private record CachedCredential(Long userIdx, String loginId, String encodedPassword) {
+    }
+}
@@ -1,26 +1,128 @@
 package com.example.softengineerwebpr.domain.auth.service;
 
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
 import com.example.softengineerwebpr.domain.auth.dto.VerificationCodeEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component; // 또는 Service
 
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 용량 상한이 있는 이메일 인증 코드 저장소.
+ * 유효기간이 모두 같으므로(3분) 저장 순서가 곧 만료 순서이며, 저장할 때마다 만료 큐에 티켓을 넣고
+ * 백그라운드 스위퍼가 큐 앞쪽부터 만료된 코드를 제거합니다.
+ * 큐에 쌓인 티켓 수가 용량을 넘으면 가장 오래된 코드부터 밀어냅니다(eviction).
+ */
+@Slf4j
 @Component // 또는 @Service
-public class InMemoryVerificationCodeStore {
+@ConditionalOnProperty(name = "app.auth.verification-code.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore, MetricsSource {
+    private static final long EXPIRY_MILLIS = TimeUnit.MINUTES.toMillis(3); // 요구사항: 유효기간 3분 [cite: 2163]
+
     // 동시성 문제를 고려하여 ConcurrentHashMap 사용
     private final Map<String, VerificationCodeEntry> codeStore = new ConcurrentHashMap<>();
-    private static final int EXPIRY_MINUTES = 3; // 요구사항: 유효기간 3분 [cite: 2163]
+    // 저장 순서(=만료 순서)대로 쌓이는 티켓. 재발송/삭제로 대체된 티켓은 꺼낼 때 버려짐
+    private final Queue<ExpiryTicket> expiryQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger ticketCount = new AtomicInteger();
+    private final int capacity;
+    private final long expiryMillis;
+
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public InMemoryVerificationCodeStore(@Value("${app.auth.verification-code.capacity:100000}") int capacity) {
+        this(capacity, EXPIRY_MILLIS);
+    }
 
+    // 테스트에서 유효기간을 줄이기 위한 생성자
+    InMemoryVerificationCodeStore(int capacity, long expiryMillis) {
+        this.capacity = capacity;
+        this.expiryMillis = expiryMillis;
+    }
+
+    @Override
     public void storeCode(String email, String code) {
-        codeStore.put(email, new VerificationCodeEntry(code, EXPIRY_MINUTES));
+        VerificationCodeEntry entry = new VerificationCodeEntry(code, System.currentTimeMillis() + expiryMillis);
+        codeStore.put(email, entry);
+        expiryQueue.add(new ExpiryTicket(email, entry));
+        if (ticketCount.incrementAndGet() > capacity) {
+            evictOldest();
+        }
     }
 
+    @Override
     public VerificationCodeEntry getCode(String email) {
         return codeStore.get(email);
     }
 
+    @Override
     public void removeCode(String email) {
         codeStore.remove(email);
     }
-}
\ No newline at end of file
+
+    // 만료 큐 앞쪽부터 만료된 코드 제거 (주기: app.auth.verification-code.sweep-interval-ms)
+    @Scheduled(fixedDelayString = "${app.auth.verification-code.sweep-interval-ms:10000}")
+    public void sweepExpired() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        ExpiryTicket ticket;
+        while ((ticket = expiryQueue.peek()) != null) {
+            boolean current = codeStore.get(ticket.email()) == ticket.entry();
+            if (current && !ticket.entry().isExpiredAt(now)) {
+                break; // 이후 티켓은 모두 더 늦게 만료됨
+            }
+            if (expiryQueue.remove(ticket)) {
+                ticketCount.decrementAndGet();
+                if (current && codeStore.remove(ticket.email(), ticket.entry())) {
+                    expirations.increment();
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            log.debug("만료된 인증 코드 {}건 정리, 남은 코드 {}건", removed, codeStore.size());
+        }
+    }
+
+    private void evictOldest() {
+        while (ticketCount.get() > capacity) {
+            ExpiryTicket ticket = expiryQueue.poll();
+            if (ticket == null) {
+                return;
+            }
+            ticketCount.decrementAndGet();
+            if (codeStore.remove(ticket.email(), ticket.entry())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "verification-code-store";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("size", codeStore.size());
+        metrics.put("capacity", capacity);
+        metrics.put("pendingExpiryTickets", ticketCount.get());
+        metrics.put("evictions", evictions.sum());
+        metrics.put("expirations", expirations.sum());
+        return metrics;
+    }
+
+    private record ExpiryTicket(String email, VerificationCodeEntry entry) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.softengineerwebpr.domain.auth.service;
+
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import com.example.softengineerwebpr.domain.auth.dto.VerificationCodeEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DB 테이블(verification_code)을 공유하는 인증 코드 저장소. 여러 인스턴스 환경에서 사용합니다.
+ * 테이블 정의: resources/db/verification-code-schema.sql
+ * 조회 결과는 짧은 TTL의 로컬 near-cache에 보관해 검증 경로에서 매번 DB를 읽지 않도록 합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.auth.verification-code.store", havingValue = "jdbc")
+public class JdbcVerificationCodeStore implements VerificationCodeStore, MetricsSource {
+    private static final long EXPIRY_MILLIS = TimeUnit.MINUTES.toMillis(3);
+
+    private static final String UPDATE_SQL = "UPDATE verification_code SET code = ?, expires_at = ? WHERE email = ?";
+    private static final String INSERT_SQL = "INSERT INTO verification_code (email, code, expires_at) VALUES (?, ?, ?)";
+    private static final String SELECT_SQL = "SELECT code, expires_at FROM verification_code WHERE email = ? AND expires_at >= ?";
+    private static final String DELETE_SQL = "DELETE FROM verification_code WHERE email = ?";
+    private static final String SELECT_EXPIRED_SQL = "SELECT email FROM verification_code WHERE expires_at < ? ORDER BY expires_at";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM verification_code WHERE email = ? AND expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, NearCacheEntry> nearCache = new ConcurrentHashMap<>();
+    private final long nearCacheTtlMillis;
+    private final int nearCacheCapacity;
+    private final int purgeBatchSize;
+
+    private final LongAdder nearCacheHits = new LongAdder();
+    private final LongAdder databaseReads = new LongAdder();
+    private final LongAdder purgedRows = new LongAdder();
+
+    public JdbcVerificationCodeStore(JdbcTemplate jdbcTemplate,
+                                     @Value("${app.auth.verification-code.near-cache-ttl-ms:5000}") long nearCacheTtlMillis,
+                                     @Value("${app.auth.verification-code.near-cache-capacity:10000}") int nearCacheCapacity,
+                                     @Value("${app.auth.verification-code.purge-batch-size:500}") int purgeBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nearCacheTtlMillis = nearCacheTtlMillis;
+        this.nearCacheCapacity = nearCacheCapacity;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    @Override
+    public void storeCode(String email, String code) {
+        long expiresAt = System.currentTimeMillis() + EXPIRY_MILLIS;
+        // MySQL/H2 공통으로 동작하도록 UPDATE 후 없으면 INSERT (동시 INSERT 충돌 시 다시 UPDATE)
+        if (jdbcTemplate.update(UPDATE_SQL, code, expiresAt, email) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, email, code, expiresAt);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(UPDATE_SQL, code, expiresAt, email);
+            }
+        }
+        cache(email, new VerificationCodeEntry(code, expiresAt));
+    }
+
+    @Override
+    public VerificationCodeEntry getCode(String email) {
+        NearCacheEntry cached = nearCache.get(email);
+        if (cached != null && cached.cachedUntil() >= System.currentTimeMillis() && !cached.entry().isExpired()) {
+            nearCacheHits.increment();
+            return cached.entry();
+        }
+        return reloadCode(email);
+    }
+
+    @Override
+    public VerificationCodeEntry reloadCode(String email) {
+        databaseReads.increment();
+        List<VerificationCodeEntry> rows = jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> new VerificationCodeEntry(rs.getString("code"), rs.getLong("expires_at")),
+                email, System.currentTimeMillis());
+        if (rows.isEmpty()) {
+            nearCache.remove(email);
+            return null;
+        }
+        VerificationCodeEntry entry = rows.get(0);
+        cache(email, entry);
+        return entry;
+    }
+
+    @Override
+    public void removeCode(String email) {
+        nearCache.remove(email);
+        jdbcTemplate.update(DELETE_SQL, email);
+    }
+
+    // 만료된 행을 purgeBatchSize 단위로 나누어 삭제 (한 번에 큰 DELETE로 테이블을 오래 잠그지 않도록)
+    @Scheduled(fixedDelayString = "${app.auth.verification-code.sweep-interval-ms:10000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        nearCache.values().removeIf(cached -> cached.entry().isExpiredAt(now));
+
+        int purged = 0;
+        List<String> expiredEmails;
+        do {
+            expiredEmails = jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(SELECT_EXPIRED_SQL);
+                ps.setLong(1, now);
+                ps.setMaxRows(purgeBatchSize);
+                return ps;
+            }, (rs, rowNum) -> rs.getString("email"));
+            if (!expiredEmails.isEmpty()) {
+                jdbcTemplate.batchUpdate(DELETE_EXPIRED_SQL, expiredEmails, expiredEmails.size(), (ps, email) -> {
+                    ps.setString(1, email);
+                    ps.setLong(2, now);
+                });
+                purged += expiredEmails.size();
+            }
+        } while (expiredEmails.size() >= purgeBatchSize);
+
+        if (purged > 0) {
+            purgedRows.add(purged);
+            log.debug("만료된 인증 코드 {}건 삭제", purged);
+        }
+    }
+
+    private void cache(String email, VerificationCodeEntry entry) {
+        if (nearCache.size() >= nearCacheCapacity) {
+            nearCache.clear(); // 캐시일 뿐이므로 가득 차면 비우고 다시 채움
+        }
+        nearCache.put(email, new NearCacheEntry(entry, System.currentTimeMillis() + nearCacheTtlMillis));
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "verification-code-store";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("nearCacheSize", nearCache.size());
+        metrics.put("nearCacheHits", nearCacheHits.sum());
+        metrics.put("databaseReads", databaseReads.sum());
+        metrics.put("purgedRows", purgedRows.sum());
+        return metrics;
+    }
+
+    private record NearCacheEntry(VerificationCodeEntry entry, long cachedUntil) {
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.softengineerwebpr.domain.auth.service;
+
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import com.example.softengineerwebpr.common.util.LongBloomFilter;
+import com.example.softengineerwebpr.domain.user.event.UserRegisteredEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 아이디 중복 확인(/api/auth/check-login-id)용 메모리 인덱스.
+ * 기동 시 전체 로그인 아이디를 읽어
+ * - Bloom 필터: 없으면 "확실히 사용 가능"을 바로 응답
+ * - 정렬된 64비트 지문 배열: Bloom 필터가 "있을 수도 있음"일 때 이진 탐색으로 확인
+ * 을 만들고, 이후 이 노드의 가입은 커밋 시점에, 다른 인스턴스의 가입은 poll-interval-ms마다
+ * user_credential.created_at이 마지막으로 본 시각 이후인 행을 읽어 recentFingerprints에 반영합니다.
+ * (idx는 노드마다 id_sequences에서 50개씩 미리 받아 쓰므로 커밋 순서와 맞지 않아 기준으로 쓰지 않습니다)
+ * "사용 중"은 바로 응답하고, "사용 가능"은 마지막 동기화가 available-max-age-ms 안에 성공했을 때만 응답하며
+ * 동기화가 밀리면 UNKNOWN을 돌려 DB로 확인하게 합니다.
+ * signUp은 인덱스와 관계없이 항상 DB로 최종 확인합니다.
+ */
+@Slf4j
+@Component
+public class LoginIdIndex implements MetricsSource {
+
+    public enum Answer {
+        TAKEN,     // 사용 중
+        AVAILABLE, // 사용 가능
+        UNKNOWN    // 인덱스로 판단 불가 (DB 확인 필요)
+    }
+
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+    // 커밋 지연과 동시에 커밋된 행을 놓치지 않도록 마지막으로 본 created_at보다 조금 앞에서부터 다시 읽음
+    private static final long POLL_OVERLAP_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long availableMaxAgeMillis;
+
+    private volatile Snapshot snapshot; // 재구성 전에는 null
+    private final Set<Long> recentFingerprints = ConcurrentHashMap.newKeySet();
+    private Timestamp lastSeenCreatedAt = new Timestamp(0); // 재구성/폴링에서 본 가장 늦은 created_at (DB 시계)
+    private volatile long lastSyncedAtMillis; // 마지막으로 성공한 재구성/폴링의 조회 시작 시각
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder bloomNegatives = new LongAdder();
+    private final LongAdder confirmedTaken = new LongAdder();
+    private final LongAdder bloomFalsePositives = new LongAdder();
+    private final LongAdder databaseFallbacks = new LongAdder();
+    private final LongAdder staleAvailable = new LongAdder();
+    private final LongAdder polledLoginIds = new LongAdder();
+    private final LongAdder pollFailures = new LongAdder();
+
+    public LoginIdIndex(JdbcTemplate jdbcTemplate,
+                        @Value("${app.auth.login-id-index.enabled:true}") boolean enabled,
+                        @Value("${app.auth.login-id-index.available-max-age-ms:10000}") long availableMaxAgeMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.availableMaxAgeMillis = availableMaxAgeMillis;
+    }
+
+    public Answer lookup(String loginId) {
+        probes.increment();
+        Snapshot current = snapshot;
+        if (!enabled || current == null) {
+            databaseFallbacks.increment();
+            return Answer.UNKNOWN;
+        }
+        long fingerprint = LongBloomFilter.fingerprint(normalize(loginId));
+        if (recentFingerprints.contains(fingerprint)) {
+            confirmedTaken.increment();
+            return Answer.TAKEN;
+        }
+        if (!current.bloomFilter().mightContain(fingerprint)) {
+            bloomNegatives.increment();
+            return available();
+        }
+        if (Arrays.binarySearch(current.sortedFingerprints(), fingerprint) >= 0) {
+            confirmedTaken.increment();
+            return Answer.TAKEN;
+        }
+        bloomFalsePositives.increment();
+        return available();
+    }
+
+    // 마지막 동기화 이후 다른 인스턴스에서 가입했을 수 있으므로, 동기화가 밀려 있으면 DB 확인으로 넘김
+    private Answer available() {
+        if (System.currentTimeMillis() - lastSyncedAtMillis < availableMaxAgeMillis) {
+            return Answer.AVAILABLE;
+        }
+        staleAvailable.increment();
+        databaseFallbacks.increment();
+        return Answer.UNKNOWN;
+    }
+
+    // 커밋된 가입만 반영 (롤백된 가입의 아이디가 "사용 중"으로 남지 않도록)
+    @TransactionalEventListener
+    public void onUserRegistered(UserRegisteredEvent event) {
+        if (event.loginId() != null) {
+            recentFingerprints.add(LongBloomFilter.fingerprint(normalize(event.loginId())));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    // 다른 인스턴스에서 새로 가입한 아이디를 recentFingerprints에 반영
+    @Scheduled(initialDelayString = "${app.auth.login-id-index.poll-interval-ms:2000}",
+            fixedDelayString = "${app.auth.login-id-index.poll-interval-ms:2000}")
+    public synchronized void poll() {
+        if (!enabled || snapshot == null) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Timestamp since = new Timestamp(lastSeenCreatedAt.getTime() - POLL_OVERLAP_MILLIS);
+        try {
+            jdbcTemplate.query("SELECT id, created_at FROM user_credential WHERE created_at >= ?", rs -> {
+                if (recentFingerprints.add(LongBloomFilter.fingerprint(normalize(rs.getString(1))))) {
+                    polledLoginIds.increment();
+                }
+                advanceLastSeen(rs.getTimestamp(2));
+            }, since);
+        } catch (RuntimeException e) {
+            // 동기화가 밀린 동안에는 available()이 DB 확인으로 넘김
+            pollFailures.increment();
+            log.warn("로그인 아이디 인덱스 폴링 실패: {}", e.getMessage());
+            return;
+        }
+        lastSyncedAtMillis = start;
+    }
+
+    // recentFingerprints를 정리하고 Bloom 필터를 다시 크기에 맞추기 위한 주기적 재구성
+    @Scheduled(initialDelayString = "${app.auth.login-id-index.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${app.auth.login-id-index.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        FingerprintBuffer buffer = new FingerprintBuffer();
+        try {
+            jdbcTemplate.query("SELECT id, created_at FROM user_credential", rs -> {
+                buffer.add(LongBloomFilter.fingerprint(normalize(rs.getString(1))));
+                advanceLastSeen(rs.getTimestamp(2));
+            });
+        } catch (RuntimeException e) {
+            log.error("로그인 아이디 인덱스 재구성 실패 (기존 인덱스 유지): {}", e.getMessage());
+            return;
+        }
+        long[] fingerprints = buffer.toSortedArray();
+        LongBloomFilter bloomFilter = LongBloomFilter.create(Math.max(1024, fingerprints.length * 2L), BLOOM_FALSE_POSITIVE_RATE);
+        for (long fingerprint : fingerprints) {
+            bloomFilter.put(fingerprint);
+        }
+        Snapshot rebuilt = new Snapshot(bloomFilter, fingerprints, LocalDateTime.now());
+        snapshot = rebuilt;
+        lastSyncedAtMillis = start;
+        // 새 스냅샷에 포함된 최근 가입 아이디는 정리
+        recentFingerprints.removeIf(fingerprint -> Arrays.binarySearch(rebuilt.sortedFingerprints(), fingerprint) >= 0);
+        log.info("로그인 아이디 인덱스 재구성 완료: {}건, {}ms", fingerprints.length, System.currentTimeMillis() - start);
+    }
+
+    private void advanceLastSeen(Timestamp createdAt) {
+        if (createdAt != null && createdAt.after(lastSeenCreatedAt)) {
+            lastSeenCreatedAt = createdAt;
+        }
+    }
+
+    // MySQL 기본 collation은 대소문자를 구분하지 않으므로 같은 기준으로 비교
+    private static String normalize(String loginId) {
+        return loginId.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "login-id-index";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        Snapshot current = snapshot;
+        long totalProbes = probes.sum();
+        long fallbacks = databaseFallbacks.sum();
+        metrics.put("probes", totalProbes);
+        metrics.put("bloomNegatives", bloomNegatives.sum());
+        metrics.put("confirmedTaken", confirmedTaken.sum());
+        metrics.put("bloomFalsePositives", bloomFalsePositives.sum());
+        metrics.put("databaseFallbacks", fallbacks);
+        metrics.put("staleAvailable", staleAvailable.sum());
+        metrics.put("polledLoginIds", polledLoginIds.sum());
+        metrics.put("pollFailures", pollFailures.sum());
+        metrics.put("hitRate", totalProbes == 0 ? 0.0 : (double) (totalProbes - fallbacks) / totalProbes);
+        if (current != null) {
+            int indexed = current.sortedFingerprints().length;
+            long bytes = current.bloomFilter().sizeInBytes() + (long) indexed * Long.BYTES;
+            metrics.put("indexedLoginIds", indexed);
+            metrics.put("recentLoginIds", recentFingerprints.size());
+            metrics.put("bloomFilterBytes", current.bloomFilter().sizeInBytes());
+            metrics.put("fingerprintBytes", (long) indexed * Long.BYTES);
+            metrics.put("bytesPerMillionUsers", indexed == 0 ? 0 : bytes * 1_000_000L / indexed);
+            metrics.put("builtAt", current.builtAt().toString());
+            metrics.put("syncLagMillis", System.currentTimeMillis() - lastSyncedAtMillis);
+        }
+        return metrics;
+    }
+
+    private record Snapshot(LongBloomFilter bloomFilter, long[] sortedFingerprints, LocalDateTime builtAt) {
+    }
+
+    // long 값을 박싱 없이 모으는 버퍼
+    private static class FingerprintBuffer {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toSortedArray() {
+            long[] result = Arrays.copyOf(values, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+}
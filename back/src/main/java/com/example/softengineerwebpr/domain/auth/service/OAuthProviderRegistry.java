@@ -0,0 +1,62 @@
+package com.example.softengineerwebpr.domain.auth.service;
+
+import com.example.softengineerwebpr.domain.auth.entity.OAuthProvider;
+import com.example.softengineerwebpr.domain.auth.repository.OAuthProviderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * oauth2_providers 테이블을 메모리에 올려 둔 조회용 레지스트리.
+ * 소셜 로그인마다 findByName을 실행하지 않도록 기동 시 한 번 읽고, 활성화 여부 변경 등을 반영하기 위해 주기적으로 다시 읽습니다.
+ * 등록되지 않은 이름이 조회되면(새 제공자 추가 직후 등) 한 번 즉시 다시 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OAuthProviderRegistry {
+
+    private final OAuthProviderRepository oauthProviderRepository;
+
+    private volatile Map<String, ProviderInfo> providers = Map.of();
+
+    /**
+     * @param registrationId Spring Security 클라이언트 등록 ID (예: "kakao", "naver")
+     */
+    public Optional<ProviderInfo> find(String registrationId) {
+        String key = registrationId.toUpperCase(Locale.ROOT);
+        ProviderInfo provider = providers.get(key);
+        if (provider == null) {
+            refresh();
+            provider = providers.get(key);
+        }
+        return Optional.ofNullable(provider);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.oauth2.provider-registry.refresh-interval-ms:300000}",
+            fixedDelayString = "${app.oauth2.provider-registry.refresh-interval-ms:300000}")
+    public void refresh() {
+        Map<String, ProviderInfo> loaded = new HashMap<>();
+        for (OAuthProvider provider : oauthProviderRepository.findAll()) {
+            loaded.put(provider.getName().toUpperCase(Locale.ROOT),
+                    new ProviderInfo(provider.getIdx(), provider.getName(), provider.isActivation()));
+        }
+        providers = Map.copyOf(loaded);
+        log.debug("OAuth 제공자 목록 갱신: {}", loaded.keySet());
+    }
+
+    /**
+     * 엔티티 대신 보관하는 제공자 정보. 연관관계 설정에는 OAuthProviderRepository.getReferenceById(idx)를 사용합니다.
+     */
+    public record ProviderInfo(Long idx, String name, boolean activation) {
+    }
+}
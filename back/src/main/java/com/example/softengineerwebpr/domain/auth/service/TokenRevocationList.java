@@ -0,0 +1,122 @@
+package com.example.softengineerwebpr.domain.auth.service;
+
+import com.example.softengineerwebpr.common.util.LongExpiryTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 폐기 목록.
+ * 검증 경로에서는 메모리의 LongExpiryTable 두 개(토큰 ID/family, 사용자별 기준 시각)만 조회하고,
+ * 폐기 기록은 auth_token_revocation 테이블을 통해 다른 노드에 전달합니다. (주기적으로 새 기록을 읽어 반영)
+ * 액세스 토큰 수명이 지나면 항목이 필요 없으므로 표 크기는 "수명 동안 폐기된 토큰 수"로 제한됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.security.auth-mode", havingValue = "token")
+public class TokenRevocationList {
+
+    private static final String INSERT_SQL = "INSERT INTO auth_token_revocation " +
+            "(kind, token_key, not_before, expires_at, created_at) VALUES (?, ?, ?, ?, ?)";
+    // 커밋 순서가 뒤바뀐 기록을 놓치지 않도록 직전 조회 시각보다 조금 앞에서부터 다시 읽음 (반영은 멱등)
+    private static final String SELECT_SINCE_SQL = "SELECT kind, token_key, not_before, expires_at " +
+            "FROM auth_token_revocation WHERE created_at >= ? AND expires_at > ?";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM auth_token_revocation WHERE expires_at < ?";
+    private static final long POLL_OVERLAP_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private static final String KIND_TOKEN = "I";
+    private static final String KIND_SUBJECT = "S";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LongExpiryTable revokedTokens = new LongExpiryTable();
+    private final LongExpiryTable revokedSubjects = new LongExpiryTable();
+    private volatile long lastPolledAt;
+
+    public TokenRevocationList(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 토큰 ID(jti) 또는 토큰 family를 만료 시각까지 폐기합니다.
+     */
+    public void revokeToken(long tokenKey, long expiresAtMillis) {
+        revokedTokens.put(tokenKey, 0, expiresAtMillis);
+        jdbcTemplate.update(INSERT_SQL, KIND_TOKEN, tokenKey, 0, expiresAtMillis, System.currentTimeMillis());
+    }
+
+    /**
+     * subject에게 notBeforeMillis 이전(같은 밀리초 포함)에 발급된 토큰을 모두 폐기합니다. (비밀번호 변경 등)
+     * 밀리초 단위로 비교하므로 폐기 직후 같은 초 안에 새로 발급된 토큰은 유효합니다.
+     */
+    public void revokeSubject(String subject, long notBeforeMillis, long expiresAtMillis) {
+        long key = subjectKey(subject);
+        revokedSubjects.put(key, notBeforeMillis, expiresAtMillis);
+        jdbcTemplate.update(INSERT_SQL, KIND_SUBJECT, key, notBeforeMillis, expiresAtMillis, System.currentTimeMillis());
+    }
+
+    public boolean isRevoked(long tokenId, long familyId, String subject, long issuedAtMillis) {
+        if (revokedTokens.size() > 0 && (revokedTokens.contains(tokenId) || revokedTokens.contains(familyId))) {
+            return true;
+        }
+        return revokedSubjects.size() > 0 && issuedAtMillis <= revokedSubjects.get(subjectKey(subject), -1);
+    }
+
+    // 기동 시 아직 유효한 폐기 기록을 모두 읽고, 이후에는 새 기록만 읽음
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        lastPolledAt = 0;
+        poll();
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.token.revocation-poll-interval-ms:2000}")
+    public void poll() {
+        long now = System.currentTimeMillis();
+        long since = lastPolledAt == 0 ? 0 : lastPolledAt - POLL_OVERLAP_MILLIS;
+        jdbcTemplate.query(SELECT_SINCE_SQL, rs -> {
+            long key = rs.getLong("token_key");
+            long expiresAt = rs.getLong("expires_at");
+            if (KIND_SUBJECT.equals(rs.getString("kind"))) {
+                revokedSubjects.put(key, rs.getLong("not_before"), expiresAt);
+            } else {
+                revokedTokens.put(key, 0, expiresAt);
+            }
+        }, since, now);
+        lastPolledAt = now;
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.token.revocation-purge-interval-ms:600000}")
+    public void purgeExpired() {
+        revokedTokens.purgeExpired();
+        revokedSubjects.purgeExpired();
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, System.currentTimeMillis());
+        if (deleted > 0) {
+            log.debug("만료된 토큰 폐기 기록 {}건 삭제", deleted);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("revokedTokens", revokedTokens.size());
+        stats.put("revokedSubjects", revokedSubjects.size());
+        return stats;
+    }
+
+    // subject 문자열의 64비트 FNV-1a 해시
+    static long subjectKey(String subject) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : subject.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
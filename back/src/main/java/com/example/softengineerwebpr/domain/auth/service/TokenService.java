@@ -0,0 +1,311 @@
+package com.example.softengineerwebpr.domain.auth.service;
+
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import com.example.softengineerwebpr.common.util.ExpiringCache;
+import com.example.softengineerwebpr.common.util.SecurityUtils;
+import com.example.softengineerwebpr.domain.auth.dto.LoginUser;
+import com.example.softengineerwebpr.domain.auth.dto.TokenResponseDto;
+import com.example.softengineerwebpr.domain.auth.event.UserPasswordChangedEvent;
+import com.example.softengineerwebpr.domain.auth.repository.RefreshTokenRepository;
+import com.example.softengineerwebpr.domain.auth.repository.RefreshTokenRepository.RefreshTokenRecord;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.text.ParseException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 토큰 인증 모드(app.security.auth-mode=token)의 토큰 발급/검증.
+ * - 액세스 토큰: HS256 서명 JWT (sub, uid, auth, fam, jti, iat, iatms, exp). 서명 키와 Signer/Verifier는 기동 시 한 번 생성
+ *   (iat는 초 단위이므로 사용자 단위 폐기 비교에는 밀리초 발급 시각 iatms를 씀)
+ * - 검증 결과(Authentication)는 토큰 문자열을 키로 짧게 캐시해 같은 토큰의 반복 요청은 파싱/서명 검증을 생략
+ *   (폐기 여부는 캐시와 관계없이 매 요청 TokenRevocationList로 확인)
+ * - 리프레시 토큰: 임의 값, 재발급 때마다 새 값으로 교체(rotation). 사용한 토큰이 다시 오면 탈취로 보고 family 전체 폐기
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.security.auth-mode", havingValue = "token")
+public class TokenService implements MetricsSource {
+
+    private static final String CLAIM_USER_IDX = "uid";
+    private static final String CLAIM_AUTHORITIES = "auth";
+    private static final String CLAIM_FAMILY = "fam";
+    private static final String CLAIM_ISSUED_AT_MILLIS = "iatms";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+    private final SecretKey signingKey;
+    private final JWSSigner signer;
+    private final JWSVerifier verifier;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationList revocationList;
+    private final ExpiringCache<String, Authentication> verifiedTokens;
+    private final long accessTtlMillis;
+    private final long refreshTtlMillis;
+    private final long claimsCacheTtlMillis;
+
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder refreshReuseDetected = new LongAdder();
+
+    public TokenService(RefreshTokenRepository refreshTokenRepository,
+                        TokenRevocationList revocationList,
+                        @Value("${app.security.token.secret:}") String secret,
+                        @Value("${app.security.token.access-ttl-ms:900000}") long accessTtlMillis,
+                        @Value("${app.security.token.refresh-ttl-ms:1209600000}") long refreshTtlMillis,
+                        @Value("${app.security.token.claims-cache-capacity:10000}") int claimsCacheCapacity,
+                        @Value("${app.security.token.claims-cache-ttl-ms:60000}") long claimsCacheTtlMillis) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revocationList = revocationList;
+        this.signingKey = new SecretKeySpec(resolveSecret(secret), "HmacSHA256");
+        try {
+            this.signer = new MACSigner(signingKey);
+            this.verifier = new MACVerifier(signingKey);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("토큰 서명 키를 초기화할 수 없습니다.", e);
+        }
+        this.verifiedTokens = new ExpiringCache<>(claimsCacheCapacity);
+        this.accessTtlMillis = accessTtlMillis;
+        this.refreshTtlMillis = refreshTtlMillis;
+        this.claimsCacheTtlMillis = claimsCacheTtlMillis;
+    }
+
+    private byte[] resolveSecret(String secret) {
+        if (secret == null || secret.isBlank()) {
+            log.warn("app.security.token.secret이 비어 있어 임의의 서명 키를 생성합니다. 재시작하거나 노드가 여러 대이면 기존 토큰이 무효가 됩니다.");
+            byte[] generated = new byte[MIN_SECRET_BYTES];
+            random.nextBytes(generated);
+            return generated;
+        }
+        byte[] decoded = Base64.getDecoder().decode(secret.trim());
+        if (decoded.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.security.token.secret은 Base64로 인코딩된 " + MIN_SECRET_BYTES + "바이트 이상이어야 합니다.");
+        }
+        return decoded;
+    }
+
+    // 다른 서명 용도(OAuth2 인가 요청 쿠키 등)에서 같은 키를 사용
+    public SecretKey signingKey() {
+        return signingKey;
+    }
+
+    /**
+     * 로그인에 성공한 인증 정보로 새 토큰 family를 시작합니다. (폼 로그인, 소셜 로그인 성공 핸들러)
+     */
+    public TokenResponseDto issue(Authentication authentication) {
+        List<String> authorities = AuthorityUtils.authorityListToSet(authentication.getAuthorities()).stream().sorted().toList();
+        return issuePair(authentication.getName(), SecurityUtils.userIdxOf(authentication), authorities, random.nextLong());
+    }
+
+    /**
+     * 리프레시 토큰으로 새 토큰 쌍을 발급합니다. 제시한 리프레시 토큰은 더 이상 쓸 수 없습니다.
+     */
+    public TokenResponseDto refresh(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        long now = System.currentTimeMillis();
+        if (!refreshTokenRepository.markUsed(tokenHash, now)) {
+            refreshTokenRepository.findByHash(tokenHash)
+                    .filter(RefreshTokenRecord::used)
+                    .ifPresent(this::revokeReusedFamily);
+            throw new BusinessLogicException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        RefreshTokenRecord record = refreshTokenRepository.findByHash(tokenHash)
+                .orElseThrow(() -> new BusinessLogicException(ErrorCode.INVALID_REFRESH_TOKEN));
+        List<String> authorities = List.of(record.authorities().split(","));
+        return issuePair(record.subject(), record.userIdx(), authorities, record.familyId());
+    }
+
+    private void revokeReusedFamily(RefreshTokenRecord record) {
+        refreshReuseDetected.increment();
+        log.warn("이미 사용된 리프레시 토큰 재사용 감지: subject={}, family={} - 해당 family의 토큰을 모두 폐기합니다.",
+                record.subject(), record.familyId());
+        revocationList.revokeToken(record.familyId(), System.currentTimeMillis() + accessTtlMillis);
+        refreshTokenRepository.deleteFamily(record.familyId());
+    }
+
+    /**
+     * Bearer 토큰을 검증하고 인증 정보를 반환합니다.
+     *
+     * @throws BusinessLogicException INVALID_TOKEN (서명 불일치, 만료, 폐기)
+     */
+    public Authentication authenticate(String accessToken) {
+        Authentication authentication = verifiedTokens.get(accessToken);
+        if (authentication == null) {
+            authentication = verify(accessToken);
+        }
+        TokenDetails details = (TokenDetails) authentication.getDetails();
+        if (details.expiresAtMillis() < System.currentTimeMillis()
+                || revocationList.isRevoked(details.tokenId(), details.familyId(), authentication.getName(), details.issuedAtMillis())) {
+            rejected.increment();
+            throw new BusinessLogicException(ErrorCode.INVALID_TOKEN);
+        }
+        return authentication;
+    }
+
+    /**
+     * 로그아웃: 현재 액세스 토큰과 같은 family의 리프레시 토큰을 모두 폐기합니다.
+     */
+    public void logout(Authentication authentication) {
+        if (authentication != null && authentication.getDetails() instanceof TokenDetails details) {
+            revocationList.revokeToken(details.familyId(), details.expiresAtMillis());
+            refreshTokenRepository.deleteFamily(details.familyId());
+        }
+    }
+
+    // 비밀번호가 바뀌면 그 전에 발급된 액세스/리프레시 토큰을 모두 폐기
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPasswordChanged(UserPasswordChangedEvent event) {
+        long now = System.currentTimeMillis();
+        revocationList.revokeSubject(event.loginId(), now, now + accessTtlMillis);
+        refreshTokenRepository.deleteBySubject(event.loginId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.token.refresh-purge-interval-ms:3600000}")
+    public void purgeExpiredRefreshTokens() {
+        refreshTokenRepository.deleteExpired(System.currentTimeMillis());
+    }
+
+    private TokenResponseDto issuePair(String subject, Long userIdx, List<String> authorities, long familyId) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + accessTtlMillis;
+        JWTClaimsSet.Builder claims = new JWTClaimsSet.Builder()
+                .subject(subject)
+                .jwtID(Long.toString(random.nextLong()))
+                .issueTime(new Date(now))
+                .expirationTime(new Date(expiresAt))
+                .claim(CLAIM_AUTHORITIES, authorities)
+                .claim(CLAIM_FAMILY, familyId)
+                .claim(CLAIM_ISSUED_AT_MILLIS, now);
+        if (userIdx != null) {
+            claims.claim(CLAIM_USER_IDX, userIdx);
+        }
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims.build());
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("액세스 토큰 서명에 실패했습니다.", e);
+        }
+
+        byte[] refreshBytes = new byte[32];
+        random.nextBytes(refreshBytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(refreshBytes);
+        refreshTokenRepository.save(hash(refreshToken), new RefreshTokenRecord(
+                familyId, subject, userIdx, String.join(",", authorities), false, now + refreshTtlMillis));
+
+        return new TokenResponseDto(jwt.serialize(), refreshToken, TimeUnit.MILLISECONDS.toSeconds(accessTtlMillis));
+    }
+
+    private Authentication verify(String accessToken) {
+        verifications.increment();
+        JWTClaimsSet claims;
+        try {
+            SignedJWT jwt = SignedJWT.parse(accessToken);
+            if (!JWSAlgorithm.HS256.equals(jwt.getHeader().getAlgorithm()) || !jwt.verify(verifier)) {
+                throw new BusinessLogicException(ErrorCode.INVALID_TOKEN);
+            }
+            claims = jwt.getJWTClaimsSet();
+        } catch (ParseException | JOSEException e) {
+            rejected.increment();
+            throw new BusinessLogicException(ErrorCode.INVALID_TOKEN);
+        } catch (BusinessLogicException e) {
+            rejected.increment();
+            throw e;
+        }
+
+        Date expiration = claims.getExpirationTime();
+        Date issuedAt = claims.getIssueTime();
+        if (expiration == null || issuedAt == null || claims.getSubject() == null || claims.getJWTID() == null) {
+            rejected.increment();
+            throw new BusinessLogicException(ErrorCode.INVALID_TOKEN);
+        }
+        try {
+            Object userIdxClaim = claims.getClaim(CLAIM_USER_IDX);
+            Long userIdx = userIdxClaim instanceof Number number ? number.longValue() : null;
+            List<String> authorityNames = claims.getStringListClaim(CLAIM_AUTHORITIES);
+            List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList(
+                    authorityNames != null ? authorityNames : List.of());
+            // iatms가 없는 토큰(이전 버전에서 발급)은 초 단위 iat로 대신함
+            Object issuedAtMillisClaim = claims.getClaim(CLAIM_ISSUED_AT_MILLIS);
+            long issuedAtMillis = issuedAtMillisClaim instanceof Number number ? number.longValue() : issuedAt.getTime();
+            LoginUser principal = new LoginUser(userIdx, claims.getSubject(), "", authorities);
+            UsernamePasswordAuthenticationToken authentication =
+                    UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities);
+            authentication.setDetails(new TokenDetails(
+                    Long.parseLong(claims.getJWTID()),
+                    claims.getLongClaim(CLAIM_FAMILY),
+                    issuedAtMillis,
+                    expiration.getTime()));
+            long cacheTtl = Math.min(claimsCacheTtlMillis, expiration.getTime() - System.currentTimeMillis());
+            if (cacheTtl > 0) {
+                verifiedTokens.put(accessToken, authentication, cacheTtl);
+            }
+            return authentication;
+        } catch (ParseException | NumberFormatException | NullPointerException e) {
+            rejected.increment();
+            throw new BusinessLogicException(ErrorCode.INVALID_TOKEN);
+        }
+    }
+
+    static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "access-token";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("signatureVerifications", verifications.sum());
+        metrics.put("rejected", rejected.sum());
+        metrics.put("refreshReuseDetected", refreshReuseDetected.sum());
+        metrics.put("claimsCache", verifiedTokens.getStats());
+        metrics.put("revocationList", revocationList.getStats());
+        return metrics;
+    }
+
+    /**
+     * 검증된 토큰의 식별 정보 (Authentication.getDetails)
+     */
+    public record TokenDetails(long tokenId, long familyId, long issuedAtMillis, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.softengineerwebpr.domain.auth.service;
+
+import com.example.softengineerwebpr.domain.auth.dto.VerificationCodeEntry;
+
+/**
+ * 이메일 인증 코드 저장소.
+ * app.auth.verification-code.store 값으로 구현체를 선택합니다.
+ * - memory (기본값): InMemoryVerificationCodeStore, 단일 인스턴스용
+ * - jdbc: JdbcVerificationCodeStore, 여러 인스턴스가 DB 테이블을 공유
+ */
+public interface VerificationCodeStore {
+
+    void storeCode(String email, String code);
+
+    VerificationCodeEntry getCode(String email);
+
+    void removeCode(String email);
+
+    /**
+     * 로컬 캐시를 거치지 않고 원본 저장소에서 코드를 다시 읽습니다.
+     * 다른 인스턴스에서 코드가 재발송되었을 수 있을 때(코드 불일치 등) 사용합니다.
+     */
+    default VerificationCodeEntry reloadCode(String email) {
+        return getCode(email);
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.softengineerwebpr.domain.project.controller;
+
+import com.example.softengineerwebpr.common.dto.ApiResponse;
+import com.example.softengineerwebpr.common.dto.KeysetPage;
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.util.SecurityUtils;
+import com.example.softengineerwebpr.domain.project.dto.ProjectBoardDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectCreateRequestDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectInviteRequestDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectInviteResultDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectMemberDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectSummaryDto;
+import com.example.softengineerwebpr.domain.project.dto.TaskCardDto;
+import com.example.softengineerwebpr.domain.project.dto.TaskCreateRequestDto;
+import com.example.softengineerwebpr.domain.project.dto.TaskMoveRequestDto;
+import com.example.softengineerwebpr.domain.project.dto.TaskStatusUpdateRequestDto;
+import com.example.softengineerwebpr.domain.project.entity.TaskStatus;
+import com.example.softengineerwebpr.domain.project.service.BoardTopicRegistry;
+import com.example.softengineerwebpr.domain.project.service.ProjectInvitationService;
+import com.example.softengineerwebpr.domain.project.service.ProjectService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 프로젝트/칸반 보드 API. 목록은 키셋 페이지이며 응답의 nextCursor를 cursor 파라미터로 넘기면 다음 페이지를 받습니다.
+ */
+@RestController
+@RequestMapping("/api/projects")
+@RequiredArgsConstructor
+public class ProjectController {
+
+    private final ProjectService projectService;
+    private final BoardTopicRegistry boardTopicRegistry;
+    private final ProjectInvitationService projectInvitationService;
+
+    @Value("${app.project.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${app.project.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${app.project.board.column-size:50}")
+    private int boardColumnSize;
+
+    // 프로젝트 생성 API (생성자는 OWNER로 참여)
+    @PostMapping
+    public ResponseEntity<ApiResponse<Long>> createProject(@Valid @RequestBody ProjectCreateRequestDto requestDto) {
+        Long projectIdx = projectService.createProject(currentUserIdx(), requestDto);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(HttpStatus.CREATED.value(), "프로젝트가 생성되었습니다.", projectIdx));
+    }
+
+    // 참여 프로젝트 목록 API (최근에 만든 프로젝트부터)
+    @GetMapping
+    public ResponseEntity<ApiResponse<KeysetPage<ProjectSummaryDto>>> joinedProjects(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "참여 프로젝트 목록입니다.",
+                projectService.getJoinedProjects(currentUserIdx(), cursor, pageSize(size))));
+    }
+
+    // 칸반 보드 API (열별 첫 페이지 + 열별 업무 수)
+    @GetMapping("/{projectIdx}/board")
+    public ResponseEntity<ApiResponse<ProjectBoardDto>> board(@PathVariable Long projectIdx,
+                                                              @RequestParam(required = false) Integer columnSize) {
+        int size = columnSize != null ? pageSize(columnSize) : boardColumnSize;
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "프로젝트 보드입니다.",
+                projectService.getBoard(currentUserIdx(), projectIdx, size)));
+    }
+
+    // 보드 실시간 변경 스트림 (Server-Sent Events, 참여자만)
+    // 연결 직후 "ready" 이벤트 → 보드를 읽고, 이후 "board" 이벤트(BoardFrameDto)로 다른 사용자의 카드 생성/이동을 받음
+    // type이 REBALANCED인 변경은 그 status 열의 순위 키가 모두 바뀐 것이므로 열을 다시 읽어야 함
+    @GetMapping(value = "/{projectIdx}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter boardStream(@PathVariable Long projectIdx) {
+        Long userIdx = currentUserIdx();
+        projectService.getMyRole(userIdx, projectIdx);
+        return boardTopicRegistry.subscribe(projectIdx, userIdx);
+    }
+
+    // 보드 열의 다음 페이지 API (예: /api/projects/1/tasks?status=TODO&cursor=i4.120)
+    @GetMapping("/{projectIdx}/tasks")
+    public ResponseEntity<ApiResponse<KeysetPage<TaskCardDto>>> tasks(@PathVariable Long projectIdx,
+                                                                      @RequestParam TaskStatus status,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "업무 목록입니다.",
+                projectService.getTasks(currentUserIdx(), projectIdx, status, cursor, pageSize(size))));
+    }
+
+    // 업무 생성 API
+    @PostMapping("/{projectIdx}/tasks")
+    public ResponseEntity<ApiResponse<Long>> createTask(@PathVariable Long projectIdx,
+                                                        @Valid @RequestBody TaskCreateRequestDto requestDto) {
+        Long taskIdx = projectService.createTask(currentUserIdx(), projectIdx, requestDto);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(HttpStatus.CREATED.value(), "업무가 생성되었습니다.", taskIdx));
+    }
+
+    // 업무 상태(보드 열) 변경 API (옮긴 열의 맨 아래로)
+    @PatchMapping("/{projectIdx}/tasks/{taskIdx}/status")
+    public ResponseEntity<ApiResponse<Void>> changeTaskStatus(@PathVariable Long projectIdx,
+                                                              @PathVariable Long taskIdx,
+                                                              @Valid @RequestBody TaskStatusUpdateRequestDto requestDto) {
+        projectService.changeTaskStatus(currentUserIdx(), projectIdx, taskIdx, requestDto.getStatus());
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "업무 상태가 변경되었습니다."));
+    }
+
+    // 카드 끌어 놓기 API (열 안 순서 변경 / 다른 열의 원하는 위치로 이동)
+    @PatchMapping("/{projectIdx}/tasks/{taskIdx}/position")
+    public ResponseEntity<ApiResponse<Void>> moveTask(@PathVariable Long projectIdx,
+                                                      @PathVariable Long taskIdx,
+                                                      @Valid @RequestBody TaskMoveRequestDto requestDto) {
+        projectService.moveTask(currentUserIdx(), projectIdx, taskIdx, requestDto.getStatus(), requestDto.getAfterTaskIdx());
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "업무를 옮겼습니다."));
+    }
+
+    // 참여자 목록 API
+    @GetMapping("/{projectIdx}/members")
+    public ResponseEntity<ApiResponse<KeysetPage<ProjectMemberDto>>> members(@PathVariable Long projectIdx,
+                                                                             @RequestParam(required = false) String cursor,
+                                                                             @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "참여자 목록입니다.",
+                projectService.getMembers(currentUserIdx(), projectIdx, cursor, pageSize(size))));
+    }
+
+    // 사용자 일괄 초대 API (OWNER만, 이미 참여/초대 중인 사용자는 건너뜀)
+    @PostMapping("/{projectIdx}/invitations")
+    public ResponseEntity<ApiResponse<ProjectInviteResultDto>> invite(@PathVariable Long projectIdx,
+                                                                      @Valid @RequestBody ProjectInviteRequestDto requestDto) {
+        ProjectInviteResultDto result = projectInvitationService.invite(currentUserIdx(), projectIdx, requestDto.getUserIdxs());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(HttpStatus.CREATED.value(), "사용자를 초대했습니다.", result));
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1 || size > maxPageSize) {
+            throw new BusinessLogicException(ErrorCode.INVALID_INPUT_VALUE,
+                    "페이지 크기는 1 이상 " + maxPageSize + " 이하입니다.");
+        }
+        return size;
+    }
+
+    private static Long currentUserIdx() {
+        Long userIdx = SecurityUtils.currentUserIdx();
+        if (userIdx == null) {
+            throw new BusinessLogicException(ErrorCode.AUTHENTICATION_REQUIRED);
+        }
+        return userIdx;
+    }
+}
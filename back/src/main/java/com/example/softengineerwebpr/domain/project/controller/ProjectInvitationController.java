@@ -0,0 +1,83 @@
+package com.example.softengineerwebpr.domain.project.controller;
+
+import com.example.softengineerwebpr.common.dto.ApiResponse;
+import com.example.softengineerwebpr.common.dto.KeysetPage;
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.util.SecurityUtils;
+import com.example.softengineerwebpr.domain.project.dto.ProjectInvitationDto;
+import com.example.softengineerwebpr.domain.project.service.ProjectInvitationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 받은 프로젝트 초대 API ("초대 요청 프로젝트" 목록, 헤더의 대기 건수, 수락/삭제).
+ * 초대 보내기는 POST /api/projects/{projectIdx}/invitations 입니다.
+ */
+@RestController
+@RequestMapping("/api/invitations")
+@RequiredArgsConstructor
+public class ProjectInvitationController {
+
+    private final ProjectInvitationService projectInvitationService;
+
+    @Value("${app.project.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${app.project.page.max-size:100}")
+    private int maxPageSize;
+
+    // 받은 초대 목록 API (최근 초대부터, 초대한 사람의 닉네임/식별 코드 포함)
+    @GetMapping
+    public ResponseEntity<ApiResponse<KeysetPage<ProjectInvitationDto>>> inbox(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "받은 초대 목록입니다.",
+                projectInvitationService.getInbox(currentUserIdx(), cursor, pageSize(size))));
+    }
+
+    // 대기 중인 초대 수 API (페이지마다 호출, DB 조회 없음)
+    // 이 인스턴스에서 처리된 초대는 바로 반영되지만, 다른 인스턴스에서 생긴 초대/수락/거절은
+    // 주기적인 재적재(app.project.invitation.counter-resync-interval-ms, 기본 1분)까지 늦게 보일 수 있음
+    @GetMapping("/count")
+    public ResponseEntity<ApiResponse<Integer>> pendingCount() {
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "대기 중인 초대 수입니다.",
+                projectInvitationService.getPendingCount(currentUserIdx())));
+    }
+
+    // 초대 수락 API (참여자로 등록, 프로젝트 idx 반환)
+    @PostMapping("/{invitationIdx}/accept")
+    public ResponseEntity<ApiResponse<Long>> accept(@PathVariable Long invitationIdx) {
+        Long projectIdx = projectInvitationService.accept(currentUserIdx(), invitationIdx);
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "프로젝트에 참여했습니다.", projectIdx));
+    }
+
+    // 초대 삭제(거절) API
+    @DeleteMapping("/{invitationIdx}")
+    public ResponseEntity<ApiResponse<Void>> decline(@PathVariable Long invitationIdx) {
+        projectInvitationService.decline(currentUserIdx(), invitationIdx);
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "초대를 삭제했습니다."));
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1 || size > maxPageSize) {
+            throw new BusinessLogicException(ErrorCode.INVALID_INPUT_VALUE,
+                    "페이지 크기는 1 이상 " + maxPageSize + " 이하입니다.");
+        }
+        return size;
+    }
+
+    private static Long currentUserIdx() {
+        Long userIdx = SecurityUtils.currentUserIdx();
+        if (userIdx == null) {
+            throw new BusinessLogicException(ErrorCode.AUTHENTICATION_REQUIRED);
+        }
+        return userIdx;
+    }
+}
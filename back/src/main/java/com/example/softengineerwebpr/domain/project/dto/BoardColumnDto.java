@@ -0,0 +1,15 @@
+package com.example.softengineerwebpr.domain.project.dto;
+
+import com.example.softengineerwebpr.common.dto.KeysetPage;
+import com.example.softengineerwebpr.domain.project.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 보드의 열 하나. 첫 페이지만 담고, 나머지는 tasks.nextCursor로 /tasks?status= 에서 이어 받음
+@Getter
+@AllArgsConstructor
+public class BoardColumnDto {
+    private final TaskStatus status;
+    private final long taskCount;
+    private final KeysetPage<TaskCardDto> tasks;
+}
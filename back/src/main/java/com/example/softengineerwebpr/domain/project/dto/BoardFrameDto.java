@@ -0,0 +1,16 @@
+package com.example.softengineerwebpr.domain.project.dto;
+
+import com.example.softengineerwebpr.domain.project.event.TaskChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 보드 스트림의 "board" 이벤트 한 건 (coalesce 시간 동안 모인 카드 변경, 카드마다 마지막 상태 하나)
+@Getter
+@AllArgsConstructor
+public class BoardFrameDto {
+    private final Long projectIdx;
+    private final long sequence; // 프로젝트별 증가 번호 (SSE id로도 보냄)
+    private final List<TaskChangedEvent> changes;
+}
@@ -0,0 +1,13 @@
+package com.example.softengineerwebpr.domain.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ProjectBoardDto {
+    private final ProjectHeaderDto project;
+    private final List<BoardColumnDto> columns; // TODO, IN_PROGRESS, DONE 순
+}
@@ -0,0 +1,20 @@
+package com.example.softengineerwebpr.domain.project.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProjectCreateRequestDto {
+
+    @NotBlank(message = "프로젝트 이름을 입력해주세요.")
+    @Size(max = 50, message = "프로젝트 이름은 50자 이하입니다.")
+    private String name;
+
+    @Size(max = 1000, message = "프로젝트 설명은 1000자 이하입니다.")
+    private String description;
+}
@@ -0,0 +1,14 @@
+package com.example.softengineerwebpr.domain.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 보드 상단의 프로젝트 정보
+@Getter
+@AllArgsConstructor
+public class ProjectHeaderDto {
+    private final Long idx;
+    private final String name;
+    private final String description;
+    private final Long ownerIdx;
+}
@@ -0,0 +1,19 @@
+package com.example.softengineerwebpr.domain.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// "초대 요청 프로젝트" 목록 한 줄 (ProjectInvitationRepository의 JPQL 생성자 프로젝션)
+@Getter
+@AllArgsConstructor
+public class ProjectInvitationDto {
+    private final Long idx;
+    private final Long projectIdx;
+    private final String projectName;
+    private final Long inviterIdx;
+    private final String inviterNickname;
+    private final String inviterIdentificationCode;
+    private final LocalDateTime invitedAt;
+}
@@ -0,0 +1,19 @@
+package com.example.softengineerwebpr.domain.project.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProjectInviteRequestDto {
+
+    // 초대할 user.idx 목록 (최대 개수는 app.project.invitation.max-invitees)
+    @NotEmpty(message = "초대할 사용자를 선택해주세요.")
+    private List<@NotNull Long> userIdxs;
+}
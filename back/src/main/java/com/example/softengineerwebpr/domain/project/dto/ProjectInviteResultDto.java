@@ -0,0 +1,14 @@
+package com.example.softengineerwebpr.domain.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 일괄 초대 결과. 이미 참여 중이거나 초대 대기 중인 사용자, 없는 사용자는 skipped
+@Getter
+@AllArgsConstructor
+public class ProjectInviteResultDto {
+    private final List<Long> invitedUserIdxs;
+    private final List<Long> skippedUserIdxs;
+}
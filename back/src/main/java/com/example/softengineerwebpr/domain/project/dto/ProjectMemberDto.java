@@ -0,0 +1,19 @@
+package com.example.softengineerwebpr.domain.project.dto;
+
+import com.example.softengineerwebpr.domain.project.entity.ProjectRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 보드 오른쪽 "참여 유저" 목록 한 줄
+@Getter
+@AllArgsConstructor
+public class ProjectMemberDto {
+    private final Long userIdx;
+    private final String nickname;
+    private final String identificationCode;
+    private final String profileImage;
+    private final ProjectRole role;
+    private final LocalDateTime joinedAt;
+}
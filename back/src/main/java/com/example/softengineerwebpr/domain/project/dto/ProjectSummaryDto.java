@@ -0,0 +1,19 @@
+package com.example.softengineerwebpr.domain.project.dto;
+
+import com.example.softengineerwebpr.domain.project.entity.ProjectRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 참여 프로젝트 목록 한 줄 (ProjectMemberRepository의 JPQL 생성자 프로젝션)
+@Getter
+@AllArgsConstructor
+public class ProjectSummaryDto {
+    private final Long idx;
+    private final String name;
+    private final String description;
+    private final ProjectRole myRole;
+    private final Long memberCount;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,22 @@
+package com.example.softengineerwebpr.domain.project.dto;
+
+import com.example.softengineerwebpr.domain.project.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 보드의 업무 카드 (TaskRepository의 JPQL 생성자 프로젝션, 담당자는 left join으로 함께 읽음)
+@Getter
+@AllArgsConstructor
+public class TaskCardDto {
+    private final Long idx;
+    private final String title;
+    private final TaskStatus status;
+    private final String rankKey; // 열 안의 순서
+    private final LocalDateTime deadline;
+    private final Long assigneeIdx;
+    private final String assigneeNickname;
+    private final String assigneeIdentificationCode;
+    private final String assigneeProfileImage;
+}
@@ -0,0 +1,29 @@
+package com.example.softengineerwebpr.domain.project.dto;
+
+import com.example.softengineerwebpr.domain.project.entity.TaskStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskCreateRequestDto {
+
+    @NotBlank(message = "업무 제목을 입력해주세요.")
+    @Size(max = 100, message = "업무 제목은 100자 이하입니다.")
+    private String title;
+
+    @Size(max = 5000, message = "업무 내용은 5000자 이하입니다.")
+    private String content;
+
+    private LocalDateTime deadline;
+
+    private Long assigneeIdx; // 담당자 user.idx (프로젝트 참여자여야 함, 없으면 미지정)
+
+    private TaskStatus status; // 없으면 TODO
+}
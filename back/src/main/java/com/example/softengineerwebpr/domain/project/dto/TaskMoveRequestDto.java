@@ -0,0 +1,19 @@
+package com.example.softengineerwebpr.domain.project.dto;
+
+import com.example.softengineerwebpr.domain.project.entity.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 카드 끌어 놓기: status 열에서 afterTaskIdx 카드 바로 뒤로 옮김
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskMoveRequestDto {
+
+    @NotNull(message = "옮길 열(상태)을 입력해주세요.")
+    private TaskStatus status;
+
+    private Long afterTaskIdx; // 바로 앞 카드의 idx (없으면 열의 맨 위)
+}
@@ -0,0 +1,12 @@
+package com.example.softengineerwebpr.domain.project.dto;
+
+import com.example.softengineerwebpr.domain.project.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TaskStatusCountDto {
+    private final TaskStatus status;
+    private final Long count;
+}
@@ -0,0 +1,16 @@
+package com.example.softengineerwebpr.domain.project.dto;
+
+import com.example.softengineerwebpr.domain.project.entity.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskStatusUpdateRequestDto {
+
+    @NotNull(message = "변경할 상태를 입력해주세요.")
+    private TaskStatus status;
+}
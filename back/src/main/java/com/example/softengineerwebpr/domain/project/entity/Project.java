@@ -0,0 +1,56 @@
+package com.example.softengineerwebpr.domain.project.entity;
+
+import com.example.softengineerwebpr.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "project")
+public class Project {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "project_id_generator")
+    @TableGenerator(name = "project_id_generator", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "project", allocationSize = 50)
+    @Column(name = "idx")
+    private Long idx;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "owner_idx", nullable = false, foreignKey = @ForeignKey(name = "fk_project_owner"))
+    private User owner; // 프로젝트를 만든 사용자 (참여자 목록에도 OWNER로 들어감)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public Project(String name, String description, User owner) {
+        LocalDateTime now = LocalDateTime.now();
+        this.name = name;
+        this.description = description;
+        this.owner = owner;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    public void update(String name, String description) {
+        this.name = name;
+        this.description = description;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.softengineerwebpr.domain.project.entity;
+
+import com.example.softengineerwebpr.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기 중인 프로젝트 초대. 수락(참여자로 등록)하거나 거절하면 행을 지우므로 있는 행은 모두 대기 중입니다.
+ * 일괄 초대는 JDBC 배치 INSERT로 넣습니다. (ProjectInvitationServiceImpl)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "project_invitation",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_project_invitation_project_invitee", columnNames = {"project_idx", "invitee_idx"})
+        },
+        indexes = {
+                // 받은 초대 목록 (invitee_idx로 찾고 idx 내림차순 키셋 페이지)
+                @Index(name = "idx_project_invitation_invitee", columnList = "invitee_idx, idx")
+        })
+public class ProjectInvitation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "project_invitation_id_generator")
+    @TableGenerator(name = "project_invitation_id_generator", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "project_invitation", allocationSize = 50)
+    @Column(name = "idx")
+    private Long idx;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_idx", nullable = false, foreignKey = @ForeignKey(name = "fk_project_invitation_project"))
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "invitee_idx", nullable = false, foreignKey = @ForeignKey(name = "fk_project_invitation_invitee"))
+    private User invitee;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "inviter_idx", nullable = false, foreignKey = @ForeignKey(name = "fk_project_invitation_inviter"))
+    private User inviter;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public ProjectInvitation(Project project, User invitee, User inviter) {
+        this.project = project;
+        this.invitee = invitee;
+        this.inviter = inviter;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.softengineerwebpr.domain.project.entity;
+
+import com.example.softengineerwebpr.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "project_member",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_project_member_project_user", columnNames = {"project_idx", "user_idx"})
+        },
+        indexes = {
+                // 사용자의 참여 프로젝트 목록 (user_idx로 찾고 project_idx 내림차순 키셋 페이지)
+                @Index(name = "idx_project_member_user_project", columnList = "user_idx, project_idx")
+        })
+public class ProjectMember {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "project_member_id_generator")
+    @TableGenerator(name = "project_member_id_generator", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "project_member", allocationSize = 50)
+    @Column(name = "idx")
+    private Long idx;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_idx", nullable = false, foreignKey = @ForeignKey(name = "fk_project_member_project"))
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_idx", nullable = false, foreignKey = @ForeignKey(name = "fk_project_member_user"))
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ProjectRole role;
+
+    @Column(name = "joined_at", nullable = false)
+    private LocalDateTime joinedAt;
+
+    @Builder
+    public ProjectMember(Project project, User user, ProjectRole role) {
+        this.project = project;
+        this.user = user;
+        this.role = role;
+        this.joinedAt = LocalDateTime.now();
+    }
+}
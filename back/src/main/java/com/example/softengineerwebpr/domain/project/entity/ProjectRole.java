@@ -0,0 +1,6 @@
+package com.example.softengineerwebpr.domain.project.entity;
+
+public enum ProjectRole {
+    OWNER,  // 프로젝트 생성자 (설정 변경, 참여자 관리)
+    MEMBER  // 참여자
+}
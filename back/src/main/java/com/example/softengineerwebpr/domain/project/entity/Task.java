@@ -0,0 +1,84 @@
+package com.example.softengineerwebpr.domain.project.entity;
+
+import com.example.softengineerwebpr.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 칸반 보드의 업무 카드. 보드/목록 조회는 엔티티 대신 TaskCardDto 프로젝션으로 읽습니다.
+ * 열 안의 순서는 rankKey(FractionalRank) 사전순이며, 같은 키끼리는 idx 순입니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "task",
+        indexes = {
+                // 보드 열 조회: 프로젝트 + 상태로 찾고 (rank_key, idx) 순 키셋 페이지
+                @Index(name = "idx_task_project_status_rank", columnList = "project_idx, status, rank_key, idx")
+        })
+public class Task {
+
+    public static final int RANK_KEY_MAX_LENGTH = 64;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id_generator")
+    @TableGenerator(name = "task_id_generator", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "task", allocationSize = 50)
+    @Column(name = "idx")
+    private Long idx;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_idx", nullable = false, foreignKey = @ForeignKey(name = "fk_task_project"))
+    private Project project;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskStatus status;
+
+    @Column(name = "rank_key", nullable = false, length = RANK_KEY_MAX_LENGTH)
+    private String rankKey; // 열 안의 순서 (카드를 옮기면 이 값만 바뀜)
+
+    @Column
+    private LocalDateTime deadline;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assignee_idx", foreignKey = @ForeignKey(name = "fk_task_assignee"))
+    private User assignee; // 담당자 (없을 수 있음)
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "creator_idx", nullable = false, foreignKey = @ForeignKey(name = "fk_task_creator"))
+    private User creator;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public Task(Project project, String title, String content, TaskStatus status, String rankKey,
+                LocalDateTime deadline, User assignee, User creator) {
+        LocalDateTime now = LocalDateTime.now();
+        this.project = project;
+        this.title = title;
+        this.content = content;
+        this.status = status != null ? status : TaskStatus.TODO;
+        this.rankKey = rankKey;
+        this.deadline = deadline;
+        this.assignee = assignee;
+        this.creator = creator;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+}
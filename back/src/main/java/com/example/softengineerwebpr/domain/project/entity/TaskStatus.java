@@ -0,0 +1,8 @@
+package com.example.softengineerwebpr.domain.project.entity;
+
+// 칸반 보드의 열 (To do / In progress / Done)
+public enum TaskStatus {
+    TODO,
+    IN_PROGRESS,
+    DONE
+}
@@ -0,0 +1,32 @@
+package com.example.softengineerwebpr.domain.project.event;
+
+import java.util.List;
+
+/**
+ * 초대가 생기거나(일괄 초대) 처리되었을 때 (ProjectInvitationServiceImpl에서 발행).
+ * 사용자별 대기 건수 캐시(InvitationCounterCache)가 트랜잭션 커밋 이후에 반영합니다.
+ * @param inviteeIdxs 대기 건수가 바뀐 사용자 (초대는 여러 명, 수락/거절은 한 명)
+ */
+public record ProjectInvitationChangedEvent(Long projectIdx, List<Long> inviteeIdxs, Type type) {
+
+    public enum Type {
+        INVITED, ACCEPTED, DECLINED
+    }
+
+    public static ProjectInvitationChangedEvent invited(Long projectIdx, List<Long> inviteeIdxs) {
+        return new ProjectInvitationChangedEvent(projectIdx, inviteeIdxs, Type.INVITED);
+    }
+
+    public static ProjectInvitationChangedEvent accepted(Long projectIdx, Long inviteeIdx) {
+        return new ProjectInvitationChangedEvent(projectIdx, List.of(inviteeIdx), Type.ACCEPTED);
+    }
+
+    public static ProjectInvitationChangedEvent declined(Long projectIdx, Long inviteeIdx) {
+        return new ProjectInvitationChangedEvent(projectIdx, List.of(inviteeIdx), Type.DECLINED);
+    }
+
+    // 대기 건수 변화량 (초대 +1, 수락/거절 -1)
+    public int delta() {
+        return type == Type.INVITED ? 1 : -1;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.softengineerwebpr.domain.project.event;
+
+import com.example.softengineerwebpr.domain.project.entity.TaskStatus;
+
+/**
+ * 보드의 업무 카드가 생성되거나 옮겨졌을 때 (ProjectServiceImpl에서 발행),
+ * 또는 열 전체의 순위 키가 다시 매겨졌을 때 (TaskRankRebalancer에서 발행).
+ * 보드 실시간 스트림(BoardTopicRegistry)이 트랜잭션 커밋 이후에 구독합니다.
+ * @param taskIdx REBALANCED이면 null (클라이언트는 status 열을 다시 읽음)
+ * @param rankKey REBALANCED이면 null
+ * @param title 생성된 경우에만 값이 있음
+ */
+public record TaskChangedEvent(Long projectIdx, Long taskIdx, Type type, TaskStatus status, String rankKey,
+                               String title) {
+
+    public enum Type {
+        CREATED, MOVED, REBALANCED
+    }
+
+    public static TaskChangedEvent created(Long projectIdx, Long taskIdx, TaskStatus status, String rankKey, String title) {
+        return new TaskChangedEvent(projectIdx, taskIdx, Type.CREATED, status, rankKey, title);
+    }
+
+    public static TaskChangedEvent moved(Long projectIdx, Long taskIdx, TaskStatus status, String rankKey) {
+        return new TaskChangedEvent(projectIdx, taskIdx, Type.MOVED, status, rankKey, null);
+    }
+
+    public static TaskChangedEvent rebalanced(Long projectIdx, TaskStatus status) {
+        return new TaskChangedEvent(projectIdx, null, Type.REBALANCED, status, null, null);
+    }
+
+    /**
+     * 같은 카드의 연속된 변경을 하나로 합칩니다. (위치는 나중 것, 생성 후 이동이면 생성으로 유지)
+     */
+    public TaskChangedEvent mergeWith(TaskChangedEvent later) {
+        if (type == Type.CREATED) {
+            return created(projectIdx, taskIdx, later.status, later.rankKey, later.title != null ? later.title : title);
+        }
+        return later;
+    }
+}
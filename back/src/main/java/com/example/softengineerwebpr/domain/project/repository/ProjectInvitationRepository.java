@@ -0,0 +1,39 @@
+package com.example.softengineerwebpr.domain.project.repository;
+
+import com.example.softengineerwebpr.domain.project.dto.ProjectInvitationDto;
+import com.example.softengineerwebpr.domain.project.entity.ProjectInvitation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProjectInvitationRepository extends JpaRepository<ProjectInvitation, Long> {
+
+    // 받은 초대 목록: 최근 초대부터, idx < before 인 것 (키셋 페이지)
+    @Query("select new com.example.softengineerwebpr.domain.project.dto.ProjectInvitationDto(" +
+            "i.idx, p.idx, p.name, u.idx, u.nickname, u.identificationCode, i.createdAt) " +
+            "from ProjectInvitation i join i.project p join i.inviter u " +
+            "where i.invitee.idx = :inviteeIdx and i.idx < :before " +
+            "order by i.idx desc")
+    List<ProjectInvitationDto> findInbox(@Param("inviteeIdx") Long inviteeIdx,
+                                         @Param("before") Long before,
+                                         Pageable pageable);
+
+    // 본인이 받은 초대의 프로젝트 (다른 사람의 초대면 empty)
+    @Query("select i.project.idx from ProjectInvitation i where i.idx = :idx and i.invitee.idx = :inviteeIdx")
+    Optional<Long> findProjectIdx(@Param("idx") Long idx, @Param("inviteeIdx") Long inviteeIdx);
+
+    // 이미 초대 대기 중인 사용자 (일괄 초대에서 제외)
+    @Query("select i.invitee.idx from ProjectInvitation i where i.project.idx = :projectIdx and i.invitee.idx in :userIdxs")
+    List<Long> findInvitedUserIdxs(@Param("projectIdx") Long projectIdx, @Param("userIdxs") Collection<Long> userIdxs);
+
+    // 초대를 처리하면서 지움. 같은 초대를 동시에 처리하면 한 쪽만 1을 받음
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ProjectInvitation i where i.idx = :idx and i.invitee.idx = :inviteeIdx")
+    int deleteByIdxAndInviteeIdx(@Param("idx") Long idx, @Param("inviteeIdx") Long inviteeIdx);
+}
@@ -0,0 +1,48 @@
+package com.example.softengineerwebpr.domain.project.repository;
+
+import com.example.softengineerwebpr.domain.project.dto.ProjectMemberDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectSummaryDto;
+import com.example.softengineerwebpr.domain.project.entity.ProjectMember;
+import com.example.softengineerwebpr.domain.project.entity.ProjectRole;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
+
+    // 참여 여부와 역할을 한 번에 확인 (참여자가 아니면 empty)
+    @Query("select m.role from ProjectMember m where m.project.idx = :projectIdx and m.user.idx = :userIdx")
+    Optional<ProjectRole> findRole(@Param("projectIdx") Long projectIdx, @Param("userIdx") Long userIdx);
+
+    boolean existsByProjectIdxAndUserIdx(Long projectIdx, Long userIdx);
+
+    // 주어진 사용자 중 이미 참여 중인 사용자 (일괄 초대에서 제외)
+    @Query("select m.user.idx from ProjectMember m where m.project.idx = :projectIdx and m.user.idx in :userIdxs")
+    List<Long> findMemberUserIdxs(@Param("projectIdx") Long projectIdx, @Param("userIdxs") Collection<Long> userIdxs);
+
+    // 참여 프로젝트 목록: 최근에 만든 프로젝트부터, project.idx < before 인 것 (키셋 페이지)
+    @Query("select new com.example.softengineerwebpr.domain.project.dto.ProjectSummaryDto(" +
+            "p.idx, p.name, p.description, m.role, " +
+            "(select count(m2) from ProjectMember m2 where m2.project = p), p.createdAt) " +
+            "from ProjectMember m join m.project p " +
+            "where m.user.idx = :userIdx and p.idx < :before " +
+            "order by p.idx desc")
+    List<ProjectSummaryDto> findJoinedProjects(@Param("userIdx") Long userIdx,
+                                               @Param("before") Long before,
+                                               Pageable pageable);
+
+    // 참여자 목록: user.idx > after 순 (키셋 페이지)
+    @Query("select new com.example.softengineerwebpr.domain.project.dto.ProjectMemberDto(" +
+            "u.idx, u.nickname, u.identificationCode, u.profileImage, m.role, m.joinedAt) " +
+            "from ProjectMember m join m.user u " +
+            "where m.project.idx = :projectIdx and u.idx > :after " +
+            "order by u.idx")
+    List<ProjectMemberDto> findMembers(@Param("projectIdx") Long projectIdx,
+                                       @Param("after") Long after,
+                                       Pageable pageable);
+}
@@ -0,0 +1,28 @@
+package com.example.softengineerwebpr.domain.project.repository;
+
+import com.example.softengineerwebpr.domain.project.dto.ProjectHeaderDto;
+import com.example.softengineerwebpr.domain.project.entity.Project;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    @Query("select new com.example.softengineerwebpr.domain.project.dto.ProjectHeaderDto(p.idx, p.name, p.description, p.owner.idx) " +
+            "from Project p where p.idx = :projectIdx")
+    Optional<ProjectHeaderDto> findHeader(@Param("projectIdx") Long projectIdx);
+
+    // 카드 순위 키를 정할 때 (공유 잠금: 카드 이동끼리는 막지 않고, 순위 재배치와만 서로 기다림)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select p from Project p where p.idx = :projectIdx")
+    Optional<Project> findForRankUpdate(@Param("projectIdx") Long projectIdx);
+
+    // 열 전체의 순위 키를 다시 매길 때 (배타 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Project p where p.idx = :projectIdx")
+    Optional<Project> findForRebalance(@Param("projectIdx") Long projectIdx);
+}
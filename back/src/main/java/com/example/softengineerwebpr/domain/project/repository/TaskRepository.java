@@ -0,0 +1,78 @@
+package com.example.softengineerwebpr.domain.project.repository;
+
+import com.example.softengineerwebpr.domain.project.dto.TaskCardDto;
+import com.example.softengineerwebpr.domain.project.dto.TaskStatusCountDto;
+import com.example.softengineerwebpr.domain.project.entity.Task;
+import com.example.softengineerwebpr.domain.project.entity.TaskStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    // 보드 열 한 페이지: (rankKey, idx) > (afterRank, afterIdx) 순 (키셋 페이지, idx_task_project_status_rank 인덱스 사용)
+    // 앞의 rankKey >= 조건은 인덱스 범위 검색용이고, 같은 키끼리는 idx로 구분
+    @Query("select new com.example.softengineerwebpr.domain.project.dto.TaskCardDto(" +
+            "t.idx, t.title, t.status, t.rankKey, t.deadline, a.idx, a.nickname, a.identificationCode, a.profileImage) " +
+            "from Task t left join t.assignee a " +
+            "where t.project.idx = :projectIdx and t.status = :status and t.rankKey >= :afterRank " +
+            "and (t.rankKey > :afterRank or t.idx > :afterIdx) " +
+            "order by t.rankKey, t.idx")
+    List<TaskCardDto> findCards(@Param("projectIdx") Long projectIdx,
+                                @Param("status") TaskStatus status,
+                                @Param("afterRank") String afterRank,
+                                @Param("afterIdx") Long afterIdx,
+                                Pageable pageable);
+
+    @Query("select new com.example.softengineerwebpr.domain.project.dto.TaskStatusCountDto(t.status, count(t)) " +
+            "from Task t where t.project.idx = :projectIdx group by t.status")
+    List<TaskStatusCountDto> countByStatus(@Param("projectIdx") Long projectIdx);
+
+    // 기준 카드의 순위 키 (해당 열에 없으면 빈 값)
+    @Query("select t.rankKey from Task t where t.idx = :taskIdx and t.project.idx = :projectIdx and t.status = :status")
+    Optional<String> findRankKey(@Param("projectIdx") Long projectIdx,
+                                 @Param("status") TaskStatus status,
+                                 @Param("taskIdx") Long taskIdx);
+
+    // rank 바로 다음 키 (옮기는 카드 자신은 제외, 없으면 null)
+    @Query("select min(t.rankKey) from Task t where t.project.idx = :projectIdx and t.status = :status " +
+            "and t.rankKey > :rank and t.idx <> :excludeIdx")
+    String findNextRankKey(@Param("projectIdx") Long projectIdx,
+                           @Param("status") TaskStatus status,
+                           @Param("rank") String rank,
+                           @Param("excludeIdx") Long excludeIdx);
+
+    // 열의 첫 키 (옮기는 카드 자신은 제외, 빈 열이면 null)
+    @Query("select min(t.rankKey) from Task t where t.project.idx = :projectIdx and t.status = :status " +
+            "and t.idx <> :excludeIdx")
+    String findFirstRankKey(@Param("projectIdx") Long projectIdx,
+                            @Param("status") TaskStatus status,
+                            @Param("excludeIdx") Long excludeIdx);
+
+    // 열의 마지막 키 (옮기는 카드 자신은 제외, 빈 열이면 null)
+    @Query("select max(t.rankKey) from Task t where t.project.idx = :projectIdx and t.status = :status " +
+            "and t.idx <> :excludeIdx")
+    String findLastRankKey(@Param("projectIdx") Long projectIdx,
+                           @Param("status") TaskStatus status,
+                           @Param("excludeIdx") Long excludeIdx);
+
+    // 순위 재배치용: 열의 업무 idx를 보드 순서대로
+    @Query("select t.idx from Task t where t.project.idx = :projectIdx and t.status = :status order by t.rankKey, t.idx")
+    List<Long> findIdxInRankOrder(@Param("projectIdx") Long projectIdx, @Param("status") TaskStatus status);
+
+    // 엔티티를 읽지 않고 열과 순위 키만 변경 (다른 프로젝트의 업무이면 0)
+    @Modifying(clearAutomatically = true)
+    @Query("update Task t set t.status = :status, t.rankKey = :rankKey, t.updatedAt = :now " +
+            "where t.idx = :taskIdx and t.project.idx = :projectIdx")
+    int updatePosition(@Param("projectIdx") Long projectIdx,
+                       @Param("taskIdx") Long taskIdx,
+                       @Param("status") TaskStatus status,
+                       @Param("rankKey") String rankKey,
+                       @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,356 @@
+package com.example.softengineerwebpr.domain.project.service;
+
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import com.example.softengineerwebpr.domain.project.dto.BoardFrameDto;
+import com.example.softengineerwebpr.domain.project.event.TaskChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로젝트 보드 실시간 스트림(SSE)의 프로세스 내 토픽 레지스트리.
+ * - 토픽은 프로젝트마다 하나이며 구독자가 있을 때만 존재 (구독자가 없는 프로젝트의 변경은 바로 버림)
+ * - 카드 변경은 coalesce-ms 동안 모아 카드마다 마지막 상태 하나로 합친 뒤 "board" 이벤트 하나로 보냄
+ *   (JSON 직렬화와 SSE 프레임 구성은 토픽당 한 번, 모든 구독자가 같은 프레임을 공유)
+ * - 열 재배치(REBALANCED)는 열마다 하나로 합치고, 그 열의 앞선 카드 변경보다 뒤에 오도록 항상 마지막에 둠
+ * - 구독자마다 queue-capacity 크기의 전송 대기열을 두고 writer 스레드 풀이 대기열을 비움.
+ *   대기열이 가득 찬 느린 구독자는 연결을 끊음 (EventSource가 다시 연결하면 "ready"를 받고 보드를 새로 읽음)
+ * - heartbeat-ms마다 주석 프레임을 보내 프록시의 유휴 연결 종료를 막고 끊긴 연결을 찾아냄
+ * 노드 메모리 기준이므로 여러 노드로 운영하면 같은 노드에서 발생한 변경만 전달됩니다.
+ */
+@Slf4j
+@Component
+public class BoardTopicRegistry implements MetricsSource, DisposableBean {
+
+    private static final MediaType UTF8_TEXT = new MediaType("text", "plain", StandardCharsets.UTF_8);
+    private static final int DRAIN_BATCH = 16; // writer 작업 하나가 연속으로 보내는 최대 프레임 수 (구독자 간 공정성)
+
+    private final ObjectMapper objectMapper;
+    private final long coalesceMillis;
+    private final int queueCapacity;
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+
+    private final Map<Long, Topic> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService writers;
+    private final Set<DataWithMediaType> heartbeatFrame = SseEmitter.event().comment("ping").build();
+
+    private final LongAdder changesPublished = new LongAdder();
+    private final LongAdder framesBuilt = new LongAdder();
+    private final LongAdder framesSent = new LongAdder();
+    private final LongAdder slowSubscribersDropped = new LongAdder();
+    private final LongAdder rejectedSubscriptions = new LongAdder();
+
+    public BoardTopicRegistry(ObjectMapper objectMapper,
+                              @Value("${app.project.stream.coalesce-ms:100}") long coalesceMillis,
+                              @Value("${app.project.stream.queue-capacity:32}") int queueCapacity,
+                              @Value("${app.project.stream.heartbeat-ms:20000}") long heartbeatMillis,
+                              @Value("${app.project.stream.timeout-ms:1800000}") long timeoutMillis,
+                              @Value("${app.project.stream.max-subscribers:20000}") int maxSubscribers,
+                              @Value("${app.project.stream.writer-threads:8}") int writerThreads) {
+        this.objectMapper = objectMapper;
+        this.coalesceMillis = coalesceMillis;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+        this.maxSubscribers = maxSubscribers;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "board-stream-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(writerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "board-stream-writer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (heartbeatMillis > 0) {
+            scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 프로젝트 보드 스트림을 엽니다. 참여자 확인은 호출하는 쪽에서 합니다.
+     * 연결 직후 "ready" 이벤트를 보내며, 클라이언트는 이때 보드를 (다시) 읽으면 끊긴 동안의 변경도 반영됩니다.
+     */
+    public SseEmitter subscribe(Long projectIdx, Long userIdx) {
+        return subscribe(projectIdx, userIdx, new SseEmitter(timeoutMillis));
+    }
+
+    // 테스트에서 전송을 관찰할 emitter를 넘길 수 있도록 분리
+    SseEmitter subscribe(Long projectIdx, Long userIdx, SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            rejectedSubscriptions.increment();
+            throw new BusinessLogicException(ErrorCode.SERVICE_BUSY);
+        }
+        Subscriber subscriber = new Subscriber(projectIdx, userIdx, emitter);
+        topics.compute(projectIdx, (key, topic) -> {
+            Topic target = topic != null ? topic : new Topic(projectIdx);
+            target.subscribers.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        // 재시작 직후 모든 클라이언트가 한꺼번에 다시 연결하지 않도록 재연결 간격을 흩뜨림
+        long reconnectMillis = 1_000 + ThreadLocalRandom.current().nextLong(4_000);
+        try {
+            subscriber.offer(SseEmitter.event()
+                    .name("ready")
+                    .reconnectTime(reconnectMillis)
+                    .data(objectMapper.writeValueAsString(Map.of("projectIdx", projectIdx)), UTF8_TEXT)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        return emitter;
+    }
+
+    // 커밋된 변경만 전달 (롤백된 이동이 다른 사용자 화면에 보이지 않게)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        publish(event);
+    }
+
+    public void publish(TaskChangedEvent event) {
+        Topic topic = topics.get(event.projectIdx());
+        if (topic == null) {
+            return;
+        }
+        changesPublished.increment();
+        if (topic.add(event)) {
+            scheduler.schedule(topic::flush, coalesceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public int subscriberCount(Long projectIdx) {
+        Topic topic = topics.get(projectIdx);
+        return topic != null ? topic.subscribers.size() : 0;
+    }
+
+    private void heartbeat() {
+        for (Topic topic : topics.values()) {
+            for (Subscriber subscriber : topic.subscribers) {
+                subscriber.offer(heartbeatFrame);
+            }
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscriberCount.decrementAndGet();
+        topics.computeIfPresent(subscriber.projectIdx, (key, topic) -> {
+            topic.subscribers.remove(subscriber);
+            return topic.subscribers.isEmpty() ? null : topic;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        for (Topic topic : topics.values()) {
+            for (Subscriber subscriber : topic.subscribers) {
+                subscriber.closeAndComplete();
+            }
+        }
+        writers.shutdown();
+        try {
+            writers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "board-stream";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("topics", topics.size());
+        metrics.put("subscribers", subscriberCount.get());
+        metrics.put("changesPublished", changesPublished.sum());
+        metrics.put("framesBuilt", framesBuilt.sum());
+        metrics.put("framesSent", framesSent.sum());
+        metrics.put("slowSubscribersDropped", slowSubscribersDropped.sum());
+        metrics.put("rejectedSubscriptions", rejectedSubscriptions.sum());
+        return metrics;
+    }
+
+    private final class Topic {
+        private final Long projectIdx;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final AtomicLong sequence = new AtomicLong();
+        // taskIdx(재배치는 열 상태) -> 아직 보내지 않은 마지막 변경 (this로 동기화)
+        private Map<Object, TaskChangedEvent> pending = new LinkedHashMap<>();
+        private boolean flushScheduled;
+
+        private Topic(Long projectIdx) {
+            this.projectIdx = projectIdx;
+        }
+
+        // 변경을 모음. 이번 변경으로 flush를 예약해야 하면 true
+        private synchronized boolean add(TaskChangedEvent event) {
+            if (event.type() == TaskChangedEvent.Type.REBALANCED) {
+                // 클라이언트가 열을 다시 읽은 뒤 이전 키의 카드 변경을 적용하지 않도록 맨 뒤로 옮김
+                pending.remove(event.status());
+                pending.put(event.status(), event);
+            } else {
+                pending.merge(event.taskIdx(), event, TaskChangedEvent::mergeWith);
+            }
+            if (flushScheduled) {
+                return false;
+            }
+            flushScheduled = true;
+            return true;
+        }
+
+        private synchronized List<TaskChangedEvent> drainPending() {
+            List<TaskChangedEvent> changes = new ArrayList<>(pending.values());
+            pending = new LinkedHashMap<>();
+            flushScheduled = false;
+            return changes;
+        }
+
+        private void flush() {
+            List<TaskChangedEvent> changes = drainPending();
+            if (changes.isEmpty() || subscribers.isEmpty()) {
+                return;
+            }
+            long seq = sequence.incrementAndGet();
+            Set<DataWithMediaType> frame;
+            try {
+                frame = SseEmitter.event()
+                        .id(Long.toString(seq))
+                        .name("board")
+                        .data(objectMapper.writeValueAsString(new BoardFrameDto(projectIdx, seq, changes)), UTF8_TEXT)
+                        .build();
+            } catch (JsonProcessingException e) {
+                log.warn("보드 스트림 프레임 직렬화 실패: projectIdx={}: {}", projectIdx, e.getMessage());
+                return;
+            }
+            framesBuilt.increment();
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(frame);
+            }
+        }
+    }
+
+    private final class Subscriber {
+        private final Long projectIdx;
+        private final Long userIdx;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long projectIdx, Long userIdx, SseEmitter emitter) {
+            this.projectIdx = projectIdx;
+            this.userIdx = userIdx;
+            this.emitter = emitter;
+        }
+
+        private void offer(Set<DataWithMediaType> frame) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                // 보내는 속도를 따라오지 못함. 대기열을 더 키우지 않고 끊음
+                slowSubscribersDropped.increment();
+                log.debug("느린 보드 스트림 구독자 연결 종료: projectIdx={}, userIdx={}", projectIdx, userIdx);
+                closeAndComplete();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    writers.execute(this::drain);
+                } catch (RejectedExecutionException e) { // 종료 중
+                    draining.set(false);
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                for (int i = 0; i < DRAIN_BATCH; i++) {
+                    Set<DataWithMediaType> frame = queue.poll();
+                    if (frame == null) {
+                        break;
+                    }
+                    emitter.send(frame);
+                    framesSent.increment();
+                }
+            } catch (IOException | IllegalStateException e) { // 연결 끊김 또는 이미 종료된 emitter
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // poll이 비었다고 본 직후 들어온 프레임이 남지 않도록 다시 확인
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        // 레지스트리에서만 제거 (emitter 콜백, 전송 실패)
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                queue.clear();
+                unregister(this);
+            }
+        }
+
+        // 제거 후 응답도 끝냄. emitter.complete()는 진행 중인 send와 같은 잠금을 쓰므로 writer 스레드에서 호출
+        private void closeAndComplete() {
+            if (closed.compareAndSet(false, true)) {
+                queue.clear();
+                unregister(this);
+                try {
+                    writers.execute(emitter::complete);
+                } catch (RejectedExecutionException e) {
+                    emitter.complete();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.softengineerwebpr.domain.project.service;
+
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import com.example.softengineerwebpr.domain.project.event.ProjectInvitationChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자별 대기 중인 프로젝트 초대 수 (헤더의 초대 알림 배지용).
+ * 페이지를 열 때마다 읽으므로 COUNT(*) 대신 메모리의 값을 돌려주고, 초대/수락/거절이 커밋되면 그 사용자의 값만 더하거나 뺍니다.
+ * 사용자 idx로 나눈 stripe마다 따로 잠가 서로 다른 사용자의 갱신/조회가 한 잠금에 몰리지 않게 하며,
+ * 대기 건수가 0인 사용자는 보관하지 않습니다.
+ * 기동 시와 주기적으로(resync-interval-ms) DB에서 다시 읽어 다른 인스턴스의 변경이나 어긋난 값을 맞춥니다.
+ * 다시 읽는 동안 변경이 반영된 사용자는 그 변경이 조회 결과에 이미 들어 있는지 알 수 없으므로(커밋과 이벤트 사이에 조회 시점이 낄 수 있음)
+ * 조회가 끝난 뒤 해당 사용자만 다시 세고, 다시 세는 동안에도 바뀐 사용자는 기존 메모리 값을 유지합니다. (다음 재적재 때 맞춰짐)
+ */
+@Slf4j
+@Component
+public class InvitationCounterCache implements MetricsSource {
+
+    private static final String SELECT_PENDING_COUNTS_SQL =
+            "SELECT invitee_idx, COUNT(*) FROM project_invitation GROUP BY invitee_idx";
+    private static final String SELECT_PENDING_COUNTS_OF_SQL =
+            "SELECT invitee_idx, COUNT(*) FROM project_invitation WHERE invitee_idx IN (%s) GROUP BY invitee_idx";
+    private static final int RECOUNT_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Stripe[] stripes;
+    private final Object reloadLock = new Object();
+
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder updates = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder correctedOnReload = new LongAdder();
+    private final LongAdder recountedOnReload = new LongAdder();
+    private volatile LocalDateTime lastReloadAt;
+
+    public InvitationCounterCache(JdbcTemplate jdbcTemplate,
+                                  @Value("${app.project.invitation.counter-stripes:64}") int stripeCount) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 2의 거듭제곱으로 올림 (비트 마스크로 stripe 선택)
+        this.stripes = new Stripe[stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public int pendingCount(long userIdx) {
+        reads.increment();
+        Stripe stripe = stripeOf(userIdx);
+        synchronized (stripe) {
+            return stripe.counts.getOrDefault(userIdx, 0);
+        }
+    }
+
+    // 커밋된 변경만 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInvitationChanged(ProjectInvitationChangedEvent event) {
+        int delta = event.delta();
+        for (Long inviteeIdx : event.inviteeIdxs()) {
+            add(inviteeIdx, delta);
+        }
+    }
+
+    public void add(long userIdx, int delta) {
+        updates.increment();
+        Stripe stripe = stripeOf(userIdx);
+        synchronized (stripe) {
+            apply(stripe.counts, userIdx, delta);
+            if (stripe.touchedDuringReload != null) {
+                stripe.touchedDuringReload.add(userIdx);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    // 다른 인스턴스에서 생긴 초대를 반영하고, 어긋난 값(프로젝트/사용자 삭제로 함께 지워진 초대 등)을 맞춤
+    @Scheduled(initialDelayString = "${app.project.invitation.counter-resync-interval-ms:60000}",
+            fixedDelayString = "${app.project.invitation.counter-resync-interval-ms:60000}")
+    public void reload() {
+        long start = System.currentTimeMillis();
+        synchronized (reloadLock) {
+            startTrackingChanges();
+            Map<Long, Integer>[] loaded = newStripeMaps();
+            Set<Long> recounted;
+            try {
+                jdbcTemplate.query(SELECT_PENDING_COUNTS_SQL,
+                        rs -> { loaded[stripeIndex(rs.getLong(1))].put(rs.getLong(1), rs.getInt(2)); });
+                // 조회 중에 변경이 반영된 사용자는 조회 결과에 그 변경이 들어 있는지 알 수 없으므로 다시 셈
+                recounted = startTrackingChanges();
+                recount(recounted, loaded);
+            } catch (RuntimeException e) {
+                for (Stripe stripe : stripes) {
+                    synchronized (stripe) {
+                        stripe.touchedDuringReload = null;
+                    }
+                }
+                log.error("초대 대기 건수 재적재 실패 (기존 값 유지): {}", e.getMessage());
+                return;
+            }
+            int users = 0;
+            for (int i = 0; i < stripes.length; i++) {
+                Stripe stripe = stripes[i];
+                Map<Long, Integer> counts = loaded[i];
+                synchronized (stripe) {
+                    // 다시 세는 중에도 바뀐 사용자는 판단할 수 없으므로 증분으로 유지해 온 메모리 값을 그대로 씀
+                    for (Long userIdx : stripe.touchedDuringReload) {
+                        Integer current = stripe.counts.get(userIdx);
+                        if (current != null) {
+                            counts.put(userIdx, current);
+                        } else {
+                            counts.remove(userIdx);
+                        }
+                    }
+                    stripe.touchedDuringReload = null;
+                    correctedOnReload.add(countDifferences(stripe.counts, counts));
+                    stripe.counts = counts;
+                    users += counts.size();
+                }
+            }
+            recountedOnReload.add(recounted.size());
+            reloads.increment();
+            lastReloadAt = LocalDateTime.now();
+            log.info("초대 대기 건수 재적재 완료: {}명 (다시 센 사용자 {}명), {}ms",
+                    users, recounted.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    // 지금까지 변경이 반영된 사용자를 돌려주고, 이후 변경을 새로 모으기 시작
+    private Set<Long> startTrackingChanges() {
+        Set<Long> touched = new HashSet<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                if (stripe.touchedDuringReload != null) {
+                    touched.addAll(stripe.touchedDuringReload);
+                }
+                stripe.touchedDuringReload = new HashSet<>();
+            }
+        }
+        return touched;
+    }
+
+    private void recount(Set<Long> userIdxs, Map<Long, Integer>[] loaded) {
+        List<Long> pending = new ArrayList<>(userIdxs);
+        for (int from = 0; from < pending.size(); from += RECOUNT_BATCH_SIZE) {
+            List<Long> batch = pending.subList(from, Math.min(from + RECOUNT_BATCH_SIZE, pending.size()));
+            for (Long userIdx : batch) {
+                loaded[stripeIndex(userIdx)].remove(userIdx); // 결과에 없으면 대기 중인 초대가 없는 것
+            }
+            String placeholders = String.join(",", Collections.nCopies(batch.size(), "?"));
+            jdbcTemplate.query(String.format(SELECT_PENDING_COUNTS_OF_SQL, placeholders),
+                    rs -> { loaded[stripeIndex(rs.getLong(1))].put(rs.getLong(1), rs.getInt(2)); },
+                    batch.toArray());
+        }
+    }
+
+    private static void apply(Map<Long, Integer> counts, long userIdx, int delta) {
+        int count = counts.getOrDefault(userIdx, 0) + delta;
+        if (count > 0) {
+            counts.put(userIdx, count);
+        } else {
+            counts.remove(userIdx);
+        }
+    }
+
+    private static int countDifferences(Map<Long, Integer> before, Map<Long, Integer> after) {
+        int differences = 0;
+        for (Map.Entry<Long, Integer> entry : after.entrySet()) {
+            if (!entry.getValue().equals(before.get(entry.getKey()))) {
+                differences++;
+            }
+        }
+        for (Long userIdx : before.keySet()) {
+            if (!after.containsKey(userIdx)) {
+                differences++;
+            }
+        }
+        return differences;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Integer>[] newStripeMaps() {
+        Map<Long, Integer>[] maps = new Map[stripes.length];
+        for (int i = 0; i < maps.length; i++) {
+            maps[i] = new HashMap<>();
+        }
+        return maps;
+    }
+
+    private Stripe stripeOf(long userIdx) {
+        return stripes[stripeIndex(userIdx)];
+    }
+
+    // 연속된 idx가 고르게 퍼지도록 섞은 뒤 상위 비트로 선택
+    private int stripeIndex(long userIdx) {
+        return (int) ((userIdx * 0x9E3779B97F4A7C15L) >>> 32) & (stripes.length - 1);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "project-invitation-counter";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        int users = 0;
+        long pending = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                users += stripe.counts.size();
+                for (int count : stripe.counts.values()) {
+                    pending += count;
+                }
+            }
+        }
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("stripes", stripes.length);
+        metrics.put("usersWithPending", users);
+        metrics.put("pendingInvitations", pending);
+        metrics.put("reads", reads.sum());
+        metrics.put("updates", updates.sum());
+        metrics.put("reloads", reloads.sum());
+        metrics.put("correctedOnReload", correctedOnReload.sum());
+        metrics.put("recountedOnReload", recountedOnReload.sum());
+        metrics.put("lastReloadAt", lastReloadAt);
+        return metrics;
+    }
+
+    private static final class Stripe {
+        private Map<Long, Integer> counts = new HashMap<>();
+        // 재적재 중에만 값이 있음: 조회 시작 이후 변경이 반영된 사용자
+        private Set<Long> touchedDuringReload;
+    }
+}
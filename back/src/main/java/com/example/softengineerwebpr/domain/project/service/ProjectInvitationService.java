@@ -0,0 +1,25 @@
+package com.example.softengineerwebpr.domain.project.service;
+
+import com.example.softengineerwebpr.common.dto.KeysetPage;
+import com.example.softengineerwebpr.domain.project.dto.ProjectInvitationDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectInviteResultDto;
+
+import java.util.List;
+
+/**
+ * 프로젝트 초대. OWNER가 여러 사용자를 한 번에 초대하고, 초대받은 사용자가 수락(참여자로 등록)하거나 거절합니다.
+ * 사용자별 대기 건수는 InvitationCounterCache에서 읽습니다. cursor가 null이면 첫 페이지입니다.
+ */
+public interface ProjectInvitationService {
+
+    ProjectInviteResultDto invite(Long inviterIdx, Long projectIdx, List<Long> userIdxs);
+
+    KeysetPage<ProjectInvitationDto> getInbox(Long userIdx, String cursor, int size);
+
+    int getPendingCount(Long userIdx);
+
+    // 수락한 프로젝트의 idx를 반환
+    Long accept(Long userIdx, Long invitationIdx);
+
+    void decline(Long userIdx, Long invitationIdx);
+}
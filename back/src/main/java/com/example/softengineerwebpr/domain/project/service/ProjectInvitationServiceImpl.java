@@ -0,0 +1,184 @@
+package com.example.softengineerwebpr.domain.project.service;
+
+import com.example.softengineerwebpr.common.dto.KeysetPage;
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.repository.IdSequenceAllocator;
+import com.example.softengineerwebpr.domain.project.dto.ProjectInvitationDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectInviteResultDto;
+import com.example.softengineerwebpr.domain.project.entity.ProjectMember;
+import com.example.softengineerwebpr.domain.project.entity.ProjectRole;
+import com.example.softengineerwebpr.domain.project.event.ProjectInvitationChangedEvent;
+import com.example.softengineerwebpr.domain.project.repository.ProjectInvitationRepository;
+import com.example.softengineerwebpr.domain.project.repository.ProjectMemberRepository;
+import com.example.softengineerwebpr.domain.project.repository.ProjectRepository;
+import com.example.softengineerwebpr.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+@Transactional
+public class ProjectInvitationServiceImpl implements ProjectInvitationService {
+
+    private static final String INSERT_INVITATION_SQL =
+            "INSERT INTO project_invitation (idx, project_idx, invitee_idx, inviter_idx, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final ProjectInvitationRepository invitationRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final IdSequenceAllocator idSequenceAllocator;
+    private final JdbcTemplate jdbcTemplate;
+    private final InvitationCounterCache invitationCounterCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxInvitees;
+
+    public ProjectInvitationServiceImpl(ProjectInvitationRepository invitationRepository,
+                                        ProjectMemberRepository projectMemberRepository,
+                                        ProjectRepository projectRepository,
+                                        UserRepository userRepository,
+                                        IdSequenceAllocator idSequenceAllocator,
+                                        JdbcTemplate jdbcTemplate,
+                                        InvitationCounterCache invitationCounterCache,
+                                        ApplicationEventPublisher eventPublisher,
+                                        @Value("${app.project.invitation.max-invitees:100}") int maxInvitees) {
+        this.invitationRepository = invitationRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.idSequenceAllocator = idSequenceAllocator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.invitationCounterCache = invitationCounterCache;
+        this.eventPublisher = eventPublisher;
+        this.maxInvitees = maxInvitees;
+    }
+
+    @Override
+    public ProjectInviteResultDto invite(Long inviterIdx, Long projectIdx, List<Long> userIdxs) {
+        checkOwner(projectIdx, inviterIdx);
+        Set<Long> requested = new LinkedHashSet<>(userIdxs);
+        if (requested.size() > maxInvitees) {
+            throw new BusinessLogicException(ErrorCode.INVALID_INPUT_VALUE,
+                    "한 번에 초대할 수 있는 사용자는 " + maxInvitees + "명 이하입니다.");
+        }
+        // 없는 사용자, 이미 참여 중이거나 초대 대기 중인 사용자는 건너뜀 (조회 세 번, 사용자 수와 무관)
+        Set<Long> existing = new HashSet<>(userRepository.findExistingIdxs(requested));
+        Set<Long> excluded = new HashSet<>(projectMemberRepository.findMemberUserIdxs(projectIdx, requested));
+        excluded.addAll(invitationRepository.findInvitedUserIdxs(projectIdx, requested));
+        List<Long> invited = new ArrayList<>(requested.size());
+        List<Long> skipped = new ArrayList<>();
+        for (Long userIdx : requested) {
+            if (existing.contains(userIdx) && !excluded.contains(userIdx)) {
+                invited.add(userIdx);
+            } else {
+                skipped.add(userIdx);
+            }
+        }
+        if (invited.isEmpty()) {
+            return new ProjectInviteResultDto(invited, skipped);
+        }
+
+        // 엔티티를 하나씩 persist하지 않고 ID 구간을 예약해 배치 INSERT 한 번으로 넣음
+        long nextIdx = idSequenceAllocator.reserve(IdSequenceAllocator.PROJECT_INVITATION, invited.size());
+        LocalDateTime now = LocalDateTime.now();
+        List<long[]> rows = new ArrayList<>(invited.size());
+        for (Long userIdx : invited) {
+            rows.add(new long[]{nextIdx++, userIdx});
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_INVITATION_SQL, rows, rows.size(), (ps, row) -> {
+                ps.setLong(1, row[0]);
+                ps.setLong(2, projectIdx);
+                ps.setLong(3, row[1]);
+                ps.setLong(4, inviterIdx);
+                ps.setObject(5, now);
+            });
+        } catch (DuplicateKeyException e) {
+            // 같은 사용자를 동시에 초대한 다른 요청이 먼저 커밋한 경우 (이번 요청은 전부 롤백)
+            throw new BusinessLogicException(ErrorCode.INVITATION_CONFLICT);
+        }
+        eventPublisher.publishEvent(ProjectInvitationChangedEvent.invited(projectIdx, invited));
+        log.info("프로젝트 초대: projectIdx={}, inviterIdx={}, invited={}, skipped={}",
+                projectIdx, inviterIdx, invited.size(), skipped.size());
+        return new ProjectInviteResultDto(invited, skipped);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<ProjectInvitationDto> getInbox(Long userIdx, String cursor, int size) {
+        List<ProjectInvitationDto> fetched = invitationRepository.findInbox(
+                userIdx, cursor != null ? parseIdxCursor(cursor) : Long.MAX_VALUE, PageRequest.of(0, size + 1));
+        return KeysetPage.of(fetched, size, invitation -> String.valueOf(invitation.getIdx()));
+    }
+
+    // 페이지마다 불리므로 트랜잭션(DB 연결)을 열지 않음
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int getPendingCount(Long userIdx) {
+        return invitationCounterCache.pendingCount(userIdx);
+    }
+
+    @Override
+    public Long accept(Long userIdx, Long invitationIdx) {
+        Long projectIdx = removeInvitation(userIdx, invitationIdx);
+        // 초대 대기 중에 다른 경로로 이미 참여한 경우는 초대만 지움
+        if (!projectMemberRepository.existsByProjectIdxAndUserIdx(projectIdx, userIdx)) {
+            projectMemberRepository.save(ProjectMember.builder()
+                    .project(projectRepository.getReferenceById(projectIdx))
+                    .user(userRepository.getReferenceById(userIdx))
+                    .role(ProjectRole.MEMBER)
+                    .build());
+        }
+        eventPublisher.publishEvent(ProjectInvitationChangedEvent.accepted(projectIdx, userIdx));
+        log.info("프로젝트 초대 수락: projectIdx={}, userIdx={}", projectIdx, userIdx);
+        return projectIdx;
+    }
+
+    @Override
+    public void decline(Long userIdx, Long invitationIdx) {
+        Long projectIdx = removeInvitation(userIdx, invitationIdx);
+        eventPublisher.publishEvent(ProjectInvitationChangedEvent.declined(projectIdx, userIdx));
+    }
+
+    // 본인의 초대를 지우고 프로젝트 idx를 반환. 동시에 수락/거절하면 먼저 지운 쪽만 성공
+    private Long removeInvitation(Long userIdx, Long invitationIdx) {
+        Long projectIdx = invitationRepository.findProjectIdx(invitationIdx, userIdx)
+                .orElseThrow(() -> new BusinessLogicException(ErrorCode.INVITATION_NOT_FOUND));
+        if (invitationRepository.deleteByIdxAndInviteeIdx(invitationIdx, userIdx) == 0) {
+            throw new BusinessLogicException(ErrorCode.INVITATION_NOT_FOUND);
+        }
+        return projectIdx;
+    }
+
+    private void checkOwner(Long projectIdx, Long userIdx) {
+        ProjectRole role = projectMemberRepository.findRole(projectIdx, userIdx).orElseThrow(() ->
+                new BusinessLogicException(projectRepository.existsById(projectIdx)
+                        ? ErrorCode.NOT_PROJECT_MEMBER : ErrorCode.PROJECT_NOT_FOUND));
+        if (role != ProjectRole.OWNER) {
+            throw new BusinessLogicException(ErrorCode.NOT_PROJECT_OWNER);
+        }
+    }
+
+    private static long parseIdxCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BusinessLogicException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 페이지 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.softengineerwebpr.domain.project.service;
+
+import com.example.softengineerwebpr.common.dto.KeysetPage;
+import com.example.softengineerwebpr.domain.project.dto.ProjectBoardDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectCreateRequestDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectMemberDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectSummaryDto;
+import com.example.softengineerwebpr.domain.project.dto.TaskCardDto;
+import com.example.softengineerwebpr.domain.project.dto.TaskCreateRequestDto;
+import com.example.softengineerwebpr.domain.project.entity.ProjectRole;
+import com.example.softengineerwebpr.domain.project.entity.TaskStatus;
+
+/**
+ * 프로젝트/칸반 보드 서비스. 조회는 모두 DTO 프로젝션이며 엔티티 그래프를 읽지 않습니다.
+ * cursor가 null이면 첫 페이지입니다. 업무 카드는 열마다 순위 키(FractionalRank) 순입니다.
+ */
+public interface ProjectService {
+
+    Long createProject(Long userIdx, ProjectCreateRequestDto requestDto);
+
+    KeysetPage<ProjectSummaryDto> getJoinedProjects(Long userIdx, String cursor, int size);
+
+    // 세 열(TODO, IN_PROGRESS, DONE)의 첫 페이지와 열별 업무 수
+    ProjectBoardDto getBoard(Long userIdx, Long projectIdx, int columnSize);
+
+    // 참여자가 아니면 예외 (NOT_PROJECT_MEMBER / PROJECT_NOT_FOUND)
+    ProjectRole getMyRole(Long userIdx, Long projectIdx);
+
+    KeysetPage<TaskCardDto> getTasks(Long userIdx, Long projectIdx, TaskStatus status, String cursor, int size);
+
+    KeysetPage<ProjectMemberDto> getMembers(Long userIdx, Long projectIdx, String cursor, int size);
+
+    Long createTask(Long userIdx, Long projectIdx, TaskCreateRequestDto requestDto);
+
+    // 다른 열의 맨 아래로 옮김. 카드 생성/이동은 커밋 후 TaskChangedEvent로 보드 스트림에 전달됨
+    void changeTaskStatus(Long userIdx, Long projectIdx, Long taskIdx, TaskStatus status);
+
+    // 카드 끌어 놓기: status 열의 afterTaskIdx 바로 뒤(null이면 맨 위)로 옮김. 옮기는 카드 한 행만 변경
+    void moveTask(Long userIdx, Long projectIdx, Long taskIdx, TaskStatus status, Long afterTaskIdx);
+}
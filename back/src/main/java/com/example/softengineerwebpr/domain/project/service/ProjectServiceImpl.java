@@ -0,0 +1,243 @@
+package com.example.softengineerwebpr.domain.project.service;
+
+import com.example.softengineerwebpr.common.dto.KeysetPage;
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.util.FractionalRank;
+import com.example.softengineerwebpr.domain.project.dto.BoardColumnDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectBoardDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectCreateRequestDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectHeaderDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectMemberDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectSummaryDto;
+import com.example.softengineerwebpr.domain.project.dto.TaskCardDto;
+import com.example.softengineerwebpr.domain.project.dto.TaskCreateRequestDto;
+import com.example.softengineerwebpr.domain.project.dto.TaskStatusCountDto;
+import com.example.softengineerwebpr.domain.project.entity.Project;
+import com.example.softengineerwebpr.domain.project.entity.ProjectMember;
+import com.example.softengineerwebpr.domain.project.entity.ProjectRole;
+import com.example.softengineerwebpr.domain.project.entity.Task;
+import com.example.softengineerwebpr.domain.project.entity.TaskStatus;
+import com.example.softengineerwebpr.domain.project.event.TaskChangedEvent;
+import com.example.softengineerwebpr.domain.project.repository.ProjectMemberRepository;
+import com.example.softengineerwebpr.domain.project.repository.ProjectRepository;
+import com.example.softengineerwebpr.domain.project.repository.TaskRepository;
+import com.example.softengineerwebpr.domain.user.entity.User;
+import com.example.softengineerwebpr.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProjectServiceImpl implements ProjectService {
+
+    private static final Long NO_TASK = 0L; // 제외할 업무가 없을 때 (idx는 1부터)
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final TaskRankRebalancer taskRankRebalancer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public Long createProject(Long userIdx, ProjectCreateRequestDto requestDto) {
+        User owner = userRepository.getReferenceById(userIdx); // 프록시만 사용 (SELECT 없음)
+        Project project = projectRepository.save(Project.builder()
+                .name(requestDto.getName())
+                .description(requestDto.getDescription())
+                .owner(owner)
+                .build());
+        projectMemberRepository.save(ProjectMember.builder()
+                .project(project)
+                .user(owner)
+                .role(ProjectRole.OWNER)
+                .build());
+        log.info("프로젝트 생성: projectIdx={}, ownerIdx={}", project.getIdx(), userIdx);
+        return project.getIdx();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<ProjectSummaryDto> getJoinedProjects(Long userIdx, String cursor, int size) {
+        List<ProjectSummaryDto> fetched = projectMemberRepository.findJoinedProjects(
+                userIdx, cursor != null ? parseIdxCursor(cursor) : Long.MAX_VALUE, PageRequest.of(0, size + 1));
+        return KeysetPage.of(fetched, size, project -> String.valueOf(project.getIdx()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectBoardDto getBoard(Long userIdx, Long projectIdx, int columnSize) {
+        checkMember(projectIdx, userIdx);
+        ProjectHeaderDto header = projectRepository.findHeader(projectIdx)
+                .orElseThrow(() -> new BusinessLogicException(ErrorCode.PROJECT_NOT_FOUND));
+
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatusCountDto count : taskRepository.countByStatus(projectIdx)) {
+            counts.put(count.getStatus(), count.getCount());
+        }
+        List<BoardColumnDto> columns = new ArrayList<>(TaskStatus.values().length);
+        for (TaskStatus status : TaskStatus.values()) {
+            long taskCount = counts.getOrDefault(status, 0L);
+            // 빈 열은 조회하지 않음
+            KeysetPage<TaskCardDto> tasks = taskCount > 0
+                    ? findCards(projectIdx, status, null, columnSize)
+                    : KeysetPage.of(List.of(), columnSize, ProjectServiceImpl::taskCursor);
+            columns.add(new BoardColumnDto(status, taskCount, tasks));
+        }
+        return new ProjectBoardDto(header, columns);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectRole getMyRole(Long userIdx, Long projectIdx) {
+        return checkMember(projectIdx, userIdx);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<TaskCardDto> getTasks(Long userIdx, Long projectIdx, TaskStatus status, String cursor, int size) {
+        checkMember(projectIdx, userIdx);
+        return findCards(projectIdx, status, cursor, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<ProjectMemberDto> getMembers(Long userIdx, Long projectIdx, String cursor, int size) {
+        checkMember(projectIdx, userIdx);
+        List<ProjectMemberDto> fetched = projectMemberRepository.findMembers(
+                projectIdx, cursor != null ? parseIdxCursor(cursor) : Long.MIN_VALUE, PageRequest.of(0, size + 1));
+        return KeysetPage.of(fetched, size, member -> String.valueOf(member.getUserIdx()));
+    }
+
+    @Override
+    public Long createTask(Long userIdx, Long projectIdx, TaskCreateRequestDto requestDto) {
+        Project project = lockForRankUpdate(projectIdx);
+        checkMember(projectIdx, userIdx);
+        User assignee = null;
+        if (requestDto.getAssigneeIdx() != null) {
+            if (!projectMemberRepository.existsByProjectIdxAndUserIdx(projectIdx, requestDto.getAssigneeIdx())) {
+                throw new BusinessLogicException(ErrorCode.ASSIGNEE_NOT_MEMBER);
+            }
+            assignee = userRepository.getReferenceById(requestDto.getAssigneeIdx());
+        }
+        // 새 업무는 열의 맨 아래
+        TaskStatus status = requestDto.getStatus() != null ? requestDto.getStatus() : TaskStatus.TODO;
+        String rankKey = newRankKey(projectIdx, status, taskRepository.findLastRankKey(projectIdx, status, NO_TASK), null);
+        Task task = taskRepository.save(Task.builder()
+                .project(project)
+                .title(requestDto.getTitle())
+                .content(requestDto.getContent())
+                .status(status)
+                .rankKey(rankKey)
+                .deadline(requestDto.getDeadline())
+                .assignee(assignee)
+                .creator(userRepository.getReferenceById(userIdx))
+                .build());
+        eventPublisher.publishEvent(TaskChangedEvent.created(projectIdx, task.getIdx(), status, rankKey, task.getTitle()));
+        return task.getIdx();
+    }
+
+    @Override
+    public void changeTaskStatus(Long userIdx, Long projectIdx, Long taskIdx, TaskStatus status) {
+        lockForRankUpdate(projectIdx);
+        checkMember(projectIdx, userIdx);
+        // 다른 열로 옮기면 그 열의 맨 아래
+        String rankKey = newRankKey(projectIdx, status, taskRepository.findLastRankKey(projectIdx, status, taskIdx), null);
+        updatePosition(projectIdx, taskIdx, status, rankKey);
+    }
+
+    @Override
+    public void moveTask(Long userIdx, Long projectIdx, Long taskIdx, TaskStatus status, Long afterTaskIdx) {
+        if (taskIdx.equals(afterTaskIdx)) {
+            throw new BusinessLogicException(ErrorCode.INVALID_INPUT_VALUE, "업무를 자기 자신 뒤로 옮길 수 없습니다.");
+        }
+        lockForRankUpdate(projectIdx);
+        checkMember(projectIdx, userIdx);
+        // 기준 카드와 그 다음 카드의 키만 읽고, 옮기는 카드 한 행만 변경 (열의 다른 카드는 그대로)
+        String lower = null;
+        String upper;
+        if (afterTaskIdx == null) {
+            upper = taskRepository.findFirstRankKey(projectIdx, status, taskIdx);
+        } else {
+            // 기준 카드가 그사이 다른 열로 옮겨졌거나 삭제되었으면 클라이언트 보드가 오래된 것
+            lower = taskRepository.findRankKey(projectIdx, status, afterTaskIdx)
+                    .orElseThrow(() -> new BusinessLogicException(ErrorCode.TASK_POSITION_CONFLICT));
+            upper = taskRepository.findNextRankKey(projectIdx, status, lower, taskIdx);
+        }
+        updatePosition(projectIdx, taskIdx, status, newRankKey(projectIdx, status, lower, upper));
+    }
+
+    private void updatePosition(Long projectIdx, Long taskIdx, TaskStatus status, String rankKey) {
+        if (taskRepository.updatePosition(projectIdx, taskIdx, status, rankKey, LocalDateTime.now()) == 0) {
+            throw new BusinessLogicException(ErrorCode.TASK_NOT_FOUND);
+        }
+        eventPublisher.publishEvent(TaskChangedEvent.moved(projectIdx, taskIdx, status, rankKey));
+    }
+
+    // 프로젝트 행 공유 잠금 (열 재배치와 겹치지 않게). 프로젝트가 없으면 예외
+    // 트랜잭션의 첫 조회여야 함: REPEATABLE READ에서 잠금 전에 다른 조회를 하면 그 시점 스냅숏으로
+    // 이웃 키를 읽게 되어, 그사이 커밋된 재배치 이전의 키로 새 키를 만들 수 있음
+    private Project lockForRankUpdate(Long projectIdx) {
+        return projectRepository.findForRankUpdate(projectIdx)
+                .orElseThrow(() -> new BusinessLogicException(ErrorCode.PROJECT_NOT_FOUND));
+    }
+
+    private String newRankKey(Long projectIdx, TaskStatus status, String lower, String upper) {
+        String rankKey = FractionalRank.between(lower, upper);
+        taskRankRebalancer.onRankAssigned(projectIdx, status, rankKey);
+        if (rankKey.length() > Task.RANK_KEY_MAX_LENGTH) {
+            // 재배치가 따라가지 못할 만큼 같은 자리에 몰린 경우. 재배치 후 다시 시도하면 됨
+            throw new BusinessLogicException(ErrorCode.TASK_POSITION_CONFLICT);
+        }
+        return rankKey;
+    }
+
+    private KeysetPage<TaskCardDto> findCards(Long projectIdx, TaskStatus status, String cursor, int size) {
+        String afterRank = "";
+        long afterIdx = Long.MIN_VALUE;
+        if (cursor != null) {
+            // 커서 형식: {rankKey}.{idx}
+            int separator = cursor.lastIndexOf('.');
+            if (separator <= 0 || !FractionalRank.isValid(cursor.substring(0, separator))) {
+                throw new BusinessLogicException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 페이지 커서입니다.");
+            }
+            afterRank = cursor.substring(0, separator);
+            afterIdx = parseIdxCursor(cursor.substring(separator + 1));
+        }
+        List<TaskCardDto> fetched = taskRepository.findCards(
+                projectIdx, status, afterRank, afterIdx, PageRequest.of(0, size + 1));
+        return KeysetPage.of(fetched, size, ProjectServiceImpl::taskCursor);
+    }
+
+    private static String taskCursor(TaskCardDto card) {
+        return card.getRankKey() + "." + card.getIdx();
+    }
+
+    private static long parseIdxCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BusinessLogicException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 페이지 커서입니다.");
+        }
+    }
+
+    // 참여자가 아니면 예외. 프로젝트가 없는 경우와 구분하는 조회는 실패했을 때만 함
+    private ProjectRole checkMember(Long projectIdx, Long userIdx) {
+        return projectMemberRepository.findRole(projectIdx, userIdx).orElseThrow(() ->
+                new BusinessLogicException(projectRepository.existsById(projectIdx)
+                        ? ErrorCode.NOT_PROJECT_MEMBER : ErrorCode.PROJECT_NOT_FOUND));
+    }
+}
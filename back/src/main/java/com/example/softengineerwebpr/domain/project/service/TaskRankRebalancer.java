@@ -0,0 +1,136 @@
+package com.example.softengineerwebpr.domain.project.service;
+
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import com.example.softengineerwebpr.common.util.FractionalRank;
+import com.example.softengineerwebpr.domain.project.entity.TaskStatus;
+import com.example.softengineerwebpr.domain.project.event.TaskChangedEvent;
+import com.example.softengineerwebpr.domain.project.repository.ProjectRepository;
+import com.example.softengineerwebpr.domain.project.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 칸반 열의 순위 키 재배치.
+ * 같은 자리에 카드를 계속 끼워 넣으면 키가 길어지므로, 카드 이동이 rebalance-length 이상인 키를 만들면
+ * 그 열을 대기 목록에 올리고 주기적으로 열 전체의 키를 같은 간격의 짧은 키로 다시 매깁니다. (순서는 그대로)
+ * 재배치는 프로젝트 행 배타 잠금 안에서 하므로, 공유 잠금을 잡고 키를 정하는 카드 이동과 섞이지 않습니다.
+ * 대기 목록은 인스턴스 메모리에만 있으며, 재시작으로 잃어도 다음 이동에서 다시 올라옵니다.
+ * 클라이언트가 가진 키가 모두 바뀌므로 커밋 후 TaskChangedEvent(REBALANCED)로 보드 스트림에 그 열을 다시 읽으라고 알립니다.
+ */
+@Slf4j
+@Component
+public class TaskRankRebalancer implements MetricsSource {
+
+    private static final String UPDATE_RANK_SQL = "UPDATE task SET rank_key = ? WHERE idx = ?";
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int rebalanceLength;
+
+    private final Set<Column> pending = ConcurrentHashMap.newKeySet();
+    private final LongAdder rebalancedColumns = new LongAdder();
+    private final LongAdder rebalancedTasks = new LongAdder();
+
+    public TaskRankRebalancer(ProjectRepository projectRepository,
+                              TaskRepository taskRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${app.project.rank.rebalance-length:24}") int rebalanceLength) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.rebalanceLength = rebalanceLength;
+    }
+
+    /**
+     * 카드에 새 순위 키를 매긴 뒤 호출합니다. 키가 길면 그 열을 재배치 대기 목록에 올립니다.
+     */
+    public void onRankAssigned(Long projectIdx, TaskStatus status, String rankKey) {
+        if (rankKey.length() >= rebalanceLength) {
+            pending.add(new Column(projectIdx, status));
+        }
+    }
+
+    // 대기 중인 열 재배치 (주기: app.project.rank.rebalance-interval-ms)
+    @Scheduled(fixedDelayString = "${app.project.rank.rebalance-interval-ms:10000}")
+    public void rebalancePending() {
+        Iterator<Column> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            Column column = iterator.next();
+            iterator.remove();
+            try {
+                rebalance(column.projectIdx(), column.status());
+            } catch (RuntimeException e) {
+                log.warn("순위 키 재배치 실패: projectIdx={}, status={}: {}",
+                        column.projectIdx(), column.status(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 열 하나의 순위 키를 현재 순서대로 다시 매깁니다. (열의 업무 수만큼 UPDATE를 JDBC 배치로)
+     * @return 다시 매긴 업무 수 (프로젝트가 없으면 0)
+     */
+    public int rebalance(Long projectIdx, TaskStatus status) {
+        Integer updated = transactionTemplate.execute(tx -> {
+            if (projectRepository.findForRebalance(projectIdx).isEmpty()) {
+                return 0;
+            }
+            List<Long> taskIdxs = taskRepository.findIdxInRankOrder(projectIdx, status);
+            List<String> keys = FractionalRank.spread(taskIdxs.size());
+            List<Object[]> rows = new ArrayList<>(taskIdxs.size());
+            for (int i = 0; i < taskIdxs.size(); i++) {
+                rows.add(new Object[]{keys.get(i), taskIdxs.get(i)});
+            }
+            jdbcTemplate.batchUpdate(UPDATE_RANK_SQL, rows);
+            if (!taskIdxs.isEmpty()) {
+                // 트랜잭션 안에서 발행하므로 구독자(@TransactionalEventListener)는 커밋 후에 받음
+                eventPublisher.publishEvent(TaskChangedEvent.rebalanced(projectIdx, status));
+            }
+            return taskIdxs.size();
+        });
+        int count = updated != null ? updated : 0;
+        rebalancedColumns.increment();
+        rebalancedTasks.add(count);
+        log.info("순위 키 재배치: projectIdx={}, status={}, tasks={}", projectIdx, status, count);
+        return count;
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "task-rank";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("pendingColumns", pending.size());
+        metrics.put("rebalancedColumns", rebalancedColumns.sum());
+        metrics.put("rebalancedTasks", rebalancedTasks.sum());
+        return metrics;
+    }
+
+    private record Column(Long projectIdx, TaskStatus status) {
+    }
+}
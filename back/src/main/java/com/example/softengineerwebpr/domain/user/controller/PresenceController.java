@@ -0,0 +1,51 @@
+package com.example.softengineerwebpr.domain.user.controller;
+
+import com.example.softengineerwebpr.common.dto.ApiResponse;
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.util.SecurityUtils;
+import com.example.softengineerwebpr.domain.user.service.PresenceRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/presence")
+@RequiredArgsConstructor
+public class PresenceController {
+
+    private final PresenceRegistry presenceRegistry;
+
+    @Value("${app.presence.max-query-ids:500}")
+    private int maxQueryIds;
+
+    // 접속 유지 신호 API (클라이언트가 app.presence.timeout-ms보다 짧은 주기로 호출)
+    @PostMapping("/heartbeat")
+    public ResponseEntity<ApiResponse<Void>> heartbeat() {
+        Long userIdx = SecurityUtils.currentUserIdx();
+        if (userIdx == null) {
+            throw new BusinessLogicException(ErrorCode.AUTHENTICATION_REQUIRED);
+        }
+        presenceRegistry.heartbeat(userIdx);
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "접속 상태가 갱신되었습니다."));
+    }
+
+    // 주어진 사용자 중 접속 중인 사용자 idx 목록 조회 API (예: /api/presence/online?userIds=1,2,3)
+    @GetMapping("/online")
+    public ResponseEntity<ApiResponse<List<Long>>> onlineUsers(@RequestParam List<Long> userIds) {
+        if (userIds.size() > maxQueryIds) {
+            throw new BusinessLogicException(ErrorCode.INVALID_INPUT_VALUE,
+                    "한 번에 조회할 수 있는 사용자는 최대 " + maxQueryIds + "명입니다.");
+        }
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "접속 중인 사용자 목록입니다.",
+                presenceRegistry.onlineAmong(userIds)));
+    }
+}
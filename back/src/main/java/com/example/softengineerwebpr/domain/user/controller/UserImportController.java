@@ -0,0 +1,77 @@
+package com.example.softengineerwebpr.domain.user.controller;
+
+import com.example.softengineerwebpr.common.dto.ApiResponse;
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.domain.user.dto.UserImportResultDto;
+import com.example.softengineerwebpr.domain.user.service.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')") // 관리자 계정: app.security.admin-login-ids
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    // 사용자 일괄 등록 API (본문: text/csv 또는 application/x-ndjson)
+    // 본문을 받아 두고 바로 202를 반환하며, 진행 상황은 GET /import/{importId}로 확인
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<UserImportResultDto>> importUsers(HttpServletRequest request) throws IOException {
+        UserImportService.Format format = resolveFormat(request.getContentType());
+        log.info("사용자 일괄 등록 시작: format={}, contentLength={}", format, request.getContentLengthLong());
+        UserImportResultDto result = userImportService.startImport(request.getInputStream(), format);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(HttpStatus.ACCEPTED.value(), "사용자 일괄 등록을 시작했습니다.", result));
+    }
+
+    // 일괄 등록 진행 상황 / 결과 요약 조회
+    @GetMapping("/import/{importId}")
+    public ResponseEntity<ApiResponse<UserImportResultDto>> getImport(@PathVariable String importId) {
+        UserImportResultDto result = userImportService.getImport(importId);
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "사용자 일괄 등록 상태 조회 성공", result));
+    }
+
+    // 행별 등록 결과 파일(CSV) 내려받기 (완료 후 result-ttl-ms 동안 보관)
+    @GetMapping("/import/{importId}/result")
+    public ResponseEntity<Resource> downloadResult(@PathVariable String importId) {
+        Path resultFile = userImportService.getResultFile(importId);
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resultFile.getFileName() + "\"")
+                .body(new FileSystemResource(resultFile));
+    }
+
+    private UserImportService.Format resolveFormat(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if ("text".equals(mediaType.getType()) && "csv".equals(mediaType.getSubtype())) {
+                return UserImportService.Format.CSV;
+            }
+            if ("application".equals(mediaType.getType()) && "x-ndjson".equals(mediaType.getSubtype())) {
+                return UserImportService.Format.NDJSON;
+            }
+        }
+        throw new BusinessLogicException(ErrorCode.UNSUPPORTED_IMPORT_FORMAT);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.softengineerwebpr.domain.user.controller;
+
+import com.example.softengineerwebpr.common.dto.ApiResponse;
+import com.example.softengineerwebpr.domain.user.dto.UserSearchResultDto;
+import com.example.softengineerwebpr.domain.user.service.UserSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserSearchController {
+
+    private final UserSearchIndex userSearchIndex;
+
+    // 사용자 검색 API (예: /api/users/search?q=홍길, ?q=ㅎㄱㄷ, ?q=hong%231234, ?q=%231234)
+    // 메모리 인덱스 기준이므로 다른 서버에서 방금 가입/변경한 사용자는 다음 재구성 전까지 보이지 않을 수 있음
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<UserSearchResultDto>>> search(@RequestParam String q,
+                                                                         @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), "사용자 검색 결과입니다.",
+                userSearchIndex.search(q, limit)));
+    }
+}
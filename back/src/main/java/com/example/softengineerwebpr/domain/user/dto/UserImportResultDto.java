@@ -0,0 +1,43 @@
+package com.example.softengineerwebpr.domain.user.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 등록 진행 상황 / 결과 요약.
+ * 행별 전체 결과는 완료 후 resultFile(CSV)로 내려받을 수 있으며, 응답에는 실패 행 일부(errors)만 포함합니다.
+ */
+@Getter
+@Builder
+public class UserImportResultDto {
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String importId;
+    private final Status status;
+    private final int totalRows;
+    private final int importedRows;
+    private final int failedRows;
+    private final long elapsedMillis;
+    private final double rowsPerSecond;
+    private final String resultFile; // GET /api/admin/users/import/{importId}/result (완료 전에는 null)
+    private final List<RowError> errors;
+
+    @Getter
+    public static class RowError {
+        private final int rowNumber;
+        private final String loginId;
+        private final String reason;
+
+        public RowError(int rowNumber, String loginId, String reason) {
+            this.rowNumber = rowNumber;
+            this.loginId = loginId;
+            this.reason = reason;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.softengineerwebpr.domain.user.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 사용자 일괄 등록 파일의 한 행 (CSV: loginId,password,nickname,email / NDJSON: 같은 이름의 필드).
+ * 검증 규칙은 회원가입(SignUpRequestDto)과 같으며, 이메일 인증 절차는 생략합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserImportRowDto {
+
+    @NotBlank(message = "로그인 아이디는 필수 입력 값입니다.")
+    @Size(min = 8, max = 20, message = "로그인 아이디는 8자 이상 20자 이하로 입력해주세요.")
+    @Pattern(regexp = "^[a-zA-Z0-9_-]+$", message = "로그인 아이디는 영어, 숫자, 대시(-), 언더스코어(_)만 사용 가능합니다.")
+    private String loginId;
+
+    @NotBlank(message = "비밀번호는 필수 입력 값입니다.")
+    @Size(min = 8, max = 20, message = "비밀번호는 8자 이상 20자 이하로 입력해주세요.")
+    @Pattern(regexp = "^(?=.*[A-Za-z])(?=.*\\d)(?=.*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>\\/?]).{8,20}$",
+            message = "비밀번호는 영문, 숫자, 특수문자를 최소 1개 이상 포함하여 8~20자로 입력해주세요.")
+    private String password;
+
+    @NotBlank(message = "닉네임은 필수 입력 값입니다.")
+    @Size(min = 4, max = 20, message = "닉네임은 4자 이상 20자 이하로 입력해주세요.")
+    @Pattern(regexp = "^[a-zA-Z0-9가-힣_-]+$", message = "닉네임은 한글, 영어, 숫자, 대시(-), 언더스코어(_)만 사용 가능합니다.")
+    private String nickname;
+
+    @NotBlank(message = "이메일은 필수 입력 값입니다.")
+    @Email(message = "이메일 형식이 올바르지 않습니다.")
+    private String email;
+
+    public UserImportRowDto(String loginId, String password, String nickname, String email) {
+        this.loginId = loginId;
+        this.password = password;
+        this.nickname = nickname;
+        this.email = email;
+    }
+}
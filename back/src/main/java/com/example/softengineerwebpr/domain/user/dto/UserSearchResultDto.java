@@ -0,0 +1,15 @@
+package com.example.softengineerwebpr.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 검색 결과 한 건 (초대 대화상자 등에서 "닉네임#식별코드"로 표시)
+ */
+@Getter
+@AllArgsConstructor
+public class UserSearchResultDto {
+    private Long idx;
+    private String nickname;
+    private String identificationCode;
+}
@@ -11,15 +11,23 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@EntityListeners(UserChangeListener.class) // 닉네임/식별 코드 변경을 사용자 검색 인덱스에 알림
 @Table(name = "user",
         uniqueConstraints = { // 기존 email 유니크 제약은 유지, nickname+identification_code 복합 유니크 제약 추가
                 @UniqueConstraint(name = "uk_user_email", columnNames = "email"),
                 @UniqueConstraint(name = "uk_user_nickname_identification_code", columnNames = {"nickname", "identification_code"})
+        },
+        indexes = { // 다른 노드의 접속 상태, 프로필 변경 폴링용
+                @Index(name = "idx_user_last_seen", columnList = "last_seen"),
+                @Index(name = "idx_user_profile_updated_at", columnList = "profile_updated_at")
         }
 )
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 INSERT 배치를 막으므로 id_sequences 테이블에서 50개씩 구간을 받아 사용 (pooled-lo)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id_generator")
+    @TableGenerator(name = "user_id_generator", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "user", allocationSize = 50)
     @Column(name = "idx")
     private Long idx;
 
@@ -38,9 +46,17 @@ public class User {
     @Column(columnDefinition = "TEXT")
     private String bio;
 
+    // 닉네임/식별 코드가 바뀐 시각. 다른 노드의 사용자 검색 인덱스가 읽어 가는 기준 (JDBC 일괄 등록은 DB 기본값)
+    @Column(name = "profile_updated_at", nullable = false)
+    private LocalDateTime profileUpdatedAt;
+
     @Column(name = "last_login")
     private LocalDateTime lastLogin;
 
+    // 접속 중인 노드가 주기적으로 기록하는 마지막 확인 시각 (PresenceRegistry가 JDBC로만 갱신)
+    @Column(name = "last_seen")
+    private LocalDateTime lastSeen;
+
     @Column(name = "is_online", nullable = false) // DB 스키마에 NOT NULL DEFAULT FALSE 명시됨
     private boolean isOnline;
 
@@ -56,16 +72,19 @@ public class User {
         this.bio = bio;
         this.lastLogin = lastLogin;
         this.isOnline = isOnline;
+        this.profileUpdatedAt = LocalDateTime.now();
     }
 
     public void updateNickname(String nickname) {
         this.nickname = nickname;
+        this.profileUpdatedAt = LocalDateTime.now();
     }
 
     public void updateProfile(String nickname, String profileImage, String bio) {
         this.nickname = nickname;
         this.profileImage = profileImage;
         this.bio = bio;
+        this.profileUpdatedAt = LocalDateTime.now();
     }
 
     public void updateLastLogin() {
@@ -79,5 +98,6 @@ public class User {
     // 재시도 로직에서 identificationCode를 변경하기 위한 Setter 추가
     public void setIdentificationCode(String identificationCode) {
         this.identificationCode = identificationCode;
+        this.profileUpdatedAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.example.softengineerwebpr.domain.user.entity;
+
+import com.example.softengineerwebpr.domain.user.event.UserProfileChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * User 저장/삭제를 UserProfileChangedEvent로 알리는 엔티티 리스너.
+ * Spring Boot가 Hibernate에 SpringBeanContainer를 등록하므로 생성자 주입을 받습니다.
+ * 이벤트는 flush 시점에 발행되며, 구독하는 쪽은 @TransactionalEventListener로 커밋 이후에 반영합니다.
+ */
+public class UserChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(User user) {
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getIdx(), user.getNickname(), user.getIdentificationCode()));
+    }
+
+    @PostRemove
+    public void onRemoved(User user) {
+        eventPublisher.publishEvent(UserProfileChangedEvent.removed(user.getIdx()));
+    }
+}
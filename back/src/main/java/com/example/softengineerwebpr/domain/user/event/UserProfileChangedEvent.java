@@ -0,0 +1,14 @@
+package com.example.softengineerwebpr.domain.user.event;
+
+/**
+ * 사용자의 닉네임/식별 코드가 저장되었을 때 (가입, 프로필 수정, 일괄 등록).
+ * JPA 경로는 UserChangeListener가, JDBC 일괄 등록은 UserImportServiceImpl이 발행합니다.
+ * 값이 바뀌지 않은 저장에도 발행될 수 있으므로 구독하는 쪽에서 같은 값이면 무시합니다.
+ * @param nickname null이면 삭제된 사용자
+ */
+public record UserProfileChangedEvent(Long userIdx, String nickname, String identificationCode) {
+
+    public static UserProfileChangedEvent removed(Long userIdx) {
+        return new UserProfileChangedEvent(userIdx, null, null);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.softengineerwebpr.domain.user.event;
+
+/**
+ * 일반 회원가입 완료 이벤트 (AuthServiceImpl.signUp에서 발행).
+ * 트랜잭션 커밋 이후 처리가 필요하면 @TransactionalEventListener로 구독합니다.
+ */
+public record UserRegisteredEvent(Long userIdx, String loginId) {
+}
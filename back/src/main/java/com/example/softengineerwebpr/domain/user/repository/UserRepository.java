@@ -2,7 +2,11 @@ package com.example.softengineerwebpr.domain.user.repository;
 
 import com.example.softengineerwebpr.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -21,4 +25,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 닉네임 존재 여부 확인
     boolean existsByNickname(String nickname);
+
+    // 닉네임에 이미 할당된 식별 코드 목록 (IdentificationCodeAllocator 초기 적재용)
+    @Query("select u.identificationCode from User u where u.nickname = :nickname")
+    List<String> findIdentificationCodesByNickname(@Param("nickname") String nickname);
+
+    // 주어진 idx 중 실제로 있는 사용자 (프로젝트 일괄 초대 검증용)
+    @Query("select u.idx from User u where u.idx in :idxs")
+    List<Long> findExistingIdxs(@Param("idxs") Collection<Long> idxs);
 }
@@ -0,0 +1,116 @@
+package com.example.softengineerwebpr.domain.user.service;
+
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 닉네임별 식별 코드 할당기.
+ * 닉네임마다 사용 중인 코드 집합(IdentificationCodeSpace)을 처음 요청 시 DB에서 한 번 읽어 두고,
+ * 이후에는 메모리에서 비어 있는 코드를 바로 골라 줍니다. (랜덤 코드 + saveAndFlush 재시도 방식 대체)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdentificationCodeAllocator {
+
+    // 메모리에 유지할 닉네임 수 상한 (초과 시 일부를 비우고, 필요하면 DB에서 다시 읽음)
+    private static final int MAX_CACHED_NICKNAMES = 10_000;
+
+    private final UserRepository userRepository;
+    private final Map<String, IdentificationCodeSpace> codeSpaces = new ConcurrentHashMap<>();
+
+    /**
+     * 닉네임에 대해 아직 사용되지 않은 식별 코드를 예약하여 반환합니다.
+     * 현재 트랜잭션이 롤백되면 예약했던 코드는 자동으로 반환됩니다.
+     */
+    public String allocate(String nickname) {
+        String key = normalize(nickname);
+        IdentificationCodeSpace codeSpace = getOrLoad(key);
+        int code = codeSpace.allocate(ThreadLocalRandom.current().nextInt(IdentificationCodeSpace.CODE_SPACE_SIZE));
+        if (code < 0) {
+            log.warn("식별 코드 소진: nickname={}", nickname);
+            throw new BusinessLogicException(ErrorCode.IDENTIFICATION_CODE_EXHAUSTED);
+        }
+        releaseOnRollback(key, codeSpace, code);
+        return IdentificationCodeSpace.format(code);
+    }
+
+    /**
+     * 다른 인스턴스에서 같은 코드가 먼저 저장되는 등 메모리 상태가 DB와 어긋났을 때 호출합니다.
+     * 해당 닉네임의 캐시를 비워 다음 할당 시 DB에서 다시 읽도록 합니다.
+     */
+    public void invalidate(String nickname) {
+        codeSpaces.remove(normalize(nickname));
+    }
+
+    /**
+     * 대량 등록 전에 여러 닉네임의 사용 현황을 한 번에 적재합니다. (닉네임마다 DB를 조회하지 않도록)
+     * @param usedCodesByNickname 닉네임 → 이미 사용 중인 식별 코드 목록 (사용 중인 코드가 없는 닉네임도 빈 목록으로 포함)
+     */
+    public void preload(Map<String, ? extends Collection<String>> usedCodesByNickname) {
+        for (Map.Entry<String, ? extends Collection<String>> entry : usedCodesByNickname.entrySet()) {
+            String key = normalize(entry.getKey());
+            if (codeSpaces.containsKey(key)) {
+                continue; // 이미 적재된 공간에는 이 노드에서 예약한 코드가 반영되어 있음
+            }
+            if (codeSpaces.size() >= MAX_CACHED_NICKNAMES) {
+                evictSome();
+            }
+            codeSpaces.putIfAbsent(key, new IdentificationCodeSpace(entry.getValue()));
+        }
+    }
+
+    private IdentificationCodeSpace getOrLoad(String key) {
+        IdentificationCodeSpace codeSpace = codeSpaces.get(key);
+        if (codeSpace != null) {
+            return codeSpace;
+        }
+        if (codeSpaces.size() >= MAX_CACHED_NICKNAMES) {
+            evictSome();
+        }
+        IdentificationCodeSpace loaded = new IdentificationCodeSpace(userRepository.findIdentificationCodesByNickname(key));
+        IdentificationCodeSpace existing = codeSpaces.putIfAbsent(key, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private void evictSome() {
+        int toEvict = MAX_CACHED_NICKNAMES / 10;
+        Iterator<String> iterator = codeSpaces.keySet().iterator();
+        while (toEvict-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private void releaseOnRollback(String key, IdentificationCodeSpace codeSpace, int code) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED && codeSpaces.get(key) == codeSpace) {
+                    codeSpace.release(code);
+                }
+            }
+        });
+    }
+
+    // DB 기본 collation(대소문자 무시)과 같은 기준으로 닉네임을 묶기 위해 소문자로 정규화
+    private static String normalize(String nickname) {
+        return nickname.toLowerCase(Locale.ROOT);
+    }
+}
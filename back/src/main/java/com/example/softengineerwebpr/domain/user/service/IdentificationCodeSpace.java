@@ -0,0 +1,100 @@
+package com.example.softengineerwebpr.domain.user.service;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * 닉네임 하나에 대한 식별 코드(0000~9999) 사용 현황.
+ * 사용 중인 코드를 10,000비트 BitSet으로 표시하고, 비어 있는 코드를 바로 찾아 예약합니다.
+ * (BitSet.nextClearBit는 최대 157개의 long 워드만 훑으므로 코드 공간이 거의 찬 경우에도 상수 시간에 끝납니다.)
+ */
+public class IdentificationCodeSpace {
+
+    public static final int CODE_SPACE_SIZE = 10_000;
+
+    private final BitSet usedCodes = new BitSet(CODE_SPACE_SIZE);
+    private int usedCount;
+
+    public IdentificationCodeSpace() {
+    }
+
+    public IdentificationCodeSpace(Collection<String> usedIdentificationCodes) {
+        for (String identificationCode : usedIdentificationCodes) {
+            int code = parse(identificationCode);
+            if (code >= 0) {
+                markUsed(code);
+            }
+        }
+    }
+
+    /**
+     * start 위치부터 비어 있는 코드를 찾아 사용 중으로 표시합니다.
+     * @param start 탐색 시작 위치 (0 ~ 9999, 호출 측에서 랜덤하게 지정)
+     * @return 예약된 코드, 남은 코드가 없으면 -1
+     */
+    public synchronized int allocate(int start) {
+        if (usedCount >= CODE_SPACE_SIZE) {
+            return -1;
+        }
+        int code = usedCodes.nextClearBit(start);
+        if (code >= CODE_SPACE_SIZE) { // 끝까지 찼으면 처음부터 다시 탐색
+            code = usedCodes.nextClearBit(0);
+        }
+        usedCodes.set(code);
+        usedCount++;
+        return code;
+    }
+
+    public synchronized void markUsed(int code) {
+        if (!usedCodes.get(code)) {
+            usedCodes.set(code);
+            usedCount++;
+        }
+    }
+
+    public synchronized void release(int code) {
+        if (usedCodes.get(code)) {
+            usedCodes.clear(code);
+            usedCount--;
+        }
+    }
+
+    public synchronized boolean isUsed(int code) {
+        return usedCodes.get(code);
+    }
+
+    public synchronized int getUsedCount() {
+        return usedCount;
+    }
+
+    /**
+     * 4자리 식별 코드 문자열을 숫자로 변환합니다.
+     * @return 0 ~ 9999 범위의 코드, 형식이 맞지 않으면 -1
+     */
+    public static int parse(String identificationCode) {
+        if (identificationCode == null || identificationCode.length() != 4) {
+            return -1;
+        }
+        int code = 0;
+        for (int i = 0; i < 4; i++) {
+            char c = identificationCode.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            code = code * 10 + (c - '0');
+        }
+        return code;
+    }
+
+    /**
+     * 숫자 코드를 4자리 문자열(예: 7 -> "0007")로 변환합니다.
+     */
+    public static String format(int code) {
+        char[] digits = new char[4];
+        for (int i = 3; i >= 0; i--) {
+            digits[i] = (char) ('0' + code % 10);
+            code /= 10;
+        }
+        return new String(digits);
+    }
+}
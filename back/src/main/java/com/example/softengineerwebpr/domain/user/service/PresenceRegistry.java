@@ -0,0 +1,340 @@
+package com.example.softengineerwebpr.domain.user.service;
+
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import com.example.softengineerwebpr.common.util.SecurityUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.authentication.event.LogoutSuccessEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.session.SessionDestroyedEvent;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자 접속 상태(참여 유저 목록 등) 레지스트리.
+ * - 로그인 성공 이벤트, 로그아웃/세션 만료 이벤트, 클라이언트 heartbeat로 메모리의 마지막 확인 시각을 갱신
+ * - timeout-ms 동안 heartbeat가 없으면 오프라인으로 전환
+ * - user.is_online / user.last_login은 상태가 바뀔 때만 사용자별로 합쳐 두었다가 flush()에서 배치 UPDATE
+ *   (heartbeat는 DB에 바로 쓰지 않고, 온라인 사용자의 user.last_seen만 last-seen-publish-interval-ms마다 갱신)
+ * - 오프라인 기록은 조건부: 다른 노드가 더 최근의 last_seen을 기록했으면(그 노드에서 아직 heartbeat 중) is_online을 그대로 둠
+ * - 다른 노드에 접속한 사용자는 remote-poll-interval-ms마다 is_online이고 last_seen이 timeout 안인 행을 읽어 remoteLastSeen에 둠
+ * 접속 상태 조회는 메모리만 보며(DB 조회 없음), 이 노드의 heartbeat 또는 다른 노드가 기록한 last_seen이 timeout 안이면 온라인입니다.
+ * 다른 노드의 접속/접속 종료는 최대 (last-seen-publish-interval-ms 또는 flush-interval-ms) + remote-poll-interval-ms 늦게 보입니다.
+ */
+@Slf4j
+@Service
+public class PresenceRegistry implements MetricsSource, DisposableBean {
+
+    private static final String SELECT_ONLINE_SQL = "SELECT idx, last_seen FROM user WHERE is_online = TRUE";
+    private static final String SELECT_RECENTLY_SEEN_SQL =
+            "SELECT idx, last_seen FROM user WHERE last_seen >= ? AND is_online = TRUE";
+    // last_login은 로그인으로 바뀐 경우에만 덮어쓰고, last_seen은 다른 노드가 쓴 더 최근 값을 되돌리지 않음
+    private static final String UPDATE_ONLINE_SQL =
+            "UPDATE user SET is_online = TRUE, last_seen = GREATEST(COALESCE(last_seen, ?), ?), "
+                    + "last_login = COALESCE(?, last_login) WHERE idx = ?";
+    // last_seen이 기준 시각보다 최근이면 다른 노드에서 접속 중이므로 is_online은 유지
+    private static final String UPDATE_OFFLINE_SQL =
+            "UPDATE user SET is_online = CASE WHEN last_seen IS NULL OR last_seen <= ? THEN FALSE ELSE is_online END, "
+                    + "last_login = COALESCE(?, last_login) WHERE idx = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long timeoutMillis;
+    private final long publishIntervalMillis;
+
+    // userIdx -> 마지막 확인 시각 (온라인 사용자만)
+    private final Map<Long, Presence> presences = new ConcurrentHashMap<>();
+    // userIdx -> 아직 DB에 반영하지 않은 상태
+    private final Map<Long, PendingPresence> pending = new ConcurrentHashMap<>();
+    // userIdx -> DB의 last_seen(ms). 마지막 폴링 결과 (다른 노드에 접속한 사용자 포함)
+    private volatile Map<Long, Long> remoteLastSeen = new ConcurrentHashMap<>();
+
+    private final LongAdder heartbeats = new LongAdder();
+    private final LongAdder logins = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder flushBatches = new LongAdder();
+    private final LongAdder lastSeenPublished = new LongAdder();
+    private final LongAdder remotePollFailures = new LongAdder();
+
+    public PresenceRegistry(JdbcTemplate jdbcTemplate,
+                            @Value("${app.presence.timeout-ms:90000}") long timeoutMillis,
+                            @Value("${app.presence.last-seen-publish-interval-ms:30000}") long publishIntervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.timeoutMillis = timeoutMillis;
+        this.publishIntervalMillis = publishIntervalMillis;
+    }
+
+    /**
+     * 클라이언트 heartbeat. 이미 온라인이면 메모리의 시각만 갱신합니다.
+     */
+    public void heartbeat(Long userIdx) {
+        heartbeats.increment();
+        touch(userIdx, System.currentTimeMillis());
+    }
+
+    public boolean isOnline(Long userIdx) {
+        return isOnline(userIdx, System.currentTimeMillis() - timeoutMillis);
+    }
+
+    /**
+     * 주어진 사용자 중 온라인인 사용자의 idx를 요청 순서대로 반환합니다. (DB 조회 없음)
+     */
+    public List<Long> onlineAmong(Collection<Long> userIdxs) {
+        long cutoff = System.currentTimeMillis() - timeoutMillis;
+        List<Long> online = new ArrayList<>();
+        for (Long userIdx : userIdxs) {
+            if (userIdx != null && isOnline(userIdx, cutoff)) {
+                online.add(userIdx);
+            }
+        }
+        return online;
+    }
+
+    // 이 노드의 heartbeat 또는 다른 노드가 기록한 last_seen 중 하나라도 기준 시각 이후면 온라인
+    private boolean isOnline(Long userIdx, long cutoff) {
+        Presence presence = presences.get(userIdx);
+        if (presence != null && presence.lastSeenMillis >= cutoff) {
+            return true;
+        }
+        Long remote = remoteLastSeen.get(userIdx);
+        return remote != null && remote >= cutoff;
+    }
+
+    // 폼 로그인, 소셜 로그인 성공 (토큰 요청 인증은 이벤트를 발행하지 않으므로 로그인으로 세지 않음)
+    @EventListener
+    public void onAuthenticationSuccess(AuthenticationSuccessEvent event) {
+        Long userIdx = SecurityUtils.userIdxOf(event.getAuthentication());
+        if (userIdx == null) {
+            return;
+        }
+        logins.increment();
+        touch(userIdx, System.currentTimeMillis());
+        pending.merge(userIdx, new PendingPresence(true, LocalDateTime.now(), 0), PendingPresence::merge);
+    }
+
+    @EventListener
+    public void onLogout(LogoutSuccessEvent event) {
+        markOffline(event.getAuthentication());
+    }
+
+    // 세션 만료/무효화 (메모리 세션 저장소에서 HttpSessionEventPublisher가 발행)
+    @EventListener
+    public void onSessionDestroyed(SessionDestroyedEvent event) {
+        for (SecurityContext context : event.getSecurityContexts()) {
+            markOffline(context.getAuthentication());
+        }
+    }
+
+    // 비정상 종료 등으로 DB에 온라인으로 남은 사용자는 일단 온라인으로 올리고, heartbeat가 없으면 timeout 후 정리
+    // (다른 노드에서 접속 중인 사용자는 그 노드가 last_seen을 계속 갱신하므로 오프라인으로 기록되지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnlineUsers() {
+        long now = System.currentTimeMillis();
+        jdbcTemplate.query(SELECT_ONLINE_SQL, rs -> {
+            Timestamp lastSeen = rs.getTimestamp("last_seen");
+            Presence presence = new Presence(now);
+            presence.lastSeenInDbMillis = lastSeen != null ? lastSeen.getTime() : 0;
+            presences.putIfAbsent(rs.getLong("idx"), presence);
+        });
+        log.info("접속 상태 초기화: DB상 온라인 사용자 {}명", presences.size());
+    }
+
+    /**
+     * 다른 노드에 접속한 사용자를 포함해 DB상 온라인이고 last_seen이 timeout 안인 사용자를 읽어 메모리 조회에 합칩니다.
+     * 결과로 통째로 바꾸므로 다른 노드에서 접속을 끊은 사용자는 다음 폴링에서 빠집니다.
+     */
+    @Scheduled(fixedDelayString = "${app.presence.remote-poll-interval-ms:5000}")
+    public void pollRemote() {
+        Map<Long, Long> polled = new ConcurrentHashMap<>();
+        try {
+            jdbcTemplate.query(SELECT_RECENTLY_SEEN_SQL, rs -> {
+                long userIdx = rs.getLong("idx");
+                PendingPresence change = pending.get(userIdx);
+                if (change != null && !change.online) {
+                    return; // 이 노드에서 접속을 끊었지만 아직 DB에 반영 전
+                }
+                polled.put(userIdx, rs.getTimestamp("last_seen").getTime());
+            }, new Timestamp(System.currentTimeMillis() - timeoutMillis));
+        } catch (RuntimeException e) {
+            // 이전 결과를 유지하고, 그 안의 last_seen이 timeout을 넘기면 자연히 오프라인으로 보임
+            remotePollFailures.increment();
+            log.warn("다른 노드의 접속 상태 조회 실패: {}", e.getMessage());
+            return;
+        }
+        remoteLastSeen = polled;
+    }
+
+    @Scheduled(fixedDelayString = "${app.presence.sweep-interval-ms:15000}")
+    public void expireStale() {
+        long cutoff = System.currentTimeMillis() - timeoutMillis;
+        for (Map.Entry<Long, Presence> entry : Set.copyOf(presences.entrySet())) {
+            Presence presence = entry.getValue();
+            if (presence.lastSeenMillis < cutoff && presences.remove(entry.getKey(), presence)) {
+                timedOut.increment();
+                pending.merge(entry.getKey(), PendingPresence.offline(presence), PendingPresence::merge);
+            }
+        }
+    }
+
+    /**
+     * 모아 둔 상태 변경과 온라인 사용자의 last_seen을 배치 UPDATE로 반영합니다. (종료 시에도 한 번 호출)
+     */
+    @Scheduled(fixedDelayString = "${app.presence.flush-interval-ms:10000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        List<Object[]> online = new ArrayList<>();
+        List<Object[]> offline = new ArrayList<>();
+        Set<Long> changed = Set.copyOf(pending.keySet());
+        for (Long userIdx : changed) {
+            PendingPresence change = pending.remove(userIdx);
+            if (change == null) {
+                continue;
+            }
+            Timestamp lastLogin = change.lastLogin != null ? Timestamp.valueOf(change.lastLogin) : null;
+            if (change.online) {
+                Presence presence = presences.get(userIdx);
+                online.add(onlineRow(userIdx, presence != null ? publish(presence) : truncateToSeconds(now), lastLogin));
+            } else {
+                // 이 노드가 기록한(또는 기동 시 읽은) last_seen과 timeout 기준 중 늦은 쪽보다 최근이면 다른 노드의 기록
+                long threshold = Math.max(change.lastSeenInDbMillis, now - timeoutMillis);
+                offline.add(new Object[]{new Timestamp(threshold), lastLogin, userIdx});
+            }
+        }
+        // 상태 변화 없이 heartbeat만 오는 사용자는 publish 주기마다 last_seen만 갱신
+        for (Map.Entry<Long, Presence> entry : presences.entrySet()) {
+            Presence presence = entry.getValue();
+            if (!changed.contains(entry.getKey())
+                    && presence.lastSeenMillis - presence.publishedMillis >= publishIntervalMillis) {
+                online.add(onlineRow(entry.getKey(), publish(presence), null));
+                lastSeenPublished.increment();
+            }
+        }
+        if (online.isEmpty() && offline.isEmpty()) {
+            return;
+        }
+        try {
+            if (!online.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_ONLINE_SQL, online);
+            }
+            if (!offline.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_OFFLINE_SQL, offline);
+            }
+            flushedRows.add(online.size() + offline.size());
+            flushBatches.increment();
+        } catch (RuntimeException e) {
+            // 접속 상태 컬럼은 표시용이므로 재시도하지 않고 기록만 함 (메모리 상태가 기준)
+            log.warn("접속 상태 일괄 반영 실패 ({}건): {}", online.size() + offline.size(), e.getMessage());
+        }
+    }
+
+    private static Object[] onlineRow(Long userIdx, long lastSeenMillis, Timestamp lastLogin) {
+        Timestamp lastSeen = new Timestamp(lastSeenMillis);
+        return new Object[]{lastSeen, lastSeen, lastLogin, userIdx};
+    }
+
+    // 기록할 last_seen (DATETIME 정밀도에 맞춰 초 단위로 내림해 오프라인 조건의 비교가 어긋나지 않게 함)
+    private static long publish(Presence presence) {
+        long lastSeen = truncateToSeconds(presence.lastSeenMillis);
+        presence.publishedMillis = presence.lastSeenMillis;
+        presence.lastSeenInDbMillis = lastSeen;
+        return lastSeen;
+    }
+
+    private static long truncateToSeconds(long millis) {
+        return millis - Math.floorMod(millis, 1000L);
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private void touch(Long userIdx, long now) {
+        Presence presence = presences.get(userIdx);
+        if (presence != null) {
+            presence.lastSeenMillis = now;
+            return;
+        }
+        Presence existing = presences.putIfAbsent(userIdx, new Presence(now));
+        if (existing == null) {
+            pending.merge(userIdx, new PendingPresence(true, null, 0), PendingPresence::merge);
+        } else {
+            existing.lastSeenMillis = now;
+        }
+    }
+
+    private void markOffline(Authentication authentication) {
+        Long userIdx = authentication != null ? SecurityUtils.userIdxOf(authentication) : null;
+        Presence removed = userIdx != null ? presences.remove(userIdx) : null;
+        if (userIdx != null) {
+            remoteLastSeen.remove(userIdx); // 이 노드가 기록한 last_seen으로 온라인으로 보이지 않도록
+        }
+        if (removed != null) {
+            pending.merge(userIdx, PendingPresence.offline(removed), PendingPresence::merge);
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "presence";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("online", presences.size());
+        metrics.put("onlineInDatabase", remoteLastSeen.size());
+        metrics.put("remotePollFailures", remotePollFailures.sum());
+        metrics.put("heartbeats", heartbeats.sum());
+        metrics.put("logins", logins.sum());
+        metrics.put("timedOut", timedOut.sum());
+        metrics.put("pending", pending.size());
+        metrics.put("flushedRows", flushedRows.sum());
+        metrics.put("flushBatches", flushBatches.sum());
+        metrics.put("lastSeenPublished", lastSeenPublished.sum());
+        return metrics;
+    }
+
+    private static final class Presence {
+        private volatile long lastSeenMillis;
+        // 마지막으로 last_seen을 기록한 시점의 lastSeenMillis (publish 주기 판단용)
+        private volatile long publishedMillis;
+        // 이 노드가 기록했거나 기동 시 읽은 user.last_seen (모르면 0)
+        private volatile long lastSeenInDbMillis;
+
+        private Presence(long lastSeenMillis) {
+            this.lastSeenMillis = lastSeenMillis;
+            this.publishedMillis = lastSeenMillis;
+        }
+    }
+
+    // 온라인 여부는 마지막 값, 마지막 로그인 시각과 DB의 last_seen은 가장 최근 값을 유지
+    private record PendingPresence(boolean online, LocalDateTime lastLogin, long lastSeenInDbMillis) {
+        private static PendingPresence offline(Presence presence) {
+            return new PendingPresence(false, null, presence.lastSeenInDbMillis);
+        }
+
+        private PendingPresence merge(PendingPresence next) {
+            LocalDateTime latestLogin = lastLogin == null ? next.lastLogin
+                    : next.lastLogin == null || lastLogin.isAfter(next.lastLogin) ? lastLogin : next.lastLogin;
+            return new PendingPresence(next.online, latestLogin, Math.max(lastSeenInDbMillis, next.lastSeenInDbMillis));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.softengineerwebpr.domain.user.service;
+
+import com.example.softengineerwebpr.domain.user.dto.UserImportResultDto;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Path;
+
+public interface UserImportService {
+
+    enum Format {
+        CSV,
+        NDJSON
+    }
+
+    /**
+     * 입력을 임시 파일로 받아 둔 뒤 백그라운드에서 일괄 등록을 시작하고, 진행 중(RUNNING) 상태를 바로 반환합니다.
+     */
+    UserImportResultDto startImport(InputStream input, Format format);
+
+    /**
+     * 입력을 한 줄씩 읽어 사용자와 로그인 자격 증명을 호출 스레드에서 일괄 등록합니다.
+     * 잘못된 행은 건너뛰고 행별 결과를 결과 파일에 기록합니다.
+     */
+    UserImportResultDto importUsers(Reader input, Format format);
+
+    UserImportResultDto getImport(String importId);
+
+    Path getResultFile(String importId);
+}
@@ -0,0 +1,600 @@
+package com.example.softengineerwebpr.domain.user.service;
+
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.repository.IdSequenceAllocator;
+import com.example.softengineerwebpr.config.security.AdaptiveBCryptPasswordEncoder;
+import com.example.softengineerwebpr.domain.user.dto.UserImportResultDto;
+import com.example.softengineerwebpr.domain.user.dto.UserImportRowDto;
+import com.example.softengineerwebpr.domain.user.event.UserProfileChangedEvent;
+import com.example.softengineerwebpr.domain.user.event.UserRegisteredEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 일괄 등록.
+ * 입력을 chunk-size 행씩 끊어서
+ * 1) 형식 검증 + 파일 내/DB 중복 검사 (중복 검사는 chunk마다 IN 쿼리 한 번)
+ * 2) 로그인과 같은 해싱 풀에서 비밀번호를 병렬 해싱 (풀의 절반까지만 사용, AdaptiveBCryptPasswordEncoder.encodeInBackground)
+ * 3) 식별 코드를 닉네임별 사용 현황을 한 번에 적재한 뒤 메모리에서 할당
+ * 4) id_sequences에서 ID 구간을 예약해 user / user_credential을 JDBC 배치 INSERT (chunk 단위 트랜잭션)
+ * 순서로 처리합니다. 배치 INSERT가 실패하면 해당 chunk만 행 단위로 다시 등록해 실패한 행을 찾아냅니다.
+ * API 요청(startImport)은 업로드를 결과 디렉터리에 임시 파일로 받아 둔 뒤 전용 스레드에서 처리하고 바로 응답하며,
+ * 진행 상황은 getImport로 조회합니다. 결과 파일과 작업 정보는 result-ttl-ms가 지나면 지웁니다.
+ */
+@Slf4j
+@Service
+public class UserImportServiceImpl implements UserImportService, DisposableBean {
+
+    private static final int MAX_ERRORS_IN_RESPONSE = 100;
+    private static final Pattern IMPORT_ID_PATTERN = Pattern.compile("^[0-9A-Za-z-]+$");
+    private static final DateTimeFormatter IMPORT_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private static final String SELECT_EXISTING_LOGIN_IDS_SQL = "SELECT id FROM user_credential WHERE id IN (:loginIds)";
+    private static final String SELECT_EXISTING_EMAILS_SQL = "SELECT email FROM user WHERE email IN (:emails)";
+    private static final String SELECT_USED_CODES_SQL = "SELECT nickname, identification_code FROM user WHERE nickname IN (:nicknames)";
+    // ID는 엔티티와 같은 id_sequences 구간에서 미리 받아 명시적으로 넣음 (user_credential.user_idx를 바로 채울 수 있음)
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO user (idx, nickname, email, identification_code, is_online) VALUES (?, ?, ?, ?, FALSE)";
+    private static final String INSERT_CREDENTIAL_SQL =
+            "INSERT INTO user_credential (idx, user_idx, id, password) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IdSequenceAllocator idSequenceAllocator;
+    private final AdaptiveBCryptPasswordEncoder passwordEncoder;
+    private final IdentificationCodeAllocator identificationCodeAllocator;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService importExecutor;
+    private final int chunkSize;
+    private final Path resultDirectory;
+    private final long resultTtlMillis;
+    private final Semaphore importPermit = new Semaphore(1); // 동시에 하나의 일괄 등록만 허용
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public UserImportServiceImpl(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 IdSequenceAllocator idSequenceAllocator,
+                                 AdaptiveBCryptPasswordEncoder passwordEncoder,
+                                 IdentificationCodeAllocator identificationCodeAllocator,
+                                 Validator validator,
+                                 ObjectMapper objectMapper,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${app.admin.user-import.chunk-size:1000}") int chunkSize,
+                                 @Value("${app.admin.user-import.result-dir:${java.io.tmpdir}/user-import}") String resultDirectory,
+                                 @Value("${app.admin.user-import.result-ttl-ms:3600000}") long resultTtlMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idSequenceAllocator = idSequenceAllocator;
+        this.passwordEncoder = passwordEncoder;
+        this.identificationCodeAllocator = identificationCodeAllocator;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.resultDirectory = Paths.get(resultDirectory);
+        this.resultTtlMillis = resultTtlMillis;
+        this.importExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public UserImportResultDto startImport(InputStream input, Format format) {
+        if (!importPermit.tryAcquire()) {
+            throw new BusinessLogicException(ErrorCode.IMPORT_ALREADY_RUNNING);
+        }
+        ImportJob job = new ImportJob(newImportId());
+        Path upload = resultDirectory.resolve(job.importId + ".upload");
+        try {
+            // 요청 본문은 응답 후에 읽을 수 없으므로 먼저 파일로 받아 둠
+            Files.createDirectories(resultDirectory);
+            Files.copy(input, upload, StandardCopyOption.REPLACE_EXISTING);
+            jobs.put(job.importId, job);
+            importExecutor.execute(() -> {
+                try (Reader reader = Files.newBufferedReader(upload, StandardCharsets.UTF_8)) {
+                    runImport(job, reader, format);
+                } catch (IOException | RuntimeException e) {
+                    job.fail();
+                    log.error("사용자 일괄 등록 실패: importId={}", job.importId, e);
+                } finally {
+                    deleteQuietly(upload);
+                    importPermit.release();
+                }
+            });
+        } catch (IOException | RejectedExecutionException e) {
+            jobs.remove(job.importId);
+            deleteQuietly(upload);
+            importPermit.release();
+            log.error("사용자 일괄 등록 업로드 저장 실패: importId={}", job.importId, e);
+            throw new BusinessLogicException(ErrorCode.INTERNAL_SERVER_ERROR, "일괄 등록 파일을 처리하는 중 오류가 발생했습니다.");
+        }
+        return job.toDto();
+    }
+
+    @Override
+    public UserImportResultDto importUsers(Reader input, Format format) {
+        if (!importPermit.tryAcquire()) {
+            throw new BusinessLogicException(ErrorCode.IMPORT_ALREADY_RUNNING);
+        }
+        try {
+            ImportJob job = new ImportJob(newImportId());
+            jobs.put(job.importId, job);
+            return runImport(job, input, format);
+        } finally {
+            importPermit.release();
+        }
+    }
+
+    @Override
+    public UserImportResultDto getImport(String importId) {
+        return findJob(importId).toDto();
+    }
+
+    @Override
+    public Path getResultFile(String importId) {
+        ImportJob job = findJob(importId);
+        if (job.status == UserImportResultDto.Status.RUNNING) {
+            throw new BusinessLogicException(ErrorCode.IMPORT_NOT_FINISHED);
+        }
+        Path resultFile = resultDirectory.resolve(importId + ".csv");
+        if (!Files.isRegularFile(resultFile)) {
+            throw new BusinessLogicException(ErrorCode.IMPORT_RESULT_NOT_FOUND);
+        }
+        return resultFile;
+    }
+
+    private ImportJob findJob(String importId) {
+        ImportJob job = importId != null && IMPORT_ID_PATTERN.matcher(importId).matches() ? jobs.get(importId) : null;
+        if (job == null) {
+            throw new BusinessLogicException(ErrorCode.IMPORT_RESULT_NOT_FOUND);
+        }
+        return job;
+    }
+
+    /**
+     * 끝난 지 result-ttl-ms가 지난 작업 정보와 결과 디렉터리의 파일(결과 CSV, 비정상 종료로 남은 업로드)을 지웁니다.
+     */
+    @Scheduled(fixedDelayString = "${app.admin.user-import.purge-interval-ms:600000}")
+    public void purgeExpiredResults() {
+        long expiredBefore = System.currentTimeMillis() - resultTtlMillis;
+        jobs.values().removeIf(job -> job.finishedAtMillis > 0 && job.finishedAtMillis < expiredBefore);
+        if (!Files.isDirectory(resultDirectory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(resultDirectory)) {
+            files.filter(file -> !jobs.containsKey(importIdOf(file)) && lastModifiedMillis(file) < expiredBefore)
+                    .forEach(UserImportServiceImpl::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("일괄 등록 결과 파일 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String importIdOf(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.indexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    private static long lastModifiedMillis(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("일괄 등록 파일 삭제 실패: {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static String newImportId() {
+        return LocalDateTime.now().format(IMPORT_ID_FORMAT) + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private UserImportResultDto runImport(ImportJob job, Reader input, Format format) {
+        String importId = job.importId;
+        Set<String> seenLoginIds = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+
+        try {
+            Files.createDirectories(resultDirectory);
+            try (BufferedReader reader = new BufferedReader(input);
+                 BufferedWriter writer = Files.newBufferedWriter(resultDirectory.resolve(importId + ".csv"), StandardCharsets.UTF_8)) {
+                writer.write("rowNumber,loginId,result,identificationCode,message");
+                writer.newLine();
+
+                List<ImportRow> chunk = new ArrayList<>(chunkSize);
+                String line;
+                int lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank() || (lineNumber == 1 && format == Format.CSV && isCsvHeader(line))) {
+                        continue;
+                    }
+                    chunk.add(parse(lineNumber, line, format));
+                    if (chunk.size() >= chunkSize) {
+                        processChunk(chunk, seenLoginIds, seenEmails);
+                        writeResults(chunk, writer, job);
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    processChunk(chunk, seenLoginIds, seenEmails);
+                    writeResults(chunk, writer, job);
+                }
+            }
+        } catch (IOException e) {
+            job.fail();
+            log.error("사용자 일괄 등록 입출력 오류: importId={}", importId, e);
+            throw new BusinessLogicException(ErrorCode.INTERNAL_SERVER_ERROR, "일괄 등록 파일을 처리하는 중 오류가 발생했습니다.");
+        } catch (RuntimeException e) {
+            job.fail();
+            throw e;
+        }
+
+        job.complete();
+        UserImportResultDto result = job.toDto();
+        log.info("사용자 일괄 등록 완료: importId={}, total={}, imported={}, failed={}, {}ms",
+                importId, result.getTotalRows(), result.getImportedRows(), result.getFailedRows(), result.getElapsedMillis());
+        return result;
+    }
+
+    private void processChunk(List<ImportRow> chunk, Set<String> seenLoginIds, Set<String> seenEmails) {
+        validate(chunk, seenLoginIds, seenEmails);
+        rejectExistingAccounts(chunk);
+        hashPasswords(chunk);
+
+        List<ImportRow> ready = chunk.stream().filter(row -> row.error == null).toList();
+        if (ready.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(ready));
+        } catch (DataAccessException | BusinessLogicException e) {
+            // 검사 이후 다른 요청이 같은 아이디/이메일로 가입한 경우 등. 어느 행인지 찾기 위해 행 단위로 다시 시도
+            log.warn("일괄 INSERT 실패, 행 단위로 재시도: {}", e.getMessage());
+            for (ImportRow row : ready) {
+                insertSingle(row);
+            }
+        }
+    }
+
+    private void validate(List<ImportRow> chunk, Set<String> seenLoginIds, Set<String> seenEmails) {
+        for (ImportRow row : chunk) {
+            if (row.error != null) {
+                continue;
+            }
+            Set<ConstraintViolation<UserImportRowDto>> violations = validator.validate(row.dto);
+            if (!violations.isEmpty()) {
+                row.error = violations.iterator().next().getMessage();
+            } else if (!seenLoginIds.add(normalize(row.dto.getLoginId()))) {
+                row.error = "파일 안에서 중복된 아이디입니다.";
+            } else if (!seenEmails.add(normalize(row.dto.getEmail()))) {
+                row.error = "파일 안에서 중복된 이메일입니다.";
+            }
+        }
+    }
+
+    // 이미 가입된 아이디/이메일을 chunk당 한 번의 IN 쿼리로 확인
+    private void rejectExistingAccounts(List<ImportRow> chunk) {
+        List<String> loginIds = new ArrayList<>();
+        List<String> emails = new ArrayList<>();
+        for (ImportRow row : chunk) {
+            if (row.error == null) {
+                loginIds.add(row.dto.getLoginId());
+                emails.add(row.dto.getEmail());
+            }
+        }
+        if (loginIds.isEmpty()) {
+            return;
+        }
+        Set<String> existingLoginIds = queryNormalized(SELECT_EXISTING_LOGIN_IDS_SQL, "loginIds", loginIds);
+        Set<String> existingEmails = queryNormalized(SELECT_EXISTING_EMAILS_SQL, "emails", emails);
+        for (ImportRow row : chunk) {
+            if (row.error != null) {
+                continue;
+            }
+            if (existingLoginIds.contains(normalize(row.dto.getLoginId()))) {
+                row.error = ErrorCode.LOGIN_ID_DUPLICATION.getMessage();
+            } else if (existingEmails.contains(normalize(row.dto.getEmail()))) {
+                row.error = ErrorCode.EMAIL_DUPLICATION.getMessage();
+            }
+        }
+    }
+
+    private Set<String> queryNormalized(String sql, String parameterName, List<String> values) {
+        Set<String> result = new HashSet<>();
+        for (String value : namedParameterJdbcTemplate.queryForList(sql, Map.of(parameterName, values), String.class)) {
+            result.add(normalize(value));
+        }
+        return result;
+    }
+
+    // 로그인 해싱 풀의 일부만 쓰도록 encodeInBackground가 동시에 넣는 작업 수를 제한함
+    private void hashPasswords(List<ImportRow> chunk) {
+        List<Future<String>> futures = new ArrayList<>(chunk.size());
+        try {
+            for (ImportRow row : chunk) {
+                futures.add(row.error == null ? passwordEncoder.encodeInBackground(row.dto.getPassword()) : null);
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                Future<String> future = futures.get(i);
+                if (future == null) {
+                    continue;
+                }
+                try {
+                    chunk.get(i).encodedPassword = future.get();
+                } catch (ExecutionException e) {
+                    chunk.get(i).error = "비밀번호 암호화에 실패했습니다.";
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessLogicException(ErrorCode.INTERNAL_SERVER_ERROR, "일괄 등록이 중단되었습니다.");
+        }
+    }
+
+    private void insertBatch(List<ImportRow> rows) {
+        preloadIdentificationCodes(rows);
+        long nextUserIdx = idSequenceAllocator.reserve(IdSequenceAllocator.USER, rows.size());
+        long nextCredentialIdx = idSequenceAllocator.reserve(IdSequenceAllocator.USER_CREDENTIAL, rows.size());
+        for (ImportRow row : rows) {
+            row.identificationCode = identificationCodeAllocator.allocate(row.dto.getNickname());
+            row.userIdx = nextUserIdx++;
+            row.credentialIdx = nextCredentialIdx++;
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.userIdx);
+            ps.setString(2, row.dto.getNickname());
+            ps.setString(3, row.dto.getEmail());
+            ps.setString(4, row.identificationCode);
+        });
+        jdbcTemplate.batchUpdate(INSERT_CREDENTIAL_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.credentialIdx);
+            ps.setLong(2, row.userIdx);
+            ps.setString(3, row.dto.getLoginId());
+            ps.setString(4, row.encodedPassword);
+        });
+        for (ImportRow row : rows) {
+            eventPublisher.publishEvent(new UserRegisteredEvent(row.userIdx, row.dto.getLoginId()));
+            // JDBC INSERT는 엔티티 리스너를 거치지 않으므로 검색 인덱스용 이벤트를 직접 발행
+            eventPublisher.publishEvent(new UserProfileChangedEvent(row.userIdx, row.dto.getNickname(), row.identificationCode));
+        }
+    }
+
+    private void insertSingle(ImportRow row) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(List.of(row)));
+        } catch (DuplicateKeyException e) {
+            row.error = "이미 사용 중인 아이디 또는 이메일입니다.";
+            identificationCodeAllocator.invalidate(row.dto.getNickname());
+        } catch (DataAccessException | BusinessLogicException e) {
+            row.error = "사용자 등록 중 오류가 발생했습니다.";
+            identificationCodeAllocator.invalidate(row.dto.getNickname());
+            log.warn("일괄 등록 행 실패: row={}, loginId={}, {}", row.rowNumber, row.dto.getLoginId(), e.getMessage());
+        }
+    }
+
+    // chunk에 등장하는 닉네임들의 사용 중인 식별 코드를 한 번에 읽어 할당기에 적재
+    private void preloadIdentificationCodes(List<ImportRow> rows) {
+        Map<String, List<String>> usedCodes = new HashMap<>();
+        for (ImportRow row : rows) {
+            usedCodes.putIfAbsent(normalize(row.dto.getNickname()), new ArrayList<>());
+        }
+        List<String> nicknames = rows.stream().map(row -> row.dto.getNickname()).distinct().toList();
+        namedParameterJdbcTemplate.query(SELECT_USED_CODES_SQL, Map.of("nicknames", nicknames), rs -> {
+            usedCodes.computeIfAbsent(normalize(rs.getString(1)), key -> new ArrayList<>()).add(rs.getString(2));
+        });
+        identificationCodeAllocator.preload(usedCodes);
+    }
+
+    private ImportRow parse(int rowNumber, String line, Format format) {
+        if (format == Format.NDJSON) {
+            try {
+                return new ImportRow(rowNumber, objectMapper.readValue(line, UserImportRowDto.class));
+            } catch (JsonProcessingException e) {
+                return ImportRow.invalid(rowNumber, "JSON 형식이 올바르지 않습니다.");
+            }
+        }
+        List<String> columns = splitCsvLine(line);
+        if (columns.size() != 4) {
+            return ImportRow.invalid(rowNumber, "열 개수가 올바르지 않습니다. (loginId,password,nickname,email)");
+        }
+        return new ImportRow(rowNumber, new UserImportRowDto(columns.get(0), columns.get(1), columns.get(2), columns.get(3)));
+    }
+
+    private static boolean isCsvHeader(String line) {
+        return line.trim().toLowerCase(Locale.ROOT).startsWith("loginid,");
+    }
+
+    // 큰따옴표로 감싼 값과 그 안의 ""(이스케이프)를 지원하는 CSV 한 줄 분리
+    static List<String> splitCsvLine(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        columns.add(current.toString().trim());
+        return columns;
+    }
+
+    private void writeResults(List<ImportRow> chunk, BufferedWriter writer, ImportJob job) throws IOException {
+        for (ImportRow row : chunk) {
+            String loginId = row.dto != null ? row.dto.getLoginId() : null;
+            boolean imported = row.error == null;
+            writer.write(row.rowNumber + "," + csv(loginId) + "," + (imported ? "IMPORTED" : "FAILED") + ","
+                    + csv(imported ? row.identificationCode : null) + "," + csv(row.error));
+            writer.newLine();
+            if (imported) {
+                job.imported++;
+            } else {
+                job.failed++;
+                if (job.errors.size() < MAX_ERRORS_IN_RESPONSE) {
+                    job.errors.add(new UserImportResultDto.RowError(row.rowNumber, loginId, row.error));
+                }
+            }
+        }
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    // MySQL 기본 collation(대소문자 무시)과 같은 기준으로 중복 비교
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        importExecutor.shutdownNow();
+        importExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private static class ImportRow {
+        private final int rowNumber;
+        private final UserImportRowDto dto;
+        private String encodedPassword;
+        private String identificationCode;
+        private long userIdx;
+        private long credentialIdx;
+        private String error;
+
+        ImportRow(int rowNumber, UserImportRowDto dto) {
+            this.rowNumber = rowNumber;
+            this.dto = dto;
+        }
+
+        static ImportRow invalid(int rowNumber, String error) {
+            ImportRow row = new ImportRow(rowNumber, null);
+            row.error = error;
+            return row;
+        }
+    }
+
+    // 작업 하나의 진행 상황. 처리 스레드만 값을 바꾸고 조회 API가 읽음
+    private static class ImportJob {
+        private final String importId;
+        private final long startedAtMillis = System.currentTimeMillis();
+        private volatile UserImportResultDto.Status status = UserImportResultDto.Status.RUNNING;
+        private volatile int imported;
+        private volatile int failed;
+        private volatile long finishedAtMillis;
+        private final List<UserImportResultDto.RowError> errors = new CopyOnWriteArrayList<>();
+
+        ImportJob(String importId) {
+            this.importId = importId;
+        }
+
+        void complete() {
+            finishedAtMillis = System.currentTimeMillis();
+            status = UserImportResultDto.Status.COMPLETED;
+        }
+
+        void fail() {
+            finishedAtMillis = System.currentTimeMillis();
+            status = UserImportResultDto.Status.FAILED;
+        }
+
+        UserImportResultDto toDto() {
+            UserImportResultDto.Status current = status;
+            int importedRows = imported;
+            int failedRows = failed;
+            int totalRows = importedRows + failedRows;
+            long elapsedMillis = (finishedAtMillis > 0 ? finishedAtMillis : System.currentTimeMillis()) - startedAtMillis;
+            return UserImportResultDto.builder()
+                    .importId(importId)
+                    .status(current)
+                    .totalRows(totalRows)
+                    .importedRows(importedRows)
+                    .failedRows(failedRows)
+                    .elapsedMillis(elapsedMillis)
+                    .rowsPerSecond(elapsedMillis == 0 ? totalRows : totalRows * 1000.0 / elapsedMillis)
+                    .resultFile(current == UserImportResultDto.Status.COMPLETED
+                            ? "/api/admin/users/import/" + importId + "/result" : null)
+                    .errors(List.copyOf(errors))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,712 @@
+package com.example.softengineerwebpr.domain.user.service;
+
+import com.example.softengineerwebpr.common.metrics.MetricsSource;
+import com.example.softengineerwebpr.domain.user.dto.UserSearchResultDto;
+import com.example.softengineerwebpr.domain.user.event.UserProfileChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * "닉네임#식별코드" 사용자 검색(초대 대화상자 자동 완성 등)용 메모리 인덱스.
+ * 기동 시 전체 사용자를 읽어 정렬된 스냅샷을 만들고, 검색은 이진 탐색 후 앞에서부터 limit건만 읽습니다.
+ * - "hong", "홍길": 닉네임 접두사 (대소문자 무시)
+ * - "hong#12", "hong#1234": 닉네임 일치 + 식별 코드 접두사/일치
+ * - "ㅎㄱㄷ", "홍ㄱ": 초성 검색 (초성 자리는 음절의 초성과, 나머지는 글자 그대로 비교)
+ * - "#1234": 식별 코드로 검색
+ * 스냅샷은 문자열 객체 대신 char 배열 하나에 키를 이어 붙이고, 검색 순서 세 가지를 int 배열로만 가집니다.
+ * 이 노드의 가입/닉네임 변경은 커밋 후 overlay에 반영하며, overlay가 overlay-limit을 넘으면 메모리에서 스냅샷과 합칩니다.
+ * 다른 인스턴스의 가입/변경은 poll-interval-ms마다 user.profile_updated_at이 마지막으로 본 시각 이후인 행을 읽어 overlay에 반영합니다.
+ * (idx는 노드마다 id_sequences에서 50개씩 미리 받아 쓰므로 커밋 순서와 맞지 않아 기준으로 쓰지 않습니다)
+ * 다른 인스턴스에서 삭제된 사용자는 주기적 재구성(rebuild-interval-ms) 때 빠집니다.
+ */
+@Slf4j
+@Component
+public class UserSearchIndex implements MetricsSource {
+
+    private static final String SELECT_USERS_SQL =
+            "SELECT idx, nickname, identification_code, profile_updated_at FROM user ORDER BY idx";
+    private static final String SELECT_CHANGED_USERS_SQL =
+            "SELECT idx, nickname, identification_code, profile_updated_at FROM user WHERE profile_updated_at >= ?";
+    // 커밋 지연과 노드 간 시계 차이로 늦게 보이는 행을 놓치지 않도록 마지막으로 본 시각보다 조금 앞에서부터 다시 읽음
+    private static final long POLL_OVERLAP_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    // 한글 음절(가~힣)의 초성 19자 (호환 자모)
+    private static final char[] INITIAL_CONSONANTS = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28; // 중성 21 x 종성 28
+
+    enum Mode {
+        NAME,    // 닉네임#코드, 소문자 기준
+        INITIAL, // 닉네임#코드, 음절을 초성으로 바꾼 기준
+        CODE     // 코드#닉네임
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxResults;
+    private final int overlayLimit;
+    private final int scanLimit;
+
+    private volatile Snapshot snapshot = new Builder(0).build();
+    // 스냅샷 이후 바뀐 사용자: userIdx -> 현재 값 (삭제는 nickname이 null)
+    private final Map<Long, Entry> overlay = new ConcurrentHashMap<>();
+    private final Object rebuildLock = new Object();
+    private Timestamp lastSeenUpdatedAt; // 재구성/폴링에서 본 가장 늦은 profile_updated_at (첫 재구성 전에는 null)
+
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder scannedEntries = new LongAdder();
+    private final LongAdder updates = new LongAdder();
+    private final LongAdder compactions = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder polledRows = new LongAdder();
+    private volatile long lastBuildMillis;
+
+    public UserSearchIndex(JdbcTemplate jdbcTemplate,
+                           @Value("${app.user.search.max-results:20}") int maxResults,
+                           @Value("${app.user.search.overlay-limit:1024}") int overlayLimit,
+                           @Value("${app.user.search.scan-limit:5000}") int scanLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxResults = maxResults;
+        this.overlayLimit = overlayLimit;
+        this.scanLimit = scanLimit;
+    }
+
+    /**
+     * 검색어에 맞는 사용자를 정렬 순서(닉네임, 같으면 식별 코드)대로 최대 limit명 반환합니다.
+     * 초성 검색은 후보를 scan-limit건까지만 확인합니다.
+     */
+    public List<UserSearchResultDto> search(String query, int limit) {
+        searches.increment();
+        String trimmed = query != null ? query.strip() : "";
+        int size = Math.min(Math.max(limit, 1), maxResults);
+        Mode mode;
+        String pattern;
+        if (trimmed.startsWith("#")) {
+            mode = Mode.CODE;
+            pattern = trimmed.substring(1);
+        } else {
+            mode = containsInitialConsonant(trimmed) ? Mode.INITIAL : Mode.NAME;
+            pattern = trimmed;
+        }
+        if (pattern.isEmpty()) {
+            return List.of();
+        }
+        String prefix = fold(mode, pattern);
+
+        Snapshot current = snapshot;
+        boolean checkOverlay = !overlay.isEmpty();
+        List<Hit> hits = new ArrayList<>(size);
+        int[] order = current.order(mode);
+        int scanned = 0;
+        for (int i = current.lowerBound(mode, prefix); i < order.length && scanned < scanLimit; i++) {
+            int entry = order[i];
+            if (!current.startsWith(mode, entry, prefix)) {
+                break;
+            }
+            scanned++;
+            if (checkOverlay && overlay.containsKey(current.userIdx(entry))) {
+                continue; // 스냅샷 이후 바뀐 사용자는 overlay 값으로 확인
+            }
+            if (mode == Mode.INITIAL && !current.matchesInitials(entry, pattern)) {
+                continue;
+            }
+            hits.add(current.hit(entry));
+            if (hits.size() == size) {
+                break;
+            }
+        }
+        scannedEntries.add(scanned);
+
+        if (checkOverlay) {
+            boolean merged = false;
+            for (Map.Entry<Long, Entry> change : overlay.entrySet()) {
+                Entry value = change.getValue();
+                if (value.removed()) {
+                    continue;
+                }
+                String key = value.key(mode);
+                if (fold(mode, key).startsWith(prefix) && (mode != Mode.INITIAL || matchesInitials(key, pattern))) {
+                    hits.add(new Hit(change.getKey(), value.nickname(), value.identificationCode()));
+                    merged = true;
+                }
+            }
+            if (merged) {
+                hits.sort(Comparator.comparing((Hit hit) -> fold(mode, hit.key(mode))).thenComparingLong(Hit::userIdx));
+                if (hits.size() > size) {
+                    hits.subList(size, hits.size()).clear();
+                }
+            }
+        }
+
+        List<UserSearchResultDto> results = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            results.add(new UserSearchResultDto(hit.userIdx(), hit.nickname(), hit.identificationCode()));
+        }
+        return results;
+    }
+
+    // 커밋된 변경만 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        if (event.userIdx() == null) {
+            return;
+        }
+        if (event.nickname() == null) {
+            remove(event.userIdx());
+        } else {
+            put(event.userIdx(), event.nickname(), event.identificationCode());
+        }
+    }
+
+    public void put(long userIdx, String nickname, String identificationCode) {
+        Entry entry = new Entry(nickname, identificationCode != null ? identificationCode : "");
+        Entry changed = overlay.get(userIdx);
+        if (changed != null ? changed.equals(entry) : snapshot.contains(userIdx, entry)) {
+            return; // 마지막 로그인 시각 등 다른 컬럼만 바뀐 저장
+        }
+        overlay.put(userIdx, entry);
+        updates.increment();
+    }
+
+    public void remove(long userIdx) {
+        if (overlay.containsKey(userIdx) || snapshot.indexOf(userIdx) >= 0) {
+            overlay.put(userIdx, Entry.REMOVED);
+            updates.increment();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    // 다른 인스턴스의 가입/닉네임 변경을 overlay에 반영 (값이 같으면 put에서 무시)
+    @Scheduled(initialDelayString = "${app.user.search.poll-interval-ms:2000}",
+            fixedDelayString = "${app.user.search.poll-interval-ms:2000}")
+    public void poll() {
+        synchronized (rebuildLock) {
+            if (lastSeenUpdatedAt == null) {
+                return; // 첫 재구성 전
+            }
+            Timestamp since = new Timestamp(lastSeenUpdatedAt.getTime() - POLL_OVERLAP_MILLIS);
+            try {
+                jdbcTemplate.query(SELECT_CHANGED_USERS_SQL, rs -> {
+                    put(rs.getLong(1), rs.getString(2), rs.getString(3));
+                    advanceLastSeen(rs.getTimestamp(4));
+                    polledRows.increment();
+                }, since);
+            } catch (RuntimeException e) {
+                log.warn("사용자 검색 인덱스 폴링 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    // overlay에 쌓인 폴링 결과와 다른 인스턴스의 삭제를 스냅샷에 반영하기 위한 주기적 재구성
+    @Scheduled(initialDelayString = "${app.user.search.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${app.user.search.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (rebuildLock) {
+            Builder builder = new Builder(Math.max(1024, snapshot.size()));
+            Timestamp[] latest = {lastSeenUpdatedAt != null ? lastSeenUpdatedAt : new Timestamp(0)};
+            try {
+                jdbcTemplate.query(SELECT_USERS_SQL, rs -> {
+                    builder.add(rs.getLong(1), rs.getString(2), rs.getString(3));
+                    Timestamp updatedAt = rs.getTimestamp(4);
+                    if (updatedAt != null && updatedAt.after(latest[0])) {
+                        latest[0] = updatedAt;
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.error("사용자 검색 인덱스 재구성 실패 (기존 인덱스 유지): {}", e.getMessage());
+                return;
+            }
+            replace(builder);
+            lastSeenUpdatedAt = latest[0];
+            rebuilds.increment();
+        }
+        log.info("사용자 검색 인덱스 재구성 완료: {}명, {}ms", snapshot.size(), System.currentTimeMillis() - start);
+    }
+
+    private void advanceLastSeen(Timestamp updatedAt) {
+        if (updatedAt != null && updatedAt.after(lastSeenUpdatedAt)) {
+            lastSeenUpdatedAt = updatedAt;
+        }
+    }
+
+    // overlay가 커지면 검색마다 훑는 비용이 늘어나므로 스냅샷에 합침 (DB 조회 없음)
+    @Scheduled(fixedDelayString = "${app.user.search.compact-interval-ms:5000}")
+    public void compactIfNeeded() {
+        if (overlay.size() >= overlayLimit) {
+            compact();
+        }
+    }
+
+    // 바뀌지 않은 항목은 기존 정렬 순서를 그대로 쓰고, 바뀐 항목만 정렬해 끼워 넣음 (전체 재정렬 없음)
+    void compact() {
+        synchronized (rebuildLock) {
+            long start = System.currentTimeMillis();
+            Snapshot base = snapshot;
+            Map<Long, Entry> changes = new HashMap<>(overlay);
+            long[] changedIdxs = changes.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            Builder builder = new Builder(base.size() + changedIdxs.length);
+            int[] baseToNew = new int[base.size()]; // 기존 항목 번호 -> 새 항목 번호 (바뀐 항목은 -1)
+            int[] added = new int[changedIdxs.length];
+            int addedCount = 0;
+            int next = 0;
+            for (int entry = 0; entry < base.size(); entry++) {
+                long userIdx = base.userIdx(entry);
+                while (next < changedIdxs.length && changedIdxs[next] <= userIdx) {
+                    Entry change = changes.get(changedIdxs[next]);
+                    if (!change.removed()) {
+                        added[addedCount++] = builder.size();
+                        builder.add(changedIdxs[next], change.nickname(), change.identificationCode());
+                    }
+                    next++;
+                }
+                if (changes.containsKey(userIdx)) {
+                    baseToNew[entry] = -1;
+                } else {
+                    baseToNew[entry] = builder.size();
+                    builder.copy(base, entry);
+                }
+            }
+            for (; next < changedIdxs.length; next++) {
+                Entry change = changes.get(changedIdxs[next]);
+                if (!change.removed()) {
+                    added[addedCount++] = builder.size();
+                    builder.add(changedIdxs[next], change.nickname(), change.identificationCode());
+                }
+            }
+            snapshot = builder.buildMerged(base, baseToNew, Arrays.copyOf(added, addedCount));
+            lastBuildMillis = System.currentTimeMillis() - start;
+            // 합치는 동안 다시 바뀐 사용자는 overlay에 남김
+            changes.forEach(overlay::remove);
+            compactions.increment();
+        }
+    }
+
+    /**
+     * 새 스냅샷으로 바꾸고, 새 스냅샷에 이미 반영된 overlay 항목을 정리합니다.
+     */
+    void replace(Builder builder) {
+        synchronized (rebuildLock) {
+            long start = System.currentTimeMillis();
+            Snapshot rebuilt = builder.build();
+            lastBuildMillis = System.currentTimeMillis() - start;
+            snapshot = rebuilt;
+            overlay.entrySet().removeIf(change -> change.getValue().removed()
+                    ? rebuilt.indexOf(change.getKey()) < 0
+                    : rebuilt.contains(change.getKey(), change.getValue()));
+        }
+    }
+
+    static char fold(Mode mode, char c) {
+        char lower = Character.toLowerCase(c);
+        return mode == Mode.INITIAL ? initialOf(lower) : lower;
+    }
+
+    static String fold(Mode mode, String text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(mode, text.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    // 한글 음절이면 초성, 아니면 그대로
+    static char initialOf(char c) {
+        if (c >= '가' && c <= '힣') {
+            return INITIAL_CONSONANTS[(c - '가') / SYLLABLES_PER_INITIAL];
+        }
+        return c;
+    }
+
+    // 호환 자모 자음(ㄱ~ㅎ)
+    static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    private static boolean containsInitialConsonant(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isConsonant(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 초성 자리는 음절의 초성과, 나머지는 대소문자만 무시하고 비교
+    private static boolean matchesInitials(String key, String pattern) {
+        if (key.length() < pattern.length()) {
+            return false;
+        }
+        for (int i = 0; i < pattern.length(); i++) {
+            if (!matchesInitial(key.charAt(i), pattern.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean matchesInitial(char keyChar, char patternChar) {
+        char k = Character.toLowerCase(keyChar);
+        char p = Character.toLowerCase(patternChar);
+        return isConsonant(p) ? initialOf(k) == p : k == p;
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "user-search";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Snapshot current = snapshot;
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("indexedUsers", current.size());
+        metrics.put("overlay", overlay.size());
+        metrics.put("searches", searches.sum());
+        metrics.put("scannedEntries", scannedEntries.sum());
+        metrics.put("updates", updates.sum());
+        metrics.put("compactions", compactions.sum());
+        metrics.put("rebuilds", rebuilds.sum());
+        metrics.put("polledRows", polledRows.sum());
+        metrics.put("indexBytes", current.sizeInBytes());
+        metrics.put("bytesPerUser", current.size() == 0 ? 0 : current.sizeInBytes() / current.size());
+        metrics.put("lastBuildMillis", lastBuildMillis);
+        metrics.put("builtAt", current.builtAt().toString());
+        return metrics;
+    }
+
+    private record Entry(String nickname, String identificationCode) {
+        private static final Entry REMOVED = new Entry(null, null);
+
+        boolean removed() {
+            return nickname == null;
+        }
+
+        String key(Mode mode) {
+            return mode == Mode.CODE ? identificationCode + "#" + nickname : nickname + "#" + identificationCode;
+        }
+    }
+
+    private record Hit(long userIdx, String nickname, String identificationCode) {
+        String key(Mode mode) {
+            return mode == Mode.CODE ? identificationCode + "#" + nickname : nickname + "#" + identificationCode;
+        }
+    }
+
+    /**
+     * 스냅샷 재료. 사용자를 userIdx 오름차순으로 넣어야 합니다. (DB는 ORDER BY idx로 읽음)
+     */
+    static final class Builder {
+        private long[] userIdxs;
+        private int[] starts;
+        private byte[] codeLengths;
+        private char[] text;
+        private int size;
+        private int textLength;
+
+        Builder(int expectedUsers) {
+            int capacity = Math.max(16, expectedUsers);
+            userIdxs = new long[capacity];
+            starts = new int[capacity + 1];
+            codeLengths = new byte[capacity];
+            text = new char[capacity * 12];
+        }
+
+        void add(long userIdx, String nickname, String identificationCode) {
+            String code = identificationCode != null ? identificationCode : "";
+            char[] key = (nickname + "#" + code).toCharArray();
+            add(userIdx, key, 0, key.length, (byte) code.length());
+        }
+
+        private void add(long userIdx, char[] key, int offset, int length, byte codeLength) {
+            if (size > 0 && userIdx <= userIdxs[size - 1]) {
+                throw new IllegalArgumentException("userIdx 오름차순이 아닙니다: " + userIdx);
+            }
+            if (size == userIdxs.length) {
+                int capacity = size * 2;
+                userIdxs = Arrays.copyOf(userIdxs, capacity);
+                starts = Arrays.copyOf(starts, capacity + 1);
+                codeLengths = Arrays.copyOf(codeLengths, capacity);
+            }
+            if (textLength + length > text.length) {
+                text = Arrays.copyOf(text, Math.max(text.length * 2, textLength + length));
+            }
+            System.arraycopy(key, offset, text, textLength, length);
+            userIdxs[size] = userIdx;
+            starts[size] = textLength;
+            codeLengths[size] = codeLength;
+            textLength += length;
+            size++;
+        }
+
+        // 기존 스냅샷의 항목을 문자열로 만들지 않고 그대로 복사 (userIdx 오름차순 조건은 add와 같음)
+        void copy(Snapshot base, int entry) {
+            int start = base.starts[entry];
+            int length = base.starts[entry + 1] - start;
+            add(base.userIdxs[entry], base.text, start, length, base.codeLengths[entry]);
+        }
+
+        int size() {
+            return size;
+        }
+
+        Snapshot build() {
+            Snapshot built = toSnapshot();
+            built.sortOrders();
+            return built;
+        }
+
+        /**
+         * base의 정렬 순서를 이어받아 만듭니다.
+         * @param baseToNew base 항목 번호 -> 이 빌더의 항목 번호 (빠진 항목은 -1)
+         * @param added base에 없던(또는 값이 바뀐) 이 빌더의 항목 번호
+         */
+        Snapshot buildMerged(Snapshot base, int[] baseToNew, int[] added) {
+            Snapshot built = toSnapshot();
+            built.mergeOrders(base, baseToNew, added);
+            return built;
+        }
+
+        private Snapshot toSnapshot() {
+            starts[size] = textLength;
+            return new Snapshot(Arrays.copyOf(userIdxs, size), Arrays.copyOf(starts, size + 1),
+                    Arrays.copyOf(codeLengths, size), Arrays.copyOf(text, textLength));
+        }
+    }
+
+    /**
+     * 변경되지 않는 정렬된 인덱스. 항목 번호는 userIdx 오름차순이며,
+     * 항목 e의 키는 text[starts[e], starts[e + 1]) = "닉네임#코드" 입니다.
+     */
+    static final class Snapshot {
+        private final long[] userIdxs;
+        private final int[] starts;
+        private final byte[] codeLengths;
+        private final char[] text;
+        private final int[][] orders = new int[Mode.values().length][];
+        private final LocalDateTime builtAt = LocalDateTime.now();
+
+        private Snapshot(long[] userIdxs, int[] starts, byte[] codeLengths, char[] text) {
+            this.userIdxs = userIdxs;
+            this.starts = starts;
+            this.codeLengths = codeLengths;
+            this.text = text;
+        }
+
+        // 정렬하는 동안만 모드별 키를 문자열로 만들어 비교 (글자마다 keyChar를 부르는 것보다 훨씬 빠름)
+        private void sortOrders() {
+            String[] keys = new String[userIdxs.length];
+            char[] buffer = new char[64];
+            for (Mode mode : Mode.values()) {
+                for (int entry = 0; entry < keys.length; entry++) {
+                    int length = keyLength(entry);
+                    if (length > buffer.length) {
+                        buffer = new char[length];
+                    }
+                    for (int i = 0; i < length; i++) {
+                        buffer[i] = keyChar(mode, entry, i);
+                    }
+                    keys[entry] = new String(buffer, 0, length);
+                }
+                Integer[] boxed = new Integer[userIdxs.length];
+                for (int i = 0; i < boxed.length; i++) {
+                    boxed[i] = i;
+                }
+                Arrays.parallelSort(boxed, (a, b) -> {
+                    int diff = keys[a].compareTo(keys[b]);
+                    return diff != 0 ? diff : Long.compare(userIdxs[a], userIdxs[b]);
+                });
+                int[] order = new int[boxed.length];
+                for (int i = 0; i < order.length; i++) {
+                    order[i] = boxed[i];
+                }
+                orders[mode.ordinal()] = order;
+            }
+        }
+
+        private void mergeOrders(Snapshot base, int[] baseToNew, int[] added) {
+            for (Mode mode : Mode.values()) {
+                Integer[] boxed = new Integer[added.length];
+                for (int i = 0; i < added.length; i++) {
+                    boxed[i] = added[i];
+                }
+                Arrays.sort(boxed, (a, b) -> compare(mode, a, b));
+                int[] baseOrder = base.order(mode);
+                int[] order = new int[userIdxs.length];
+                int count = 0;
+                int nextAdded = 0;
+                for (int baseEntry : baseOrder) {
+                    int entry = baseToNew[baseEntry];
+                    if (entry < 0) {
+                        continue;
+                    }
+                    while (nextAdded < boxed.length && compare(mode, boxed[nextAdded], entry) < 0) {
+                        order[count++] = boxed[nextAdded++];
+                    }
+                    order[count++] = entry;
+                }
+                while (nextAdded < boxed.length) {
+                    order[count++] = boxed[nextAdded++];
+                }
+                orders[mode.ordinal()] = order;
+            }
+        }
+
+        int size() {
+            return userIdxs.length;
+        }
+
+        int[] order(Mode mode) {
+            return orders[mode.ordinal()];
+        }
+
+        long userIdx(int entry) {
+            return userIdxs[entry];
+        }
+
+        int indexOf(long userIdx) {
+            return Arrays.binarySearch(userIdxs, userIdx);
+        }
+
+        boolean contains(long userIdx, Entry value) {
+            int entry = indexOf(userIdx);
+            return entry >= 0 && nickname(entry).equals(value.nickname())
+                    && identificationCode(entry).equals(value.identificationCode());
+        }
+
+        private int nicknameLength(int entry) {
+            return starts[entry + 1] - starts[entry] - 1 - codeLengths[entry];
+        }
+
+        String nickname(int entry) {
+            return new String(text, starts[entry], nicknameLength(entry));
+        }
+
+        String identificationCode(int entry) {
+            return new String(text, starts[entry] + nicknameLength(entry) + 1, codeLengths[entry]);
+        }
+
+        Hit hit(int entry) {
+            return new Hit(userIdxs[entry], nickname(entry), identificationCode(entry));
+        }
+
+        private int keyLength(int entry) {
+            return starts[entry + 1] - starts[entry];
+        }
+
+        // 모드별 키의 i번째 글자 (CODE는 "코드#닉네임" 순서)
+        private char keyChar(Mode mode, int entry, int i) {
+            int start = starts[entry];
+            if (mode == Mode.CODE) {
+                int codeLength = codeLengths[entry];
+                int nicknameLength = nicknameLength(entry);
+                if (i < codeLength) {
+                    return Character.toLowerCase(text[start + nicknameLength + 1 + i]);
+                }
+                return i == codeLength ? '#' : Character.toLowerCase(text[start + i - codeLength - 1]);
+            }
+            return fold(mode, text[start + i]);
+        }
+
+        // sortOrders와 같은 순서 (키 사전순, 같으면 userIdx)
+        private int compare(Mode mode, int a, int b) {
+            int lengthA = keyLength(a);
+            int lengthB = keyLength(b);
+            for (int i = 0, n = Math.min(lengthA, lengthB); i < n; i++) {
+                int diff = keyChar(mode, a, i) - keyChar(mode, b, i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return lengthA != lengthB ? lengthA - lengthB : Long.compare(userIdxs[a], userIdxs[b]);
+        }
+
+        // 키(접어 쓴 값)를 prefix와 사전순 비교
+        private int compareToPrefix(Mode mode, int entry, String prefix) {
+            int length = keyLength(entry);
+            for (int i = 0, n = Math.min(length, prefix.length()); i < n; i++) {
+                int diff = keyChar(mode, entry, i) - prefix.charAt(i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return length - prefix.length();
+        }
+
+        // 키가 prefix 이상인 첫 위치
+        int lowerBound(Mode mode, String prefix) {
+            int[] order = order(mode);
+            int low = 0;
+            int high = order.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareToPrefix(mode, order[mid], prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        boolean startsWith(Mode mode, int entry, String prefix) {
+            if (keyLength(entry) < prefix.length()) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length(); i++) {
+                if (keyChar(mode, entry, i) != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean matchesInitials(int entry, String pattern) {
+            int start = starts[entry];
+            if (keyLength(entry) < pattern.length()) {
+                return false;
+            }
+            for (int i = 0; i < pattern.length(); i++) {
+                if (!matchesInitial(text[start + i], pattern.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long sizeInBytes() {
+            return (long) userIdxs.length * Long.BYTES
+                    + (long) starts.length * Integer.BYTES
+                    + codeLengths.length
+                    + (long) text.length * Character.BYTES
+                    + (long) orders.length * userIdxs.length * Integer.BYTES;
+        }
+
+        LocalDateTime builtAt() {
+            return builtAt;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+-- 토큰 인증 모드 (app.security.auth-mode=token 일 때 사용)
+
+-- 리프레시 토큰: 원문 대신 SHA-256 해시만 저장. 사용(used)된 토큰을 다시 제시하면 같은 family 전체를 폐기
+CREATE TABLE auth_refresh_token (
+    token_hash  CHAR(64)     NOT NULL,
+    family_id   BIGINT       NOT NULL, -- 최초 로그인 시 발급, 재발급 시 유지
+    subject     VARCHAR(100) NOT NULL, -- 로그인 아이디 또는 소셜 사용자 idx
+    user_idx    BIGINT,
+    authorities VARCHAR(255) NOT NULL, -- 쉼표로 구분한 권한
+    used        BOOLEAN      NOT NULL DEFAULT FALSE,
+    expires_at  BIGINT       NOT NULL, -- 만료 시각 (epoch millis)
+    PRIMARY KEY (token_hash)
+);
+
+CREATE INDEX idx_auth_refresh_token_family ON auth_refresh_token (family_id);
+CREATE INDEX idx_auth_refresh_token_subject ON auth_refresh_token (subject);
+CREATE INDEX idx_auth_refresh_token_expires_at ON auth_refresh_token (expires_at);
+
+-- 액세스 토큰 폐기 기록: 각 노드가 주기적으로 읽어 메모리 폐기 목록에 반영
+CREATE TABLE auth_token_revocation (
+    idx        BIGINT  NOT NULL AUTO_INCREMENT,
+    kind       CHAR(1) NOT NULL, -- I: 토큰 ID(jti)/family, S: 사용자(subject) 단위
+    token_key  BIGINT  NOT NULL, -- jti/family 값 또는 subject의 64비트 해시
+    not_before BIGINT  NOT NULL, -- S: 이 시각(epoch millis) 이전에 발급된 토큰 폐기
+    expires_at BIGINT  NOT NULL, -- 이 시각(epoch millis) 이후에는 해당 토큰이 모두 만료되어 기록 불필요
+    created_at BIGINT  NOT NULL,
+    PRIMARY KEY (idx)
+);
+
+CREATE INDEX idx_auth_token_revocation_created_at ON auth_token_revocation (created_at);
+CREATE INDEX idx_auth_token_revocation_expires_at ON auth_token_revocation (expires_at);
@@ -0,0 +1,4 @@
+-- 자격 증명 생성 시각: 각 노드의 로그인 아이디 인덱스가 주기적으로 읽어 다른 노드에서 가입한 아이디를 반영합니다.
+-- 일괄 등록(JDBC INSERT)도 빠지지 않도록 DB 기본값으로 채우고, 모든 노드가 같은 DB 시계를 기준으로 비교합니다.
+ALTER TABLE user_credential ADD COLUMN created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) AFTER password;
+CREATE INDEX idx_user_credential_created_at ON user_credential (created_at);
@@ -0,0 +1,3 @@
+-- 비밀번호 변경 시각: 각 노드의 로그인 자격 증명 캐시가 주기적으로 읽어 다른 노드에서 바뀐 비밀번호의 캐시 항목을 비웁니다.
+ALTER TABLE user_credential ADD COLUMN password_changed_at DATETIME(3) NULL AFTER password;
+CREATE INDEX idx_user_credential_password_changed_at ON user_credential (password_changed_at);
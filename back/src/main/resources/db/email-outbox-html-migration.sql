@@ -0,0 +1,3 @@
+-- 이메일 아웃박스에 HTML 본문 컬럼 추가 (MailTemplateEngine으로 만든 메일은 텍스트 + HTML multipart로 발송)
+-- 기존 행은 html이 NULL이며 지금처럼 텍스트 메일로 발송됩니다.
+ALTER TABLE email_outbox ADD COLUMN html MEDIUMTEXT NULL AFTER body;
@@ -0,0 +1,20 @@
+-- 이메일 아웃박스 (EmailOutbox 엔티티)
+CREATE TABLE email_outbox (
+    idx             BIGINT       NOT NULL AUTO_INCREMENT,
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    body            TEXT         NOT NULL,
+    html            MEDIUMTEXT   NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    sent_at         DATETIME(6)  NULL,
+    last_error      VARCHAR(500) NULL,
+    version         INT          NOT NULL DEFAULT 0,
+    PRIMARY KEY (idx)
+);
+
+CREATE INDEX idx_email_outbox_status_next_attempt ON email_outbox (status, next_attempt_at);
+-- 보관 기간이 지난 SENT/FAILED 행 정리
+CREATE INDEX idx_email_outbox_status_created ON email_outbox (status, created_at);
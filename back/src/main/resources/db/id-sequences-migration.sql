@@ -0,0 +1,15 @@
+-- ID 생성 방식 변경: AUTO_INCREMENT(IDENTITY) -> id_sequences 테이블 + pooled-lo
+-- (user, user_credential, user_oauth_connections, oauth2_providers)
+-- 애플리케이션을 내린 상태에서 한 번 실행합니다. 각 행의 next_val은 다음에 발급할 ID이며,
+-- Hibernate는 한 번에 allocationSize(50)개씩 구간을 예약합니다.
+-- 기존 AUTO_INCREMENT 속성은 그대로 두어도 되며(명시적인 ID로 INSERT됨), 롤백 시 이 파일 이전 버전으로 되돌리면 됩니다.
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(64) NOT NULL,
+    next_val      BIGINT      NOT NULL,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'user', COALESCE(MAX(idx), 0) + 1 FROM user;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'user_credential', COALESCE(MAX(idx), 0) + 1 FROM user_credential;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'user_oauth_connections', COALESCE(MAX(idx), 0) + 1 FROM user_oauth_connections;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'oauth2_providers', COALESCE(MAX(idx), 0) + 1 FROM oauth2_providers;
@@ -0,0 +1,6 @@
+-- 여러 노드 운영 시 접속 상태 판단용 마지막 확인 시각
+-- 각 노드가 온라인 사용자의 last_seen을 주기적으로 기록하고, 오프라인 기록은 다른 노드가 더 최근 값을 남기지 않았을 때만 반영합니다.
+ALTER TABLE user ADD COLUMN last_seen DATETIME NULL AFTER last_login;
+-- 각 노드가 다른 노드에 접속한 사용자를 주기적으로 읽는 조회용 (last_seen >= ? AND is_online = TRUE)
+CREATE INDEX idx_user_last_seen ON user (last_seen);
+UPDATE user SET last_seen = NOW() WHERE is_online = TRUE;
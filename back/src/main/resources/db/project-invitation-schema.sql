@@ -0,0 +1,19 @@
+-- 프로젝트 초대 (ProjectInvitation 엔티티). db/project-schema.sql 이후 실행
+-- 대기 중인 초대만 보관 (수락/거절하면 행 삭제)
+CREATE TABLE project_invitation (
+    idx         BIGINT      NOT NULL,
+    project_idx BIGINT      NOT NULL,
+    invitee_idx BIGINT      NOT NULL,
+    inviter_idx BIGINT      NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (idx),
+    CONSTRAINT uk_project_invitation_project_invitee UNIQUE (project_idx, invitee_idx),
+    CONSTRAINT fk_project_invitation_project FOREIGN KEY (project_idx) REFERENCES project (idx) ON DELETE CASCADE,
+    CONSTRAINT fk_project_invitation_invitee FOREIGN KEY (invitee_idx) REFERENCES user (idx) ON DELETE CASCADE,
+    CONSTRAINT fk_project_invitation_inviter FOREIGN KEY (inviter_idx) REFERENCES user (idx) ON DELETE CASCADE
+);
+
+-- 받은 초대 목록 (키셋 페이지). 사용자별 대기 건수 재적재(GROUP BY invitee_idx)도 이 인덱스만 읽음
+CREATE INDEX idx_project_invitation_invitee ON project_invitation (invitee_idx, idx);
+
+INSERT INTO id_sequences (sequence_name, next_val) VALUES ('project_invitation', 1);
@@ -0,0 +1,51 @@
+-- 프로젝트 / 칸반 보드 (Project, ProjectMember, Task 엔티티)
+-- ID는 id_sequences 테이블에서 구간 단위로 발급 (db/id-sequences-migration.sql 이후 실행)
+CREATE TABLE project (
+    idx         BIGINT      NOT NULL,
+    name        VARCHAR(50) NOT NULL,
+    description TEXT        NULL,
+    owner_idx   BIGINT      NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    updated_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (idx),
+    CONSTRAINT fk_project_owner FOREIGN KEY (owner_idx) REFERENCES user (idx)
+);
+
+CREATE TABLE project_member (
+    idx         BIGINT      NOT NULL,
+    project_idx BIGINT      NOT NULL,
+    user_idx    BIGINT      NOT NULL,
+    role        VARCHAR(20) NOT NULL,
+    joined_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (idx),
+    CONSTRAINT uk_project_member_project_user UNIQUE (project_idx, user_idx),
+    CONSTRAINT fk_project_member_project FOREIGN KEY (project_idx) REFERENCES project (idx) ON DELETE CASCADE,
+    CONSTRAINT fk_project_member_user FOREIGN KEY (user_idx) REFERENCES user (idx) ON DELETE CASCADE
+);
+
+-- 사용자의 참여 프로젝트 목록 (키셋 페이지)
+CREATE INDEX idx_project_member_user_project ON project_member (user_idx, project_idx);
+
+CREATE TABLE task (
+    idx          BIGINT       NOT NULL,
+    project_idx  BIGINT       NOT NULL,
+    title        VARCHAR(100) NOT NULL,
+    content      TEXT         NULL,
+    status       VARCHAR(20)  NOT NULL,
+    -- 열 안의 순서 (0-9a-z 분수 순위 키, 바이트 순 비교)
+    rank_key     VARCHAR(64)  CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    deadline     DATETIME(6)  NULL,
+    assignee_idx BIGINT       NULL,
+    creator_idx  BIGINT       NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    updated_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (idx),
+    CONSTRAINT fk_task_project FOREIGN KEY (project_idx) REFERENCES project (idx) ON DELETE CASCADE,
+    CONSTRAINT fk_task_assignee FOREIGN KEY (assignee_idx) REFERENCES user (idx) ON DELETE SET NULL,
+    CONSTRAINT fk_task_creator FOREIGN KEY (creator_idx) REFERENCES user (idx)
+);
+
+-- 보드 열 조회 (프로젝트 + 상태, (rank_key, idx) 순 키셋 페이지)
+CREATE INDEX idx_task_project_status_rank ON task (project_idx, status, rank_key, idx);
+
+INSERT INTO id_sequences (sequence_name, next_val) VALUES ('project', 1), ('project_member', 1), ('task', 1);
@@ -0,0 +1,9 @@
+-- 칸반 카드 순서를 분수 순위 키(rank_key)로 저장 (카드를 옮길 때 그 카드 한 행만 변경)
+-- 기존 업무는 지금까지의 표시 순서(idx 순)를 유지하도록 idx를 13자리 36진수로 바꾼 뒤 'i'를 붙여 채웁니다.
+-- ('0'으로 끝나지 않게 하기 위함. 키가 길어진 열은 TaskRankRebalancer가 다시 매김)
+ALTER TABLE task ADD COLUMN rank_key VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NULL AFTER status;
+UPDATE task SET rank_key = CONCAT(LPAD(LOWER(CONV(idx, 10, 36)), 13, '0'), 'i');
+ALTER TABLE task MODIFY rank_key VARCHAR(64) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+
+DROP INDEX idx_task_project_status ON task;
+CREATE INDEX idx_task_project_status_rank ON task (project_idx, status, rank_key, idx);
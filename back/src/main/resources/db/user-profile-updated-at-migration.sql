@@ -0,0 +1,4 @@
+-- 검색에 쓰는 프로필(닉네임, 식별 코드) 변경 시각: 각 노드의 사용자 검색 인덱스가 주기적으로 읽어 다른 노드의 가입/변경을 반영합니다.
+-- 일괄 등록(JDBC INSERT)도 빠지지 않도록 DB 기본값으로 채웁니다. (접속 상태 갱신 때마다 바뀌지 않도록 ON UPDATE는 쓰지 않음)
+ALTER TABLE user ADD COLUMN profile_updated_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) AFTER bio;
+CREATE INDEX idx_user_profile_updated_at ON user (profile_updated_at);
@@ -0,0 +1,9 @@
+-- 이메일 인증 코드 공유 저장소 (app.auth.verification-code.store=jdbc 일 때 사용)
+CREATE TABLE verification_code (
+    email      VARCHAR(255) NOT NULL,
+    code       VARCHAR(16)  NOT NULL,
+    expires_at BIGINT       NOT NULL, -- 만료 시각 (epoch millis)
+    PRIMARY KEY (email)
+);
+
+CREATE INDEX idx_verification_code_expires_at ON verification_code (expires_at);
@@ -0,0 +1,60 @@
+package com.example.softengineerwebpr.common.instrumentation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlExecutionRecorderTest {
+
+    private static final String CREDENTIAL_QUERY = "select uc.idx, uc.id from user_credential uc where uc.id=?";
+    private static final String USER_QUERY = "select u.idx, u.nickname from user u where u.idx=?";
+
+    private final SqlExecutionRecorder recorder = new SqlExecutionRecorder(3, 5);
+
+    @Test
+    void repeatedLazyLoadInOneRequestIsReportedAsNPlusOne() {
+        recorder.beginRequest();
+        long[] before = recorder.snapshotThreadTotals();
+        recorder.enterMethod("AuthServiceImpl.login");
+        recorder.recordStatement(CREDENTIAL_QUERY, 1_000);
+        for (int i = 0; i < 6; i++) {
+            recorder.recordStatement(USER_QUERY, 1_000);
+        }
+        recorder.exitMethod("AuthServiceImpl.login", before);
+        recorder.endRequest("POST /api/auth/login");
+
+        List<Map<String, Object>> suspects = suspects();
+        assertThat(suspects).hasSize(1);
+        assertThat(suspects.get(0))
+                .containsEntry("endpoint", "POST /api/auth/login")
+                .containsEntry("firstMethod", "AuthServiceImpl.login")
+                .containsEntry("sql", USER_QUERY)
+                .containsEntry("maxRepetitions", 6L);
+
+        Map<String, Object> endpoint = section("endpoints").get("POST /api/auth/login");
+        assertThat(endpoint).containsEntry("statements", 7L).containsEntry("overBudget", 1L);
+        assertThat(section("serviceMethods").get("AuthServiceImpl.login")).containsEntry("statements", 7L);
+    }
+
+    @Test
+    void statementsOutsideRequestsAreCountedAsBackground() {
+        recorder.recordStatement(USER_QUERY, 1_000);
+
+        assertThat(recorder.getMetrics()).containsEntry("backgroundStatements", 1L);
+        assertThat(section("endpoints")).isEmpty();
+        assertThat(suspects()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Map<String, Object>> section(String name) {
+        return (Map<String, Map<String, Object>>) recorder.getMetrics().get(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> suspects() {
+        return (List<Map<String, Object>>) recorder.getMetrics().get("nPlusOneSuspects");
+    }
+}
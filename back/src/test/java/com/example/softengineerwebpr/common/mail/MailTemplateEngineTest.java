@@ -0,0 +1,66 @@
+package com.example.softengineerwebpr.common.mail;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * src/main/resources/mail 의 실제 템플릿으로 확인합니다.
+ */
+class MailTemplateEngineTest {
+
+    private final MailTemplateEngine engine = new MailTemplateEngine("classpath*:mail/", "ko");
+
+    @Test
+    void loadsEveryTemplateUsedByAuthService() {
+        assertThat(engine.templateNames()).contains("verification-code", "find-id", "temporary-password");
+    }
+
+    @Test
+    void rendersRequestedLanguageAndFallsBackToDefault() {
+        Map<String, Object> model = Map.of("code", "0427", "expiresInMinutes", 3);
+
+        RenderedMail korean = engine.render("verification-code", Locale.KOREA, model);
+        RenderedMail english = engine.render("verification-code", Locale.US, model);
+        RenderedMail fallback = engine.render("verification-code", Locale.FRENCH, model);
+
+        assertThat(korean.subject()).isEqualTo("[팀 프로젝트 관리 웹앱] 이메일 인증번호 안내");
+        assertThat(korean.text()).isEqualTo("회원가입을 위한 인증번호는 [0427] 입니다. 3분 내에 입력해주세요.");
+        assertThat(korean.html()).contains(">0427</p>").contains("3분 내에");
+        assertThat(english.text()).contains("[0427]").contains("within 3 minutes");
+        assertThat(fallback).isEqualTo(korean);
+    }
+
+    @Test
+    void escapesVariablesOnlyInHtml() {
+        RenderedMail mail = engine.render("find-id", Locale.KOREAN, Map.of("loginId", "<b>&\"'"));
+
+        assertThat(mail.text()).contains("[<b>&\"']");
+        assertThat(mail.html()).contains("&lt;b&gt;&amp;&quot;&#39;").doesNotContain("<b>");
+    }
+
+    @Test
+    void rejectsMissingVariablesAndUnknownTemplates() {
+        assertThatThrownBy(() -> engine.render("find-id", Locale.KOREAN, Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("loginId");
+        assertThatThrownBy(() -> engine.render("no-such-template", Locale.KOREAN, Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void compiledTemplateKeepsLiteralsAroundPlaceholders() {
+        CompiledTemplate template = CompiledTemplate.compile("{{a}}-{{ b }}-{{a}}", false);
+        StringBuilder out = new StringBuilder();
+
+        template.renderTo(out, Map.of("a", 1, "b", "x"));
+
+        assertThat(out).hasToString("1-x-1");
+        assertThatThrownBy(() -> CompiledTemplate.compile("안녕하세요 {{name", false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
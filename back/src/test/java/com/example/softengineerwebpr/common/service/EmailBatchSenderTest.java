@@ -0,0 +1,73 @@
+package com.example.softengineerwebpr.common.service;
+
+import com.example.softengineerwebpr.common.service.EmailBatchSender.OutgoingMail;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailBatchSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Test
+    void sendsWholeBatchToLocalSmtpServer() {
+        EmailBatchSender sender = new EmailBatchSender(mailSender(ServerSetupTest.SMTP.getPort()));
+
+        Map<Integer, String> failures = sender.send(List.of(
+                mail("a@example.com", null), mail("b@example.com", null), mail("c@example.com", null)));
+
+        assertThat(failures).isEmpty();
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+    }
+
+    @Test
+    void sendsTextAndHtmlAsMultipartAlternative() throws Exception {
+        EmailBatchSender sender = new EmailBatchSender(mailSender(ServerSetupTest.SMTP.getPort()));
+
+        assertThat(sender.send(List.of(mail("a@example.com", "<p>본문</p>")))).isEmpty();
+
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertThat(received.getContentType()).startsWith("multipart/");
+        String raw = new String(received.getRawInputStream().readAllBytes());
+        assertThat(raw).contains("multipart/alternative", "text/plain", "text/html");
+    }
+
+    @Test
+    void reportsOnlyInvalidAddressWhenOthersAreSent() {
+        EmailBatchSender sender = new EmailBatchSender(mailSender(ServerSetupTest.SMTP.getPort()));
+
+        Map<Integer, String> failures = sender.send(List.of(mail("a@example.com", null), mail("not an address", null)));
+
+        assertThat(failures).containsOnlyKeys(1);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    void reportsEveryMessageAsFailedWhenServerIsUnreachable() {
+        EmailBatchSender sender = new EmailBatchSender(mailSender(1)); // 열려 있지 않은 포트
+
+        Map<Integer, String> failures = sender.send(List.of(mail("a@example.com", null), mail("b@example.com", null)));
+
+        assertThat(failures).containsOnlyKeys(0, 1);
+    }
+
+    private static JavaMailSenderImpl mailSender(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        return mailSender;
+    }
+
+    private static OutgoingMail mail(String to, String html) {
+        return new OutgoingMail("noreply@example.com", to, "[팀 프로젝트 관리 웹앱] 테스트", "본문", html);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.softengineerwebpr.common.service;
+
+import com.example.softengineerwebpr.common.entity.EmailOutbox;
+import com.example.softengineerwebpr.common.entity.EmailOutboxStatus;
+import com.example.softengineerwebpr.common.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 발송이 끝난 메일의 본문 삭제와 보관 기간 정리를 H2 메모리 DB로 확인합니다.
+ * 디스패처가 직접 트랜잭션을 커밋하도록 테스트 트랜잭션은 쓰지 않습니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:email-outbox;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailOutboxDispatcherTest {
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final EmailBatchSender emailBatchSender = mock(EmailBatchSender.class);
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        // 최대 2회 시도, 재시도 대기 없음, 보관 24시간, 한 번에 2건씩 삭제
+        dispatcher = new EmailOutboxDispatcher(emailOutboxRepository, emailBatchSender, transactionManager,
+                20, 1, 2, 0, 0, 300_000, 24, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.destroy();
+        emailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    void bodyIsClearedOnceMailIsSentOrAbandoned() {
+        EmailOutbox sent = save("a@example.com", "임시 비밀번호: Abcd1234!");
+        EmailOutbox failing = save("b@example.com", "인증 코드: 123456");
+        when(emailBatchSender.send(anyList())).thenReturn(Map.of(1, "550 mailbox unavailable"));
+
+        dispatcher.dispatch();
+
+        EmailOutbox afterFirst = emailOutboxRepository.findById(failing.getIdx()).orElseThrow();
+        assertThat(afterFirst.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(afterFirst.getBody()).contains("123456"); // 재시도해야 하므로 유지
+
+        when(emailBatchSender.send(anyList())).thenReturn(Map.of(0, "550 mailbox unavailable"));
+        dispatcher.dispatch();
+
+        EmailOutbox delivered = emailOutboxRepository.findById(sent.getIdx()).orElseThrow();
+        assertThat(delivered.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(delivered.getBody()).isEmpty();
+        assertThat(delivered.getHtml()).isNull();
+        EmailOutbox abandoned = emailOutboxRepository.findById(failing.getIdx()).orElseThrow();
+        assertThat(abandoned.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(abandoned.getBody()).isEmpty();
+        assertThat(abandoned.getHtml()).isNull();
+    }
+
+    @Test
+    void purgeDeletesOnlyFinishedMailOlderThanRetention() {
+        when(emailBatchSender.send(anyList())).thenReturn(Map.of());
+        for (int i = 0; i < 5; i++) {
+            save("old" + i + "@example.com", "본문");
+        }
+        dispatcher.dispatch(); // 5건 SENT
+        EmailOutbox recentSent = save("recent@example.com", "본문");
+        dispatcher.dispatch();
+        EmailOutbox oldPending = save("pending@example.com", "본문");
+        jdbcTemplate.update("UPDATE email_outbox SET created_at = ? WHERE idx <> ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(2)), recentSent.getIdx());
+
+        assertThat(dispatcher.purgeFinished()).isEqualTo(5); // 2건씩 세 번
+
+        assertThat(emailOutboxRepository.findAll())
+                .extracting(EmailOutbox::getIdx)
+                .containsExactlyInAnyOrder(recentSent.getIdx(), oldPending.getIdx());
+        assertThat(dispatcher.getMetrics().get("purged")).isEqualTo(5L);
+    }
+
+    private EmailOutbox save(String recipient, String body) {
+        return emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(recipient)
+                .subject("제목")
+                .body(body)
+                .html("<p>" + body + "</p>")
+                .build());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.softengineerwebpr.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FractionalRankTest {
+
+    @Test
+    void randomInsertionsAlwaysLandStrictlyBetweenNeighbours() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>(FractionalRank.spread(10));
+        for (int i = 0; i < 50_000; i++) {
+            int position = random.nextInt(keys.size() + 1);
+            String lower = position == 0 ? null : keys.get(position - 1);
+            String upper = position == keys.size() ? null : keys.get(position);
+            String key = FractionalRank.between(lower, upper);
+
+            assertThat(FractionalRank.isValid(key)).as(key).isTrue();
+            if (lower != null) {
+                assertThat(key).isGreaterThan(lower);
+            }
+            if (upper != null) {
+                assertThat(key).isLessThan(upper);
+            }
+            keys.add(position, key);
+            if (keys.size() > 500) {
+                keys.remove(random.nextInt(keys.size()));
+            }
+        }
+    }
+
+    @Test
+    void midpointHandlesAdjacentDigitsAndOpenEnds() {
+        assertThat(FractionalRank.midpoint(null, null)).isEqualTo("i");
+        assertThat(FractionalRank.midpoint("1", "2")).isEqualTo("1i");
+        assertThat(FractionalRank.midpoint("0z", "15")).isEqualTo("1"); // "1" < "15"
+        assertThat(FractionalRank.midpoint("zz", null)).isEqualTo("zzi");
+        assertThat(FractionalRank.midpoint(null, "01")).isEqualTo("00i");
+    }
+
+    @Test
+    void repeatedInsertionAtTheTopGrowsSlowly() {
+        String top = "i";
+        for (int i = 0; i < 100; i++) {
+            top = FractionalRank.between(null, top);
+        }
+        // 한 번에 길이가 한 자리씩 늘지는 않음 (36진 중간값이라 약 5번에 한 자리)
+        assertThat(top.length()).isLessThan(40);
+    }
+
+    @Test
+    void spreadProducesSortedEquallySizedKeys() {
+        for (int count : new int[]{0, 1, 35, 36, 10_000}) {
+            List<String> keys = FractionalRank.spread(count);
+            assertThat(keys).hasSize(count).isSorted().doesNotHaveDuplicates();
+            assertThat(keys).allMatch(FractionalRank::isValid);
+        }
+        assertThat(FractionalRank.spread(10_000)).allMatch(key -> key.length() <= 4);
+    }
+
+    @Test
+    void rejectsMalformedOrReversedKeys() {
+        assertThat(FractionalRank.isValid("a0")).isFalse();
+        assertThat(FractionalRank.isValid("A")).isFalse();
+        assertThat(FractionalRank.isValid("")).isFalse();
+
+        assertThatThrownBy(() -> FractionalRank.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FractionalRank.between("a", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FractionalRank.between(null, "10")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.softengineerwebpr.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GcraRateLimiterTest {
+
+    @Test
+    void allowsBurstUpToPermitsThenReportsWaitUntilNextPermit() {
+        GcraRateLimiter limiter = new GcraRateLimiter(3, Duration.ofMinutes(1), 64);
+
+        assertThat(limiter.tryAcquire("a@example.com")).isZero();
+        assertThat(limiter.tryAcquire("a@example.com")).isZero();
+        assertThat(limiter.tryAcquire("a@example.com")).isZero();
+
+        // 1분에 3번 -> 20초마다 1번씩 회복
+        assertThat(limiter.tryAcquire("a@example.com")).isBetween(19_000L, 20_000L);
+        assertThat(limiter.tryAcquire("b@example.com")).isZero();
+    }
+
+    @Test
+    void permitsRecoverAfterEmissionInterval() throws InterruptedException {
+        GcraRateLimiter limiter = new GcraRateLimiter(2, Duration.ofMillis(200), 64);
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isPositive();
+
+        Thread.sleep(120);
+
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isPositive();
+    }
+
+    @Test
+    void concurrentRequestsForOneKeyNeverExceedPermits() throws Exception {
+        GcraRateLimiter limiter = new GcraRateLimiter(100, Duration.ofHours(1), 1024);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        if (limiter.tryAcquire("10.0.0.1") == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+
+    @Test
+    void memoryIsBoundedAndCollisionsOnlyTightenLimits() {
+        GcraRateLimiter limiter = new GcraRateLimiter(1, Duration.ofHours(1), 16);
+        assertThat(limiter.slots()).isEqualTo(16);
+
+        int allowed = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (limiter.tryAcquire("user" + i) == 0) {
+                allowed++;
+            }
+        }
+        // 칸이 다 차면 새 키는 거부되고, 이미 허용된 키가 다시 허용되는 일은 없음
+        assertThat(allowed).isLessThanOrEqualTo(16);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(limiter.tryAcquire("user" + i)).isPositive();
+        }
+    }
+
+    @Test
+    void saturatedTableEvictsTheLeastAdvancedKeyInsteadOfLockingEveryoneOut() {
+        GcraRateLimiter limiter = new GcraRateLimiter(2, Duration.ofHours(1), 4, true);
+        assertThat(limiter.tryAcquire("busy")).isZero();
+        assertThat(limiter.tryAcquire("busy")).isZero(); // TAT가 다른 키보다 한 칸(30분) 더 앞섬
+
+        // 칸이 4개뿐이라 곧 가득 차지만, 새 키는 후보 칸 중 TAT가 덜 앞선 키를 밀어내고 허용됨
+        for (int i = 0; i < 1000; i++) {
+            assertThat(limiter.tryAcquire("user" + i)).isZero();
+        }
+
+        assertThat(limiter.evictions()).isPositive();
+        assertThat(limiter.tryAcquire("busy")).isPositive(); // 가장 많이 쓴 키는 밀려나지 않아 제한이 유지됨
+    }
+
+    @Test
+    void strictLimiterRejectsNewKeysWhenSaturated() {
+        GcraRateLimiter limiter = new GcraRateLimiter(1, Duration.ofHours(1), 4);
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("user" + i);
+        }
+
+        assertThat(limiter.tryAcquire("newcomer")).isPositive();
+        assertThat(limiter.evictions()).isZero();
+    }
+}
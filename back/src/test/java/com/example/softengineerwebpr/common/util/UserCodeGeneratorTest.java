@@ -0,0 +1,52 @@
+package com.example.softengineerwebpr.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCodeGeneratorTest {
+
+    @Test
+    void generatesCodesOfRequestedLengthAndAlphabet() {
+        UserCodeGenerator generator = new UserCodeGenerator(0, 4);
+
+        assertThat(generator.generateRandomFourDigitCode()).matches("\\d{4}");
+        assertThat(generator.generateNumericVerificationCode(6)).matches("\\d{6}");
+        assertThat(generator.generateRandomTemporaryPassword(10)).matches("[A-Za-z0-9]{10}");
+        // 스레드별 버퍼(64자)보다 긴 경우
+        assertThat(generator.generateRandomTemporaryPassword(100)).matches("[A-Za-z0-9]{100}");
+    }
+
+    @Test
+    void digitsAreRoughlyUniform() {
+        UserCodeGenerator generator = new UserCodeGenerator(0, 4);
+        int[] counts = new int[10];
+        for (int i = 0; i < 10_000; i++) {
+            for (char c : generator.generateNumericVerificationCode(10).toCharArray()) {
+                counts[c - '0']++;
+            }
+        }
+        // 기대값 10,000. 거부 샘플링이 빠지면 0~5가 약 2.4% 더 많이 나옴
+        for (int count : counts) {
+            assertThat(count).isBetween(9_500, 10_500);
+        }
+    }
+
+    @Test
+    void verificationCodesComeFromPoolUntilItIsEmpty() {
+        UserCodeGenerator generator = new UserCodeGenerator(3, 4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(generator.generateNumericVerificationCode(4)).matches("\\d{4}");
+        }
+        generator.generateNumericVerificationCode(6); // 길이가 다르면 풀을 쓰지 않음
+
+        assertThat(generator.getMetrics())
+                .containsEntry("poolHits", 3L)
+                .containsEntry("poolMisses", 1L)
+                .containsEntry("poolAvailable", 0);
+
+        generator.refillPool();
+        assertThat(generator.getMetrics()).containsEntry("poolAvailable", 3);
+    }
+}
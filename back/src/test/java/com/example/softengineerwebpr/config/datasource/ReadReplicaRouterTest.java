@@ -0,0 +1,157 @@
+package com.example.softengineerwebpr.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 메모리 DB(primary, replica)로 라우팅을 확인합니다.
+ * 각 DB의 node 테이블에 자기 이름을 넣어 두고, 조회 결과로 어느 쪽에서 읽었는지 판단합니다.
+ */
+class ReadReplicaRouterTest {
+
+    private final AtomicReference<String> clientKey = new AtomicReference<>("client-a");
+    private final AtomicBoolean replicaDown = new AtomicBoolean();
+
+    private ReadReplicaRouter router;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = failable(database("replica"));
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica);
+        router = new ReadReplicaRouter(primary, replicas, 60_000, 100, clientKey::get);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(router.writeDataSource());
+        dataSource.setReadOnlyDataSource(router.readDataSource());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(database("primary")).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(database("replica")).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndOthersToPrimary() {
+        assertThat(readNode()).isEqualTo("replica");
+        assertThat(writeNode()).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void connectionWithCredentialsIsRoutedTheSameWay() throws SQLException {
+        try (Connection connection = router.readDataSource().getConnection("sa", "")) {
+            assertThat(new JdbcTemplate(new SingleConnectionDataSource(connection, true))
+                    .queryForObject("SELECT name FROM node", String.class)).isEqualTo("replica");
+        }
+        try (Connection connection = router.writeDataSource().getConnection("sa", "")) {
+            assertThat(new JdbcTemplate(new SingleConnectionDataSource(connection, true))
+                    .queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+        }
+    }
+
+    @Test
+    void clientReadsItsOwnWritesFromPrimaryWithinWindow() {
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET touched = TRUE"));
+
+        assertThat(readNode()).isEqualTo("primary");
+
+        clientKey.set("client-b");
+        assertThat(readNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinClientToPrimary() {
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET touched = TRUE");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void unavailableReplicaFallsBackToPrimaryUntilHealthCheckRestoresIt() {
+        replicaDown.set(true);
+        assertThat(readNode()).isEqualTo("primary");
+
+        // 장애가 풀려도 헬스 체크 전까지는 제외 상태 유지
+        replicaDown.set(false);
+        assertThat(readNode()).isEqualTo("primary");
+
+        router.checkHealth();
+        assertThat(readNode()).isEqualTo("replica");
+        assertThat(router.getMetrics()).containsEntry("fallbackReads", 2L);
+    }
+
+    // TransactionTemplate.execute의 결과를 바로 assertThat에 넘기면 Predicate 오버로드와 겹쳐 String으로 받음
+    private String readNode() {
+        return readOnly.execute(status -> currentNode());
+    }
+
+    private String writeNode() {
+        return readWrite.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20) NOT NULL, touched BOOLEAN DEFAULT FALSE)");
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM node", Integer.class) == 0) {
+            jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        }
+        return dataSource;
+    }
+
+    private DataSource failable(DataSource target) {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (replicaDown.get()) {
+                    throw new SQLException("replica unavailable");
+                }
+                return target.getConnection();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                if (replicaDown.get()) {
+                    throw new SQLException("replica unavailable");
+                }
+                return target.getConnection(username, password);
+            }
+        };
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.softengineerwebpr.config.security;
+
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 해싱 스레드를 붙잡아 두기 위해, BCrypt가 해싱 전에 부르는 toString()에서 latch를 기다리는 비밀번호를 사용합니다.
+ */
+class AdaptiveBCryptPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private AdaptiveBCryptPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        encoder.close();
+    }
+
+    @Test
+    void fullQueueIsRejectedWithServiceBusyOrAuthenticationFailure() throws InterruptedException {
+        encoder = new AdaptiveBCryptPasswordEncoder(4, 1, 1, 10_000);
+        callers.submit(() -> encoder.encode(new BlockingPassword()));      // 유일한 스레드를 차지
+        await(() -> active() == 1);
+        callers.submit(() -> encoder.encode(new BlockingPassword()));      // 대기열(1칸)을 채움
+        await(() -> queued() == 1);
+
+        assertThatThrownBy(() -> encoder.encode("Password1!"))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting(e -> ((BusinessLogicException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SERVICE_BUSY);
+        assertThatThrownBy(() -> encoder.matches("Password1!", "$2a$04$invalidinvalidinvalidinvalidinvalidinvalidinvalidinva"))
+                .isInstanceOf(AuthenticationServiceException.class);
+        assertThat(encoder.getMetrics()).containsEntry("rejected", 2L);
+    }
+
+    @Test
+    void timedOutHashKeepsRunningAndIsCountedUntilItFinishes() throws InterruptedException {
+        encoder = new AdaptiveBCryptPasswordEncoder(4, 1, 4, 50);
+
+        // 실행 중에 대기 시간을 넘긴 해싱: 호출자는 실패하지만 스레드는 계속 차지됨
+        assertThatThrownBy(() -> encoder.encode(new BlockingPassword()))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting(e -> ((BusinessLogicException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SERVICE_BUSY);
+        // 대기열에서 대기 시간을 넘긴 해싱: 취소되어 실행되지 않음
+        assertThatThrownBy(() -> encoder.encode("Password1!")).isInstanceOf(BusinessLogicException.class);
+
+        assertThat(encoder.getMetrics())
+                .containsEntry("timedOut", 2L)
+                .containsEntry("timedOutWhileRunning", 1L)
+                .containsEntry("abandonedRunning", 1);
+        assertThat(active()).isEqualTo(1);
+
+        release.countDown();
+        await(() -> (int) encoder.getMetrics().get("abandonedRunning") == 0);
+        assertThat(encoder.matches("Password1!", encoder.encode("Password1!"))).isTrue();
+    }
+
+    @Test
+    void hashesWithALowerCostAreUpgraded() {
+        encoder = new AdaptiveBCryptPasswordEncoder(5, 1, 4, 10_000);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("Password1!"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("Password1!"))).isFalse();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("Password1!"))).isFalse();
+        assertThat(encoder.upgradeEncoding(encoder.encode("Password1!"))).isFalse();
+    }
+
+    private int active() {
+        return (int) encoder.getMetrics().get("active");
+    }
+
+    private int queued() {
+        return (int) encoder.getMetrics().get("queued");
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건을 기다리는 시간 초과").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    // 해싱 스레드가 toString()을 부르는 순간부터 release될 때까지 붙잡아 둠
+    private final class BlockingPassword implements CharSequence {
+        @Override
+        public String toString() {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt(); // cancel(true)의 인터럽트는 무시하고 계속 (BCrypt처럼)
+                awaitUninterruptibly();
+            }
+            return "Password1!";
+        }
+
+        private void awaitUninterruptibly() {
+            while (release.getCount() > 0) {
+                Thread.onSpinWait();
+            }
+        }
+
+        @Override
+        public int length() {
+            return toString().length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return toString().charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.softengineerwebpr.config.security;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 스텁 user-info 서버로 공유 delegate가 카카오 형식 응답을 읽고, 여러 로그인에 재사용되는지 확인합니다.
+ */
+class OAuth2ClientConfigTest {
+
+    private HttpServer stubServer;
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/v2/user/me", exchange -> {
+            requestCount.incrementAndGet();
+            byte[] body = "{\"id\":12345,\"kakao_account\":{\"profile\":{\"nickname\":\"tester\"}}}"
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void sharedDelegateLoadsUserInfoFromStubServer() {
+        DefaultOAuth2UserService delegate = new OAuth2ClientConfig().oauth2UserInfoDelegate(1000, 2000);
+        OAuth2UserRequest request = new OAuth2UserRequest(kakaoRegistration(),
+                new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "token",
+                        Instant.now(), Instant.now().plusSeconds(60), Set.of()));
+
+        OAuth2User first = delegate.loadUser(request);
+        OAuth2User second = delegate.loadUser(request);
+
+        assertThat(first.getName()).isEqualTo("12345");
+        assertThat(second.<Object>getAttribute("kakao_account")).isNotNull();
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    private ClientRegistration kakaoRegistration() {
+        String baseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+        return ClientRegistration.withRegistrationId("kakao")
+                .clientId("client")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/kakao")
+                .authorizationUri(baseUrl + "/oauth/authorize")
+                .tokenUri(baseUrl + "/oauth/token")
+                .userInfoUri(baseUrl + "/v2/user/me")
+                .userNameAttributeName("id")
+                .build();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.softengineerwebpr.config.security;
+
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.util.GcraRateLimiter;
+import com.example.softengineerwebpr.config.security.RateLimitFilter.EndpointPolicy;
+import com.example.softengineerwebpr.config.security.RateLimitFilter.KeyType;
+import com.example.softengineerwebpr.config.security.RateLimitFilter.Rule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private static final String LOGIN = "/api/auth/perform_login";
+    private static final String FIND_ID = "/api/auth/find-id";
+
+    private final List<BusinessLogicException> resolved = new ArrayList<>();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitFilter(List.of(
+                new EndpointPolicy("login", LOGIN, false,
+                        List.of(new Rule(KeyType.LOGIN_ID, new GcraRateLimiter(2, Duration.ofMinutes(1), 64)))),
+                new EndpointPolicy("find-id", FIND_ID, true,
+                        List.of(new Rule(KeyType.EMAIL, new GcraRateLimiter(1, Duration.ofMinutes(1), 64))))),
+                new ObjectMapper(),
+                (request, response, handler, ex) -> {
+                    resolved.add((BusinessLogicException) ex);
+                    response.setStatus(((BusinessLogicException) ex).getErrorCode().getStatus().value());
+                    return new ModelAndView();
+                });
+    }
+
+    @Test
+    void percentEncodedPathIsLimitedLikeThePlainPath() throws Exception {
+        assertThat(login(LOGIN).getStatus()).isEqualTo(200);
+        assertThat(login(LOGIN).getStatus()).isEqualTo(200);
+
+        // 컨테이너는 디코딩한 servletPath로 보안 필터 체인에 넘기므로 같은 로그인 요청
+        MockHttpServletResponse encoded = login("/api/auth/perform%5Flogin");
+
+        assertThat(encoded.getStatus()).isEqualTo(429);
+        assertThat(resolved).singleElement()
+                .extracting(BusinessLogicException::getErrorCode).isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void chunkedBodyIsStillBufferedAndPassedOnIntact() throws Exception {
+        String json = "{\"email\":\"Someone@Example.com\",\"nickname\":\"홍길동\"}";
+        List<String> received = new ArrayList<>();
+
+        MockHttpServletResponse first = findId(chunked(json), received);
+        MockHttpServletResponse second = findId(chunked(json.replace("Someone", "someone")), received);
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(received).containsExactly(json); // 컨트롤러가 같은 본문을 다시 읽을 수 있음
+        assertThat(second.getStatus()).isEqualTo(429); // 대소문자만 다른 같은 이메일
+    }
+
+    @Test
+    void bodyOverTheBufferLimitIsRejectedWhateverLengthIsDeclared() throws Exception {
+        String padding = "x".repeat(RateLimitFilter.MAX_BUFFERED_BODY);
+        MockHttpServletRequest request = chunked("{\"email\":\"a@example.com\",\"padding\":\"" + padding + "\"}");
+        List<String> received = new ArrayList<>();
+
+        MockHttpServletResponse response = findId(request, received);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(received).isEmpty();
+        assertThat(resolved).singleElement()
+                .extracting(BusinessLogicException::getErrorCode).isEqualTo(ErrorCode.PAYLOAD_TOO_LARGE);
+    }
+
+    @Test
+    void bufferedBodyCanBeReadThroughReadListener() throws Exception {
+        String json = "{\"email\":\"async@example.com\"}";
+        MockHttpServletRequest request = chunked(json);
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        boolean[] allDataRead = {false};
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            ServletInputStream in = req.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (in.isReady() && !in.isFinished()) {
+                        read.write(in.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead[0] = true;
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    throw new AssertionError(throwable);
+                }
+            });
+        });
+
+        assertThat(allDataRead[0]).isTrue();
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo(json);
+    }
+
+    private MockHttpServletResponse login(String requestUri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", requestUri);
+        request.setServletPath(LOGIN);
+        request.addParameter("loginId", "hong");
+        request.addParameter("password", "wrong");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletResponse findId(MockHttpServletRequest request, List<String> received) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) ->
+                received.add(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8)));
+        return response;
+    }
+
+    // Transfer-Encoding: chunked 요청처럼 길이를 알 수 없는 본문 (-1)
+    private static MockHttpServletRequest chunked(String json) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", FIND_ID) {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setServletPath(FIND_ID);
+        request.setContentType("application/json");
+        request.setContent(json.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.softengineerwebpr.config.session;
+
+import com.example.softengineerwebpr.domain.auth.dto.LoginUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.Session;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.security.SpringSessionBackedSessionRegistry;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 메모리 DB에 Spring Session 테이블을 만들고, 같은 DB를 보는 두 "노드"(저장소 인스턴스)로 확인합니다.
+ */
+class WriteBehindSessionRepositoryTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private WriteBehindSessionRepository<? extends Session> nodeA;
+    private WriteBehindSessionRepository<? extends Session> nodeB;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:session_store;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("org/springframework/session/jdbc/schema-h2.sql"))
+                .execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        nodeA = newNode();
+        nodeB = newNode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void lastAccessOnlySavesAreBatchedUntilFlush() {
+        String id = createSession(nodeA, null);
+        long storedAccess = storedLastAccess(id);
+
+        touch(nodeA, id, Instant.ofEpochMilli(storedAccess).plusSeconds(5));
+        touch(nodeA, id, Instant.ofEpochMilli(storedAccess).plusSeconds(10));
+        assertThat(storedLastAccess(id)).isEqualTo(storedAccess);
+
+        nodeA.flush();
+        assertThat(storedLastAccess(id)).isEqualTo(storedAccess + 10_000);
+        assertThat(nodeA.getMetrics()).containsEntry("deferredSaves", 2L).containsEntry("flushedRows", 1L);
+    }
+
+    @Test
+    void attributeChangesAndStaleAccessTimesAreWrittenImmediately() {
+        String id = createSession(nodeA, null);
+        long storedAccess = storedLastAccess(id);
+
+        // 만료 간격(30분)의 절반이 지난 접근은 바로 저장
+        touch(nodeA, id, Instant.ofEpochMilli(storedAccess).plus(Duration.ofMinutes(16)));
+        assertThat(storedLastAccess(id)).isEqualTo(storedAccess + Duration.ofMinutes(16).toMillis());
+
+        setAttribute(nodeA, id, "locale", "ko");
+        assertThat(nodeB.findById(id).<String>getAttribute("locale")).isEqualTo("ko");
+    }
+
+    @Test
+    void sessionRegistrySeesSessionsCreatedOnOtherNodes() {
+        String first = createSession(nodeA, "alice");
+        String second = createSession(nodeB, "alice");
+
+        SpringSessionBackedSessionRegistry<?> registry = new SpringSessionBackedSessionRegistry<>(nodeB);
+        List<SessionInformation> sessions = registry.getAllSessions(user("alice"), false);
+
+        assertThat(sessions).extracting(SessionInformation::getSessionId).containsExactlyInAnyOrder(first, second);
+        // 다른 노드의 세션도 compact 형식에서 복원된 SecurityContext로 읽힘
+        SecurityContext context = nodeB.findById(first)
+                .getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+        assertThat(context.getAuthentication().getName()).isEqualTo("alice");
+    }
+
+    private WriteBehindSessionRepository<? extends Session> newNode() {
+        JdbcIndexedSessionRepository repository =
+                new JdbcIndexedSessionRepository(jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        CompactSessionSerializer serializer = new CompactSessionSerializer(getClass().getClassLoader());
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, serializer::serialize);
+        conversionService.addConverter(byte[].class, Object.class, serializer::deserialize);
+        repository.setConversionService(conversionService);
+        repository.setDefaultMaxInactiveInterval(Duration.ofMinutes(30));
+        return new WriteBehindSessionRepository<>(repository, jdbcTemplate, SessionStoreConfig.TABLE_NAME);
+    }
+
+    private static <S extends Session> String createSession(WriteBehindSessionRepository<S> node, String username) {
+        WriteBehindSessionRepository.BufferedSession<S> session = node.createSession();
+        if (username != null) {
+            session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                    new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(
+                            user(username), null, AuthorityUtils.createAuthorityList("ROLE_USER"))));
+        }
+        node.save(session);
+        return session.getId();
+    }
+
+    private static <S extends Session> void touch(WriteBehindSessionRepository<S> node, String id, Instant accessedAt) {
+        WriteBehindSessionRepository.BufferedSession<S> session = node.findById(id);
+        session.setLastAccessedTime(accessedAt);
+        node.save(session);
+    }
+
+    private static <S extends Session> void setAttribute(WriteBehindSessionRepository<S> node, String id,
+                                                         String name, Object value) {
+        WriteBehindSessionRepository.BufferedSession<S> session = node.findById(id);
+        session.setAttribute(name, value);
+        node.save(session);
+    }
+
+    private long storedLastAccess(String id) {
+        return jdbcTemplate.queryForObject("SELECT LAST_ACCESS_TIME FROM SPRING_SESSION WHERE SESSION_ID = ?",
+                Long.class, id);
+    }
+
+    private static LoginUser user(String username) {
+        return new LoginUser(1L, username, "", AuthorityUtils.createAuthorityList("ROLE_USER"));
+    }
+}
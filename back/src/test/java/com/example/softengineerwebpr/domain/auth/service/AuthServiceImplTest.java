@@ -0,0 +1,112 @@
+package com.example.softengineerwebpr.domain.auth.service;
+
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.service.EmailService;
+import com.example.softengineerwebpr.common.util.UserCodeGenerator;
+import com.example.softengineerwebpr.domain.auth.dto.SignUpRequestDto;
+import com.example.softengineerwebpr.domain.auth.dto.VerificationCodeEntry;
+import com.example.softengineerwebpr.domain.auth.entity.UserCredential;
+import com.example.softengineerwebpr.domain.auth.repository.UserCredentialRepository;
+import com.example.softengineerwebpr.domain.user.entity.User;
+import com.example.softengineerwebpr.domain.user.repository.UserRepository;
+import com.example.softengineerwebpr.domain.user.service.IdentificationCodeAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceImplTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserCredentialRepository userCredentialRepository = mock(UserCredentialRepository.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final VerificationCodeStore codeStore = mock(VerificationCodeStore.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final List<String> savedCodes = new ArrayList<>();
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        authService = new AuthServiceImpl(userRepository, userCredentialRepository, passwordEncoder,
+                mock(EmailService.class), codeStore, mock(UserCodeGenerator.class),
+                new IdentificationCodeAllocator(userRepository), mock(LoginIdIndex.class),
+                mock(ApplicationEventPublisher.class), new TransactionTemplate(transactionManager));
+        when(codeStore.getCode("hong@example.com"))
+                .thenReturn(new VerificationCodeEntry("1234", System.currentTimeMillis() + 60_000));
+        when(passwordEncoder.encode("Password1!")).thenReturn("hash");
+        when(userRepository.findIdentificationCodesByNickname(anyString())).thenAnswer(invocation -> List.copyOf(savedCodes));
+    }
+
+    @Test
+    void codeCollisionIsRetriedWithAFreshCodeInANewTransaction() {
+        // 다른 인스턴스가 방금 같은 코드를 저장해 unique 제약 위반
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenAnswer(invocation -> {
+                    savedCodes.add(invocation.<User>getArgument(0).getIdentificationCode());
+                    throw new DataIntegrityViolationException("uk_user_nickname_identification_code");
+                })
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        authService.signUp(request());
+
+        verify(userRepository, times(2)).saveAndFlush(any(User.class));
+        verify(userRepository, times(2)).findIdentificationCodesByNickname("hong_gildong"); // 재시도 전 DB에서 다시 읽음
+        verify(userCredentialRepository).saveAndFlush(any(UserCredential.class));
+        verify(transactionManager).rollback(any());
+        verify(passwordEncoder, times(1)).encode("Password1!");
+        verify(codeStore).removeCode("hong@example.com");
+    }
+
+    @Test
+    void repeatedCollisionsGiveUpAfterMaxAttempts() {
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_user_nickname_identification_code"));
+
+        assertThatThrownBy(() -> authService.signUp(request()))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting(e -> ((BusinessLogicException) e).getErrorCode())
+                .isEqualTo(ErrorCode.USER_REGISTRATION_FAILED);
+        verify(userRepository, times(3)).saveAndFlush(any(User.class));
+        verify(codeStore, never()).removeCode(anyString());
+    }
+
+    @Test
+    void loginIdTakenConcurrentlyIsReportedAsDuplicateOnRetry() {
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userCredentialRepository.existsByLoginId("hong_gildong")).thenReturn(false, true);
+        when(userCredentialRepository.saveAndFlush(any(UserCredential.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_user_credentials_id"));
+
+        assertThatThrownBy(() -> authService.signUp(request()))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting(e -> ((BusinessLogicException) e).getErrorCode())
+                .isEqualTo(ErrorCode.LOGIN_ID_DUPLICATION);
+    }
+
+    private static SignUpRequestDto request() {
+        SignUpRequestDto request = new SignUpRequestDto();
+        request.setLoginId("hong_gildong");
+        request.setPassword("Password1!");
+        request.setNickname("hong_gildong");
+        request.setEmail("hong@example.com");
+        request.setVerificationCode("1234");
+        return request;
+    }
+}
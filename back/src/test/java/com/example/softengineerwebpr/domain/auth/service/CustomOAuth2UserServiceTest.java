@@ -0,0 +1,119 @@
+package com.example.softengineerwebpr.domain.auth.service;
+
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.domain.auth.entity.OAuthProvider;
+import com.example.softengineerwebpr.domain.auth.entity.UserOAuthConnection;
+import com.example.softengineerwebpr.domain.auth.repository.OAuthProviderRepository;
+import com.example.softengineerwebpr.domain.auth.repository.UserOAuthConnectionRepository;
+import com.example.softengineerwebpr.domain.auth.service.OAuthProviderRegistry.ProviderInfo;
+import com.example.softengineerwebpr.domain.user.entity.User;
+import com.example.softengineerwebpr.domain.user.repository.UserRepository;
+import com.example.softengineerwebpr.domain.user.service.IdentificationCodeAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomOAuth2UserServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final OAuthProviderRepository providerRepository = mock(OAuthProviderRepository.class);
+    private final UserOAuthConnectionRepository connectionRepository = mock(UserOAuthConnectionRepository.class);
+    private final OAuthProviderRegistry providerRegistry = mock(OAuthProviderRegistry.class);
+    private final DefaultOAuth2UserService userInfoDelegate = mock(DefaultOAuth2UserService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final List<String> savedCodes = new ArrayList<>();
+    private CustomOAuth2UserService oauth2UserService;
+
+    @BeforeEach
+    void setUp() {
+        oauth2UserService = new CustomOAuth2UserService(userRepository, providerRepository,
+                connectionRepository, new IdentificationCodeAllocator(userRepository), providerRegistry,
+                userInfoDelegate, new TransactionTemplate(transactionManager));
+        when(providerRegistry.find("naver")).thenReturn(Optional.of(new ProviderInfo(1L, "NAVER", true)));
+        when(providerRepository.getReferenceById(1L)).thenReturn(mock(OAuthProvider.class));
+        Map<String, Object> response = Map.of("id", "naver-1", "name", "hong_gildong", "email", "hong@example.com");
+        OAuth2User naverUser = new DefaultOAuth2User(Set.of(), Map.of("response", response), "response");
+        when(userInfoDelegate.loadUser(any())).thenReturn(naverUser);
+        when(connectionRepository.findWithUserByProviderIdxAndOauth2UserId(anyLong(), anyString())).thenReturn(Optional.empty());
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(userRepository.findIdentificationCodesByNickname(anyString())).thenAnswer(invocation -> List.copyOf(savedCodes));
+    }
+
+    @Test
+    void codeCollisionIsRetriedWithAFreshCodeInANewTransaction() {
+        // 다른 인스턴스가 방금 같은 코드를 저장해 unique 제약 위반
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenAnswer(invocation -> {
+                    savedCodes.add(invocation.<User>getArgument(0).getIdentificationCode());
+                    throw new DataIntegrityViolationException("uk_user_nickname_identification_code");
+                })
+                .thenAnswer(invocation -> {
+                    User saved = invocation.getArgument(0);
+                    ReflectionTestUtils.setField(saved, "idx", 1L);
+                    return saved;
+                });
+
+        OAuth2User loaded = oauth2UserService.loadUser(naverRequest());
+
+        assertThat(loaded.<Boolean>getAttribute("isNewSocialUser")).isTrue();
+        verify(userRepository, times(2)).saveAndFlush(any(User.class));
+        verify(userRepository, times(2)).findIdentificationCodesByNickname("hong_gildong"); // 재시도 전 DB에서 다시 읽음
+        verify(connectionRepository).save(any(UserOAuthConnection.class));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void repeatedCollisionsGiveUpAfterMaxAttempts() {
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_user_nickname_identification_code"));
+
+        assertThatThrownBy(() -> oauth2UserService.loadUser(naverRequest()))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting(e -> ((BusinessLogicException) e).getErrorCode())
+                .isEqualTo(ErrorCode.USER_REGISTRATION_FAILED);
+        verify(userRepository, times(3)).saveAndFlush(any(User.class));
+    }
+
+    private static OAuth2UserRequest naverRequest() {
+        ClientRegistration registration = ClientRegistration.withRegistrationId("naver")
+                .clientId("client")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                .authorizationUri("https://nid.naver.com/oauth2.0/authorize")
+                .tokenUri("https://nid.naver.com/oauth2.0/token")
+                .userInfoUri("https://openapi.naver.com/v1/nid/me")
+                .userNameAttributeName("response")
+                .build();
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "token",
+                Instant.now(), Instant.now().plusSeconds(60));
+        return new OAuth2UserRequest(registration, accessToken);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.softengineerwebpr.domain.auth.service;
+
+import com.example.softengineerwebpr.domain.auth.entity.UserCredential;
+import com.example.softengineerwebpr.domain.auth.event.UserPasswordChangedEvent;
+import com.example.softengineerwebpr.domain.auth.repository.UserCredentialRepository;
+import com.example.softengineerwebpr.domain.user.event.UserRegisteredEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomUserDetailsServiceTest {
+
+    private UserCredentialRepository repository;
+    private CustomUserDetailsService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(UserCredentialRepository.class);
+        service = new CustomUserDetailsService(repository, mock(ApplicationEventPublisher.class), 100, 60_000, 60_000, "");
+    }
+
+    @Test
+    void repeatedLoginsReadTheDatabaseOnce() {
+        when(repository.findByLoginId("tester")).thenReturn(Optional.of(credential("hash-1")));
+
+        service.loadUserByUsername("tester");
+        service.loadUserByUsername("tester");
+
+        verify(repository, times(1)).findByLoginId("tester");
+    }
+
+    @Test
+    void passwordChangeInvalidatesCachedCredential() {
+        when(repository.findByLoginId("tester")).thenReturn(Optional.of(credential("hash-1")));
+        assertThat(service.loadUserByUsername("tester").getPassword()).isEqualTo("hash-1");
+
+        when(repository.findByLoginId("tester")).thenReturn(Optional.of(credential("hash-2")));
+        service.onPasswordChanged(new UserPasswordChangedEvent("tester"));
+
+        assertThat(service.loadUserByUsername("tester").getPassword()).isEqualTo("hash-2");
+    }
+
+    @Test
+    void unknownLoginIdIsCachedUntilRegistration() {
+        when(repository.findByLoginId("newbie")).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> service.loadUserByUsername("newbie")).isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> service.loadUserByUsername("newbie")).isInstanceOf(UsernameNotFoundException.class);
+        verify(repository, times(1)).findByLoginId("newbie");
+
+        when(repository.findByLoginId("newbie")).thenReturn(Optional.of(credential("hash-1")));
+        service.onUserRegistered(new UserRegisteredEvent(1L, "newbie"));
+
+        assertThat(service.loadUserByUsername("newbie").getPassword()).isEqualTo("hash-1");
+    }
+
+    @Test
+    void passwordChangedOnAnotherNodeIsDroppedOnNextPoll() {
+        when(repository.findByLoginId("tester")).thenReturn(Optional.of(credential("hash-1")));
+        service.loadUserByUsername("tester");
+
+        // 다른 노드에서 비밀번호가 바뀜 (이 노드에는 이벤트가 오지 않음)
+        when(repository.findByLoginId("tester")).thenReturn(Optional.of(credential("hash-2")));
+        when(repository.findLoginIdsWithPasswordChangedSince(any())).thenReturn(List.of("Tester"));
+        service.pollPasswordChanges();
+
+        assertThat(service.loadUserByUsername("tester").getPassword()).isEqualTo("hash-2");
+    }
+
+    @Test
+    void pollingSkipsTheDatabaseWhileCacheIsEmpty() {
+        service.pollPasswordChanges();
+
+        verify(repository, never()).findLoginIdsWithPasswordChangedSince(any());
+    }
+
+    private UserCredential credential(String encodedPassword) {
+        return UserCredential.builder()
+                .loginId("tester")
+                .password(encodedPassword)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.softengineerwebpr.domain.auth.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryVerificationCodeStoreTest {
+
+    private static final long LONG_EXPIRY_MILLIS = 60_000;
+
+    @Test
+    void oldestCodeIsEvictedAtCapacity() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(2, LONG_EXPIRY_MILLIS);
+
+        store.storeCode("a@example.com", "1111");
+        store.storeCode("b@example.com", "2222");
+        store.storeCode("c@example.com", "3333");
+
+        assertThat(store.getCode("a@example.com")).isNull();
+        assertThat(store.getCode("b@example.com").getCode()).isEqualTo("2222");
+        assertThat(store.getCode("c@example.com").getCode()).isEqualTo("3333");
+        assertThat(store.getMetrics()).containsEntry("evictions", 1L).containsEntry("pendingExpiryTickets", 2);
+    }
+
+    @Test
+    void sweepRemovesExpiredCodes() throws InterruptedException {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(10, 1);
+        store.storeCode("a@example.com", "1111");
+        store.storeCode("b@example.com", "2222");
+        Thread.sleep(5);
+
+        store.sweepExpired();
+
+        assertThat(store.getCode("a@example.com")).isNull();
+        assertThat(store.getCode("b@example.com")).isNull();
+        assertThat(store.getMetrics()).containsEntry("expirations", 2L).containsEntry("pendingExpiryTickets", 0);
+    }
+
+    @Test
+    void sweepStopsAtTheFirstCodeThatIsStillValid() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(10, LONG_EXPIRY_MILLIS);
+        store.storeCode("a@example.com", "1111");
+
+        store.sweepExpired();
+
+        assertThat(store.getCode("a@example.com").getCode()).isEqualTo("1111");
+        assertThat(store.getMetrics()).containsEntry("expirations", 0L).containsEntry("pendingExpiryTickets", 1);
+    }
+
+    @Test
+    void staleTicketOfAResentCodeDoesNotEvictTheNewCode() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(2, LONG_EXPIRY_MILLIS);
+        store.storeCode("a@example.com", "1111");
+        store.storeCode("a@example.com", "2222"); // 재발송: 첫 티켓은 이전 코드를 가리킴
+
+        store.storeCode("b@example.com", "3333"); // 용량 초과로 가장 오래된(이전 코드의) 티켓을 꺼냄
+
+        assertThat(store.getCode("a@example.com").getCode()).isEqualTo("2222");
+        assertThat(store.getCode("b@example.com").getCode()).isEqualTo("3333");
+        assertThat(store.getMetrics()).containsEntry("evictions", 0L);
+    }
+
+    @Test
+    void sweepDiscardsStaleTicketsWithoutRemovingTheResentCode() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(10, LONG_EXPIRY_MILLIS);
+        store.storeCode("a@example.com", "1111");
+        store.storeCode("a@example.com", "2222");
+
+        store.sweepExpired();
+
+        assertThat(store.getCode("a@example.com").getCode()).isEqualTo("2222");
+        assertThat(store.getMetrics()).containsEntry("expirations", 0L).containsEntry("pendingExpiryTickets", 1);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.softengineerwebpr.domain.auth.service;
+
+import com.example.softengineerwebpr.domain.auth.dto.VerificationCodeEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcVerificationCodeStoreTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("db/verification-code-schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void codeStoredOnOneNodeIsVisibleOnAnother() {
+        JdbcVerificationCodeStore nodeA = new JdbcVerificationCodeStore(jdbcTemplate, 5000, 100, 500);
+        JdbcVerificationCodeStore nodeB = new JdbcVerificationCodeStore(jdbcTemplate, 5000, 100, 500);
+
+        nodeA.storeCode("user@example.com", "1234");
+
+        VerificationCodeEntry entry = nodeB.getCode("user@example.com");
+        assertThat(entry).isNotNull();
+        assertThat(entry.getCode()).isEqualTo("1234");
+    }
+
+    @Test
+    void reloadBypassesStaleNearCache() {
+        JdbcVerificationCodeStore nodeA = new JdbcVerificationCodeStore(jdbcTemplate, 5000, 100, 500);
+        JdbcVerificationCodeStore nodeB = new JdbcVerificationCodeStore(jdbcTemplate, 5000, 100, 500);
+
+        nodeA.storeCode("user@example.com", "1234");
+        assertThat(nodeB.getCode("user@example.com").getCode()).isEqualTo("1234"); // nodeB near-cache 적재
+        nodeA.storeCode("user@example.com", "5678"); // 재발송
+
+        assertThat(nodeB.getCode("user@example.com").getCode()).isEqualTo("1234");
+        assertThat(nodeB.reloadCode("user@example.com").getCode()).isEqualTo("5678");
+    }
+
+    @Test
+    void removedCodeIsGone() {
+        JdbcVerificationCodeStore store = new JdbcVerificationCodeStore(jdbcTemplate, 5000, 100, 500);
+        store.storeCode("user@example.com", "1234");
+
+        store.removeCode("user@example.com");
+
+        assertThat(store.getCode("user@example.com")).isNull();
+    }
+
+    @Test
+    void purgeDeletesExpiredRowsInBatches() {
+        JdbcVerificationCodeStore store = new JdbcVerificationCodeStore(jdbcTemplate, 5000, 100, 2);
+        long past = System.currentTimeMillis() - 1000;
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("INSERT INTO verification_code (email, code, expires_at) VALUES (?, ?, ?)",
+                    "expired" + i + "@example.com", "0000", past);
+        }
+        store.storeCode("alive@example.com", "1234");
+
+        store.purgeExpired();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM verification_code", Integer.class)).isEqualTo(1);
+        assertThat(store.getCode("alive@example.com").getCode()).isEqualTo("1234");
+    }
+}
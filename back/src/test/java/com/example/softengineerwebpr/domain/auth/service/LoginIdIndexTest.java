@@ -0,0 +1,154 @@
+package com.example.softengineerwebpr.domain.auth.service;
+
+import com.example.softengineerwebpr.domain.auth.service.LoginIdIndex.Answer;
+import com.example.softengineerwebpr.domain.user.event.UserRegisteredEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoginIdIndexTest {
+
+    private static final Timestamp CREATED_AT = Timestamp.valueOf("2025-01-01 00:00:00");
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    void unknownUntilFirstBuildOrWhenDisabled() throws Exception {
+        givenLoginIds("hong");
+
+        assertThat(new LoginIdIndex(jdbcTemplate, true, 60_000).lookup("hong")).isEqualTo(Answer.UNKNOWN);
+
+        LoginIdIndex disabled = new LoginIdIndex(jdbcTemplate, false, 60_000);
+        disabled.rebuild();
+        assertThat(disabled.lookup("hong")).isEqualTo(Answer.UNKNOWN);
+    }
+
+    @Test
+    void takenIdsAreFoundCaseInsensitively() throws Exception {
+        givenLoginIds("hong", "Kim", "lee");
+        LoginIdIndex index = new LoginIdIndex(jdbcTemplate, true, 60_000);
+        index.rebuild();
+
+        assertThat(index.lookup("hong")).isEqualTo(Answer.TAKEN);
+        assertThat(index.lookup("KIM")).isEqualTo(Answer.TAKEN);
+        assertThat(index.lookup("park")).isEqualTo(Answer.AVAILABLE);
+        assertThat(index.getMetrics().get("indexedLoginIds")).isEqualTo(3);
+    }
+
+    @Test
+    void availableIsLeftToTheDatabaseOnceTheSnapshotIsTooOld() throws Exception {
+        givenLoginIds("hong");
+        LoginIdIndex index = new LoginIdIndex(jdbcTemplate, true, 0);
+        index.rebuild();
+
+        // 재구성 이후 다른 인스턴스에서 가입했을 수 있으므로 "사용 가능"은 DB 확인으로 넘김
+        assertThat(index.lookup("park")).isEqualTo(Answer.UNKNOWN);
+        assertThat(index.lookup("hong")).isEqualTo(Answer.TAKEN);
+        assertThat(index.getMetrics().get("staleAvailable")).isEqualTo(1L);
+    }
+
+    @Test
+    void registrationsOnThisNodeAreTakenBeforeTheNextRebuild() throws Exception {
+        givenLoginIds("hong");
+        LoginIdIndex index = new LoginIdIndex(jdbcTemplate, true, 60_000);
+        index.rebuild();
+
+        index.onUserRegistered(new UserRegisteredEvent(2L, "Park"));
+
+        assertThat(index.lookup("park")).isEqualTo(Answer.TAKEN);
+        assertThat(index.getMetrics().get("recentLoginIds")).isEqualTo(1);
+
+        givenLoginIds("hong", "park");
+        index.rebuild();
+        assertThat(index.lookup("park")).isEqualTo(Answer.TAKEN);
+        assertThat(index.getMetrics().get("recentLoginIds")).isEqualTo(0); // 새 스냅샷에 포함되어 정리됨
+    }
+
+    @Test
+    void registrationsOnOtherNodesArePolledFromTheLastSeenCreatedAt() throws Exception {
+        givenLoginIds("hong");
+        LoginIdIndex index = new LoginIdIndex(jdbcTemplate, true, 60_000);
+        index.rebuild();
+        List<Object> polledSince = new ArrayList<>();
+        doAnswer(invocation -> {
+            polledSince.add(invocation.getArgument(2));
+            RowCallbackHandler handler = invocation.getArgument(1);
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getString(1)).thenReturn("Park");
+            when(rs.getTimestamp(2)).thenReturn(new Timestamp(CREATED_AT.getTime() + 1_000));
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        index.poll();
+        index.poll();
+
+        assertThat(index.lookup("park")).isEqualTo(Answer.TAKEN);
+        assertThat(index.lookup("lee")).isEqualTo(Answer.AVAILABLE);
+        // 마지막으로 본 created_at보다 겹침 구간(5초)만큼 앞에서부터 다시 읽음
+        assertThat(polledSince).containsExactly(
+                new Timestamp(CREATED_AT.getTime() - 5_000), new Timestamp(CREATED_AT.getTime() - 4_000));
+        assertThat(index.getMetrics().get("polledLoginIds")).isEqualTo(1L);
+    }
+
+    @Test
+    void failedPollLeavesAvailableToTheDatabaseOnceTheSyncIsTooOld() throws Exception {
+        givenLoginIds("hong");
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+                .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+        LoginIdIndex index = new LoginIdIndex(jdbcTemplate, true, 500);
+        index.rebuild();
+        assertThat(index.lookup("park")).isEqualTo(Answer.AVAILABLE);
+
+        Thread.sleep(600);
+        index.poll();
+
+        assertThat(index.lookup("park")).isEqualTo(Answer.UNKNOWN);
+        assertThat(index.getMetrics().get("pollFailures")).isEqualTo(1L);
+    }
+
+    @Test
+    void failedRebuildKeepsThePreviousSnapshot() throws Exception {
+        givenLoginIds("hong");
+        LoginIdIndex index = new LoginIdIndex(jdbcTemplate, true, 60_000);
+        index.rebuild();
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+                .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        index.rebuild();
+
+        assertThat(index.lookup("hong")).isEqualTo(Answer.TAKEN);
+    }
+
+    private void givenLoginIds(String... loginIds) throws SQLException {
+        List<ResultSet> rows = new ArrayList<>();
+        for (String loginId : loginIds) {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getString(1)).thenReturn(loginId);
+            when(rs.getTimestamp(2)).thenReturn(CREATED_AT);
+            rows.add(rs);
+        }
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet rs : rows) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+    }
+}
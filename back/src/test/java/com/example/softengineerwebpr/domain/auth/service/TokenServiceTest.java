@@ -0,0 +1,150 @@
+package com.example.softengineerwebpr.domain.auth.service;
+
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.util.SecurityUtils;
+import com.example.softengineerwebpr.domain.auth.dto.LoginUser;
+import com.example.softengineerwebpr.domain.auth.dto.TokenResponseDto;
+import com.example.softengineerwebpr.domain.auth.event.UserPasswordChangedEvent;
+import com.example.softengineerwebpr.domain.auth.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * H2 메모리 DB에 db/auth-token-schema.sql 테이블을 만들고, 같은 DB와 서명 키를 쓰는 두 "노드"로 확인합니다.
+ */
+class TokenServiceTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TokenRevocationList revocationA;
+    private TokenRevocationList revocationB;
+    private TokenService nodeA;
+    private TokenService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:auth_token;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/auth-token-schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        revocationA = new TokenRevocationList(jdbcTemplate);
+        revocationB = new TokenRevocationList(jdbcTemplate);
+        nodeA = newNode(revocationA);
+        nodeB = newNode(revocationB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void issuedAccessTokenAuthenticatesOnAnyNodeWithUserIdx() {
+        TokenResponseDto tokens = nodeA.issue(login(7L, "alice"));
+
+        Authentication authentication = nodeB.authenticate(tokens.getAccessToken());
+
+        assertThat(authentication.getName()).isEqualTo("alice");
+        assertThat(SecurityUtils.userIdxOf(authentication)).isEqualTo(7L);
+        assertThat(AuthorityUtils.authorityListToSet(authentication.getAuthorities())).containsExactly("ROLE_USER");
+        // 두 번째 요청은 파싱 결과 캐시 사용
+        assertThat(nodeB.authenticate(tokens.getAccessToken())).isSameAs(authentication);
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String accessToken = nodeA.issue(login(7L, "alice")).getAccessToken();
+        String tampered = accessToken.substring(0, accessToken.length() - 2) + (accessToken.endsWith("A") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> nodeA.authenticate(tampered))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    void refreshRotatesTokenAndReuseRevokesWholeFamily() {
+        TokenResponseDto first = nodeA.issue(login(7L, "alice"));
+        TokenResponseDto second = nodeA.refresh(first.getRefreshToken());
+
+        assertThat(second.getRefreshToken()).isNotEqualTo(first.getRefreshToken());
+        assertThat(nodeA.authenticate(second.getAccessToken()).getName()).isEqualTo("alice");
+
+        // 이미 사용한 리프레시 토큰 재사용 -> 탈취로 보고 family 전체 폐기
+        assertThatThrownBy(() -> nodeB.refresh(first.getRefreshToken()))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+        assertThatThrownBy(() -> nodeB.authenticate(second.getAccessToken()))
+                .isInstanceOf(BusinessLogicException.class);
+        assertThatThrownBy(() -> nodeB.refresh(second.getRefreshToken()))
+                .isInstanceOf(BusinessLogicException.class);
+
+        // 다른 노드는 폐기 기록을 읽은 뒤부터 거부 (캐시된 검증 결과도 포함)
+        assertThat(nodeA.authenticate(second.getAccessToken()).getName()).isEqualTo("alice");
+        revocationA.poll();
+        assertThatThrownBy(() -> nodeA.authenticate(second.getAccessToken()))
+                .isInstanceOf(BusinessLogicException.class);
+    }
+
+    @Test
+    void passwordChangeRevokesEarlierTokensOfThatUserOnly() {
+        TokenResponseDto alice = nodeA.issue(login(7L, "alice"));
+        TokenResponseDto bob = nodeA.issue(login(8L, "bob"));
+
+        nodeA.onPasswordChanged(new UserPasswordChangedEvent("alice"));
+        revocationB.poll();
+
+        assertThatThrownBy(() -> nodeB.authenticate(alice.getAccessToken())).isInstanceOf(BusinessLogicException.class);
+        assertThatThrownBy(() -> nodeB.refresh(alice.getRefreshToken())).isInstanceOf(BusinessLogicException.class);
+        assertThat(nodeB.authenticate(bob.getAccessToken()).getName()).isEqualTo("bob");
+    }
+
+    @Test
+    void tokenIssuedRightAfterPasswordChangeIsNotRevoked() throws Exception {
+        TokenResponseDto before = nodeA.issue(login(7L, "alice"));
+        nodeA.onPasswordChanged(new UserPasswordChangedEvent("alice"));
+        Thread.sleep(2);
+
+        // 새 비밀번호로 다시 로그인: 폐기와 같은 초에 발급되어도 유효해야 함
+        TokenResponseDto after = nodeA.issue(login(7L, "alice"));
+        revocationB.poll();
+
+        assertThatThrownBy(() -> nodeB.authenticate(before.getAccessToken())).isInstanceOf(BusinessLogicException.class);
+        assertThat(nodeA.authenticate(after.getAccessToken()).getName()).isEqualTo("alice");
+        assertThat(nodeB.authenticate(after.getAccessToken()).getName()).isEqualTo("alice");
+    }
+
+    @Test
+    void logoutRevokesAccessAndRefreshTokens() {
+        TokenResponseDto tokens = nodeA.issue(login(7L, "alice"));
+
+        nodeA.logout(nodeA.authenticate(tokens.getAccessToken()));
+
+        assertThatThrownBy(() -> nodeA.authenticate(tokens.getAccessToken())).isInstanceOf(BusinessLogicException.class);
+        assertThatThrownBy(() -> nodeA.refresh(tokens.getRefreshToken())).isInstanceOf(BusinessLogicException.class);
+    }
+
+    private TokenService newNode(TokenRevocationList revocationList) {
+        return new TokenService(new RefreshTokenRepository(jdbcTemplate), revocationList, SECRET,
+                900_000, 1_209_600_000, 100, 60_000);
+    }
+
+    private static Authentication login(Long userIdx, String loginId) {
+        LoginUser user = new LoginUser(userIdx, loginId, "", AuthorityUtils.createAuthorityList("ROLE_USER"));
+        return UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+    }
+}
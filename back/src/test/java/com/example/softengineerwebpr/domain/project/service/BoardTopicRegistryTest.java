@@ -0,0 +1,196 @@
+package com.example.softengineerwebpr.domain.project.service;
+
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.domain.project.entity.TaskStatus;
+import com.example.softengineerwebpr.domain.project.event.TaskChangedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoardTopicRegistryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BoardTopicRegistry registry;
+
+    @AfterEach
+    void tearDown() {
+        if (registry != null) {
+            registry.destroy();
+        }
+    }
+
+    private BoardTopicRegistry registry(long coalesceMillis, int queueCapacity, int maxSubscribers) {
+        registry = new BoardTopicRegistry(objectMapper, coalesceMillis, queueCapacity, 0, 60_000, maxSubscribers, 4);
+        return registry;
+    }
+
+    @Test
+    void burstOfChangesIsCoalescedIntoOneFrameWithLatestStatePerCard() throws Exception {
+        BoardTopicRegistry registry = registry(200, 32, 10);
+        RecordingEmitter emitter = new RecordingEmitter();
+        registry.subscribe(1L, 10L, emitter);
+        assertThat(emitter.next()).contains("event:ready");
+
+        registry.publish(TaskChangedEvent.created(1L, 100L, TaskStatus.TODO, "i", "새 업무"));
+        for (int i = 0; i < 50; i++) {
+            registry.publish(TaskChangedEvent.moved(1L, 100L, TaskStatus.IN_PROGRESS, "k" + (i + 1)));
+            registry.publish(TaskChangedEvent.moved(1L, 200L, TaskStatus.DONE, "m" + (i + 1)));
+        }
+        registry.publish(TaskChangedEvent.moved(2L, 300L, TaskStatus.DONE, "i")); // 구독자 없는 프로젝트
+
+        JsonNode frame = emitter.nextBoardFrame();
+        assertThat(frame.get("projectIdx").asLong()).isEqualTo(1L);
+        JsonNode changes = frame.get("changes");
+        assertThat(changes).hasSize(2);
+        assertThat(changes.get(0).get("taskIdx").asLong()).isEqualTo(100L);
+        assertThat(changes.get(0).get("type").asText()).isEqualTo("CREATED"); // 생성 후 이동은 생성으로 합쳐짐
+        assertThat(changes.get(0).get("status").asText()).isEqualTo("IN_PROGRESS");
+        assertThat(changes.get(0).get("rankKey").asText()).isEqualTo("k50");
+        assertThat(changes.get(0).get("title").asText()).isEqualTo("새 업무");
+        assertThat(changes.get(1).get("rankKey").asText()).isEqualTo("m50");
+        assertThat(emitter.frames.poll(400, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void columnRebalanceIsSentOncePerColumnAfterTheCardChanges() throws Exception {
+        BoardTopicRegistry registry = registry(200, 32, 10);
+        RecordingEmitter emitter = new RecordingEmitter();
+        registry.subscribe(1L, 10L, emitter);
+        emitter.next(); // ready
+
+        registry.publish(TaskChangedEvent.moved(1L, 100L, TaskStatus.TODO, "zzzzzzzzzzzzzzzzzzzzzzzz"));
+        registry.publish(TaskChangedEvent.rebalanced(1L, TaskStatus.TODO));
+        registry.publish(TaskChangedEvent.moved(1L, 200L, TaskStatus.DONE, "i"));
+        registry.publish(TaskChangedEvent.rebalanced(1L, TaskStatus.TODO));
+
+        JsonNode changes = emitter.nextBoardFrame().get("changes");
+        assertThat(changes).hasSize(3);
+        assertThat(changes.get(0).get("taskIdx").asLong()).isEqualTo(100L);
+        assertThat(changes.get(1).get("taskIdx").asLong()).isEqualTo(200L);
+        assertThat(changes.get(2).get("type").asText()).isEqualTo("REBALANCED");
+        assertThat(changes.get(2).get("status").asText()).isEqualTo("TODO");
+        assertThat(changes.get(2).get("taskIdx").isNull()).isTrue();
+    }
+
+    @Test
+    void slowSubscriberIsDroppedWithoutDelayingOthers() throws Exception {
+        BoardTopicRegistry registry = registry(1, 4, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter();
+        registry.subscribe(1L, 10L, slow);
+        registry.subscribe(1L, 11L, fast);
+        fast.next(); // ready
+
+        for (int i = 0; i < 20; i++) {
+            registry.publish(TaskChangedEvent.moved(1L, 100L + i, TaskStatus.TODO, "i"));
+            fast.nextBoardFrame();
+        }
+
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(registry.subscriberCount(1L)).isEqualTo(1);
+        assertThat(registry.getMetrics().get("slowSubscribersDropped")).isEqualTo(1L);
+        release.countDown();
+    }
+
+    @Test
+    void oneFrameFansOutToTenThousandSubscribers() throws Exception {
+        int subscribers = 10_000;
+        BoardTopicRegistry registry = registry(10, 32, subscribers);
+        CountDownLatch delivered = new CountDownLatch(subscribers);
+        AtomicInteger boardFrames = new AtomicInteger();
+        for (int i = 0; i < subscribers; i++) {
+            registry.subscribe(1L, (long) i, new SseEmitter() {
+                @Override
+                public void send(Set<DataWithMediaType> items) {
+                    if (text(items).contains("event:board")) {
+                        boardFrames.incrementAndGet();
+                        delivered.countDown();
+                    }
+                }
+            });
+        }
+        assertThat(registry.subscriberCount(1L)).isEqualTo(subscribers);
+        assertThatThrownBy(() -> registry.subscribe(1L, -1L, new SseEmitter()))
+                .isInstanceOf(BusinessLogicException.class);
+
+        registry.publish(TaskChangedEvent.moved(1L, 100L, TaskStatus.DONE, "i"));
+
+        assertThat(delivered.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(boardFrames.get()).isEqualTo(subscribers);
+        assertThat(registry.getMetrics().get("framesBuilt")).isEqualTo(1L);
+    }
+
+    private static String text(Set<DataWithMediaType> items) {
+        StringBuilder text = new StringBuilder();
+        for (DataWithMediaType item : items) {
+            text.append(item.getData());
+        }
+        return text.toString();
+    }
+
+    // 보낸 프레임을 기록하는 emitter. release가 있으면 열릴 때까지 send가 막힘 (느린 클라이언트)
+    private class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        RecordingEmitter() {
+            this(null);
+        }
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            frames.add(text(items));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        String next() throws InterruptedException {
+            String frame = frames.poll(5, TimeUnit.SECONDS);
+            assertThat(frame).as("frame").isNotNull();
+            return frame;
+        }
+
+        JsonNode nextBoardFrame() throws Exception {
+            String frame = next();
+            assertThat(frame).contains("event:board");
+            List<String> data = new ArrayList<>();
+            for (String line : frame.split("\n")) {
+                if (line.startsWith("data:")) {
+                    data.add(line.substring("data:".length()));
+                }
+            }
+            return objectMapper.readTree(String.join("\n", data));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.softengineerwebpr.domain.project.service;
+
+import com.example.softengineerwebpr.domain.project.event.ProjectInvitationChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InvitationCounterCacheTest {
+
+    @Test
+    void countsFollowInvitesAndResponsesAndNeverGoNegative() {
+        InvitationCounterCache cache = new InvitationCounterCache(null, 8);
+
+        cache.onInvitationChanged(ProjectInvitationChangedEvent.invited(1L, List.of(10L, 11L, 12L)));
+        cache.onInvitationChanged(ProjectInvitationChangedEvent.invited(2L, List.of(10L)));
+        cache.onInvitationChanged(ProjectInvitationChangedEvent.accepted(1L, 10L));
+        cache.onInvitationChanged(ProjectInvitationChangedEvent.declined(1L, 11L));
+        cache.onInvitationChanged(ProjectInvitationChangedEvent.declined(1L, 11L)); // 어긋난 값은 0에서 멈춤
+
+        assertThat(cache.pendingCount(10L)).isEqualTo(1);
+        assertThat(cache.pendingCount(11L)).isZero();
+        assertThat(cache.pendingCount(12L)).isEqualTo(1);
+        assertThat(cache.pendingCount(99L)).isZero();
+        assertThat(cache.getMetrics().get("usersWithPending")).isEqualTo(2);
+        assertThat(cache.getMetrics().get("pendingInvitations")).isEqualTo(2L);
+    }
+
+    @Test
+    void reloadReplacesCountsAndRecountsUsersChangedDuringTheQuery() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        InvitationCounterCache cache = new InvitationCounterCache(jdbcTemplate, 4);
+        cache.add(10L, 5); // DB와 어긋난 값
+        cache.add(11L, 1);
+        givenPendingCounts(jdbcTemplate, () -> cache.add(12L, 1), // 조회 중에 커밋된 초대 (조회 결과에는 없음)
+                row(10L, 2), row(11L, 1));
+        givenRecount(jdbcTemplate, null, row(12L, 1));
+
+        cache.reload();
+
+        assertThat(cache.pendingCount(10L)).isEqualTo(2);
+        assertThat(cache.pendingCount(11L)).isEqualTo(1);
+        assertThat(cache.pendingCount(12L)).isEqualTo(1);
+        Map<String, Object> metrics = cache.getMetrics();
+        assertThat(metrics.get("reloads")).isEqualTo(1L);
+        assertThat(metrics.get("correctedOnReload")).isEqualTo(1L);
+        assertThat(metrics.get("recountedOnReload")).isEqualTo(1L);
+    }
+
+    @Test
+    void inviteAlreadyInTheSnapshotIsNotCountedTwice() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        InvitationCounterCache cache = new InvitationCounterCache(jdbcTemplate, 4);
+        cache.add(10L, 1);
+        // 조회 시점 전에 커밋됐지만 이벤트는 조회 중에 도착한 초대: 조회 결과(2)에 이미 포함됨
+        givenPendingCounts(jdbcTemplate, () -> cache.add(10L, 1), row(10L, 2));
+        givenRecount(jdbcTemplate, null, row(10L, 2));
+
+        cache.reload();
+
+        assertThat(cache.pendingCount(10L)).isEqualTo(2);
+    }
+
+    @Test
+    void userChangedAgainDuringRecountKeepsTheIncrementalValue() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        InvitationCounterCache cache = new InvitationCounterCache(jdbcTemplate, 4);
+        cache.add(10L, 1);
+        givenPendingCounts(jdbcTemplate, () -> cache.add(10L, 1), row(10L, 1));
+        givenRecount(jdbcTemplate, () -> cache.add(10L, -1), row(10L, 2));
+
+        cache.reload();
+
+        assertThat(cache.pendingCount(10L)).isEqualTo(1); // 1 + 1 - 1
+        cache.add(10L, 1); // 재적재가 끝난 뒤의 변경은 그대로 반영
+        assertThat(cache.pendingCount(10L)).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentUpdatesAcrossStripesAreNotLost() throws Exception {
+        InvitationCounterCache cache = new InvitationCounterCache(null, 16);
+        int threads = 8;
+        int users = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Runnable> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            tasks.add(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (long userIdx = 1; userIdx <= users; userIdx++) {
+                    cache.add(userIdx, 1);
+                    cache.add(userIdx, 1);
+                    cache.add(userIdx, -1);
+                }
+            });
+        }
+        tasks.forEach(executor::execute);
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        for (long userIdx = 1; userIdx <= users; userIdx++) {
+            assertThat(cache.pendingCount(userIdx)).isEqualTo(threads);
+        }
+    }
+
+    // 전체 조회: 첫 행을 넘긴 뒤 duringQuery 실행
+    private static void givenPendingCounts(JdbcTemplate jdbcTemplate, Runnable duringQuery, ResultSet... rows) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < rows.length; i++) {
+                handler.processRow(rows[i]);
+                if (i == 0) {
+                    duringQuery.run();
+                }
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    // 조회 중 바뀐 사용자만 다시 세는 조회 (invitee_idx IN (...))
+    private static void givenRecount(JdbcTemplate jdbcTemplate, Runnable duringQuery, ResultSet... rows) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            if (duringQuery != null) {
+                duringQuery.run();
+            }
+            for (ResultSet rs : rows) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    private static ResultSet row(long inviteeIdx, int count) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(inviteeIdx);
+        when(rs.getInt(2)).thenReturn(count);
+        return rs;
+    }
+}
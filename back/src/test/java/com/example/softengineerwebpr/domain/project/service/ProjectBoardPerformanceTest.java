@@ -0,0 +1,185 @@
+package com.example.softengineerwebpr.domain.project.service;
+
+import com.example.softengineerwebpr.common.dto.KeysetPage;
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.util.FractionalRank;
+import com.example.softengineerwebpr.domain.project.dto.BoardColumnDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectBoardDto;
+import com.example.softengineerwebpr.domain.project.dto.ProjectCreateRequestDto;
+import com.example.softengineerwebpr.domain.project.dto.TaskCardDto;
+import com.example.softengineerwebpr.domain.project.entity.ProjectMember;
+import com.example.softengineerwebpr.domain.project.entity.ProjectRole;
+import com.example.softengineerwebpr.domain.project.entity.TaskStatus;
+import com.example.softengineerwebpr.domain.project.repository.ProjectMemberRepository;
+import com.example.softengineerwebpr.domain.project.repository.ProjectRepository;
+import com.example.softengineerwebpr.domain.user.entity.User;
+import com.example.softengineerwebpr.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 업무 10,000개인 보드에서 조회 SQL 수가 업무 수와 무관하게 고정인지, 엔티티를 읽지 않는지 확인합니다.
+ * (H2 메모리 DB, user 테이블 이름 때문에 NON_KEYWORDS=USER)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:project-board;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProjectServiceImpl.class, TaskRankRebalancer.class})
+class ProjectBoardPerformanceTest {
+
+    private static final int TASKS = 10_000;
+    private static final int MEMBERS = 20;
+
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<User> users = new ArrayList<>();
+    private Long projectIdx;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < MEMBERS + 1; i++) {
+            users.add(userRepository.save(User.builder()
+                    .nickname("user" + i)
+                    .email("user" + i + "@example.com")
+                    .identificationCode(String.format("%04d", i))
+                    .build()));
+        }
+        ProjectCreateRequestDto request = new ProjectCreateRequestDto();
+        request.setName("보드 성능 테스트");
+        projectIdx = projectService.createProject(owner(), request);
+        for (int i = 1; i < MEMBERS; i++) { // 마지막 사용자는 참여하지 않음
+            projectMemberRepository.save(ProjectMember.builder()
+                    .project(projectRepository.getReferenceById(projectIdx))
+                    .user(users.get(i))
+                    .role(ProjectRole.MEMBER)
+                    .build());
+        }
+        entityManager.flush();
+
+        // 업무는 JDBC 배치로 바로 넣음 (ID는 id_sequences 구간과 겹치지 않게 큰 값부터, 순위 키는 idx 순)
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> rankKeys = FractionalRank.spread(TASKS);
+        List<Object[]> rows = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            Long assignee = i % 7 == 0 ? null : users.get(i % MEMBERS).getIdx();
+            rows.add(new Object[]{1_000_000L + i, projectIdx, "업무 " + i, "내용", TaskStatus.values()[i % 3].name(),
+                    rankKeys.get(i), Timestamp.valueOf(LocalDateTime.now().plusDays(i % 30)), assignee, owner(), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO task (idx, project_idx, title, content, status, rank_key, deadline, " +
+                "assignee_idx, creator_idx, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void boardReadsThreeColumnsWithFixedNumberOfProjectionQueries() {
+        long started = System.nanoTime();
+        ProjectBoardDto board = projectService.getBoard(owner(), projectIdx, 50);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertThat(board.getColumns()).extracting(BoardColumnDto::getStatus).containsExactly(TaskStatus.values());
+        assertThat(board.getColumns()).extracting(BoardColumnDto::getTaskCount).containsExactly(3334L, 3333L, 3333L);
+        for (BoardColumnDto column : board.getColumns()) {
+            assertThat(column.getTasks().getItems()).hasSize(50);
+            assertThat(column.getTasks().isHasNext()).isTrue();
+        }
+        TaskCardDto first = board.getColumns().get(0).getTasks().getItems().get(0);
+        assertThat(first.getAssigneeIdx()).isNull(); // i = 0 은 담당자 없음 (left join)
+        assertThat(board.getColumns().get(0).getTasks().getItems().get(1).getAssigneeNickname()).isEqualTo("user3");
+
+        // 참여 확인 1 + 프로젝트 정보 1 + 열별 개수 1 + 열 3
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(elapsedMillis).as("보드 조회 시간(ms)").isLessThan(2_000);
+    }
+
+    @Test
+    void keysetPagesWalkWholeColumnWithTwoQueriesPerPage() {
+        int total = 0;
+        int pages = 0;
+        String lastRank = "";
+        String cursor = null;
+        do {
+            KeysetPage<TaskCardDto> page = projectService.getTasks(owner(), projectIdx, TaskStatus.DONE, cursor, 100);
+            for (TaskCardDto card : page.getItems()) {
+                assertThat(card.getRankKey()).isGreaterThan(lastRank);
+                lastRank = card.getRankKey();
+            }
+            total += page.getItems().size();
+            pages++;
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(total).isEqualTo(3333);
+        assertThat(pages).isEqualTo(34);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L * pages); // 참여 확인 + 페이지
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void joinedProjectsAndMembersArePagedByKey() {
+        KeysetPage<?> projects = projectService.getJoinedProjects(users.get(3).getIdx(), null, 20);
+        assertThat(projects.getItems()).hasSize(1);
+        assertThat(projects.isHasNext()).isFalse();
+
+        KeysetPage<?> firstMembers = projectService.getMembers(owner(), projectIdx, null, 15);
+        assertThat(firstMembers.getItems()).hasSize(15);
+        KeysetPage<?> restMembers = projectService.getMembers(owner(), projectIdx, firstMembers.getNextCursor(), 15);
+        assertThat(restMembers.getItems()).hasSize(MEMBERS - 15);
+        assertThat(restMembers.isHasNext()).isFalse();
+    }
+
+    @Test
+    void onlyMembersCanReadTheBoard() {
+        Long outsider = users.get(MEMBERS).getIdx();
+
+        assertThatThrownBy(() -> projectService.getBoard(outsider, projectIdx, 50))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.NOT_PROJECT_MEMBER);
+        assertThatThrownBy(() -> projectService.getBoard(owner(), projectIdx + 999, 50))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PROJECT_NOT_FOUND);
+    }
+
+    private Long owner() {
+        return users.get(0).getIdx();
+    }
+}
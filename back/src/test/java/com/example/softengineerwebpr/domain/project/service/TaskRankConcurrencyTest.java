@@ -0,0 +1,272 @@
+package com.example.softengineerwebpr.domain.project.service;
+
+import com.example.softengineerwebpr.common.dto.KeysetPage;
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.util.FractionalRank;
+import com.example.softengineerwebpr.domain.project.dto.ProjectCreateRequestDto;
+import com.example.softengineerwebpr.domain.project.dto.TaskCardDto;
+import com.example.softengineerwebpr.domain.project.dto.TaskCreateRequestDto;
+import com.example.softengineerwebpr.domain.project.entity.ProjectMember;
+import com.example.softengineerwebpr.domain.project.entity.ProjectRole;
+import com.example.softengineerwebpr.domain.project.entity.TaskStatus;
+import com.example.softengineerwebpr.domain.project.repository.ProjectMemberRepository;
+import com.example.softengineerwebpr.domain.project.repository.ProjectRepository;
+import com.example.softengineerwebpr.domain.user.entity.User;
+import com.example.softengineerwebpr.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 사용자가 같은 보드에서 동시에 카드를 끌어 놓는 상황.
+ * 각 이동이 실제로 커밋되어야 하므로 테스트 트랜잭션은 쓰지 않습니다. (테스트마다 새 프로젝트를 만듦)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:task-rank;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProjectServiceImpl.class, TaskRankRebalancer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskRankConcurrencyTest {
+
+    private static final int USERS = 8;
+    private static final int TASKS = 120;
+
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskRankRebalancer taskRankRebalancer;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> users = new ArrayList<>();
+
+    @BeforeAll
+    void createUsers() {
+        for (int i = 0; i < USERS; i++) {
+            users.add(userRepository.save(User.builder()
+                    .nickname("mover" + i)
+                    .email("mover" + i + "@example.com")
+                    .identificationCode(String.format("%04d", i))
+                    .build()).getIdx());
+        }
+    }
+
+    @Test
+    void concurrentDragsKeepEveryCardExactlyOnceInConsistentOrder() throws Exception {
+        Long projectIdx = createBoard();
+        List<Long> taskIdxs = taskIdxs(projectIdx);
+        AtomicInteger moved = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(USERS + 1);
+        List<Future<?>> movers = new ArrayList<>();
+        for (Long userIdx : users) {
+            movers.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 150; i++) {
+                    Long taskIdx = taskIdxs.get(random.nextInt(TASKS));
+                    try {
+                        if (random.nextInt(4) == 0) { // 열의 맨 위로
+                            projectService.moveTask(userIdx, projectIdx, taskIdx,
+                                    TaskStatus.values()[random.nextInt(3)], null);
+                        } else { // 다른 카드 바로 뒤로 (사용자가 본 보드 기준이라 그사이 바뀌었을 수 있음)
+                            Long anchor = taskIdxs.get(random.nextInt(TASKS));
+                            if (anchor.equals(taskIdx)) {
+                                continue;
+                            }
+                            projectService.moveTask(userIdx, projectIdx, taskIdx, statusOf(anchor), anchor);
+                        }
+                        moved.incrementAndGet();
+                    } catch (BusinessLogicException e) {
+                        if (e.getErrorCode() == ErrorCode.TASK_POSITION_CONFLICT) {
+                            conflicts.incrementAndGet();
+                        } else {
+                            unexpected.add(e);
+                        }
+                    } catch (RuntimeException e) {
+                        unexpected.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+        // 이동과 동시에 재배치도 계속 실행
+        Future<?> rebalancer = executor.submit(() -> {
+            start.await();
+            while (running.get()) {
+                taskRankRebalancer.rebalance(projectIdx, TaskStatus.values()[ThreadLocalRandom.current().nextInt(3)]);
+                Thread.sleep(5);
+            }
+            return null;
+        });
+
+        start.countDown();
+        for (Future<?> mover : movers) {
+            mover.get(2, TimeUnit.MINUTES);
+        }
+        running.set(false);
+        rebalancer.get(1, TimeUnit.MINUTES);
+        executor.shutdown();
+
+        assertThat(unexpected).isEmpty();
+        assertThat(moved.get()).isGreaterThan(USERS * 150 / 2);
+
+        // 모든 카드가 정확히 한 열에 한 번씩 있고, 키셋 페이지로 읽은 순서가 DB 정렬과 같음
+        List<Long> seen = new ArrayList<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            List<Long> ordered = columnOrder(projectIdx, status);
+            assertThat(walkColumn(projectIdx, status)).containsExactlyElementsOf(ordered);
+            seen.addAll(ordered);
+        }
+        assertThat(seen).hasSize(TASKS).containsExactlyInAnyOrderElementsOf(taskIdxs);
+        assertThat(jdbcTemplate.queryForList("SELECT rank_key FROM task WHERE project_idx = ?", String.class, projectIdx))
+                .allMatch(FractionalRank::isValid);
+
+        // 동시 이동이 끝난 뒤에도 끌어 놓은 자리에 정확히 들어감
+        Long anchor = taskIdxs.get(0);
+        TaskStatus anchorStatus = statusOf(anchor);
+        Long card = taskIdxs.get(1);
+        projectService.moveTask(users.get(0), projectIdx, card, anchorStatus, anchor);
+        List<Long> after = columnOrder(projectIdx, anchorStatus);
+        assertThat(after.get(after.indexOf(anchor) + 1)).isEqualTo(card);
+    }
+
+    @Test
+    void movingACardRewritesOnlyThatRow() {
+        Long projectIdx = createBoard();
+        Map<Long, String> before = positions(projectIdx);
+        List<Long> inProgress = columnOrder(projectIdx, TaskStatus.IN_PROGRESS);
+        Long card = columnOrder(projectIdx, TaskStatus.TODO).get(5);
+
+        projectService.moveTask(users.get(1), projectIdx, card, TaskStatus.IN_PROGRESS, inProgress.get(10));
+
+        Map<Long, String> after = positions(projectIdx);
+        List<Long> changed = new ArrayList<>();
+        for (Map.Entry<Long, String> entry : after.entrySet()) {
+            if (!entry.getValue().equals(before.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        assertThat(changed).containsExactly(card);
+        assertThat(columnOrder(projectIdx, TaskStatus.IN_PROGRESS).get(11)).isEqualTo(card);
+    }
+
+    @Test
+    void rebalancerCompactsKeysGrownByRepeatedTopInsertsWithoutChangingOrder() {
+        Long projectIdx = createBoard();
+        List<Long> done = columnOrder(projectIdx, TaskStatus.DONE);
+        // 같은 자리(맨 위)에 계속 끼워 넣어 키를 길게 만듦
+        for (int i = 0; i < 200; i++) {
+            projectService.moveTask(users.get(i % USERS), projectIdx, done.get(i % done.size()), TaskStatus.DONE, null);
+        }
+        List<Long> order = columnOrder(projectIdx, TaskStatus.DONE);
+        assertThat(maxRankLength(projectIdx, TaskStatus.DONE)).isGreaterThanOrEqualTo(24);
+        assertThat((Integer) taskRankRebalancer.getMetrics().get("pendingColumns")).isPositive();
+
+        taskRankRebalancer.rebalancePending();
+
+        assertThat(columnOrder(projectIdx, TaskStatus.DONE)).containsExactlyElementsOf(order);
+        assertThat(maxRankLength(projectIdx, TaskStatus.DONE)).isLessThanOrEqualTo(3);
+        assertThat((Integer) taskRankRebalancer.getMetrics().get("pendingColumns")).isZero();
+    }
+
+    // 모든 사용자가 참여한 프로젝트 + 세 열에 나눠 만든 업무
+    private Long createBoard() {
+        ProjectCreateRequestDto request = new ProjectCreateRequestDto();
+        request.setName("동시 이동 테스트");
+        Long projectIdx = projectService.createProject(users.get(0), request);
+        for (int i = 1; i < USERS; i++) {
+            projectMemberRepository.save(ProjectMember.builder()
+                    .project(projectRepository.getReferenceById(projectIdx))
+                    .user(userRepository.getReferenceById(users.get(i)))
+                    .role(ProjectRole.MEMBER)
+                    .build());
+        }
+        for (int i = 0; i < TASKS; i++) {
+            TaskCreateRequestDto task = new TaskCreateRequestDto();
+            task.setTitle("업무 " + i);
+            task.setStatus(TaskStatus.values()[i % 3]);
+            projectService.createTask(users.get(i % USERS), projectIdx, task);
+        }
+        return projectIdx;
+    }
+
+    private List<Long> walkColumn(Long projectIdx, TaskStatus status) {
+        List<Long> idxs = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPage<TaskCardDto> page = projectService.getTasks(users.get(0), projectIdx, status, cursor, 7);
+            page.getItems().forEach(card -> idxs.add(card.getIdx()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return idxs;
+    }
+
+    private List<Long> taskIdxs(Long projectIdx) {
+        return jdbcTemplate.queryForList("SELECT idx FROM task WHERE project_idx = ? ORDER BY idx", Long.class, projectIdx);
+    }
+
+    private List<Long> columnOrder(Long projectIdx, TaskStatus status) {
+        return jdbcTemplate.queryForList("SELECT idx FROM task WHERE project_idx = ? AND status = ? ORDER BY rank_key, idx",
+                Long.class, projectIdx, status.name());
+    }
+
+    private TaskStatus statusOf(Long taskIdx) {
+        return TaskStatus.valueOf(jdbcTemplate.queryForObject("SELECT status FROM task WHERE idx = ?", String.class, taskIdx));
+    }
+
+    private Map<Long, String> positions(Long projectIdx) {
+        Map<Long, String> positions = new HashMap<>();
+        jdbcTemplate.query("SELECT idx, status, rank_key FROM task WHERE project_idx = ?", rs -> {
+            positions.put(rs.getLong("idx"), rs.getString("status") + "/" + rs.getString("rank_key"));
+        }, projectIdx);
+        return positions;
+    }
+
+    private int maxRankLength(Long projectIdx, TaskStatus status) {
+        return columnOrder(projectIdx, status).isEmpty() ? 0 : jdbcTemplate.queryForObject(
+                "SELECT MAX(LENGTH(rank_key)) FROM task WHERE project_idx = ? AND status = ?",
+                Integer.class, projectIdx, status.name());
+    }
+}
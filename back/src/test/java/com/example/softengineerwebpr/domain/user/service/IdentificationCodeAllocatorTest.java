@@ -0,0 +1,99 @@
+package com.example.softengineerwebpr.domain.user.service;
+
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdentificationCodeAllocatorTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final IdentificationCodeAllocator allocator = new IdentificationCodeAllocator(userRepository);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void remainingCodesAreHandedOutOnceAndThenExhausted() {
+        when(userRepository.findIdentificationCodesByNickname("hong")).thenReturn(allCodesExcept(17, 9_999));
+
+        Set<String> allocated = new HashSet<>();
+        allocated.add(allocator.allocate("Hong"));
+        allocated.add(allocator.allocate("HONG")); // 대소문자만 다른 닉네임은 같은 공간
+
+        assertThat(allocated).containsExactlyInAnyOrder("0017", "9999");
+        assertThatThrownBy(() -> allocator.allocate("hong"))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting(e -> ((BusinessLogicException) e).getErrorCode())
+                .isEqualTo(ErrorCode.IDENTIFICATION_CODE_EXHAUSTED);
+        verify(userRepository, times(1)).findIdentificationCodesByNickname("hong");
+    }
+
+    @Test
+    void codeTakenByAnotherNodeIsAvoidedAfterInvalidate() {
+        // 이 노드가 적재할 때는 0042만 비어 있었음
+        when(userRepository.findIdentificationCodesByNickname("hong")).thenReturn(allCodesExcept(42));
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(allocator.allocate("hong")).isEqualTo("0042");
+
+        // 다른 노드가 0042를 먼저 저장해 unique 제약 위반 -> 롤백 후 캐시 무효화
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        allocator.invalidate("hong");
+        when(userRepository.findIdentificationCodesByNickname("hong")).thenReturn(allCodesExcept(7));
+
+        assertThat(allocator.allocate("hong")).isEqualTo("0007");
+    }
+
+    @Test
+    void rolledBackReservationIsReturnedButCommittedOneIsKept() {
+        when(userRepository.findIdentificationCodesByNickname("hong")).thenReturn(allCodesExcept(1));
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(allocator.allocate("hong")).isEqualTo("0001");
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(allocator.allocate("hong")).isEqualTo("0001"); // 롤백된 예약은 다시 쓸 수 있음
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThatThrownBy(() -> allocator.allocate("hong")).isInstanceOf(BusinessLogicException.class);
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static List<String> allCodesExcept(int... freeCodes) {
+        Set<Integer> free = new HashSet<>();
+        for (int code : freeCodes) {
+            free.add(code);
+        }
+        List<String> used = new ArrayList<>();
+        for (int code = 0; code < IdentificationCodeSpace.CODE_SPACE_SIZE; code++) {
+            if (!free.contains(code)) {
+                used.add(IdentificationCodeSpace.format(code));
+            }
+        }
+        return used;
+    }
+}
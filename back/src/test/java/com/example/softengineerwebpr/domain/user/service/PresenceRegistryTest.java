@@ -0,0 +1,209 @@
+package com.example.softengineerwebpr.domain.user.service;
+
+import com.example.softengineerwebpr.domain.auth.dto.LoginUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.authentication.event.LogoutSuccessEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 메모리 DB의 user 테이블(접속 상태 컬럼만)로 확인합니다.
+ * 다른 노드의 기록은 user.last_seen을 직접 갱신해 흉내 냅니다.
+ */
+class PresenceRegistryTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:presence;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE user (idx BIGINT PRIMARY KEY, last_login TIMESTAMP, last_seen TIMESTAMP, "
+                + "is_online BOOLEAN NOT NULL DEFAULT FALSE)");
+        for (long idx = 1; idx <= 3; idx++) {
+            jdbcTemplate.update("INSERT INTO user (idx) VALUES (?)", idx);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void heartbeatsStayInMemoryAndOnlyTransitionsAreFlushed() {
+        PresenceRegistry registry = new PresenceRegistry(jdbcTemplate, 60_000, 30_000);
+
+        registry.onAuthenticationSuccess(new AuthenticationSuccessEvent(login(1L)));
+        registry.heartbeat(2L);
+        for (int i = 0; i < 100; i++) {
+            registry.heartbeat(1L);
+            registry.heartbeat(2L);
+        }
+
+        assertThat(registry.onlineAmong(List.of(3L, 2L, 1L))).containsExactly(2L, 1L);
+        assertThat(isOnline(1L)).isFalse(); // flush 전에는 DB 그대로
+
+        registry.flush();
+
+        assertThat(isOnline(1L)).isTrue();
+        assertThat(isOnline(2L)).isTrue();
+        assertThat(lastLoginIsSet(1L)).isTrue();
+        assertThat(lastLoginIsSet(2L)).isFalse(); // heartbeat만 한 사용자는 last_login 유지
+        assertThat(registry.getMetrics()).containsEntry("flushedRows", 2L).containsEntry("flushBatches", 1L);
+    }
+
+    @Test
+    void logoutAndTimeoutMarkUsersOffline() throws InterruptedException {
+        PresenceRegistry registry = new PresenceRegistry(jdbcTemplate, 50, 30_000);
+        registry.onAuthenticationSuccess(new AuthenticationSuccessEvent(login(1L)));
+        registry.heartbeat(2L);
+        registry.flush();
+
+        registry.onLogout(new LogoutSuccessEvent(login(1L)));
+        Thread.sleep(100);
+        registry.expireStale();
+        registry.flush();
+
+        assertThat(registry.onlineAmong(List.of(1L, 2L))).isEmpty();
+        assertThat(isOnline(1L)).isFalse();
+        assertThat(isOnline(2L)).isFalse();
+        assertThat(lastLoginIsSet(1L)).isTrue();
+    }
+
+    @Test
+    void usersLeftOnlineInDatabaseExpireWithoutHeartbeat() throws InterruptedException {
+        jdbcTemplate.update("UPDATE user SET is_online = TRUE WHERE idx IN (1, 3)");
+        PresenceRegistry registry = new PresenceRegistry(jdbcTemplate, 50, 30_000);
+
+        registry.loadOnlineUsers();
+        assertThat(registry.onlineAmong(List.of(1L, 2L, 3L))).containsExactly(1L, 3L);
+
+        Thread.sleep(30);
+        registry.heartbeat(3L);
+        Thread.sleep(30);
+        registry.expireStale();
+        registry.flush();
+
+        assertThat(isOnline(1L)).isFalse();
+        assertThat(isOnline(3L)).isTrue();
+    }
+
+    @Test
+    void usersStillSeenByAnotherNodeAreNotMarkedOffline() throws InterruptedException {
+        PresenceRegistry registry = new PresenceRegistry(jdbcTemplate, 50, 30_000);
+        registry.onAuthenticationSuccess(new AuthenticationSuccessEvent(login(1L)));
+        registry.heartbeat(2L);
+        registry.flush();
+        assertThat(lastSeen(1L)).isNotNull();
+
+        // 다른 노드가 사용자 1의 heartbeat를 받아 더 최근 last_seen을 기록
+        jdbcTemplate.update("UPDATE user SET last_seen = ? WHERE idx = 1", secondsFromNow(2));
+        registry.onLogout(new LogoutSuccessEvent(login(1L)));
+        Thread.sleep(100);
+        registry.expireStale();
+        registry.flush();
+
+        assertThat(isOnline(1L)).isTrue();
+        assertThat(isOnline(2L)).isFalse();
+    }
+
+    @Test
+    void usersLoadedAtStartupStayOnlineWhileAnotherNodeUpdatesLastSeen() throws InterruptedException {
+        jdbcTemplate.update("UPDATE user SET is_online = TRUE, last_seen = ? WHERE idx IN (1, 2)", secondsFromNow(-10));
+        PresenceRegistry registry = new PresenceRegistry(jdbcTemplate, 50, 30_000);
+        registry.loadOnlineUsers();
+
+        jdbcTemplate.update("UPDATE user SET last_seen = ? WHERE idx = 1", secondsFromNow(2));
+        Thread.sleep(100);
+        registry.expireStale();
+        registry.flush();
+
+        assertThat(isOnline(1L)).isTrue();
+        assertThat(isOnline(2L)).isFalse();
+    }
+
+    @Test
+    void lastSeenIsRepublishedForUsersWhoOnlySendHeartbeats() {
+        PresenceRegistry registry = new PresenceRegistry(jdbcTemplate, 60_000, 0);
+        registry.heartbeat(2L);
+        registry.flush();
+        jdbcTemplate.update("UPDATE user SET last_seen = NULL, is_online = FALSE WHERE idx = 2");
+
+        registry.heartbeat(2L);
+        registry.flush();
+
+        assertThat(lastSeen(2L)).isNotNull();
+        assertThat(isOnline(2L)).isTrue();
+        assertThat(registry.getMetrics()).containsEntry("lastSeenPublished", 1L);
+    }
+
+    @Test
+    void usersOnlineOnAnotherNodeArePolledIntoTheInMemoryView() {
+        PresenceRegistry registry = new PresenceRegistry(jdbcTemplate, 60_000, 30_000);
+        // 다른 노드가 사용자 3을 온라인으로, 사용자 2는 timeout보다 오래전에 본 것으로 기록
+        jdbcTemplate.update("UPDATE user SET is_online = TRUE, last_seen = ? WHERE idx = 3", secondsFromNow(-5));
+        jdbcTemplate.update("UPDATE user SET is_online = TRUE, last_seen = ? WHERE idx = 2", secondsFromNow(-120));
+
+        registry.pollRemote();
+
+        assertThat(registry.isOnline(3L)).isTrue();
+        assertThat(registry.onlineAmong(List.of(1L, 2L, 3L))).containsExactly(3L);
+
+        // 다른 노드에서 로그아웃
+        jdbcTemplate.update("UPDATE user SET is_online = FALSE WHERE idx = 3");
+        registry.pollRemote();
+
+        assertThat(registry.isOnline(3L)).isFalse();
+        assertThat(registry.getMetrics()).containsEntry("onlineInDatabase", 0);
+    }
+
+    @Test
+    void localLogoutIsNotUndoneByPollingBeforeFlush() {
+        PresenceRegistry registry = new PresenceRegistry(jdbcTemplate, 60_000, 30_000);
+        registry.onAuthenticationSuccess(new AuthenticationSuccessEvent(login(1L)));
+        registry.flush();
+        registry.pollRemote();
+        assertThat(registry.isOnline(1L)).isTrue();
+
+        registry.onLogout(new LogoutSuccessEvent(login(1L)));
+        registry.pollRemote(); // DB에는 아직 온라인으로 남아 있음
+
+        assertThat(registry.isOnline(1L)).isFalse();
+        registry.flush();
+        assertThat(isOnline(1L)).isFalse();
+    }
+
+    private boolean isOnline(long idx) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT is_online FROM user WHERE idx = ?", Boolean.class, idx));
+    }
+
+    private boolean lastLoginIsSet(long idx) {
+        return jdbcTemplate.queryForObject("SELECT last_login FROM user WHERE idx = ?", Timestamp.class, idx) != null;
+    }
+
+    private Timestamp lastSeen(long idx) {
+        return jdbcTemplate.queryForObject("SELECT last_seen FROM user WHERE idx = ?", Timestamp.class, idx);
+    }
+
+    private static Timestamp secondsFromNow(long seconds) {
+        return Timestamp.valueOf(LocalDateTime.now().plusSeconds(seconds).withNano(0));
+    }
+
+    private static Authentication login(Long userIdx) {
+        LoginUser user = new LoginUser(userIdx, "user" + userIdx, "", AuthorityUtils.createAuthorityList("ROLE_USER"));
+        return UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.softengineerwebpr.domain.user.service;
+
+import com.example.softengineerwebpr.common.exception.BusinessLogicException;
+import com.example.softengineerwebpr.common.exception.ErrorCode;
+import com.example.softengineerwebpr.common.repository.IdSequenceAllocator;
+import com.example.softengineerwebpr.config.security.AdaptiveBCryptPasswordEncoder;
+import com.example.softengineerwebpr.domain.user.dto.UserImportResultDto;
+import com.example.softengineerwebpr.domain.user.event.UserRegisteredEvent;
+import com.example.softengineerwebpr.domain.user.repository.UserRepository;
+import com.example.softengineerwebpr.domain.user.service.UserImportService.Format;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자 일괄 등록의 파싱, 행 검증, ID 예약, 결과 파일과 비동기 실행을 H2 메모리 DB로 확인합니다.
+ */
+class UserImportServiceImplTest {
+
+    private static final String HEADER = "loginId,password,nickname,email\n";
+
+    @TempDir
+    Path resultDirectory;
+
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+    private AdaptiveBCryptPasswordEncoder passwordEncoder;
+    private UserImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:user_import_" + UUID.randomUUID() + ";MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE user (idx BIGINT PRIMARY KEY, nickname VARCHAR(20) NOT NULL, " +
+                "email VARCHAR(255), identification_code VARCHAR(4) NOT NULL, is_online BOOLEAN NOT NULL, " +
+                "CONSTRAINT uk_user_email UNIQUE (email), " +
+                "CONSTRAINT uk_user_nickname_identification_code UNIQUE (nickname, identification_code))");
+        jdbcTemplate.execute("CREATE TABLE user_credential (idx BIGINT PRIMARY KEY, user_idx BIGINT NOT NULL, " +
+                "id VARCHAR(20) NOT NULL, password VARCHAR(255) NOT NULL, CONSTRAINT uk_user_credentials_id UNIQUE (id))");
+        jdbcTemplate.execute("CREATE TABLE id_sequences (sequence_name VARCHAR(64) NOT NULL PRIMARY KEY, next_val BIGINT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO id_sequences VALUES ('user', 100), ('user_credential', 100)");
+        // 이미 가입된 계정
+        jdbcTemplate.update("INSERT INTO user VALUES (1, 'existing', 'taken@example.com', '0001', FALSE)");
+        jdbcTemplate.update("INSERT INTO user_credential VALUES (1, 1, 'taken_user', 'hash')");
+
+        passwordEncoder = new AdaptiveBCryptPasswordEncoder(4, 2, 16, 5_000);
+        importService = service(3_600_000);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        importService.destroy();
+        passwordEncoder.close();
+    }
+
+    private UserImportServiceImpl service(long resultTtlMillis) {
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(jdbcTemplate.getDataSource());
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findIdentificationCodesByNickname(anyString())).thenReturn(List.of());
+        return new UserImportServiceImpl(jdbcTemplate, transactionManager,
+                new IdSequenceAllocator(jdbcTemplate, transactionManager), passwordEncoder,
+                new IdentificationCodeAllocator(userRepository),
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), events::add,
+                2, resultDirectory.toString(), resultTtlMillis);
+    }
+
+    @Test
+    void csvLineSupportsQuotedValuesAndEscapedQuotes() {
+        assertThat(UserImportServiceImpl.splitCsvLine("hong_gildong,\"Pa,ss\"\"1!\", 홍길동 ,a@example.com"))
+                .containsExactly("hong_gildong", "Pa,ss\"1!", "홍길동", "a@example.com");
+    }
+
+    @Test
+    void validRowsAreImportedAndInvalidOrDuplicateRowsAreReported() throws Exception {
+        String csv = HEADER +
+                "first_user,\"Pass,word1!\",dept_one,first@example.com\n" +
+                "short,Password1!,dept_one,short@example.com\n" +            // 아이디 길이
+                "missing_column,Password1!,dept_one\n" +                      // 열 개수
+                "\n" +
+                "FIRST_USER,Password1!,dept_two,other@example.com\n" +       // 파일 안 아이디 중복 (대소문자 무시)
+                "second_user,Password1!,dept_two,FIRST@example.com\n" +      // 파일 안 이메일 중복
+                "taken_user,Password1!,dept_two,new@example.com\n" +         // 이미 가입된 아이디
+                "third_user,Password1!,dept_two,taken@example.com\n" +       // 이미 가입된 이메일
+                "fourth_user,Password1!,dept_two,fourth@example.com\n";
+
+        UserImportResultDto result = importService.importUsers(new StringReader(csv), Format.CSV);
+
+        assertThat(result.getStatus()).isEqualTo(UserImportResultDto.Status.COMPLETED);
+        assertThat(result.getTotalRows()).isEqualTo(8);
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getFailedRows()).isEqualTo(6);
+        assertThat(result.getErrors()).extracting(UserImportResultDto.RowError::getRowNumber)
+                .containsExactly(3, 4, 6, 7, 8, 9); // 헤더와 빈 줄도 줄 번호에 포함
+        assertThat(result.getErrors()).extracting(UserImportResultDto.RowError::getReason)
+                .contains("파일 안에서 중복된 아이디입니다.", "파일 안에서 중복된 이메일입니다.",
+                        ErrorCode.LOGIN_ID_DUPLICATION.getMessage(), ErrorCode.EMAIL_DUPLICATION.getMessage());
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM user_credential ORDER BY idx", String.class))
+                .containsExactly("taken_user", "first_user", "fourth_user");
+        String hash = jdbcTemplate.queryForObject("SELECT password FROM user_credential WHERE id = 'first_user'", String.class);
+        assertThat(passwordEncoder.matches("Pass,word1!", hash)).isTrue();
+        assertThat(jdbcTemplate.queryForList("SELECT user_idx FROM user_credential WHERE idx >= 100", Long.class))
+                .allSatisfy(userIdx -> assertThat(userIdx).isGreaterThanOrEqualTo(100L));
+        assertThat(events).filteredOn(UserRegisteredEvent.class::isInstance).hasSize(2);
+    }
+
+    @Test
+    void idsAreReservedFromIdSequencesPerChunk() {
+        String csv = HEADER +
+                "user_0001,Password1!,dept_one,u1@example.com\n" +
+                "user_0002,Password1!,dept_one,u2@example.com\n" +
+                "user_0003,Password1!,dept_one,u3@example.com\n";
+
+        importService.importUsers(new StringReader(csv), Format.CSV);
+
+        assertThat(jdbcTemplate.queryForList("SELECT idx FROM user WHERE idx >= 100 ORDER BY idx", Long.class))
+                .containsExactly(100L, 101L, 102L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_sequences WHERE sequence_name = 'user'", Long.class)).isEqualTo(103L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_sequences WHERE sequence_name = 'user_credential'", Long.class)).isEqualTo(103L);
+    }
+
+    @Test
+    void ndjsonRowsAreParsedAndResultFileListsEveryRow() throws Exception {
+        String ndjson = "{\"loginId\":\"json_user\",\"password\":\"Password1!\",\"nickname\":\"dept_one\",\"email\":\"j@example.com\"}\n" +
+                "{\"loginId\":\"broken\"\n";
+
+        UserImportResultDto result = importService.importUsers(new StringReader(ndjson), Format.NDJSON);
+
+        assertThat(result.getImportedRows()).isEqualTo(1);
+        assertThat(result.getResultFile()).isEqualTo("/api/admin/users/import/" + result.getImportId() + "/result");
+        List<String> lines = Files.readAllLines(importService.getResultFile(result.getImportId()), StandardCharsets.UTF_8);
+        String code = jdbcTemplate.queryForObject("SELECT identification_code FROM user WHERE email = 'j@example.com'", String.class);
+        assertThat(lines).containsExactly(
+                "rowNumber,loginId,result,identificationCode,message",
+                "1,json_user,IMPORTED," + code + ",",
+                "2,,FAILED,,JSON 형식이 올바르지 않습니다.");
+    }
+
+    @Test
+    void startImportReturnsImmediatelyAndRunsInBackground() throws Exception {
+        String csv = HEADER + "async_user,Password1!,dept_one,async@example.com\n";
+
+        UserImportResultDto started = importService.startImport(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), Format.CSV);
+
+        assertThat(started.getStatus()).isEqualTo(UserImportResultDto.Status.RUNNING);
+        assertThat(started.getResultFile()).isNull();
+        UserImportResultDto finished = awaitFinished(started.getImportId());
+        assertThat(finished.getStatus()).isEqualTo(UserImportResultDto.Status.COMPLETED);
+        assertThat(finished.getImportedRows()).isEqualTo(1);
+        assertThat(importService.getResultFile(started.getImportId())).exists();
+        try (var files = Files.list(resultDirectory)) {
+            assertThat(files).noneMatch(file -> file.toString().endsWith(".upload")); // 받아 둔 업로드는 처리 후 삭제
+        }
+    }
+
+    @Test
+    void resultFilesAndJobsAreDeletedAfterTtl() throws Exception {
+        importService.destroy();
+        importService = service(0);
+        UserImportResultDto result = importService.importUsers(
+                new StringReader(HEADER + "ttl_user1,Password1!,dept_one,ttl@example.com\n"), Format.CSV);
+        Path resultFile = importService.getResultFile(result.getImportId());
+        Path orphan = Files.writeString(resultDirectory.resolve("20200101000000-deadbeef.upload"), "x");
+        Thread.sleep(20);
+
+        importService.purgeExpiredResults();
+
+        assertThat(resultFile).doesNotExist();
+        assertThat(orphan).doesNotExist();
+        assertThatThrownBy(() -> importService.getImport(result.getImportId()))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting(e -> ((BusinessLogicException) e).getErrorCode())
+                .isEqualTo(ErrorCode.IMPORT_RESULT_NOT_FOUND);
+    }
+
+    private UserImportResultDto awaitFinished(String importId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        UserImportResultDto result = importService.getImport(importId);
+        while (result.getStatus() == UserImportResultDto.Status.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            result = importService.getImport(importId);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.softengineerwebpr.domain.user.service;
+
+import com.example.softengineerwebpr.domain.user.dto.UserSearchResultDto;
+import com.example.softengineerwebpr.domain.user.event.UserProfileChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSearchIndexTest {
+
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserSearchIndex(null, 20, 1024, 5000);
+        UserSearchIndex.Builder builder = new UserSearchIndex.Builder(8);
+        builder.add(1, "홍길동", "1234");
+        builder.add(2, "홍길순", "0001");
+        builder.add(3, "한국인", "5678");
+        builder.add(4, "Hong", "1234");
+        builder.add(5, "hongil", "0002");
+        builder.add(6, "Hong", "0007");
+        builder.add(7, "하경dev", "1200");
+        index.replace(builder);
+    }
+
+    private List<String> search(String query) {
+        return index.search(query, 10).stream()
+                .map(result -> result.getNickname() + "#" + result.getIdentificationCode())
+                .toList();
+    }
+
+    @Test
+    void prefixIgnoresCaseAndListsExactNicknameFirst() {
+        assertThat(search("ho")).containsExactly("Hong#0007", "Hong#1234", "hongil#0002");
+        assertThat(search("홍길")).containsExactly("홍길동#1234", "홍길순#0001");
+        assertThat(search("없는닉네임")).isEmpty();
+        assertThat(search("  ")).isEmpty();
+    }
+
+    @Test
+    void nicknameWithCodeMatchesExactlyOrByCodePrefix() {
+        assertThat(search("hong#1234")).containsExactly("Hong#1234");
+        assertThat(search("HONG#00")).containsExactly("Hong#0007");
+        assertThat(search("hong#9")).isEmpty();
+    }
+
+    @Test
+    void initialConsonantsMatchHangulSyllables() {
+        assertThat(search("ㅎㄱㄷ")).containsExactly("홍길동#1234");
+        assertThat(search("ㅎㄱ")).containsExactly("하경dev#1200", "홍길동#1234", "홍길순#0001", "한국인#5678");
+        assertThat(search("한ㄱ")).containsExactly("한국인#5678");
+        assertThat(search("홍ㄱㅅ")).containsExactly("홍길순#0001");
+        assertThat(search("ㅎㄱd")).containsExactly("하경dev#1200");
+        assertThat(search("ㅎㄱㄷ#12")).containsExactly("홍길동#1234");
+    }
+
+    @Test
+    void codeSearchListsEveryNicknameWithThatCode() {
+        assertThat(search("#1234")).containsExactly("Hong#1234", "홍길동#1234");
+        assertThat(search("#12")).containsExactly("하경dev#1200", "Hong#1234", "홍길동#1234");
+    }
+
+    @Test
+    void changesAreVisibleBeforeAndAfterCompaction() {
+        index.onUserProfileChanged(new UserProfileChangedEvent(1L, "길동이", "1234")); // 닉네임 변경
+        index.onUserProfileChanged(new UserProfileChangedEvent(10L, "홍반장", "4321")); // 가입
+        index.onUserProfileChanged(UserProfileChangedEvent.removed(2L));
+        index.onUserProfileChanged(new UserProfileChangedEvent(3L, "한국인", "5678")); // 값이 같으면 무시
+
+        assertThat(index.getMetrics().get("overlay")).isEqualTo(3);
+        assertThat(search("홍")).containsExactly("홍반장#4321");
+        assertThat(search("ㄱㄷ")).containsExactly("길동이#1234");
+
+        index.compact();
+
+        assertThat(index.getMetrics().get("overlay")).isEqualTo(0);
+        assertThat(index.getMetrics().get("indexedUsers")).isEqualTo(7);
+        assertThat(search("홍")).containsExactly("홍반장#4321");
+        assertThat(search("ㄱㄷ")).containsExactly("길동이#1234");
+        assertThat(search("#0001")).isEmpty();
+    }
+
+    @Test
+    void limitIsCappedByMaxResults() {
+        UserSearchIndex.Builder builder = new UserSearchIndex.Builder(100);
+        for (int i = 1; i <= 100; i++) {
+            builder.add(i, "user" + i, String.format("%04d", i));
+        }
+        index.replace(builder);
+
+        List<UserSearchResultDto> results = index.search("user", 1000);
+        assertThat(results).hasSize(20);
+        assertThat(results.get(0).getNickname()).isEqualTo("user1");
+    }
+
+    @Test
+    void signupsAndRenamesOnOtherNodesArePolledIntoTheOverlay() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:user_search_" + UUID.randomUUID() + ";MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE user (idx BIGINT PRIMARY KEY, nickname VARCHAR(20) NOT NULL, "
+                + "identification_code VARCHAR(4) NOT NULL, profile_updated_at TIMESTAMP(3) NOT NULL)");
+        Timestamp builtAt = Timestamp.valueOf(LocalDateTime.now().minusMinutes(1));
+        jdbcTemplate.update("INSERT INTO user VALUES (1, '홍길동', '1234', ?), (2, 'hong', '0001', ?)", builtAt, builtAt);
+        UserSearchIndex polled = new UserSearchIndex(jdbcTemplate, 20, 1024, 5000);
+        polled.rebuild();
+
+        // 다른 노드에서 가입(작은 idx 구간을 받아 쓰는 노드일 수도 있음)과 닉네임 변경
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO user VALUES (0, '홍반장', '4321', ?)", now);
+        jdbcTemplate.update("UPDATE user SET nickname = '길동이', profile_updated_at = ? WHERE idx = 1", now);
+        polled.poll();
+
+        assertThat(polled.search("홍", 10)).extracting(UserSearchResultDto::getNickname).containsExactly("홍반장");
+        assertThat(polled.search("길동", 10)).extracting(UserSearchResultDto::getIdx).containsExactly(1L);
+        assertThat(polled.getMetrics().get("overlay")).isEqualTo(2);
+    }
+}